@@ -0,0 +1,116 @@
+// 대량 INSERT 배치 적용 전후 비교용 k6 부하 테스트 스크립트 (회원가입, 스터디 생성)
+//
+// 사용법:
+//   HIBERNATE_BATCH_SIZE=1 DB_REWRITE_BATCHED=false ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=row -e TOKEN=<accessToken> loadtest/bulk_insert.js
+//   ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=batch -e TOKEN=<accessToken> loadtest/bulk_insert.js
+//   (TOKEN을 지정하지 않으면 회원가입만 호출, INTEREST_IDS로 사용할 관심 항목 ID 지정 가능)
+//
+// 실행할 때마다 테스트 사용자와 스터디가 생성되므로 개발/테스트 DB에서만 실행
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const TOKEN = __ENV.TOKEN || '';
+const MODE = __ENV.MODE || 'unknown';
+const INTEREST_IDS = (__ENV.INTEREST_IDS || '1,2,3,4,5,6,7,8,9,10').split(',').map(Number);
+const RUN_ID = Date.now().toString(36);
+
+const scenarios = {
+    join: {
+        executor: 'constant-vus',
+        exec: 'join',
+        vus: 20,
+        duration: '1m',
+    },
+};
+if (TOKEN) {
+    scenarios.create = {
+        executor: 'constant-vus',
+        exec: 'createStudy',
+        vus: 10,
+        duration: '1m',
+    };
+}
+
+export const options = {
+    scenarios,
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        // 시나리오별 지연 시간을 요약에 남기기 위한 하위 지표
+        'http_req_duration{name:join}': ['p(95)<10000'],
+        'http_req_duration{name:create-study}': ['p(95)<30000'],
+    },
+    tags: { mode: MODE },
+};
+
+const jsonHeaders = { 'Content-Type': 'application/json' };
+
+export function join() {
+    const suffix = `${RUN_ID}${__VU}x${__ITER}`;
+    const now = Date.now();
+    const body = {
+        userId: `lt${suffix}`.slice(0, 50),
+        password: 'loadtest1234!',
+        name: '부하테스트',
+        nick: `nk${suffix}`.slice(0, 50),
+        tel: `010${suffix}`.slice(0, 50),
+        alarmType: false,
+        availableDays: [1, 2, 3, 4, 5, 6, 7],
+        soltStart: now,
+        soltEnd: now + 3 * 60 * 60 * 1000,
+        interests: INTEREST_IDS.map((id) => ({ interestId: id, interestLevel: 1 + (id % 3) })),
+    };
+    const res = http.post(`${BASE_URL}/join`, JSON.stringify(body), { headers: jsonHeaders, tags: { name: 'join' } });
+    check(res, { 'join 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function createStudy() {
+    const start = new Date(Date.now() + 24 * 60 * 60 * 1000);
+    const end = new Date(start.getTime() + 30 * 24 * 60 * 60 * 1000);
+    const iso = (d) => d.toISOString().slice(0, 19);
+    const body = {
+        studyProjectName: `부하테스트 ${__VU}-${__ITER}`,
+        studyProjectTitle: '대량 INSERT 배치 측정',
+        studyProjectDesc: '부하 테스트로 생성된 스터디입니다.',
+        studyLevel: 1,
+        typeCheck: 'study',
+        studyProjectStart: iso(start),
+        studyProjectEnd: iso(end),
+        studyProjectTotal: 10,
+        soltStart: iso(start),
+        soltEnd: iso(new Date(start.getTime() + 2 * 60 * 60 * 1000)),
+        interestIds: INTEREST_IDS,
+        dayIds: [1, 2, 3, 4, 5, 6, 7],
+    };
+    const res = http.post(`${BASE_URL}/studies-projects`, JSON.stringify(body), {
+        headers: Object.assign({ Authorization: `Bearer ${TOKEN}` }, jsonHeaders),
+        tags: { name: 'create-study' },
+    });
+    check(res, { 'create study 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+function scenarioSummary(data, name) {
+    const metric = data.metrics[`http_req_duration{name:${name}}`];
+    if (!metric) {
+        return null;
+    }
+    return { p50_ms: metric.values['med'], p95_ms: metric.values['p(95)'], p99_ms: metric.values['p(99)'] };
+}
+
+export function handleSummary(data) {
+    const summary = {
+        mode: MODE,
+        requests: data.metrics.http_reqs.values.count,
+        rps: data.metrics.http_reqs.values.rate,
+        failed_rate: data.metrics.http_req_failed.values.rate,
+        join: scenarioSummary(data, 'join'),
+        create_study: scenarioSummary(data, 'create-study'),
+    };
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`loadtest-bulk-${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
@@ -0,0 +1,61 @@
+"""
+k6 요약 JSON 두 개(변경 전/후)를 비교하여 Markdown 표로 출력
+
+사용 예:
+    python loadtest/compare_summary.py loadtest-cache-off.json loadtest-cache-on.json
+"""
+import json
+import sys
+
+# 전체 지표와 엔드포인트별 지표 중 비교할 항목
+TOTAL_KEYS = ["rps", "p50_ms", "p95_ms", "p99_ms", "failed_rate"]
+ENDPOINT_KEYS = ["p50_ms", "p95_ms", "p99_ms"]
+
+
+def load(path):
+    with open(path, encoding="utf-8") as f:
+        return json.load(f)
+
+
+def change(before, after):
+    if before is None or after is None:
+        return "-"
+    if before == 0:
+        return "-"
+    return f"{(after - before) / before * 100:+.1f}%"
+
+
+def fmt(value):
+    if value is None:
+        return "-"
+    return f"{value:.2f}" if isinstance(value, float) else str(value)
+
+
+def rows(name, before, after, keys):
+    for key in keys:
+        b = before.get(key) if before else None
+        a = after.get(key) if after else None
+        yield f"| {name} | {key} | {fmt(b)} | {fmt(a)} | {change(b, a)} |"
+
+
+def main():
+    if len(sys.argv) != 3:
+        print("사용법: python compare_summary.py <변경 전 JSON> <변경 후 JSON>")
+        sys.exit(1)
+
+    before, after = load(sys.argv[1]), load(sys.argv[2])
+    print(f"변경 전: {sys.argv[1]}, 변경 후: {sys.argv[2]}\n")
+    print("| 구분 | 지표 | 변경 전 | 변경 후 | 변화 |")
+    print("| --- | --- | --- | --- | --- |")
+    for line in rows("전체", before, after, TOTAL_KEYS):
+        print(line)
+
+    # 요약 JSON에서 객체 값은 엔드포인트별 지표
+    endpoints = [k for k in before if isinstance(before.get(k), dict) or isinstance(after.get(k), dict)]
+    for endpoint in endpoints:
+        for line in rows(endpoint, before.get(endpoint), after.get(endpoint), ENDPOINT_KEYS):
+            print(line)
+
+
+if __name__ == "__main__":
+    main()
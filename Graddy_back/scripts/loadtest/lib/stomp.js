@@ -0,0 +1,31 @@
+// k6 WebSocket용 최소 STOMP 1.2 프레임 처리 (suite.js 채팅 시나리오)
+//
+// SockJS 엔드포인트(/api/ws-stomp)는 /websocket 경로로 SockJS 프레이밍 없는 순수 WebSocket도 받으므로
+// 브라우저의 SockJS + stompjs 대신 프레임을 직접 주고받음
+
+export function frame(command, headers, body) {
+    let text = `${command}\n`;
+    for (const [key, value] of Object.entries(headers || {})) {
+        text += `${key}:${value}\n`;
+    }
+    return `${text}\n${body || ''}\0`;
+}
+
+// 서버는 WebSocket 메시지 하나에 프레임 하나를 보냄 (하트비트는 빈 줄)
+export function parse(data) {
+    const end = data.indexOf('\0');
+    const raw = end >= 0 ? data.slice(0, end) : data;
+    const separator = raw.indexOf('\n\n');
+    if (separator < 0) {
+        return { command: raw.trim(), headers: {}, body: '' };
+    }
+    const lines = raw.slice(0, separator).split('\n');
+    const headers = {};
+    for (const line of lines.slice(1)) {
+        const colon = line.indexOf(':');
+        if (colon > 0) {
+            headers[line.slice(0, colon)] = line.slice(colon + 1);
+        }
+    }
+    return { command: lines[0], headers, body: raw.slice(separator + 2) };
+}
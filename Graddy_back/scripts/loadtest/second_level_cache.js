@@ -0,0 +1,92 @@
+// Hibernate 2차 캐시 / 쿼리 캐시 적용 전후 비교용 k6 부하 테스트 스크립트
+//
+// 사용법:
+//   HIBERNATE_CACHE_ENABLED=false ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api -e CACHE=off -e TOKEN=<accessToken> loadtest/second_level_cache.js
+//   HIBERNATE_CACHE_ENABLED=true ./gradlew bootRun
+//   k6 run -e BASE_URL=http://localhost:8080/api -e CACHE=on  -e TOKEN=<accessToken> loadtest/second_level_cache.js
+//   (TOKEN을 지정하지 않으면 스터디 목록/상세만 호출)
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const TOKEN = __ENV.TOKEN || '';
+const CACHE = __ENV.CACHE || 'unknown';
+
+export const options = {
+    scenarios: {
+        steady: {
+            executor: 'constant-vus',
+            vus: 100,
+            duration: '2m',
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+        // 엔드포인트별 지연 시간을 요약에 남기기 위한 하위 지표 (기준값 자체는 느슨하게 둠)
+        'http_req_duration{name:studies}': ['p(95)<10000'],
+        'http_req_duration{name:study-detail}': ['p(95)<10000'],
+        'http_req_duration{name:recommendation}': ['p(95)<10000'],
+    },
+    tags: { cache: CACHE },
+};
+
+function authHeaders() {
+    return TOKEN ? { headers: { Authorization: `Bearer ${TOKEN}` } } : {};
+}
+
+export function setup() {
+    // 상세 조회 대상은 목록에서 한 번만 뽑아 모든 VU가 같은 스터디 집합을 반복 조회하도록 함
+    const res = http.get(`${BASE_URL}/studies-projects`);
+    const body = res.json();
+    const list = Array.isArray(body) ? body : (body && body.data) || [];
+    return { ids: list.slice(0, 50).map((s) => s.studyProjectId).filter((id) => id != null) };
+}
+
+export default function (data) {
+    const studies = http.get(`${BASE_URL}/studies-projects`, { tags: { name: 'studies' } });
+    check(studies, { 'studies 200': (r) => r.status === 200 });
+
+    if (data.ids.length > 0) {
+        const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+        const detail = http.get(`${BASE_URL}/studies-projects/${id}`, { tags: { name: 'study-detail' } });
+        check(detail, { 'study detail 200': (r) => r.status === 200 });
+    }
+
+    if (TOKEN) {
+        const recommendation = http.get(`${BASE_URL}/recommendation/studies`,
+            Object.assign({ tags: { name: 'recommendation' } }, authHeaders()));
+        check(recommendation, { 'recommendation 200': (r) => r.status === 200 });
+    }
+
+    sleep(0.2);
+}
+
+function endpointSummary(data, name) {
+    const metric = data.metrics[`http_req_duration{name:${name}}`];
+    if (!metric) {
+        return null;
+    }
+    return { p50_ms: metric.values['med'], p95_ms: metric.values['p(95)'], p99_ms: metric.values['p(99)'] };
+}
+
+export function handleSummary(data) {
+    const d = data.metrics.http_req_duration.values;
+    const summary = {
+        cache: CACHE,
+        requests: data.metrics.http_reqs.values.count,
+        rps: data.metrics.http_reqs.values.rate,
+        p50_ms: d['med'],
+        p95_ms: d['p(95)'],
+        p99_ms: d['p(99)'],
+        failed_rate: data.metrics.http_req_failed.values.rate,
+        studies: endpointSummary(data, 'studies'),
+        study_detail: endpointSummary(data, 'study-detail'),
+        recommendation: endpointSummary(data, 'recommendation'),
+    };
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`loadtest-cache-${CACHE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
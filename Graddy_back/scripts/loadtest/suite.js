@@ -0,0 +1,301 @@
+// 운영 부하 재현용 k6 시나리오 묶음 (HTTP + STOMP)
+// ./gradlew loadtestRun으로 띄운 부하 테스트 환경(내장 DB, 합성 데이터, AI 스텁)을 대상으로 실행
+//
+// 사용법:
+//   ./gradlew loadtestRun
+//   k6 run loadtest/suite.js
+//   k6 run -e SCENARIOS=browse,chat -e DURATION=5m -e CHAT_VUS=500 loadtest/suite.js
+//   (manifest 경로는 SEED, 결과 파일 이름은 RUN으로 지정)
+//
+// 시나리오:
+//   browse    스터디 목록/상세/멤버, 관심 항목, 내 일정 조회
+//   recommend 스터디 추천 (일정 요청률)
+//   chat      스터디방 입장(이력 조회) 후 STOMP로 구독하고 메시지 전송, 자기 메시지 수신까지의 시간 측정
+//   deadline  과제 마감 직전 제출 burst (제출마다 AI 피드백 생성이 AI 스텁으로 나감)
+
+import http from 'k6/http';
+import ws from 'k6/ws';
+import exec from 'k6/execution';
+import { check, sleep } from 'k6';
+import { SharedArray } from 'k6/data';
+import { Counter, Trend } from 'k6/metrics';
+import * as stomp from './lib/stomp.js';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const WS_URL = __ENV.WS_URL || BASE_URL.replace(/^http/, 'ws');
+const SEED = __ENV.SEED || '../../build/loadtest/seed.json';
+const RUN = __ENV.RUN || 'suite';
+const DURATION = __ENV.DURATION || '3m';
+const LOGIN_USERS = Number(__ENV.LOGIN_USERS || 300);
+const BROWSE_VUS = Number(__ENV.BROWSE_VUS || 100);
+const RECOMMEND_RATE = Number(__ENV.RECOMMEND_RATE || 20);
+const CHAT_VUS = Number(__ENV.CHAT_VUS || 200);
+const CHAT_INTERVAL_MS = Number(__ENV.CHAT_INTERVAL_MS || 2000);
+const CHAT_SESSION_MS = Number(__ENV.CHAT_SESSION_MS || 60000);
+const DEADLINE_START = __ENV.DEADLINE_START || '1m';
+const DEADLINE_RATE = Number(__ENV.DEADLINE_RATE || 50);
+const ENABLED = (__ENV.SCENARIOS || 'browse,recommend,chat,deadline').split(',');
+
+// manifest(LoadTestDataSeeder)는 VU마다 복사하지 않도록 SharedArray로 한 번만 읽음
+const PASSWORD = JSON.parse(open(SEED)).password;
+const users = new SharedArray('users', () => JSON.parse(open(SEED)).users.filter((u) => u.memberships.length > 0));
+const submissions = new SharedArray('submissions', () => {
+    const targets = [];
+    for (const user of JSON.parse(open(SEED)).users) {
+        for (const m of user.memberships) {
+            targets.push({ assignmentId: m.burstAssignmentId, memberId: m.memberId });
+        }
+    }
+    return targets;
+});
+
+const stompSent = new Counter('stomp_messages_sent');
+const stompReceived = new Counter('stomp_messages_received');
+const stompLost = new Counter('stomp_messages_lost');
+const stompErrors = new Counter('stomp_errors');
+const stompRtt = new Trend('stomp_message_rtt', true);
+
+const allScenarios = {
+    browse: {
+        executor: 'constant-vus',
+        exec: 'browse',
+        vus: BROWSE_VUS,
+        duration: DURATION,
+    },
+    recommend: {
+        executor: 'constant-arrival-rate',
+        exec: 'recommend',
+        rate: RECOMMEND_RATE,
+        timeUnit: '1s',
+        duration: DURATION,
+        preAllocatedVUs: Math.max(10, RECOMMEND_RATE * 2),
+        maxVUs: Math.max(50, RECOMMEND_RATE * 10),
+    },
+    chat: {
+        executor: 'constant-vus',
+        exec: 'chat',
+        vus: CHAT_VUS,
+        duration: DURATION,
+    },
+    deadline: {
+        executor: 'ramping-arrival-rate',
+        exec: 'deadline',
+        startTime: DEADLINE_START,
+        startRate: 0,
+        timeUnit: '1s',
+        preAllocatedVUs: Math.max(20, DEADLINE_RATE * 2),
+        maxVUs: Math.max(100, DEADLINE_RATE * 10),
+        stages: [
+            { duration: '30s', target: DEADLINE_RATE },
+            { duration: '1m', target: DEADLINE_RATE },
+            { duration: '30s', target: 0 },
+        ],
+    },
+};
+
+const scenarios = {};
+for (const name of ENABLED) {
+    scenarios[name] = allScenarios[name];
+}
+
+// 요청 이름(name 태그)별 지연 시간을 요약에 남기기 위한 하위 지표 (기준값 자체는 느슨하게 둠)
+const REQUEST_NAMES = ['studies', 'study-detail', 'study-members', 'interests', 'my-schedules',
+    'recommendation', 'chat-history', 'submission-submit'];
+const thresholds = {
+    http_req_failed: ['rate<0.01'],
+    stomp_errors: ['count<1'],
+};
+for (const name of Object.keys(scenarios)) {
+    thresholds[`http_req_duration{scenario:${name}}`] = ['p(95)<30000'];
+    thresholds[`http_reqs{scenario:${name}}`] = ['count>=0'];
+}
+for (const name of REQUEST_NAMES) {
+    thresholds[`http_req_duration{name:${name}}`] = ['p(95)<30000'];
+}
+
+export const options = {
+    scenarios,
+    thresholds,
+    summaryTrendStats: ['avg', 'med', 'p(95)', 'p(99)', 'max'],
+    tags: { run: RUN },
+};
+
+// 로그인은 BCrypt 비교 비용이 커서 측정 구간에 섞이지 않도록 setup에서 LOGIN_USERS명만 미리 처리
+export function setup() {
+    const logins = [];
+    for (let i = 0; i < Math.min(LOGIN_USERS, users.length); i++) {
+        logins.push(users[i]);
+    }
+    const sessions = [];
+    for (let from = 0; from < logins.length; from += 50) {
+        const chunk = logins.slice(from, from + 50);
+        const responses = http.batch(chunk.map((u) => ({
+            method: 'POST',
+            url: `${BASE_URL}/auth/login`,
+            body: JSON.stringify({ userId: u.userId, password: PASSWORD }),
+            params: { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } },
+        })));
+        responses.forEach((res, i) => {
+            if (res.status === 200) {
+                sessions.push({ userId: chunk[i].userId, token: res.json('data.accessToken'), memberships: chunk[i].memberships });
+            }
+        });
+    }
+    if (sessions.length === 0) {
+        throw new Error('로그인에 성공한 사용자가 없습니다. loadtestRun 실행 여부와 SEED 경로를 확인하세요.');
+    }
+    return { sessions };
+}
+
+function session(data) {
+    return data.sessions[(__VU - 1) % data.sessions.length];
+}
+
+function randomItem(items) {
+    return items[Math.floor(Math.random() * items.length)];
+}
+
+function params(s, name) {
+    return { headers: { Authorization: `Bearer ${s.token}`, 'Content-Type': 'application/json' }, tags: { name } };
+}
+
+export function browse(data) {
+    const s = session(data);
+    const studyProjectId = randomItem(s.memberships).studyProjectId;
+
+    const list = http.get(`${BASE_URL}/studies-projects`, params(s, 'studies'));
+    check(list, { 'studies 200': (r) => r.status === 200 });
+
+    const detail = http.get(`${BASE_URL}/studies-projects/${studyProjectId}`, params(s, 'study-detail'));
+    check(detail, { 'study detail 200': (r) => r.status === 200 });
+
+    const members = http.get(`${BASE_URL}/members/${studyProjectId}`, params(s, 'study-members'));
+    check(members, { 'members 200': (r) => r.status === 200 });
+
+    const interests = http.get(`${BASE_URL}/interests`, params(s, 'interests'));
+    check(interests, { 'interests 200': (r) => r.status === 200 });
+
+    const schedules = http.get(`${BASE_URL}/schedules/my`, params(s, 'my-schedules'));
+    check(schedules, { 'schedules 200': (r) => r.status === 200 });
+
+    sleep(1 + Math.random());
+}
+
+export function recommend(data) {
+    const s = data.sessions[exec.scenario.iterationInTest % data.sessions.length];
+    const res = http.get(`${BASE_URL}/recommendation/studies?limit=10`, params(s, 'recommendation'));
+    check(res, { 'recommendation 200': (r) => r.status === 200 });
+}
+
+export function chat(data) {
+    const s = session(data);
+    const studyProjectId = randomItem(s.memberships).studyProjectId;
+
+    // 스터디방 입장 시 이력 조회 (프런트엔드와 같은 순서)
+    const history = http.get(`${BASE_URL}/chat/history/${studyProjectId}`, params(s, 'chat-history'));
+    check(history, { 'chat history 200': (r) => r.status === 200 });
+
+    const pending = {};
+    let seq = 0;
+    const res = ws.connect(`${WS_URL}/ws-stomp/websocket`, { tags: { name: 'stomp' } }, (socket) => {
+        socket.on('open', () => {
+            socket.send(stomp.frame('CONNECT', {
+                'accept-version': '1.2',
+                host: 'localhost',
+                'heart-beat': '0,0',
+                Authorization: `Bearer ${s.token}`,
+            }));
+        });
+
+        socket.on('message', (message) => {
+            const received = stomp.parse(message);
+            if (received.command === 'CONNECTED') {
+                socket.send(stomp.frame('SUBSCRIBE', { id: 'sub-0', destination: `/topic/chat/room/${studyProjectId}` }));
+                socket.setInterval(() => {
+                    const marker = `${__VU}-${__ITER}-${seq++}`;
+                    pending[marker] = Date.now();
+                    socket.send(stomp.frame('SEND', {
+                        destination: `/app/chat.sendMessage/${studyProjectId}`,
+                        'content-type': 'application/json',
+                        Authorization: `Bearer ${s.token}`,
+                    }, JSON.stringify({ studyProjectId, content: `[lt:${marker}] 부하 테스트 메시지입니다.`, messageType: 'TEXT' })));
+                    stompSent.add(1);
+                }, CHAT_INTERVAL_MS);
+                socket.setTimeout(() => socket.close(), CHAT_SESSION_MS);
+            } else if (received.command === 'MESSAGE') {
+                stompReceived.add(1);
+                const match = /^\[lt:([^\]]+)\]/.exec(JSON.parse(received.body).content || '');
+                if (match && pending[match[1]] !== undefined) {
+                    stompRtt.add(Date.now() - pending[match[1]]);
+                    delete pending[match[1]];
+                }
+            } else if (received.command === 'ERROR') {
+                stompErrors.add(1);
+                socket.close();
+            }
+        });
+
+        socket.on('error', () => stompErrors.add(1));
+    });
+
+    check(res, { 'stomp handshake 101': (r) => r && r.status === 101 });
+    stompLost.add(Object.keys(pending).length);
+}
+
+export function deadline(data) {
+    const index = exec.scenario.iterationInTest;
+    const target = submissions[index % submissions.length];
+    const s = data.sessions[index % data.sessions.length];
+    const body = {
+        assignmentId: target.assignmentId,
+        memberId: target.memberId,
+        content: `마감 직전 제출 ${index}\n` + '구현 내용과 실행 결과를 정리했습니다. '.repeat(20),
+    };
+    const res = http.post(`${BASE_URL}/submissions/submit`, JSON.stringify(body), params(s, 'submission-submit'));
+    check(res, { 'submit 200': (r) => r.status === 200 });
+}
+
+function latency(data, metric) {
+    const m = data.metrics[metric];
+    if (!m) {
+        return null;
+    }
+    return { p50_ms: m.values['med'], p95_ms: m.values['p(95)'], p99_ms: m.values['p(99)'], max_ms: m.values['max'] };
+}
+
+export function handleSummary(data) {
+    const seconds = data.state.testRunDurationMs / 1000;
+    const summary = {
+        run: RUN,
+        duration_s: seconds,
+        requests: data.metrics.http_reqs.values.count,
+        rps: data.metrics.http_reqs.values.rate,
+        failed_rate: data.metrics.http_req_failed.values.rate,
+        scenarios: {},
+        requests_by_name: {},
+    };
+    for (const name of Object.keys(scenarios)) {
+        const reqs = data.metrics[`http_reqs{scenario:${name}}`];
+        summary.scenarios[name] = Object.assign({
+            requests: reqs ? reqs.values.count : 0,
+            rps: reqs ? reqs.values.count / seconds : 0,
+        }, latency(data, `http_req_duration{scenario:${name}}`));
+    }
+    for (const name of REQUEST_NAMES) {
+        const stats = latency(data, `http_req_duration{name:${name}}`);
+        if (stats && data.metrics[`http_req_duration{name:${name}}`].values['max'] > 0) {
+            summary.requests_by_name[name] = stats;
+        }
+    }
+    if (scenarios.chat) {
+        summary.stomp = Object.assign({
+            sent: data.metrics.stomp_messages_sent ? data.metrics.stomp_messages_sent.values.count : 0,
+            received: data.metrics.stomp_messages_received ? data.metrics.stomp_messages_received.values.count : 0,
+            lost: data.metrics.stomp_messages_lost ? data.metrics.stomp_messages_lost.values.count : 0,
+        }, latency(data, 'stomp_message_rtt'));
+    }
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`loadtest-${RUN}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
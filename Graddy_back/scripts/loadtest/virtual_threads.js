@@ -0,0 +1,68 @@
+// 가상 스레드 / 플랫폼 스레드 비교용 k6 부하 테스트 스크립트
+//
+// 사용법:
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=platform loadtest/virtual_threads.js
+//   k6 run -e BASE_URL=http://localhost:8080/api -e MODE=virtual  loadtest/virtual_threads.js
+//   (TOKEN을 지정하면 인증이 필요한 일정/스터디 조회도 함께 호출)
+
+import http from 'k6/http';
+import { check, sleep } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080/api';
+const TOKEN = __ENV.TOKEN || '';
+const MODE = __ENV.MODE || 'unknown';
+
+export const options = {
+    scenarios: {
+        ramp: {
+            executor: 'ramping-vus',
+            startVUs: 10,
+            stages: [
+                { duration: '30s', target: 100 },
+                { duration: '1m', target: 400 },
+                { duration: '1m', target: 400 },
+                { duration: '30s', target: 0 },
+            ],
+        },
+    },
+    thresholds: {
+        http_req_failed: ['rate<0.01'],
+    },
+    tags: { mode: MODE },
+};
+
+function authHeaders() {
+    return TOKEN ? { headers: { Authorization: `Bearer ${TOKEN}` } } : {};
+}
+
+export default function () {
+    const studies = http.get(`${BASE_URL}/studies-projects`);
+    check(studies, { 'studies 200': (r) => r.status === 200 });
+
+    const interests = http.get(`${BASE_URL}/interests`);
+    check(interests, { 'interests 200': (r) => r.status === 200 });
+
+    if (TOKEN) {
+        const schedules = http.get(`${BASE_URL}/schedules/my`, authHeaders());
+        check(schedules, { 'schedules 200': (r) => r.status === 200 });
+    }
+
+    sleep(0.2);
+}
+
+export function handleSummary(data) {
+    const d = data.metrics.http_req_duration.values;
+    const summary = {
+        mode: MODE,
+        requests: data.metrics.http_reqs.values.count,
+        rps: data.metrics.http_reqs.values.rate,
+        p50_ms: d['med'],
+        p95_ms: d['p(95)'],
+        p99_ms: d['p(99)'],
+        failed_rate: data.metrics.http_req_failed.values.rate,
+    };
+    return {
+        stdout: JSON.stringify(summary, null, 2) + '\n',
+        [`loadtest-${MODE}.json`]: JSON.stringify(summary, null, 2),
+    };
+}
@@ -3,7 +3,7 @@
 
 from fastapi import FastAPI, HTTPException, Depends
 from fastapi.middleware.cors import CORSMiddleware
-from fastapi.responses import JSONResponse
+from fastapi.responses import JSONResponse, StreamingResponse
 from pydantic import BaseModel
 from typing import List, Optional
 import uvicorn
@@ -11,6 +11,7 @@ import openai
 import os
 import sys
 import requests
+import json
 # import boto3  # S3 사용하지 않음
 from datetime import datetime
 from dotenv import load_dotenv
@@ -434,6 +435,72 @@ async def generate_curriculum(request: CurriculumRequest):
         print(f"Error in generate_curriculum: {str(e)}")
         raise HTTPException(status_code=500, detail=f"커리큘럼 생성 중 오류가 발생했습니다: {str(e)}")
 
+@app.post("/generate-curriculum/stream")
+async def generate_curriculum_stream(request: CurriculumRequest):
+    """
+    커리큘럼을 Server-Sent Events 형식으로 스트리밍합니다.
+    각 청크는 data: {"delta": "..."} 형태이며 마지막에 data: [DONE]을 전송합니다.
+    """
+    if not openai.api_key:
+        raise HTTPException(status_code=500, detail="OpenAI API 키가 설정되지 않았습니다.")
+
+    level_descriptions = {
+        1: "초급자 (기초 개념 학습)",
+        2: "중급자 (기본 실습 및 응용)",
+        3: "고급자 (심화 학습 및 프로젝트)"
+    }
+    level_desc = level_descriptions.get(request.study_level, "중급자")
+
+    prompt = f"""
+다음 정보를 바탕으로 {request.study_project_name} {request.type_check}를 위한 상세한 커리큘럼을 생성해주세요.
+
+**{request.type_check.capitalize()} 정보:**
+- 이름: {request.study_project_name}
+- 제목: {request.study_project_title}
+- 설명: {request.study_project_desc}
+- 수준: {level_desc} (레벨 {request.study_level})
+- 관심 분야: {', '.join(request.interest_tags)}
+- 기간: {request.study_project_start} ~ {request.study_project_end}
+
+**요구사항:**
+1. {request.type_check} 기간에 맞는 주차별 커리큘럼을 작성해주세요
+2. 각 주차별로 학습 목표, 주요 내용, 실습 과제를 포함해주세요
+3. {', '.join(request.interest_tags)} 분야의 핵심 개념들을 체계적으로 학습할 수 있도록 구성해주세요
+4. 레벨 {request.study_level}에 맞는 적절한 난이도로 구성해주세요
+5. 실무 적용 가능한 실습과 프로젝트를 포함해주세요
+
+**출력 형식:**
+- 마크다운 형식으로 작성
+- 주차별로 명확하게 구분
+- 각 주차마다 학습 목표, 주요 내용, 실습 과제 포함
+- 마지막에 전체 학습 성과 평가 방법 제시
+
+한국어로 작성해주세요.
+"""
+
+    async def event_stream():
+        try:
+            response = await openai.ChatCompletion.acreate(
+                model="gpt-4o",
+                messages=[
+                    {"role": "system", "content": "당신은 교육 전문가이자 커리큘럼 설계 전문가입니다. 체계적이고 실용적인 학습 커리큘럼을 설계하는 것이 특기입니다."},
+                    {"role": "user", "content": prompt}
+                ],
+                max_tokens=2000,
+                temperature=0.7,
+                stream=True
+            )
+            async for chunk in response:
+                delta = chunk.choices[0].delta.get("content")
+                if delta:
+                    yield f"data: {json.dumps({'delta': delta}, ensure_ascii=False)}\n\n"
+            yield "data: [DONE]\n\n"
+        except Exception as e:
+            print(f"Error in generate_curriculum_stream: {str(e)}")
+            yield f"event: error\ndata: {json.dumps({'message': str(e)}, ensure_ascii=False)}\n\n"
+
+    return StreamingResponse(event_stream(), media_type="text/event-stream")
+
 @app.post("/auto-generate-curriculum", response_model=AutoCurriculumResponse)
 async def auto_generate_curriculum(request: AutoCurriculumRequest):
     """
@@ -0,0 +1,7 @@
+-- 제출당 피드백 1건 보장
+-- 제출 직후 비동기 생성과 배치 생성이 겹쳐도 같은 제출에 피드백이 두 번 저장되지 않도록 함
+-- 기존 중복은 가장 먼저 생성된 피드백만 남기고 삭제
+DELETE f FROM feedbacks f
+JOIN feedbacks earlier ON earlier.submission_id = f.submission_id AND earlier.feed_id < f.feed_id;
+
+ALTER TABLE feedbacks ADD UNIQUE KEY uk_feedbacks_submission (submission_id);
@@ -0,0 +1,11 @@
+-- 휴대폰 인증번호 테이블 (verification.store=jdbc)
+-- 서버를 여러 대 띄워도 발송한 서버와 검증하는 서버가 같은 인증번호를 보도록 서버 메모리 대신 DB에 저장함
+
+CREATE TABLE IF NOT EXISTS phone_verification_code (
+    phone_number VARCHAR(20) NOT NULL,
+    code         VARCHAR(10) NOT NULL,
+    attempts     INT         NOT NULL DEFAULT 0,
+    expires_at   DATETIME(3) NOT NULL,
+    PRIMARY KEY (phone_number),
+    KEY idx_phone_verification_code_expires (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
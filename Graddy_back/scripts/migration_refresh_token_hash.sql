@@ -0,0 +1,22 @@
+-- Refresh Token 테이블을 토큰 해시 기본 키로 변경
+-- 토큰 원문(token_value, 가변 길이 500자) 대신 SHA-256 해시(CHAR(64))를 기본 키로 조회하고,
+-- 사용자당 한 행(user_id 유니크)으로 재발급을 INSERT ... ON DUPLICATE KEY UPDATE 한 번으로 처리함
+
+-- 1. 사용자별 최신 토큰만 남기기
+DELETE older FROM refresh_tokens older
+JOIN refresh_tokens newer ON newer.user_id = older.user_id AND newer.token_id > older.token_id;
+
+-- 2. 기존 토큰 해시 채우기 (애플리케이션의 SHA-256 hex와 같은 값이므로 기존 토큰도 계속 사용 가능)
+ALTER TABLE refresh_tokens ADD COLUMN token_hash CHAR(64) NULL FIRST;
+UPDATE refresh_tokens SET token_hash = SHA2(token_value, 256);
+
+-- 3. 기본 키 교체 및 원문 컬럼 삭제
+ALTER TABLE refresh_tokens MODIFY token_id BIGINT NOT NULL;
+ALTER TABLE refresh_tokens DROP PRIMARY KEY;
+ALTER TABLE refresh_tokens
+    DROP COLUMN token_id,
+    DROP COLUMN token_value,
+    MODIFY token_hash CHAR(64) NOT NULL,
+    ADD PRIMARY KEY (token_hash),
+    ADD UNIQUE KEY uk_refresh_tokens_user (user_id),
+    ADD KEY idx_refresh_tokens_expiry (expiry_date);
@@ -0,0 +1,23 @@
+-- 일정 종류(sch_kind) 컬럼 추가
+-- 알림 대상 조회를 content 접두어 LIKE 검색 대신 종류 + 시간 인덱스로 처리하기 위함
+
+-- 1. 컬럼 추가
+ALTER TABLE schedule
+    ADD COLUMN sch_kind VARCHAR(20) NULL AFTER sch_time;
+
+-- 2. 기존 데이터 종류 채우기 (content 접두어 기준)
+UPDATE schedule SET sch_kind = 'study_event'    WHERE sch_kind IS NULL AND content LIKE '[스터디 일정]%';
+UPDATE schedule SET sch_kind = 'assignment_due' WHERE sch_kind IS NULL AND content LIKE '[과제 제출일]%';
+UPDATE schedule SET sch_kind = 'study_start'    WHERE sch_kind IS NULL AND content LIKE '[스터디 시작]%';
+UPDATE schedule SET sch_kind = 'study_end'      WHERE sch_kind IS NULL AND content LIKE '[스터디 종료]%';
+UPDATE schedule SET sch_kind = 'personal'       WHERE sch_kind IS NULL;
+
+-- 3. aram_chk가 NULL로 저장된 기존 알림 대상 일정 보정 (빌더로 생성 시 NULL이 저장되던 문제)
+UPDATE schedule SET aram_chk = 0
+WHERE aram_chk IS NULL AND sch_kind IN ('study_event', 'assignment_due');
+
+-- 4. 알림 큐 적재 쿼리용 인덱스 (sch_kind IN (...) AND aram_chk = 0 AND sch_time 구간)
+CREATE INDEX idx_schedule_kind_aram_time ON schedule (sch_kind, aram_chk, sch_time);
+
+-- 5. 확인
+SELECT sch_kind, aram_chk, COUNT(*) FROM schedule GROUP BY sch_kind, aram_chk;
@@ -0,0 +1,11 @@
+-- 스케줄 작업 임대(lease) 테이블
+-- 서버를 여러 대 띄웠을 때 @Scheduled 작업이 주기마다 한 서버에서만 실행되도록 작업 이름당 한 행으로 임대를 관리함
+-- locked_until이 지난 행만 다른 서버가 가져갈 수 있으며, 시각은 모두 DB의 NOW(3) 기준으로 계산함
+
+CREATE TABLE IF NOT EXISTS scheduler_lock (
+    lock_name    VARCHAR(64)  NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    locked_at    DATETIME(3)  NOT NULL,
+    locked_until DATETIME(3)  NOT NULL,
+    PRIMARY KEY (lock_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,50 @@
+-- 스터디 공용 일정 테이블 추가
+-- 스터디 일정/과제 제출일/스터디 시작·종료일을 멤버 수만큼 schedule에 복사하지 않고 스터디당 한 행으로 저장함
+-- migration_schedule_kind.sql 적용 이후에 실행
+
+-- 1. 스터디 공용 일정
+CREATE TABLE study_events (
+    event_id BIGINT NOT NULL AUTO_INCREMENT,
+    study_project_id BIGINT NOT NULL,
+    user_id VARCHAR(50) NOT NULL,
+    content TEXT NOT NULL,
+    sch_time DATETIME NOT NULL,
+    sch_kind VARCHAR(20) NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    KEY idx_study_events_study_time (study_project_id, sch_time),
+    KEY idx_study_events_kind_time (sch_kind, sch_time)
+);
+
+-- 2. 멤버별 알림 상태 (알림이 처리된 멤버만 행이 생김)
+CREATE TABLE study_event_member_state (
+    event_id BIGINT NOT NULL,
+    user_id VARCHAR(50) NOT NULL,
+    aram_chk TINYINT(1) DEFAULT 0,
+    notified_at DATETIME NULL,
+    PRIMARY KEY (event_id, user_id),
+    KEY idx_event_state_user (user_id)
+);
+
+-- 3. 기존 멤버별 스터디 일정을 공용 일정으로 이전
+--    (스터디 단위로 API의 ScheduleService.migrateMemberSchedulesToStudyEvents를 호출해도 같은 결과)
+INSERT INTO study_events (study_project_id, user_id, content, sch_time, sch_kind, created_at)
+SELECT study_project_id, MIN(user_id), content, sch_time, sch_kind, NOW()
+FROM schedule
+WHERE study_project_id IS NOT NULL AND sch_kind <> 'personal'
+GROUP BY study_project_id, sch_kind, sch_time, content;
+
+INSERT IGNORE INTO study_event_member_state (event_id, user_id, aram_chk, notified_at)
+SELECT e.event_id, s.user_id, 1, NULL
+FROM schedule s
+JOIN study_events e
+  ON e.study_project_id = s.study_project_id
+ AND e.sch_kind = s.sch_kind
+ AND e.sch_time = s.sch_time
+ AND e.content = s.content
+WHERE s.aram_chk = 1;
+
+DELETE FROM schedule WHERE study_project_id IS NOT NULL AND sch_kind <> 'personal';
+
+-- 4. 확인
+SELECT sch_kind, COUNT(*) FROM study_events GROUP BY sch_kind;
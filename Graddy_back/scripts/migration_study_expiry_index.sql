@@ -0,0 +1,3 @@
+-- 스터디/프로젝트 만료 처리용 인덱스
+-- 만료 대상 ID 조회 (study_project_end < ? AND is_recruiting <> 'end') 시 전체 테이블을 읽지 않도록 함
+CREATE INDEX idx_studies_projects_end_recruiting ON studies_projects (study_project_end, is_recruiting);
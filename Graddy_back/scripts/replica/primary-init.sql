@@ -0,0 +1,4 @@
+-- 복제본 접속용 계정 (scripts/replica/docker-compose.yml)
+CREATE USER IF NOT EXISTS 'repl'@'%' IDENTIFIED BY 'repl';
+GRANT REPLICATION SLAVE ON *.* TO 'repl'@'%';
+FLUSH PRIVILEGES;
@@ -0,0 +1,170 @@
+package com.smhrd.graddy.benchmark;
+
+import com.smhrd.graddy.chat.dto.ChatMessageRequest;
+import com.smhrd.graddy.chat.dto.ChatMessageResponse;
+import com.smhrd.graddy.member.dto.MemberInfo;
+import com.smhrd.graddy.study.dto.StudyResponse;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 벤치마크 입력 데이터 생성
+ * 실행마다 같은 데이터가 나오도록 시드를 고정하며, 크기는 운영 데이터 분포에 맞춤
+ * - 관심 항목 60개 중 사용자 3~10개, 스터디 태그 1~6개
+ * - 가능 요일 7개 중 1~7개
+ * - 선호 시간대 1~6시간 (약 20%는 자정을 넘는 시간대)
+ * - 채팅 메시지 20~400자, 스터디 멤버 2~10명
+ */
+public final class BenchmarkData {
+
+    static final int INTEREST_COUNT = 60;
+    static final long SEED = 20251019L;
+
+    private static final String[] WORDS = {
+            "스터디", "과제", "제출", "내일", "회의", "자료", "정리", "알고리즘", "프로젝트", "코드",
+            "리뷰", "질문", "답변", "링크", "확인", "부탁", "드립니다", "오늘", "시간", "일정"
+    };
+
+    private BenchmarkData() {
+    }
+
+    static Random random() {
+        return new Random(SEED);
+    }
+
+    /**
+     * 선호 시간대 [시작, 끝] (0-23시, 끝이 시작보다 작으면 자정을 넘는 시간대)
+     */
+    static int[] hourRange(Random random) {
+        int start = random.nextInt(24);
+        int length = 1 + random.nextInt(6);
+        if (random.nextInt(5) == 0) {
+            // 자정을 넘는 시간대 (예: 22시-02시)
+            start = 18 + random.nextInt(6);
+        }
+        return new int[]{start, (start + length) % 24};
+    }
+
+    static List<Byte> days(Random random) {
+        int count = 1 + random.nextInt(7);
+        List<Byte> days = new ArrayList<>(count);
+        Set<Byte> picked = new HashSet<>();
+        while (days.size() < count) {
+            byte day = (byte) (1 + random.nextInt(7));
+            if (picked.add(day)) {
+                days.add(day);
+            }
+        }
+        return days;
+    }
+
+    static List<Long> interestIds(Random random, int minCount, int maxCount) {
+        int count = minCount + random.nextInt(maxCount - minCount + 1);
+        List<Long> ids = new ArrayList<>(count);
+        Set<Long> picked = new HashSet<>();
+        while (ids.size() < count) {
+            long id = 1 + random.nextInt(INTEREST_COUNT);
+            if (picked.add(id)) {
+                ids.add(id);
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * 사용자별 스터디 참여 이력 (협업 기반 점수의 유사 사용자 탐색 입력)
+     */
+    static Map<String, Set<Long>> memberHistory(Random random, int userCount, int studyCount) {
+        Map<String, Set<Long>> history = new HashMap<>(userCount * 2);
+        for (int i = 0; i < userCount; i++) {
+            int joined = 1 + random.nextInt(8);
+            Set<Long> studies = new HashSet<>();
+            for (int j = 0; j < joined; j++) {
+                studies.add((long) (1 + random.nextInt(studyCount)));
+            }
+            history.put("user" + i, studies);
+        }
+        return history;
+    }
+
+    static String sentence(Random random, int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+
+    static ChatMessageResponse chatMessage(Random random, long messageId) {
+        return ChatMessageResponse.builder()
+                .messageId(messageId)
+                .memberId(1L + random.nextInt(10))
+                .senderNick("닉네임" + random.nextInt(1000))
+                .content(sentence(random, 20, 400))
+                .fileUrl(random.nextInt(10) == 0 ? "https://graddy-files.s3.amazonaws.com/chat/" + messageId + ".png" : null)
+                .createdAt(new Timestamp(1_760_000_000_000L + messageId * 1000))
+                .messageType(ChatMessageRequest.MessageType.TEXT)
+                .studyProjectId(1L + random.nextInt(500))
+                .build();
+    }
+
+    static List<ChatMessageResponse> chatHistory(Random random, int size) {
+        List<ChatMessageResponse> messages = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            messages.add(chatMessage(random, i + 1));
+        }
+        return messages;
+    }
+
+    static StudyResponse study(Random random, long studyProjectId) {
+        LocalDateTime start = LocalDateTime.of(2025, 9, 1, 0, 0).plusDays(random.nextInt(60));
+        int[] hours = hourRange(random);
+        List<String> tagNames = interestIds(random, 1, 6).stream().map(id -> "관심분야" + id).toList();
+        int memberCount = 2 + random.nextInt(9);
+        List<MemberInfo> members = new ArrayList<>(memberCount);
+        for (int i = 0; i < memberCount; i++) {
+            members.add(new MemberInfo(studyProjectId * 100 + i, "user" + random.nextInt(10000), "닉네임" + i,
+                    i == 0 ? "leader" : "member", "approved", start.minusDays(random.nextInt(30))));
+        }
+
+        StudyResponse study = new StudyResponse();
+        study.setStudyProjectId(studyProjectId);
+        study.setStudyProjectName("스터디 " + studyProjectId);
+        study.setStudyProjectTitle(sentence(random, 10, 40));
+        study.setStudyProjectDesc(sentence(random, 100, 800));
+        study.setStudyLevel(1 + random.nextInt(3));
+        study.setTypeCheck(random.nextBoolean() ? "study" : "project");
+        study.setUserId(members.get(0).getUserId());
+        study.setIsRecruiting("recruitment");
+        study.setStudyProjectStart(start);
+        study.setStudyProjectEnd(start.plusWeeks(4 + random.nextInt(12)));
+        study.setStudyProjectTotal(memberCount + random.nextInt(5));
+        study.setSoltStart(start.withHour(hours[0]));
+        study.setSoltEnd(start.withHour(hours[1]));
+        study.setCreatedAt(start.minusDays(7));
+        study.setCurText(random.nextInt(3) == 0 ? sentence(random, 500, 3000) : null);
+        study.setTagNames(tagNames);
+        study.setAvailableDays(days(random));
+        study.setCurrentMemberCount(memberCount);
+        study.setMembers(members);
+        study.setStudyStatus("active");
+        return study;
+    }
+
+    static List<StudyResponse> studies(Random random, int size) {
+        List<StudyResponse> studies = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            studies.add(study(random, i + 1));
+        }
+        return studies;
+    }
+}
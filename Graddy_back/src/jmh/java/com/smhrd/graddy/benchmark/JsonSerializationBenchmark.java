@@ -0,0 +1,69 @@
+package com.smhrd.graddy.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.smhrd.graddy.chat.dto.ChatMessageResponse;
+import com.smhrd.graddy.study.dto.StudyResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JSON 직렬화 벤치마크
+ * ObjectMapper는 Spring Boot 기본 설정과 같게 구성 (JavaTimeModule 등 모듈 자동 등록, 날짜는 ISO 문자열)
+ *
+ * - chatMessage: STOMP 브로드캐스트 1건 (/topic/chat/room/{id})
+ * - chatHistory: 채팅 이력 조회 응답 (최근 100건)
+ * - studyList: 스터디 목록 응답 (studies개, 멤버/태그 포함)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JsonSerializationBenchmark {
+
+    @Param({"20", "200"})
+    private int studies;
+
+    private ObjectMapper objectMapper;
+    private ChatMessageResponse chatMessage;
+    private List<ChatMessageResponse> chatHistory;
+    private List<StudyResponse> studyList;
+
+    @Setup
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        Random random = BenchmarkData.random();
+        chatMessage = BenchmarkData.chatMessage(random, 1L);
+        chatHistory = BenchmarkData.chatHistory(random, 100);
+        studyList = BenchmarkData.studies(random, studies);
+    }
+
+    @Benchmark
+    public byte[] chatMessage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(chatMessage);
+    }
+
+    @Benchmark
+    public byte[] chatHistory() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(chatHistory);
+    }
+
+    @Benchmark
+    public byte[] studyList() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(studyList);
+    }
+}
@@ -0,0 +1,51 @@
+package com.smhrd.graddy.benchmark;
+
+import com.smhrd.graddy.security.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT 벤치마크 (인증이 필요한 모든 요청에서 JwtAuthenticationFilter가 실행하는 구간)
+ *
+ * - extractUserId: 서명 검증 + 파싱 1회
+ * - validateAccessToken: 필터의 검증 경로 (사용자 ID, 타입, 만료 시간을 각각 파싱)
+ * - generateAccessToken: 로그인/재발급 시 토큰 생성
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String USER_ID = "benchmark_user";
+
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        accessToken = jwtUtil.generateAccessToken(USER_ID, 42L);
+    }
+
+    @Benchmark
+    public String extractUserId() {
+        return jwtUtil.extractUserId(accessToken);
+    }
+
+    @Benchmark
+    public Boolean validateAccessToken() {
+        return jwtUtil.validateAccessToken(accessToken, USER_ID);
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateAccessToken(USER_ID, 42L);
+    }
+}
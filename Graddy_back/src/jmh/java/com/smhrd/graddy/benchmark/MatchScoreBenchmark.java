@@ -0,0 +1,141 @@
+package com.smhrd.graddy.benchmark;
+
+import com.smhrd.graddy.recommendation.service.MatchScoreCalculator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 추천 점수 계산 벤치마크 (StudyMatchingService.recommendStudies에서 후보마다 반복되는 CPU 구간)
+ * 한 번의 호출이 후보 candidates개를 모두 처리하므로 결과는 추천 요청 1회의 계산 비용에 해당함
+ *
+ * - overlapDuration: 시간대 겹침 계산 (자정을 넘는 시간대 포함)
+ * - dayJaccard / interestJaccard: 요일, 관심사 Jaccard 유사도
+ * - contentScore: 요일 + 시간 + 관심사 + 레벨 가중 합 (DB 조회 제외)
+ * - similarUsers: 협업 기반 점수의 유사 사용자 탐색 (전체 사용자와 참여 이력 Jaccard)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class MatchScoreBenchmark {
+
+    @Param({"100", "1000"})
+    private int candidates;
+
+    private int[][] userHours;
+    private int[][] studyHours;
+    private List<List<Byte>> userDays;
+    private List<List<Byte>> studyDays;
+    private List<List<Long>> userInterests;
+    private List<List<Long>> studyTags;
+    private double[] userLevels;
+    private int[] studyLevels;
+
+    /**
+     * 유사 사용자 탐색 입력 (전체 사용자 수만 바꿔서 측정)
+     */
+    @State(Scope.Benchmark)
+    public static class MemberHistoryState {
+
+        @Param({"1000", "10000"})
+        private int users;
+
+        private Map<String, Set<Long>> memberHistory;
+        private Set<Long> currentUserStudies;
+
+        @Setup
+        public void setUp() {
+            memberHistory = BenchmarkData.memberHistory(BenchmarkData.random(), users, Math.max(100, users / 4));
+            currentUserStudies = new HashSet<>(memberHistory.get("user0"));
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        Random random = BenchmarkData.random();
+        userHours = new int[candidates][];
+        studyHours = new int[candidates][];
+        userDays = new ArrayList<>(candidates);
+        studyDays = new ArrayList<>(candidates);
+        userInterests = new ArrayList<>(candidates);
+        studyTags = new ArrayList<>(candidates);
+        userLevels = new double[candidates];
+        studyLevels = new int[candidates];
+        for (int i = 0; i < candidates; i++) {
+            userHours[i] = BenchmarkData.hourRange(random);
+            studyHours[i] = BenchmarkData.hourRange(random);
+            userDays.add(BenchmarkData.days(random));
+            studyDays.add(BenchmarkData.days(random));
+            userInterests.add(BenchmarkData.interestIds(random, 3, 10));
+            studyTags.add(BenchmarkData.interestIds(random, 1, 6));
+            userLevels[i] = 1 + random.nextDouble() * 2;
+            studyLevels[i] = 1 + random.nextInt(3);
+        }
+    }
+
+    @Benchmark
+    public int overlapDuration() {
+        int total = 0;
+        for (int i = 0; i < candidates; i++) {
+            total += MatchScoreCalculator.calculateOverlapDuration(
+                    userHours[i][0], userHours[i][1], studyHours[i][0], studyHours[i][1]);
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double dayJaccard() {
+        double total = 0;
+        for (int i = 0; i < candidates; i++) {
+            total += MatchScoreCalculator.jaccard(userDays.get(i), studyDays.get(i));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public double interestJaccard() {
+        double total = 0;
+        for (int i = 0; i < candidates; i++) {
+            total += MatchScoreCalculator.jaccard(userInterests.get(i), studyTags.get(i));
+        }
+        return total;
+    }
+
+    @Benchmark
+    public void contentScore(Blackhole blackhole) {
+        for (int i = 0; i < candidates; i++) {
+            double day = MatchScoreCalculator.jaccard(userDays.get(i), studyDays.get(i));
+            double time = MatchScoreCalculator.timeMatchScore(
+                    userHours[i][0], userHours[i][1], studyHours[i][0], studyHours[i][1]);
+            double interest = MatchScoreCalculator.jaccard(userInterests.get(i), studyTags.get(i));
+            double level = MatchScoreCalculator.levelMatchScore(userLevels[i], studyLevels[i]);
+            // StudyMatchingService의 콘텐츠 기반 가중치 (요일 0.2, 시간 0.2, 관심사 0.35, 레벨 0.25)
+            blackhole.consume(day * 0.2 + time * 0.2 + interest * 0.35 + level * 0.25);
+        }
+    }
+
+    @Benchmark
+    public int similarUsers(MemberHistoryState state) {
+        int similar = 0;
+        for (Map.Entry<String, Set<Long>> entry : state.memberHistory.entrySet()) {
+            if (MatchScoreCalculator.jaccard(state.currentUserStudies, entry.getValue()) > 0) {
+                similar++;
+            }
+        }
+        return similar;
+    }
+}
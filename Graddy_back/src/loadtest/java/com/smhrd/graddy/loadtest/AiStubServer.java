@@ -0,0 +1,229 @@
+package com.smhrd.graddy.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * FastAPI(AI 피드백/커리큘럼) 서버와 OpenAI Chat Completions API를 대신하는 로컬 스텁
+ * 응답 형식은 scripts/main.py와 OpenAI API에 맞추고, 요청마다 지연 시간과 오류를 주입함
+ *
+ * - 지연 시간: latencyMs + [0, jitterMs) 균등 분포 (스트리밍은 첫 청크까지의 지연)
+ * - 스트리밍: streamChunks개 청크를 streamChunkMs 간격으로 전송
+ * - 오류: errorRate 확률로 503 응답 (스트리밍 포함)
+ *
+ * 지연 중에 스레드를 점유하지 않도록 요청마다 가상 스레드에서 처리함
+ */
+@Slf4j
+public class AiStubServer {
+
+    private static final String CURRICULUM_TEXT =
+            "# 주차별 커리큘럼\n\n## 1주차\n- 학습 목표: 기본 개념 이해\n- 주요 내용: 환경 설정, 기초 문법\n- 실습 과제: 예제 작성\n\n"
+                    + "## 2주차\n- 학습 목표: 응용\n- 주요 내용: 자료구조, 알고리즘\n- 실습 과제: 문제 풀이\n\n"
+                    + "## 3주차\n- 학습 목표: 프로젝트\n- 주요 내용: 설계, 구현, 리뷰\n- 실습 과제: 미니 프로젝트\n";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Map<String, LongAdder> requestCounts = new ConcurrentHashMap<>();
+    private final LongAdder errorCount = new LongAdder();
+
+    private final long latencyMs;
+    private final long jitterMs;
+    private final double errorRate;
+    private final int streamChunks;
+    private final long streamChunkMs;
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public AiStubServer(long latencyMs, long jitterMs, double errorRate, int streamChunks, long streamChunkMs) {
+        this.latencyMs = latencyMs;
+        this.jitterMs = jitterMs;
+        this.errorRate = errorRate;
+        this.streamChunks = streamChunks;
+        this.streamChunkMs = streamChunkMs;
+    }
+
+    public void start(int port) throws IOException {
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 1024);
+        server.setExecutor(executor);
+        server.createContext("/health", exchange -> {
+            try (exchange) {
+                writeJson(exchange, 200, Map.of("status", "healthy"));
+            }
+        });
+        server.createContext("/generate-feedback", exchange -> handle(exchange, "generate-feedback", this::feedback));
+        server.createContext("/generate-curriculum", exchange -> {
+            if (exchange.getRequestURI().getPath().endsWith("/stream")) {
+                handle(exchange, "generate-curriculum-stream", this::curriculumStream);
+            } else {
+                handle(exchange, "generate-curriculum", this::curriculum);
+            }
+        });
+        server.createContext("/auto-generate-curriculum", exchange -> handle(exchange, "auto-generate-curriculum", this::curriculum));
+        server.createContext("/v1/chat/completions", exchange -> handle(exchange, "openai-chat-completions", this::chatCompletions));
+        server.start();
+        log.info("AI 스텁 서버 시작: port={}, latency={}ms (+{}ms), errorRate={}, stream={}x{}ms",
+                port, latencyMs, jitterMs, errorRate, streamChunks, streamChunkMs);
+    }
+
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            executor.shutdownNow();
+            log.info("AI 스텁 서버 종료: 요청 수={}, 주입한 오류 수={}", requestCounts, errorCount.sum());
+        }
+    }
+
+    @FunctionalInterface
+    private interface StubHandler {
+        void respond(HttpExchange exchange, JsonNode request) throws IOException;
+    }
+
+    private void handle(HttpExchange exchange, String endpoint, StubHandler handler) {
+        try (exchange) {
+            requestCounts.computeIfAbsent(endpoint, key -> new LongAdder()).increment();
+            JsonNode request = readBody(exchange);
+            sleep(latencyMs + (jitterMs > 0 ? ThreadLocalRandom.current().nextLong(jitterMs) : 0));
+            if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+                errorCount.increment();
+                writeJson(exchange, 503, Map.of("detail", "stub injected error"));
+                return;
+            }
+            handler.respond(exchange, request);
+        } catch (Exception e) {
+            log.warn("AI 스텁 응답 실패: endpoint={}, error={}", endpoint, e.getMessage());
+        }
+    }
+
+    /**
+     * POST /generate-feedback (FeedbackResponse: score, comment, detailed_feedback)
+     */
+    private void feedback(HttpExchange exchange, JsonNode request) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("score", ThreadLocalRandom.current().nextInt(-5, 11));
+        body.put("comment", "제출 내용이 과제 요구사항을 대부분 충족합니다.");
+        body.put("detailed_feedback", "잘한 점: 구조가 명확합니다.\n개선할 점: 예외 처리를 보완해주세요.");
+        writeJson(exchange, 200, body);
+    }
+
+    /**
+     * POST /generate-curriculum, /auto-generate-curriculum (CurriculumResponse)
+     */
+    private void curriculum(HttpExchange exchange, JsonNode request) throws IOException {
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("study_project_id", request.path("study_project_id").asLong());
+        body.put("curriculum", CURRICULUM_TEXT);
+        body.put("message", "커리큘럼이 생성되었습니다.");
+        body.put("success", true);
+        body.put("generated_at", LocalDateTime.now().toString());
+        body.put("study_project_info", Map.of("study_project_name", request.path("study_project_name").asText("")));
+        writeJson(exchange, 200, body);
+    }
+
+    /**
+     * POST /generate-curriculum/stream (data: {"delta": "..."} 청크 후 data: [DONE])
+     */
+    private void curriculumStream(HttpExchange exchange, JsonNode request) throws IOException {
+        streamEvents(exchange, CURRICULUM_TEXT, delta -> Map.of("delta", delta));
+    }
+
+    /**
+     * POST /v1/chat/completions (stream=true면 OpenAI 스트리밍 청크 형식)
+     * 과제 생성 프롬프트가 요구하는 JSON 형식의 과제를 content로 반환
+     */
+    private void chatCompletions(HttpExchange exchange, JsonNode request) throws IOException {
+        String content = objectMapper.writeValueAsString(assignmentContent());
+        if (request.path("stream").asBoolean(false)) {
+            streamEvents(exchange, content, delta -> Map.of(
+                    "object", "chat.completion.chunk",
+                    "choices", List.of(Map.of("index", 0, "delta", Map.of("content", delta)))));
+            return;
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("id", "chatcmpl-loadtest");
+        body.put("object", "chat.completion");
+        body.put("model", request.path("model").asText("gpt-4o"));
+        body.put("choices", List.of(Map.of(
+                "index", 0,
+                "message", Map.of("role", "assistant", "content", content),
+                "finish_reason", "stop")));
+        writeJson(exchange, 200, body);
+    }
+
+    private Map<String, Object> assignmentContent() {
+        Map<String, Object> assignment = new LinkedHashMap<>();
+        assignment.put("title", "리스트에서 중복 제거하는 함수 작성");
+        assignment.put("description", "정수 리스트를 입력받아 순서를 유지하면서 중복을 제거하는 함수를 작성합니다.");
+        assignment.put("problem_statement", "입력 리스트의 첫 등장 순서를 유지한 채 중복 값을 제거하세요.");
+        assignment.put("input_example", "[3, 1, 3, 2, 1]");
+        assignment.put("expected_output", "[3, 1, 2]");
+        assignment.put("sample_code", "def dedupe(values):\n    pass");
+        assignment.put("learning_objectives", List.of("집합 자료구조 활용", "순서 유지"));
+        assignment.put("requirements", List.of("O(n) 시간 복잡도", "입력 리스트 변경 금지"));
+        assignment.put("submission_format", "코드 파일 및 실행 결과");
+        assignment.put("evaluation_criteria", List.of("정확성", "복잡도", "가독성"));
+        assignment.put("difficulty_level", "초급");
+        assignment.put("additional_resources", List.of("Python 공식 문서"));
+        return assignment;
+    }
+
+    private void streamEvents(HttpExchange exchange, String text,
+                              Function<String, Object> chunk) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/event-stream; charset=UTF-8");
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        int chunkSize = Math.max(1, (int) Math.ceil(text.length() / (double) Math.max(1, streamChunks)));
+        for (int start = 0; start < text.length(); start += chunkSize) {
+            String delta = text.substring(start, Math.min(text.length(), start + chunkSize));
+            out.write(("data: " + objectMapper.writeValueAsString(chunk.apply(delta)) + "\n\n").getBytes(StandardCharsets.UTF_8));
+            out.flush();
+            sleep(streamChunkMs);
+        }
+        out.write("data: [DONE]\n\n".getBytes(StandardCharsets.UTF_8));
+        out.flush();
+    }
+
+    private JsonNode readBody(HttpExchange exchange) throws IOException {
+        try (InputStream in = exchange.getRequestBody()) {
+            byte[] bytes = in.readAllBytes();
+            return bytes.length == 0 ? objectMapper.createObjectNode() : objectMapper.readTree(bytes);
+        }
+    }
+
+    private void writeJson(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
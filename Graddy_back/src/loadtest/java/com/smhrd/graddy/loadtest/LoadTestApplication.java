@@ -0,0 +1,57 @@
+package com.smhrd.graddy.loadtest;
+
+import com.smhrd.graddy.GraddyApplication;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.SpringApplication;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.nio.file.Path;
+
+/**
+ * 부하 테스트 실행 환경 (./gradlew loadtestRun, scripts/README_LOADTEST.md)
+ *
+ * 1. 내장 MariaDB 시작 및 스키마 적용 (LoadTestDatabase)
+ * 2. 합성 데이터 생성 및 manifest 저장 (LoadTestDataSeeder)
+ * 3. FastAPI/OpenAI 스텁 시작 (AiStubServer)
+ * 4. loadtest 프로필로 애플리케이션 시작 (DB, AI 서버 주소를 1~3에서 띄운 것으로 교체)
+ *
+ * 설정은 시스템 프로퍼티(-Ploadtest.*) 또는 환경변수(LOADTEST_*)로 지정
+ */
+@Slf4j
+public class LoadTestApplication {
+
+    public static void main(String[] args) throws Exception {
+        StandardEnvironment env = new StandardEnvironment();
+
+        LoadTestDatabase database = LoadTestDatabase.start(env);
+        new LoadTestDataSeeder(database.dataSource(), LoadTestDataSeeder.Scale.from(env))
+                .seed(Path.of(env.getProperty("loadtest.manifest-path", "build/loadtest/seed.json")));
+
+        int stubPort = env.getProperty("loadtest.stub.port", Integer.class, 8090);
+        AiStubServer stubServer = new AiStubServer(
+                env.getProperty("loadtest.stub.latency-ms", Long.class, 800L),
+                env.getProperty("loadtest.stub.jitter-ms", Long.class, 400L),
+                env.getProperty("loadtest.stub.error-rate", Double.class, 0.0),
+                env.getProperty("loadtest.stub.stream-chunks", Integer.class, 40),
+                env.getProperty("loadtest.stub.stream-chunk-ms", Long.class, 50L));
+        stubServer.start(stubPort);
+
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            stubServer.stop();
+            database.stop();
+        }, "loadtest-shutdown"));
+
+        // application.properties의 ${...} 값보다 우선하도록 시스템 프로퍼티로 지정
+        String stubUrl = "http://127.0.0.1:" + stubPort;
+        System.setProperty("spring.datasource.url", database.getUrl());
+        System.setProperty("spring.datasource.username", database.getUsername());
+        System.setProperty("spring.datasource.password", database.getPassword());
+        System.setProperty("fastapi.server.url", stubUrl);
+        System.setProperty("ai.curriculum.api.url", stubUrl);
+        System.setProperty("openai.api.url", stubUrl + "/v1/chat/completions");
+
+        SpringApplication application = new SpringApplication(GraddyApplication.class);
+        application.setAdditionalProfiles("loadtest");
+        application.run(args);
+    }
+}
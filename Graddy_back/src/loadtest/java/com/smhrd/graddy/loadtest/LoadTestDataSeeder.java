@@ -0,0 +1,343 @@
+package com.smhrd.graddy.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트용 합성 데이터 생성
+ * 실행마다 같은 데이터가 나오도록 시드를 고정하며, 분포는 운영 데이터에 맞춤
+ * - 사용자: 관심 항목 60개 중 3~10개, 가능 요일 1~7개, 선호 시간대 1~6시간
+ * - 스터디: 태그 1~6개, 멤버 2~10명 (리더 포함), 스터디마다 채팅 이력과 과제, 공용 일정
+ * - 과제 마감 burst: 스터디마다 deadline-delay-minutes 뒤에 마감되는 과제 1개
+ * - 알림 burst: 스터디마다 reminder-delay-minutes 뒤에 알림 시각(마감 48시간 전)이 되는 과제 제출일 일정 1개
+ *
+ * k6 시나리오가 사용할 사용자/멤버/과제 ID는 manifest(JSON)로 저장함
+ */
+@Slf4j
+public class LoadTestDataSeeder {
+
+    public static final String PASSWORD = "loadtest1234!";
+
+    private static final int INTEREST_COUNT = 60;
+    private static final int INSERT_CHUNK_SIZE = 1000;
+    private static final String[] DAY_NAMES = {"월", "화", "수", "목", "금", "토", "일"};
+    private static final String[] WORDS = {
+            "스터디", "과제", "제출", "내일", "회의", "자료", "정리", "알고리즘", "프로젝트", "코드",
+            "리뷰", "질문", "답변", "링크", "확인", "부탁", "드립니다", "오늘", "시간", "일정"
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Scale scale;
+    private final Random random;
+
+    /**
+     * 생성 규모 (loadtest.seed.*)
+     */
+    public record Scale(int users, int studies, int messagesPerStudy, int schedulesPerUser,
+                        int eventsPerStudy, int assignmentsPerStudy,
+                        long deadlineDelayMinutes, long reminderDelayMinutes, long randomSeed) {
+
+        static Scale from(Environment env) {
+            return new Scale(
+                    env.getProperty("loadtest.seed.users", Integer.class, 2000),
+                    env.getProperty("loadtest.seed.studies", Integer.class, 300),
+                    env.getProperty("loadtest.seed.messages-per-study", Integer.class, 200),
+                    env.getProperty("loadtest.seed.schedules-per-user", Integer.class, 5),
+                    env.getProperty("loadtest.seed.events-per-study", Integer.class, 4),
+                    env.getProperty("loadtest.seed.assignments-per-study", Integer.class, 3),
+                    env.getProperty("loadtest.seed.deadline-delay-minutes", Long.class, 10L),
+                    env.getProperty("loadtest.seed.reminder-delay-minutes", Long.class, 5L),
+                    env.getProperty("loadtest.seed.random-seed", Long.class, 20251019L));
+        }
+    }
+
+    record Membership(long studyProjectId, long memberId, long burstAssignmentId) {
+    }
+
+    public LoadTestDataSeeder(DataSource dataSource, Scale scale) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.scale = scale;
+        this.random = new Random(scale.randomSeed());
+    }
+
+    /**
+     * 데이터 생성 후 manifest 저장
+     */
+    public void seed(Path manifestPath) throws IOException {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        LocalDateTime deadlineAt = now.plusMinutes(scale.deadlineDelayMinutes());
+        LocalDateTime reminderAt = now.plusMinutes(scale.reminderDelayMinutes());
+
+        seedReferenceData();
+        List<String> userIds = seedUsers(now);
+        Map<String, List<Membership>> memberships = seedStudies(userIds, now, deadlineAt, reminderAt);
+        seedPersonalSchedules(userIds, now);
+
+        writeManifest(manifestPath, userIds, memberships, now, deadlineAt, reminderAt);
+        log.info("부하 테스트 데이터 생성 완료: {} ({}ms), manifest={}",
+                scale, System.currentTimeMillis() - startedAt, manifestPath.toAbsolutePath());
+    }
+
+    private void seedReferenceData() {
+        List<Object[]> days = new ArrayList<>();
+        for (int i = 0; i < DAY_NAMES.length; i++) {
+            days.add(new Object[]{i + 1, DAY_NAMES[i]});
+        }
+        insert("INSERT INTO days (day_id, day_name) VALUES (?, ?)", days);
+
+        List<Object[]> interests = new ArrayList<>();
+        for (int i = 1; i <= INTEREST_COUNT; i++) {
+            interests.add(new Object[]{i, 1 + i % 4, "관심분야" + i});
+        }
+        insert("INSERT INTO interest (interest_id, interest_division, interest_name) VALUES (?, ?, ?)", interests);
+    }
+
+    private List<String> seedUsers(LocalDateTime now) {
+        // BCrypt 해시는 사용자마다 계산하면 생성 시간이 대부분 여기에 쓰이므로 같은 해시를 공유함
+        String passwordHash = new BCryptPasswordEncoder().encode(PASSWORD);
+
+        List<String> userIds = new ArrayList<>(scale.users());
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> interests = new ArrayList<>();
+        List<Object[]> days = new ArrayList<>();
+        List<Object[]> scores = new ArrayList<>();
+        for (int i = 1; i <= scale.users(); i++) {
+            String userId = "lt_user" + i;
+            userIds.add(userId);
+            int[] hours = hourRange();
+            users.add(new Object[]{userId, String.format("010%08d", i), passwordHash, "부하테스트" + i, "lt_nick" + i,
+                    Timestamp.valueOf(now.toLocalDate().atTime(hours[0], 0)),
+                    Timestamp.valueOf(now.toLocalDate().atTime(hours[1], 0)),
+                    Timestamp.valueOf(now.minusDays(random.nextInt(365)))});
+            for (long interestId : pick(INTEREST_COUNT, 3, 10)) {
+                interests.add(new Object[]{userId, interestId, 1 + random.nextInt(3)});
+            }
+            for (long dayId : pick(DAY_NAMES.length, 1, DAY_NAMES.length)) {
+                days.add(new Object[]{userId, dayId});
+            }
+            scores.add(new Object[]{userId, 1000 + random.nextInt(500) - 100, Timestamp.valueOf(now)});
+        }
+        insert("INSERT INTO users (user_id, tel, password, name, nick, role, alarm_type, solt_start, solt_end, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, 'USER', 1, ?, ?, ?)", users);
+        insert("INSERT INTO user_interest (user_id, interest_id, interest_level) VALUES (?, ?, ?)", interests);
+        insert("INSERT INTO user_available_days (user_id, day_id) VALUES (?, ?)", days);
+        insert("INSERT INTO scores (user_id, user_score, last_updated) VALUES (?, ?, ?)", scores);
+        return userIds;
+    }
+
+    private Map<String, List<Membership>> seedStudies(List<String> userIds, LocalDateTime now,
+                                                      LocalDateTime deadlineAt, LocalDateTime reminderAt) {
+        Map<String, List<Membership>> memberships = new LinkedHashMap<>();
+        List<Object[]> studies = new ArrayList<>();
+        List<Object[]> tags = new ArrayList<>();
+        List<Object[]> studyDays = new ArrayList<>();
+        List<Object[]> members = new ArrayList<>();
+        List<Object[]> messages = new ArrayList<>();
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> assignments = new ArrayList<>();
+        List<Object[]> submissions = new ArrayList<>();
+        List<Object[]> feedbacks = new ArrayList<>();
+
+        long memberId = 0;
+        long assignmentId = 0;
+        long submissionId = 0;
+        for (long studyId = 1; studyId <= scale.studies(); studyId++) {
+            // 멤버 2~10명 (첫 번째가 리더)
+            List<String> studyUsers = pickUsers(userIds, 2 + random.nextInt(9));
+            List<Long> memberIds = new ArrayList<>(studyUsers.size());
+            long firstMemberId = memberId + 1;
+            for (int i = 0; i < studyUsers.size(); i++) {
+                memberIds.add(++memberId);
+                members.add(new Object[]{memberId, studyUsers.get(i), studyId, i == 0 ? "leader" : "member",
+                        Timestamp.valueOf(now.minusDays(20 + random.nextInt(10)))});
+            }
+
+            LocalDateTime start = now.minusDays(random.nextInt(30));
+            int[] hours = hourRange();
+            studies.add(new Object[]{studyId, "부하테스트 스터디 " + studyId, sentence(10, 40), sentence(100, 800),
+                    1 + random.nextInt(3), random.nextBoolean() ? "study" : "project", studyUsers.get(0),
+                    random.nextInt(5) == 0 ? "complete" : "recruitment",
+                    Timestamp.valueOf(start), Timestamp.valueOf(start.plusWeeks(4 + random.nextInt(12))),
+                    studyUsers.size() + random.nextInt(5),
+                    Timestamp.valueOf(start.toLocalDate().atTime(hours[0], 0)),
+                    Timestamp.valueOf(start.toLocalDate().atTime(hours[1], 0)),
+                    Timestamp.valueOf(start.minusDays(7))});
+            for (long interestId : pick(INTEREST_COUNT, 1, 6)) {
+                tags.add(new Object[]{studyId, interestId});
+            }
+            for (long dayId : pick(DAY_NAMES.length, 1, DAY_NAMES.length)) {
+                studyDays.add(new Object[]{studyId, dayId});
+            }
+
+            // 채팅 이력 (최근 messages-per-study건, 최근 7일에 분산)
+            for (int i = 0; i < scale.messagesPerStudy(); i++) {
+                messages.add(new Object[]{Timestamp.valueOf(now.minusSeconds(random.nextInt(7 * 24 * 3600))),
+                        memberIds.get(random.nextInt(memberIds.size())), studyId, sentence(20, 400)});
+            }
+
+            // 지난 과제와 제출/피드백 (멤버의 약 60%가 제출)
+            for (int i = 0; i < scale.assignmentsPerStudy(); i++) {
+                assignmentId++;
+                LocalDateTime deadline = now.minusDays(1 + random.nextInt(14));
+                assignments.add(assignmentRow(assignmentId, studyId, firstMemberId, deadline.minusDays(7), deadline));
+                for (long id : memberIds) {
+                    if (random.nextInt(10) < 6) {
+                        submissionId++;
+                        submissions.add(new Object[]{submissionId, assignmentId, id, sentence(100, 1000),
+                                Timestamp.valueOf(deadline.minusHours(random.nextInt(72)))});
+                        feedbacks.add(new Object[]{id, submissionId, random.nextInt(16) - 5, sentence(50, 300),
+                                Timestamp.valueOf(deadline)});
+                    }
+                }
+            }
+            // 마감 burst 과제
+            long burstAssignmentId = ++assignmentId;
+            assignments.add(assignmentRow(burstAssignmentId, studyId, firstMemberId, now.minusDays(3), deadlineAt));
+            for (int i = 0; i < studyUsers.size(); i++) {
+                memberships.computeIfAbsent(studyUsers.get(i), key -> new ArrayList<>())
+                        .add(new Membership(studyId, memberIds.get(i), burstAssignmentId));
+            }
+
+            // 공용 일정 (앞으로 30일에 분산) + 알림 burst 일정
+            for (int i = 0; i < scale.eventsPerStudy(); i++) {
+                LocalDateTime schTime = now.plusHours(1 + random.nextInt(30 * 24));
+                boolean assignmentDue = random.nextBoolean();
+                events.add(new Object[]{studyId, studyUsers.get(0),
+                        (assignmentDue ? "[과제 제출일] " : "[스터디 일정] ") + sentence(10, 40),
+                        Timestamp.valueOf(schTime), assignmentDue ? "assignment_due" : "study_event",
+                        Timestamp.valueOf(now)});
+            }
+            events.add(new Object[]{studyId, studyUsers.get(0), "[과제 제출일] 알림 burst " + studyId,
+                    Timestamp.valueOf(reminderAt.plusHours(48)), "assignment_due", Timestamp.valueOf(now)});
+        }
+
+        insert("INSERT INTO study_project_member (member_id, user_id, study_project_id, study_project_check, member_type, joined_at) "
+                + "VALUES (?, ?, ?, 'approved', ?, ?)", members);
+        insert("INSERT INTO studies_projects (study_project_id, study_project_name, study_project_title, study_project_desc, "
+                + "study_level, type_check, user_id, is_recruiting, study_project_start, study_project_end, study_project_total, "
+                + "solt_start, solt_end, created_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)", studies);
+        insert("INSERT INTO tag (study_project_id, interest_id) VALUES (?, ?)", tags);
+        insert("INSERT INTO study_project_available_days (study_project_id, day_id) VALUES (?, ?)", studyDays);
+        insert("INSERT INTO chat_messages (created_at, member_id, study_project_id, content) VALUES (?, ?, ?, ?)", messages);
+        insert("INSERT INTO assignments (assignment_id, study_project_id, member_id, title, description, deadline, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?)", assignments);
+        insert("INSERT INTO submissions (submission_id, assignment_id, member_id, content, created_at) VALUES (?, ?, ?, ?, ?)", submissions);
+        insert("INSERT INTO feedbacks (member_id, submission_id, score, comment, created_at) VALUES (?, ?, ?, ?, ?)", feedbacks);
+        insert("INSERT INTO study_events (study_project_id, user_id, content, sch_time, sch_kind, created_at) "
+                + "VALUES (?, ?, ?, ?, ?, ?)", events);
+        return memberships;
+    }
+
+    private void seedPersonalSchedules(List<String> userIds, LocalDateTime now) {
+        List<Object[]> schedules = new ArrayList<>();
+        for (String userId : userIds) {
+            for (int i = 0; i < scale.schedulesPerUser(); i++) {
+                schedules.add(new Object[]{userId, sentence(10, 60),
+                        Timestamp.valueOf(now.plusMinutes(random.nextInt(60 * 24 * 60) - 60 * 24 * 30))});
+            }
+        }
+        insert("INSERT INTO schedule (user_id, content, sch_time, sch_kind, aram_chk) VALUES (?, ?, ?, 'personal', 0)", schedules);
+    }
+
+    private Object[] assignmentRow(long assignmentId, long studyId, long leaderMemberId,
+                                   LocalDateTime createdAt, LocalDateTime deadline) {
+        return new Object[]{assignmentId, studyId, leaderMemberId, "부하테스트 과제 " + assignmentId, sentence(100, 600),
+                Timestamp.valueOf(deadline), Timestamp.valueOf(createdAt)};
+    }
+
+    private void writeManifest(Path manifestPath, List<String> userIds, Map<String, List<Membership>> memberships,
+                               LocalDateTime now, LocalDateTime deadlineAt, LocalDateTime reminderAt) throws IOException {
+        List<Map<String, Object>> users = new ArrayList<>(userIds.size());
+        for (String userId : userIds) {
+            users.add(Map.of("userId", userId, "memberships", memberships.getOrDefault(userId, List.of())));
+        }
+        Map<String, Object> manifest = new LinkedHashMap<>();
+        manifest.put("password", PASSWORD);
+        manifest.put("seededAt", now.toString());
+        manifest.put("deadlineAt", deadlineAt.toString());
+        manifest.put("reminderAt", reminderAt.toString());
+        manifest.put("scale", scale);
+        manifest.put("users", users);
+
+        ObjectMapper objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        if (manifestPath.getParent() != null) {
+            Files.createDirectories(manifestPath.getParent());
+        }
+        objectMapper.writeValue(manifestPath.toFile(), manifest);
+    }
+
+    private void insert(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += INSERT_CHUNK_SIZE) {
+            jdbcTemplate.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + INSERT_CHUNK_SIZE)));
+        }
+    }
+
+    /**
+     * 선호 시간대 [시작, 끝] (약 20%는 자정을 넘는 시간대)
+     */
+    private int[] hourRange() {
+        int start = random.nextInt(24);
+        int length = 1 + random.nextInt(6);
+        if (random.nextInt(5) == 0) {
+            start = 18 + random.nextInt(6);
+        }
+        return new int[]{start, (start + length) % 24};
+    }
+
+    /**
+     * 1~bound 중 서로 다른 값 minCount~maxCount개
+     */
+    private List<Long> pick(int bound, int minCount, int maxCount) {
+        int count = minCount + random.nextInt(maxCount - minCount + 1);
+        Set<Long> picked = new HashSet<>();
+        List<Long> values = new ArrayList<>(count);
+        while (values.size() < count) {
+            long value = 1 + random.nextInt(bound);
+            if (picked.add(value)) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    private List<String> pickUsers(List<String> userIds, int count) {
+        List<String> picked = new ArrayList<>(count);
+        for (long index : pick(userIds.size(), Math.min(count, userIds.size()), Math.min(count, userIds.size()))) {
+            picked.add(userIds.get((int) index - 1));
+        }
+        return picked;
+    }
+
+    private String sentence(int minLength, int maxLength) {
+        int length = minLength + random.nextInt(maxLength - minLength + 1);
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+        }
+        return sb.substring(0, length);
+    }
+}
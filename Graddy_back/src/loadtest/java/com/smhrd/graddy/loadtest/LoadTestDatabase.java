@@ -0,0 +1,89 @@
+package com.smhrd.graddy.loadtest;
+
+import ch.vorburger.mariadb4j.DB;
+import ch.vorburger.mariadb4j.DBConfigurationBuilder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+
+/**
+ * 부하 테스트용 데이터베이스
+ * 기본은 내장 MariaDB(MariaDB4j, MySQL 호환)를 띄우고 loadtest/schema.sql을 적용함
+ * loadtest.db.url을 지정하면 내장 DB 대신 해당 MySQL에 스키마를 적용함 (비어 있는 DB만 사용)
+ */
+@Slf4j
+public class LoadTestDatabase {
+
+    private static final String DATABASE_NAME = "graddy_loadtest";
+    private static final String URL_OPTIONS =
+            "?characterEncoding=UTF-8&serverTimezone=Asia/Seoul&useSSL=false&allowPublicKeyRetrieval=true&rewriteBatchedStatements=true";
+
+    @Getter
+    private final String url;
+    @Getter
+    private final String username;
+    @Getter
+    private final String password;
+    private final DB embeddedDb;
+
+    private LoadTestDatabase(String url, String username, String password, DB embeddedDb) {
+        this.url = url;
+        this.username = username;
+        this.password = password;
+        this.embeddedDb = embeddedDb;
+    }
+
+    public static LoadTestDatabase start(Environment env) throws Exception {
+        String externalUrl = env.getProperty("loadtest.db.url", "");
+        LoadTestDatabase database;
+        if (!externalUrl.isBlank()) {
+            database = new LoadTestDatabase(externalUrl,
+                    env.getProperty("loadtest.db.username", "root"),
+                    env.getProperty("loadtest.db.password", ""),
+                    null);
+            log.info("외부 DB 사용: url={}", externalUrl);
+        } else {
+            int port = env.getProperty("loadtest.db.port", Integer.class, 3307);
+            DBConfigurationBuilder config = DBConfigurationBuilder.newBuilder();
+            config.setPort(port);
+            config.addArg("--character-set-server=utf8mb4");
+            config.addArg("--collation-server=utf8mb4_unicode_ci");
+            config.addArg("--max-connections=500");
+            config.addArg("--innodb-buffer-pool-size=" + env.getProperty("loadtest.db.buffer-pool-size", "512M"));
+            DB db = DB.newEmbeddedDB(config.build());
+            db.start();
+            db.createDB(DATABASE_NAME);
+            database = new LoadTestDatabase("jdbc:mysql://127.0.0.1:" + port + "/" + DATABASE_NAME + URL_OPTIONS,
+                    "root", "", db);
+            log.info("내장 MariaDB 시작: port={}, database={}", port, DATABASE_NAME);
+        }
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(new ClassPathResource("loadtest/schema.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(database.dataSource());
+        return database;
+    }
+
+    public DataSource dataSource() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(url, username, password);
+        dataSource.setDriverClassName("com.mysql.cj.jdbc.Driver");
+        return dataSource;
+    }
+
+    public void stop() {
+        if (embeddedDb == null) {
+            return;
+        }
+        try {
+            embeddedDb.stop();
+            log.info("내장 MariaDB 종료");
+        } catch (Exception e) {
+            log.warn("내장 MariaDB 종료 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,276 @@
+-- 부하 테스트용 스키마 (내장 MariaDB에 적용)
+-- 엔티티 매핑과 scripts/migration_*.sql을 모두 적용한 운영 스키마 기준
+-- 엔티티나 마이그레이션이 바뀌면 이 파일도 같이 수정
+
+CREATE TABLE days (
+    day_id   TINYINT     NOT NULL,
+    day_name VARCHAR(10) NOT NULL,
+    PRIMARY KEY (day_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE interest (
+    interest_id       BIGINT      NOT NULL AUTO_INCREMENT,
+    interest_division INT         NOT NULL,
+    interest_name     VARCHAR(50) NOT NULL,
+    PRIMARY KEY (interest_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE users (
+    user_id    VARCHAR(50)  NOT NULL,
+    tel        VARCHAR(50)  NOT NULL,
+    password   VARCHAR(255) NOT NULL,
+    name       VARCHAR(50)  NOT NULL,
+    nick       VARCHAR(50)  NOT NULL,
+    role       VARCHAR(10)  NOT NULL DEFAULT 'USER',
+    git_url    VARCHAR(200) NULL,
+    user_refer VARCHAR(500) NULL,
+    alarm_type TINYINT(1)   NOT NULL DEFAULT 0,
+    solt_start DATETIME     NOT NULL,
+    solt_end   DATETIME     NOT NULL,
+    created_at DATETIME     NOT NULL,
+    PRIMARY KEY (user_id),
+    UNIQUE KEY uk_users_tel (tel)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE user_interest (
+    user_id        VARCHAR(50) NOT NULL,
+    interest_id    BIGINT      NOT NULL,
+    interest_level INT         NOT NULL,
+    PRIMARY KEY (user_id, interest_id),
+    KEY idx_user_interest_interest (interest_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE user_available_days (
+    user_id VARCHAR(50) NOT NULL,
+    day_id  TINYINT     NOT NULL,
+    PRIMARY KEY (user_id, day_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE scores (
+    score_id     BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      VARCHAR(50) NOT NULL,
+    user_score   INT         NOT NULL,
+    last_updated DATETIME    NOT NULL,
+    PRIMARY KEY (score_id),
+    UNIQUE KEY uk_scores_user (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE studies_projects (
+    study_project_id    BIGINT                                NOT NULL AUTO_INCREMENT,
+    study_project_name  VARCHAR(50)                           NOT NULL,
+    study_project_title TEXT                                  NOT NULL,
+    study_project_desc  TEXT                                  NOT NULL,
+    study_level         INT                                   NULL,
+    type_check          ENUM ('study', 'project')             NOT NULL,
+    user_id             VARCHAR(50)                           NOT NULL,
+    is_recruiting       ENUM ('recruitment', 'complete', 'end') NOT NULL,
+    study_project_start DATETIME                              NOT NULL,
+    study_project_end   DATETIME                              NOT NULL,
+    study_project_total INT                                   NOT NULL,
+    solt_start          DATETIME                              NULL,
+    solt_end            DATETIME                              NULL,
+    created_at          DATETIME                              NOT NULL,
+    cur_text            TEXT                                  NULL,
+    git_url             VARCHAR(200)                          NULL,
+    PRIMARY KEY (study_project_id),
+    KEY idx_studies_projects_user (user_id),
+    KEY idx_studies_projects_end_recruiting (study_project_end, is_recruiting)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE studies (
+    study_id      BIGINT      NOT NULL AUTO_INCREMENT,
+    study_name    VARCHAR(50) NOT NULL,
+    study_title   TEXT        NOT NULL,
+    study_desc    TEXT        NOT NULL,
+    study_level   INT         NULL,
+    user_id       VARCHAR(50) NOT NULL,
+    is_recruiting VARCHAR(20) NOT NULL,
+    study_start   DATETIME    NOT NULL,
+    study_end     DATETIME    NOT NULL,
+    study_total   INT         NOT NULL,
+    solt_start    DATETIME    NOT NULL,
+    solt_end      DATETIME    NOT NULL,
+    created_at    DATETIME    NOT NULL,
+    cur_text      TEXT        NULL,
+    PRIMARY KEY (study_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE tag (
+    study_project_id BIGINT NOT NULL,
+    interest_id      BIGINT NOT NULL,
+    PRIMARY KEY (study_project_id, interest_id),
+    KEY idx_tag_interest (interest_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE study_project_available_days (
+    study_project_id BIGINT  NOT NULL,
+    day_id           TINYINT NOT NULL,
+    PRIMARY KEY (study_project_id, day_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE study_project_member (
+    member_id           BIGINT                       NOT NULL AUTO_INCREMENT,
+    user_id             VARCHAR(50)                  NOT NULL,
+    study_project_id    BIGINT                       NOT NULL,
+    study_project_check ENUM ('approved', 'withdraw') NOT NULL,
+    member_type         ENUM ('leader', 'member')     NOT NULL,
+    joined_at           DATETIME                     NOT NULL,
+    PRIMARY KEY (member_id),
+    KEY idx_member_user (user_id),
+    KEY idx_member_study (study_project_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE study_project_status (
+    user_id          VARCHAR(50)                               NOT NULL,
+    study_project_id BIGINT                                    NOT NULL,
+    status           ENUM ('PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    joined_at        DATETIME                                  NOT NULL,
+    PRIMARY KEY (user_id, study_project_id),
+    KEY idx_status_study (study_project_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE chat_messages (
+    message_id       BIGINT   NOT NULL AUTO_INCREMENT,
+    created_at       DATETIME NOT NULL,
+    member_id        BIGINT   NOT NULL,
+    study_project_id BIGINT   NOT NULL,
+    content          TEXT     NOT NULL,
+    file_url         TEXT     NULL,
+    PRIMARY KEY (message_id),
+    KEY idx_chat_messages_study_created (study_project_id, created_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE schedule (
+    sch_id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id          VARCHAR(50) NOT NULL,
+    study_project_id BIGINT      NULL,
+    content          TEXT        NOT NULL,
+    sch_time         DATETIME    NOT NULL,
+    sch_kind         VARCHAR(20) NULL,
+    aram_chk         TINYINT(1)  DEFAULT 0,
+    PRIMARY KEY (sch_id),
+    KEY idx_schedule_user_time (user_id, sch_time),
+    KEY idx_schedule_kind_aram_time (sch_kind, aram_chk, sch_time)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE study_events (
+    event_id         BIGINT      NOT NULL AUTO_INCREMENT,
+    study_project_id BIGINT      NOT NULL,
+    user_id          VARCHAR(50) NOT NULL,
+    content          TEXT        NOT NULL,
+    sch_time         DATETIME    NOT NULL,
+    sch_kind         VARCHAR(20) NOT NULL,
+    created_at       DATETIME    NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (event_id),
+    KEY idx_study_events_study_time (study_project_id, sch_time),
+    KEY idx_study_events_kind_time (sch_kind, sch_time)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE study_event_member_state (
+    event_id    BIGINT      NOT NULL,
+    user_id     VARCHAR(50) NOT NULL,
+    aram_chk    TINYINT(1)  DEFAULT 0,
+    notified_at DATETIME    NULL,
+    PRIMARY KEY (event_id, user_id),
+    KEY idx_event_state_user (user_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE assignments (
+    assignment_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    study_project_id BIGINT       NOT NULL,
+    member_id        BIGINT       NOT NULL,
+    title            VARCHAR(100) NOT NULL,
+    description      TEXT         NOT NULL,
+    deadline         DATETIME     NOT NULL,
+    file_url         TEXT         NULL,
+    created_at       DATETIME     NOT NULL,
+    PRIMARY KEY (assignment_id),
+    KEY idx_assignments_study (study_project_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE submissions (
+    submission_id BIGINT   NOT NULL AUTO_INCREMENT,
+    assignment_id BIGINT   NOT NULL,
+    member_id     BIGINT   NOT NULL,
+    content       TEXT     NOT NULL,
+    file_url      TEXT     NULL,
+    created_at    DATETIME NOT NULL,
+    PRIMARY KEY (submission_id),
+    KEY idx_submissions_assignment_member (assignment_id, member_id),
+    KEY idx_submissions_member (member_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE feedbacks (
+    feed_id       BIGINT   NOT NULL AUTO_INCREMENT,
+    member_id     BIGINT   NOT NULL,
+    submission_id BIGINT   NOT NULL,
+    score         INT      NOT NULL,
+    comment       TEXT     NOT NULL,
+    created_at    DATETIME NOT NULL,
+    PRIMARY KEY (feed_id),
+    UNIQUE KEY uk_feedbacks_submission (submission_id),
+    KEY idx_feedbacks_member (member_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE study_project_posts (
+    st_pr_post_id    BIGINT       NOT NULL AUTO_INCREMENT,
+    study_project_id BIGINT       NOT NULL,
+    member_id        VARCHAR(50)  NOT NULL,
+    title            VARCHAR(255) NOT NULL,
+    content          TEXT         NOT NULL,
+    created_at       DATETIME     NOT NULL,
+    PRIMARY KEY (st_pr_post_id),
+    KEY idx_posts_study (study_project_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE free_posts (
+    fr_post_id BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    VARCHAR(50)  NOT NULL,
+    title      VARCHAR(255) NOT NULL,
+    content    TEXT         NOT NULL,
+    views      INT          NOT NULL,
+    created_at DATETIME     NOT NULL,
+    PRIMARY KEY (fr_post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE comments (
+    comment_id    BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id       VARCHAR(50) NULL,
+    assignment_id BIGINT      NULL,
+    st_pr_post_id BIGINT      NULL,
+    fr_post_id    BIGINT      NULL,
+    content       TEXT        NOT NULL,
+    created_at    DATETIME    NOT NULL,
+    updated_at    DATETIME    NULL,
+    PRIMARY KEY (comment_id),
+    KEY idx_comments_assignment (assignment_id),
+    KEY idx_comments_post (st_pr_post_id),
+    KEY idx_comments_free_post (fr_post_id)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE refresh_tokens (
+    token_hash  CHAR(64)     NOT NULL,
+    user_id     VARCHAR(255) NOT NULL,
+    expiry_date DATETIME(6)  NOT NULL,
+    created_at  DATETIME(6)  NOT NULL,
+    PRIMARY KEY (token_hash),
+    UNIQUE KEY uk_refresh_tokens_user (user_id),
+    KEY idx_refresh_tokens_expiry (expiry_date)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE scheduler_lock (
+    lock_name    VARCHAR(64)  NOT NULL,
+    locked_by    VARCHAR(255) NOT NULL,
+    locked_at    DATETIME(3)  NOT NULL,
+    locked_until DATETIME(3)  NOT NULL,
+    PRIMARY KEY (lock_name)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE phone_verification_code (
+    phone_number VARCHAR(20) NOT NULL,
+    code         VARCHAR(10) NOT NULL,
+    attempts     INT         NOT NULL DEFAULT 0,
+    expires_at   DATETIME(3) NOT NULL,
+    PRIMARY KEY (phone_number),
+    KEY idx_phone_verification_code_expires (expires_at)
+) ENGINE = InnoDB DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,32 @@
+package com.smhrd.graddy.api.entity;
+
+import jakarta.persistence.MappedSuperclass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 키를 직접 지정하는 엔티티(복합키 연결 테이블)의 공통 상위 클래스
+ * Spring Data의 save()는 키가 채워진 엔티티를 기존 행으로 보고 merge(SELECT 후 INSERT)하므로,
+ * 새로 만든 엔티티는 새 행으로 표시하여 persist로 저장함
+ * persist로 저장한 행은 hibernate.jdbc.batch_size 단위의 JDBC 배치로 묶여 INSERT 됨
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity<ID> implements Persistable<ID> {
+
+    @Transient
+    private boolean isNew = true;
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    // 저장되었거나 DB/2차 캐시에서 읽은 엔티티는 기존 행으로 표시
+    @PostPersist
+    @PostLoad
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
@@ -0,0 +1,97 @@
+package com.smhrd.graddy.api.sse;
+
+import java.util.concurrent.Flow;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * text/event-stream 응답을 줄 단위로 받아 이벤트 이름과 data 필드의 내용을 전달하는 Subscriber
+ * java.net.http.HttpClient의 BodyHandlers.fromLineSubscriber와 함께 사용하여
+ * 업스트림(OpenAI, FastAPI)의 스트리밍 응답을 스레드 점유 없이 처리합니다.
+ * 스트림 종료/실패 처리는 sendAsync가 반환하는 CompletableFuture에서 수행합니다.
+ *
+ * 업스트림이 보낸 error 이벤트는 핸들러에 전달하지 않고 기록하므로,
+ * 스트림이 끝난 뒤 hasError()로 확인하여 일부만 생성된 결과를 성공으로 처리하지 않도록 합니다.
+ */
+public class SseDataSubscriber implements Flow.Subscriber<String> {
+
+    public static final String DEFAULT_EVENT = "message";
+
+    private static final String DATA_PREFIX = "data:";
+    private static final String EVENT_PREFIX = "event:";
+    private static final String DONE_MARKER = "[DONE]";
+
+    private final BiConsumer<String, String> eventHandler;
+
+    // 다음 빈 줄(이벤트 구분)까지 적용되는 이벤트 이름 (event 필드가 없으면 message)
+    private String currentEvent = DEFAULT_EVENT;
+    private volatile String errorPayload;
+
+    /**
+     * data 필드의 내용만 받는 핸들러 (error 이벤트는 hasError로 확인)
+     */
+    public SseDataSubscriber(Consumer<String> dataHandler) {
+        this((event, data) -> dataHandler.accept(data));
+    }
+
+    /**
+     * 이벤트 이름과 data 필드의 내용을 받는 핸들러 (error 이벤트는 hasError로 확인)
+     */
+    public SseDataSubscriber(BiConsumer<String, String> eventHandler) {
+        this.eventHandler = eventHandler;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        subscription.request(Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onNext(String line) {
+        if (line == null || line.isEmpty()) {
+            currentEvent = DEFAULT_EVENT;
+            return;
+        }
+        if (line.startsWith(EVENT_PREFIX)) {
+            String event = line.substring(EVENT_PREFIX.length()).trim();
+            currentEvent = event.isEmpty() ? DEFAULT_EVENT : event;
+            return;
+        }
+        if (!line.startsWith(DATA_PREFIX)) {
+            return; // 주석, id/retry 필드, 에러 응답 본문은 무시
+        }
+        String payload = line.substring(DATA_PREFIX.length()).trim();
+        if (SseEmitters.EVENT_ERROR.equals(currentEvent)) {
+            errorPayload = payload;
+            return;
+        }
+        if (payload.isEmpty() || DONE_MARKER.equals(payload)) {
+            return;
+        }
+        eventHandler.accept(currentEvent, payload);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        // sendAsync의 CompletableFuture가 예외로 완료되므로 여기서는 처리하지 않음
+    }
+
+    @Override
+    public void onComplete() {
+        // sendAsync의 CompletableFuture 완료 시점에서 후처리
+    }
+
+    /**
+     * 업스트림이 error 이벤트를 보냈는지 여부
+     */
+    public boolean hasError() {
+        return errorPayload != null;
+    }
+
+    /**
+     * 업스트림 error 이벤트의 data 내용 (없으면 null)
+     */
+    public String getErrorPayload() {
+        return errorPayload;
+    }
+}
@@ -0,0 +1,51 @@
+package com.smhrd.graddy.api.sse;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * SseEmitter 이벤트 전송 유틸리티
+ * 클라이언트 연결이 끊어져도 생성 작업은 계속 진행되어야 하므로 전송 실패는 예외 대신 false로 알립니다.
+ */
+@Slf4j
+public final class SseEmitters {
+
+    public static final String EVENT_TOKEN = "token";
+    public static final String EVENT_COMPLETE = "complete";
+    public static final String EVENT_ERROR = "error";
+
+    private SseEmitters() {
+    }
+
+    /**
+     * 이벤트 전송 (실패 시 false 반환)
+     */
+    public static boolean send(SseEmitter emitter, String eventName, Object data) {
+        try {
+            emitter.send(SseEmitter.event().name(eventName).data(data));
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            log.debug("SSE 이벤트 전송 실패 (클라이언트 연결 종료): event={}, error={}", eventName, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * 최종 결과 전송 후 스트림 종료
+     */
+    public static void complete(SseEmitter emitter, Object result) {
+        send(emitter, EVENT_COMPLETE, result);
+        emitter.complete();
+    }
+
+    /**
+     * 오류 메시지 전송 후 스트림 종료
+     */
+    public static void fail(SseEmitter emitter, String message) {
+        send(emitter, EVENT_ERROR, Map.of("message", message));
+        emitter.complete();
+    }
+}
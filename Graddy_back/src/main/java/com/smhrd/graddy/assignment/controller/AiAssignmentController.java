@@ -8,8 +8,10 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequestMapping("/assignments/ai")
@@ -39,4 +41,24 @@ public class AiAssignmentController {
         log.info("AI 과제 생성 완료: assignmentId={}", response.getAssignmentId());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * AI 과제 스트리밍 생성 (SSE)
+     */
+    @PostMapping(value = "/generate/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "AI 과제 스트리밍 생성",
+              description = "AI 과제 생성 과정을 Server-Sent Events로 스트리밍합니다.\n\n" +
+                           "• token: 생성 중인 과제 내용 조각\n" +
+                           "• complete: 저장된 과제 정보 (AiAssignmentResponse)\n" +
+                           "• error: 오류 메시지")
+    public SseEmitter streamAiAssignment(
+            @RequestHeader("Authorization") String authorization,
+            @RequestBody AiAssignmentRequest request) {
+        
+        String userId = jwtUtil.extractUserId(authorization.replace("Bearer ", ""));
+        log.info("AI 과제 스트리밍 생성 요청: userId={}, studyProjectId={}, assignmentType={}", 
+                userId, request.getStudyProjectId(), request.getAssignmentType());
+        
+        return aiAssignmentService.streamAiAssignment(request, userId);
+    }
 }
@@ -14,6 +14,7 @@ import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @RestController
 @RequestMapping("/feedbacks")
@@ -48,6 +49,32 @@ public class FeedbackController {
         }
     }
 
+    /**
+     * 과제의 모든 제출물에 대한 AI 피드백 배치 생성
+     */
+    @PostMapping("/generate/batch")
+    @Operation(summary = "AI 피드백 배치 생성",
+              description = "과제에 제출된 모든 제출물 중 피드백이 없는 제출물에 대해 AI 피드백을 병렬로 생성하고 한 번에 저장합니다.\n\n" +
+                           "• 기존 피드백은 한 번의 조회로 확인하여 건너뜀\n" +
+                           "• FastAPI 호출은 트랜잭션 밖에서 제한된 동시성으로 병렬 처리\n" +
+                           "• 생성된 모든 피드백 목록을 반환")
+    @SecurityRequirement(name = "Bearer Authentication")
+    public ResponseEntity<ApiResponse<List<FeedbackResponse>>> generateFeedbackBatch(
+            @RequestBody FeedbackRequest request) {
+        try {
+            List<FeedbackResponse> responses = feedbackService.generateFeedbackBatch(request);
+            return ApiResponse.success("AI 피드백이 일괄 생성되었습니다.", responses);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(HttpStatus.BAD_REQUEST, e.getMessage(), null);
+        } catch (RejectedExecutionException e) {
+            return ApiResponse.error(HttpStatus.SERVICE_UNAVAILABLE,
+                "AI 피드백 작업이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.", null);
+        } catch (Exception e) {
+            return ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR, 
+                "피드백 일괄 생성에 실패했습니다: " + e.getMessage(), null);
+        }
+    }
+
     /**
      * 제출별 피드백 목록 조회
      */
@@ -0,0 +1,44 @@
+package com.smhrd.graddy.assignment.repository;
+
+import com.smhrd.graddy.assignment.entity.Assignment;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 과제 대량 저장용 JDBC 리포지토리
+ * assignment_id가 IDENTITY 전략이라 JPA saveAll로는 배치 INSERT가 되지 않으므로 JdbcTemplate.batchUpdate를 사용
+ */
+@Repository
+@RequiredArgsConstructor
+public class AssignmentBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO assignments (study_project_id, member_id, title, description, deadline, file_url, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 과제 목록을 하나의 JDBC 배치로 저장
+     */
+    public int[] batchInsert(List<Assignment> assignments) {
+        if (assignments.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INSERT_SQL, assignments, assignments.size(), (ps, assignment) -> {
+            ps.setLong(1, assignment.getStudyProjectId());
+            ps.setLong(2, assignment.getMemberId());
+            ps.setString(3, assignment.getTitle());
+            ps.setString(4, assignment.getDescription());
+            ps.setTimestamp(5, assignment.getDeadline());
+            ps.setString(6, assignment.getFileUrl());
+            ps.setTimestamp(7, assignment.getCreatedAt() != null
+                    ? assignment.getCreatedAt()
+                    : new Timestamp(System.currentTimeMillis()));
+        });
+    }
+}
@@ -0,0 +1,43 @@
+package com.smhrd.graddy.assignment.repository;
+
+import com.smhrd.graddy.assignment.entity.Feedback;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 피드백 대량 저장용 JDBC 리포지토리
+ * feed_id가 IDENTITY 전략이라 JPA saveAll로는 배치 INSERT가 되지 않으므로 JdbcTemplate.batchUpdate를 사용
+ * submission_id 유니크 키(uk_feedbacks_submission)에 걸리는 행은 다른 요청이 먼저 저장한 것이므로 건너뜀
+ */
+@Repository
+@RequiredArgsConstructor
+public class FeedbackBatchRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT INTO feedbacks (member_id, submission_id, score, comment, created_at) VALUES (?, ?, ?, ?, ?) "
+                    + "ON DUPLICATE KEY UPDATE feed_id = feed_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 피드백 목록을 하나의 JDBC 배치로 저장 (이미 피드백이 있는 제출은 건너뜀)
+     */
+    public int[] batchInsert(List<Feedback> feedbacks) {
+        if (feedbacks.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(INSERT_SQL, feedbacks, feedbacks.size(), (ps, feedback) -> {
+            ps.setLong(1, feedback.getMemberId());
+            ps.setLong(2, feedback.getSubmissionId());
+            ps.setInt(3, feedback.getScore());
+            ps.setString(4, feedback.getComment());
+            ps.setTimestamp(5, feedback.getCreatedAt() != null
+                    ? feedback.getCreatedAt()
+                    : new Timestamp(System.currentTimeMillis()));
+        });
+    }
+}
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,5 +38,17 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
      */
     @Query("SELECT AVG(f.score) FROM Feedback f WHERE f.submissionId = :submissionId")
     Double findAverageScoreBySubmissionId(@Param("submissionId") Long submissionId);
+
+    /**
+     * 과제 ID로 해당 과제의 모든 제출물에 대한 피드백을 한 번에 조회 (배치 피드백 생성용)
+     */
+    @Query("SELECT f FROM Feedback f WHERE f.submissionId IN " +
+           "(SELECT s.submissionId FROM Submission s WHERE s.assignmentId = :assignmentId)")
+    List<Feedback> findByAssignmentId(@Param("assignmentId") Long assignmentId);
+
+    /**
+     * 제출물 ID 목록으로 피드백 목록 조회
+     */
+    List<Feedback> findBySubmissionIdIn(Collection<Long> submissionIds);
 }
 
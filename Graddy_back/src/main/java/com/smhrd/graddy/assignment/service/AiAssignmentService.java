@@ -1,5 +1,7 @@
 package com.smhrd.graddy.assignment.service;
 
+import com.smhrd.graddy.api.sse.SseDataSubscriber;
+import com.smhrd.graddy.api.sse.SseEmitters;
 import com.smhrd.graddy.assignment.dto.AiAssignmentRequest;
 import com.smhrd.graddy.assignment.dto.AiAssignmentResponse;
 import com.smhrd.graddy.assignment.entity.Assignment;
@@ -8,7 +10,7 @@ import com.smhrd.graddy.member.service.MemberService;
 import com.smhrd.graddy.study.entity.StudyProject;
 import com.smhrd.graddy.study.repository.StudyProjectRepository;
 import com.smhrd.graddy.interest.entity.Interest;
-import com.smhrd.graddy.interest.repository.InterestRepository;
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
 import com.smhrd.graddy.tag.entity.Tag;
 import com.smhrd.graddy.tag.repository.TagRepository;
 import com.smhrd.graddy.schedule.service.ScheduleService;
@@ -16,15 +18,25 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.core.type.TypeReference;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -38,11 +50,13 @@ public class AiAssignmentService {
     private final AssignmentRepository assignmentRepository;
     private final StudyProjectRepository studyProjectRepository;
     private final TagRepository tagRepository;
-    private final InterestRepository interestRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final MemberService memberService;
     private final ScheduleService scheduleService;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${openai.api.key:}")
     private String openaiApiKey;
@@ -53,6 +67,9 @@ public class AiAssignmentService {
     @Value("${openai.model:gpt-4o}")
     private String openaiModel;
 
+    @Value("${ai.stream.timeout-ms:180000}")
+    private long streamTimeoutMs;
+
     // 초기화 시 API 설정 로깅
     @PostConstruct
     public void logApiSettings() {
@@ -67,8 +84,9 @@ public class AiAssignmentService {
 
     /**
      * AI 과제 생성
+     * OpenAI 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행하고, 과제 저장과 일정 추가만 트랜잭션으로 처리합니다.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AiAssignmentResponse generateAiAssignment(AiAssignmentRequest request, String userId) {
         log.info("AI 과제 생성 시작: studyProjectId={}, assignmentType={}, userId={}",
                 request.getStudyProjectId(), request.getAssignmentType(), userId);
@@ -89,10 +107,122 @@ public class AiAssignmentService {
         Map<String, Object> aiAssignmentData = generateAiAssignmentWithOpenAI(
                 studyProject, tagNames, request.getAssignmentType());
 
-        // 5. 과제를 assignments 테이블에 저장
+        // 5~7. 과제 저장, 제출일 일정 추가, 응답 생성
+        return persistAiAssignmentInTransaction(request, userId, aiAssignmentData);
+    }
+
+    /**
+     * AI 과제 스트리밍 생성 (SSE)
+     * OpenAI API를 stream 모드로 논블로킹 호출하여 생성되는 내용을 token 이벤트로 전달하고,
+     * 생성이 끝나면 과제를 저장한 뒤 complete 이벤트로 최종 결과를 전송합니다.
+     * OpenAI 호출 동안에는 트랜잭션과 DB 커넥션을 점유하지 않습니다.
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public SseEmitter streamAiAssignment(AiAssignmentRequest request, String userId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        try {
+            log.info("AI 과제 스트리밍 생성 시작: studyProjectId={}, assignmentType={}, userId={}",
+                    request.getStudyProjectId(), request.getAssignmentType(), userId);
+
+            // 1. 권한 체크: 해당 스터디의 리더인지 확인
+            if (!memberService.isLeader(request.getStudyProjectId(), userId)) {
+                throw new IllegalArgumentException("AI 과제 생성은 스터디/프로젝트 리더만 가능합니다.");
+            }
+
+            // 2. 스터디 정보 및 태그 조회
+            StudyProject studyProject = studyProjectRepository.findById(request.getStudyProjectId())
+                    .orElseThrow(() -> new IllegalArgumentException("스터디 프로젝트를 찾을 수 없습니다: " + request.getStudyProjectId()));
+            List<String> tagNames = getStudyProjectTags(request.getStudyProjectId());
+
+            // OpenAI API 키가 없으면 기본 과제 데이터로 바로 완료
+            if (openaiApiKey == null || openaiApiKey.trim().isEmpty()) {
+                log.warn("OpenAI API 키가 설정되지 않았습니다. 기본 과제 데이터를 생성합니다.");
+                Map<String, Object> defaultData = createDefaultAssignmentData(studyProject, tagNames, request.getAssignmentType());
+                SseEmitters.complete(emitter, persistAiAssignmentInTransaction(request, userId, defaultData));
+                return emitter;
+            }
+
+            // 3. OpenAI 스트리밍 요청 구성
+            Map<String, Object> requestBody = createOpenAIRequest(studyProject, tagNames, request.getAssignmentType());
+            requestBody.put("stream", true);
+
+            HttpRequest httpRequest = HttpRequest.newBuilder(URI.create(openaiApiUrl))
+                    .header("Content-Type", "application/json")
+                    .header("Authorization", "Bearer " + openaiApiKey)
+                    .timeout(Duration.ofMillis(streamTimeoutMs))
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestBody), StandardCharsets.UTF_8))
+                    .build();
+
+            // 4. 생성되는 내용을 token 이벤트로 전달
+            StringBuilder content = new StringBuilder();
+            SseDataSubscriber subscriber = new SseDataSubscriber(payload -> {
+                String delta = extractStreamDelta(payload);
+                if (delta != null && !delta.isEmpty()) {
+                    content.append(delta);
+                    SseEmitters.send(emitter, SseEmitters.EVENT_TOKEN, delta);
+                }
+            });
+
+            // 5. 스트림 종료 후 파싱 및 저장 (실패 시 기존 동작과 동일하게 기본 과제 데이터 사용)
+            httpClient.sendAsync(httpRequest, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber))
+                    .whenComplete((response, ex) -> {
+                        Map<String, Object> aiAssignmentData;
+                        if (ex == null && response.statusCode() / 100 == 2 && !subscriber.hasError() && content.length() > 0) {
+                            aiAssignmentData = parseAssignmentContent(content.toString());
+                        } else {
+                            log.error("OpenAI 스트리밍 호출 실패: status={}, error={}, upstreamError={}",
+                                    response != null ? response.statusCode() : "none", ex != null ? ex.getMessage() : null,
+                                    subscriber.getErrorPayload());
+                            aiAssignmentData = createDefaultAssignmentData(studyProject, tagNames, request.getAssignmentType());
+                        }
+                        try {
+                            SseEmitters.complete(emitter, persistAiAssignmentInTransaction(request, userId, aiAssignmentData));
+                        } catch (Exception e) {
+                            log.error("스트리밍 AI 과제 저장 실패: studyProjectId={}", request.getStudyProjectId(), e);
+                            SseEmitters.fail(emitter, "AI 과제 저장에 실패했습니다: " + e.getMessage());
+                        }
+                    });
+
+        } catch (Exception e) {
+            log.error("AI 과제 스트리밍 생성 시작 실패: studyProjectId={}", request.getStudyProjectId(), e);
+            SseEmitters.fail(emitter, e.getMessage());
+        }
+        return emitter;
+    }
+
+    /**
+     * OpenAI 스트리밍 청크에서 choices[0].delta.content 추출
+     */
+    private String extractStreamDelta(String payload) {
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            return node.path("choices").path(0).path("delta").path("content").asText(null);
+        } catch (Exception e) {
+            log.warn("OpenAI 스트리밍 청크 파싱 실패: {}", payload);
+            return null;
+        }
+    }
+
+    /**
+     * OpenAI 호출이 끝난 뒤 트랜잭션 밖(generateAiAssignment, 스트리밍 완료 콜백의 HttpClient 스레드)에서 호출되므로
+     * TransactionTemplate으로 트랜잭션을 시작하여 저장
+     */
+    private AiAssignmentResponse persistAiAssignmentInTransaction(AiAssignmentRequest request,
+            String userId,
+            Map<String, Object> aiAssignmentData) {
+        return transactionTemplate.execute(status -> persistAiAssignment(request, userId, aiAssignmentData));
+    }
+
+    /**
+     * AI 과제 저장, 제출일 일정 추가 후 응답 생성
+     */
+    private AiAssignmentResponse persistAiAssignment(AiAssignmentRequest request,
+            String userId,
+            Map<String, Object> aiAssignmentData) {
+        // 과제를 assignments 테이블에 저장
         Assignment savedAssignment = saveAiAssignmentToDatabase(request, userId, aiAssignmentData);
 
-        // 6. 과제 제출일에 맞춰 자동으로 일정 추가
+        // 과제 제출일에 맞춰 자동으로 일정 추가
         try {
             scheduleService.createAssignmentSchedule(
                     userId,
@@ -104,7 +234,7 @@ public class AiAssignmentService {
             log.warn("AI 과제 제출일 일정 자동 생성 실패: assignmentId={}", savedAssignment.getAssignmentId(), e);
         }
 
-        // 7. 응답 생성
+        // 응답 생성
         return convertToAiAssignmentResponse(savedAssignment, aiAssignmentData);
     }
 
@@ -116,7 +246,7 @@ public class AiAssignmentService {
         List<String> tagNames = new ArrayList<>();
 
         for (Tag tag : tags) {
-            Interest interest = interestRepository.findById(tag.getInterestId()).orElse(null);
+            Interest interest = referenceDataRegistry.findInterest(tag.getInterestId()).orElse(null);
             if (interest != null) {
                 tagNames.add(interest.getInterestName());
             }
@@ -283,28 +413,7 @@ public class AiAssignmentService {
                     if (message.containsKey("content")) {
                         String content = (String) message.get("content");
                         log.info("OpenAI 응답 내용: {}", content);
-
-                        // JSON 파싱 시도
-                        try {
-                            log.info("OpenAI 응답 JSON 파싱 시작...");
-                            // Jackson ObjectMapper를 사용한 JSON 파싱
-                            Map<String, Object> result = parseJsonContentWithJackson(content);
-                            log.info("OpenAI 응답 JSON 파싱 성공: title={}", result.get("title"));
-                            return result;
-                        } catch (Exception e) {
-                            log.warn("Jackson JSON 파싱 실패: {}", e.getMessage());
-                            log.warn("응답 내용: {}", content);
-                            try {
-                                log.info("간단한 JSON 파싱 시도...");
-                                Map<String, Object> result = parseJsonContent(content);
-                                log.info("간단한 JSON 파싱 성공: title={}", result.get("title"));
-                                return result;
-                            } catch (Exception e2) {
-                                log.warn("간단한 JSON 파싱도 실패: {}", e2.getMessage());
-                                log.warn("기본 형식으로 반환합니다.");
-                                return createDefaultAssignmentDataFromContent(content);
-                            }
-                        }
+                        return parseAssignmentContent(content);
                     }
                 }
             }
@@ -315,6 +424,33 @@ public class AiAssignmentService {
         return createDefaultAssignmentData(null, null, "과제");
     }
 
+    /**
+     * OpenAI가 생성한 과제 내용(JSON 문자열) 파싱
+     * Jackson 파싱 → 간단한 파싱 → 기본 형식 순으로 시도
+     */
+    private Map<String, Object> parseAssignmentContent(String content) {
+        try {
+            log.info("OpenAI 응답 JSON 파싱 시작...");
+            // Jackson ObjectMapper를 사용한 JSON 파싱
+            Map<String, Object> result = parseJsonContentWithJackson(content);
+            log.info("OpenAI 응답 JSON 파싱 성공: title={}", result.get("title"));
+            return result;
+        } catch (Exception e) {
+            log.warn("Jackson JSON 파싱 실패: {}", e.getMessage());
+            log.warn("응답 내용: {}", content);
+            try {
+                log.info("간단한 JSON 파싱 시도...");
+                Map<String, Object> result = parseJsonContent(content);
+                log.info("간단한 JSON 파싱 성공: title={}", result.get("title"));
+                return result;
+            } catch (Exception e2) {
+                log.warn("간단한 JSON 파싱도 실패: {}", e2.getMessage());
+                log.warn("기본 형식으로 반환합니다.");
+                return createDefaultAssignmentDataFromContent(content);
+            }
+        }
+    }
+
     /**
      * Jackson ObjectMapper를 사용한 JSON 파싱
      */
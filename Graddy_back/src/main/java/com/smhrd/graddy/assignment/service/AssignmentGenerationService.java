@@ -3,6 +3,7 @@ package com.smhrd.graddy.assignment.service;
 import com.smhrd.graddy.assignment.dto.AssignmentGenerationRequest;
 import com.smhrd.graddy.assignment.dto.AssignmentGenerationResponse;
 import com.smhrd.graddy.assignment.entity.Assignment;
+import com.smhrd.graddy.assignment.repository.AssignmentBatchRepository;
 import com.smhrd.graddy.assignment.repository.AssignmentRepository;
 import com.smhrd.graddy.study.entity.StudyProject;
 import com.smhrd.graddy.study.repository.StudyProjectRepository;
@@ -16,12 +17,14 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -34,6 +37,7 @@ import java.util.stream.Collectors;
 public class AssignmentGenerationService {
 
     private final AssignmentRepository assignmentRepository;
+    private final AssignmentBatchRepository assignmentBatchRepository;
     private final StudyProjectRepository studyProjectRepository;
     private final TagRepository tagRepository;
     private final RestTemplate restTemplate;
@@ -44,8 +48,9 @@ public class AssignmentGenerationService {
 
     /**
      * GPT를 사용하여 과제 자동 생성
+     * 저장 없이 FastAPI 응답만 반환하므로 AI 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AssignmentGenerationResponse generateAssignments(Long studyProjectId, String userId) {
         try {
             log.info("GPT 과제 생성 시작: studyProjectId={}, userId={}", studyProjectId, userId);
@@ -122,6 +127,7 @@ public class AssignmentGenerationService {
                 throw new IllegalArgumentException("리더 정보를 찾을 수 없습니다.");
             }
 
+            List<Assignment> toSave = new ArrayList<>();
             for (Map<String, Object> assignmentData : assignments) {
                 Assignment assignment = new Assignment();
                 assignment.setStudyProjectId(studyProjectId);
@@ -146,9 +152,12 @@ public class AssignmentGenerationService {
                 
                 assignment.setCreatedAt(Timestamp.valueOf(LocalDateTime.now()));
                 
-                assignmentRepository.save(assignment);
-                log.info("과제 저장 완료: {}", assignment.getTitle());
+                toSave.add(assignment);
             }
+
+            // 생성된 과제를 JDBC 배치 INSERT 한 번으로 저장
+            assignmentBatchRepository.batchInsert(toSave);
+            log.info("과제 저장 완료: studyProjectId={}, {}건", studyProjectId, toSave.size());
         } catch (Exception e) {
             log.error("과제 저장 중 오류 발생", e);
             // 과제 저장 실패는 전체 프로세스를 중단하지 않음
@@ -5,19 +5,28 @@ import com.smhrd.graddy.assignment.dto.FeedbackResponse;
 import com.smhrd.graddy.assignment.entity.Feedback;
 import com.smhrd.graddy.assignment.entity.Assignment;
 import com.smhrd.graddy.assignment.entity.Submission;
+import com.smhrd.graddy.assignment.repository.FeedbackBatchRepository;
 import com.smhrd.graddy.assignment.repository.FeedbackRepository;
 import com.smhrd.graddy.assignment.repository.AssignmentRepository;
 import com.smhrd.graddy.assignment.repository.SubmissionRepository;
 import com.smhrd.graddy.member.service.MemberService;
 import com.smhrd.graddy.score.service.ScoreService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.client.RestTemplate;
 
 import java.sql.Timestamp;
@@ -27,6 +36,10 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -40,14 +53,19 @@ public class FeedbackService {
     private final MemberService memberService;
     private final ScoreService scoreService;
     private final RestTemplate restTemplate;
+    private final FeedbackBatchRepository feedbackBatchRepository;
+    private final AsyncTaskExecutor feedbackExecutor;
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate transactionTemplate;
 
     @Value("${fastapi.server.url:http://ec2-3-113-246-191.ap-northeast-1.compute.amazonaws.com:8000}")
     private String fastApiServerUrl;
 
     /**
      * 과제 ID를 통해 과제 정보와 제출 정보를 가져와서 AI 피드백 생성
+     * AI 호출 동안 DB 커넥션을 점유하지 않도록 트랜잭션 밖에서 실행하고, 피드백은 생성될 때마다 저장함
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public FeedbackResponse generateFeedback(FeedbackRequest request) {
         try {
             log.info("AI 피드백 생성 시작: assignmentId={}", request.getAssignmentId());
@@ -110,6 +128,91 @@ public class FeedbackService {
         }
     }
 
+    /**
+     * 과제의 모든 제출물에 대한 AI 피드백을 배치로 생성
+     * 1. 기존 피드백을 한 번의 쿼리로 조회하여 이미 피드백이 있는 제출은 제외
+     * 2. FastAPI 호출은 트랜잭션 밖에서 feedbackExecutor로 병렬 처리 (동시 요청 수 제한)
+     * 3. 생성된 피드백은 JDBC 배치 INSERT로 한 번에 저장
+     * DB 커넥션은 조회/저장 구간에서만 사용되고 AI 호출 동안에는 점유하지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<FeedbackResponse> generateFeedbackBatch(FeedbackRequest request) {
+        long startTime = System.currentTimeMillis();
+        log.info("AI 피드백 배치 생성 시작: assignmentId={}", request.getAssignmentId());
+
+        // 1. 과제 정보 조회
+        Assignment assignment = assignmentRepository.findById(request.getAssignmentId())
+                .orElseThrow(() -> new IllegalArgumentException("과제를 찾을 수 없습니다: " + request.getAssignmentId()));
+
+        // 2. 해당 과제의 제출 정보 조회
+        List<Submission> submissions = submissionRepository.findByAssignmentIdOrderByCreatedAtDesc(request.getAssignmentId());
+        if (submissions.isEmpty()) {
+            throw new IllegalArgumentException("해당 과제에 제출된 내용이 없습니다.");
+        }
+
+        // 3. 기존 피드백을 한 번에 조회하여 피드백이 없는 제출만 선별
+        Set<String> existingKeys = feedbackRepository.findByAssignmentId(request.getAssignmentId()).stream()
+                .map(feedback -> feedbackKey(feedback.getSubmissionId(), feedback.getMemberId()))
+                .collect(Collectors.toSet());
+
+        List<Submission> targets = submissions.stream()
+                .filter(submission -> !existingKeys.contains(feedbackKey(submission.getSubmissionId(), submission.getMemberId())))
+                .toList();
+
+        if (targets.isEmpty()) {
+            throw new IllegalArgumentException("모든 제출에 대해 이미 피드백이 존재합니다.");
+        }
+        log.info("피드백 생성 대상: 전체 제출 {}건 중 {}건", submissions.size(), targets.size());
+        DistributionSummary.builder("graddy.feedback.batch.size")
+                .description("AI 피드백 배치 생성 1회의 대상 제출 수")
+                .register(meterRegistry)
+                .record(targets.size());
+
+        // 4. AI 피드백 병렬 생성 (generateAiFeedback은 실패 시 기본 피드백을 반환하므로 예외가 전파되지 않음)
+        List<CompletableFuture<Feedback>> futures = targets.stream()
+                .map(submission -> CompletableFuture.supplyAsync(
+                        () -> toFeedback(submission, generateAiFeedback(assignment, submission)), feedbackExecutor))
+                .toList();
+
+        List<Feedback> generatedFeedbacks = futures.stream()
+                .map(CompletableFuture::join)
+                .toList();
+
+        // 5. JDBC 배치 INSERT로 저장 후 생성된 피드백 조회
+        feedbackBatchRepository.batchInsert(generatedFeedbacks);
+
+        List<Long> submissionIds = targets.stream()
+                .map(Submission::getSubmissionId)
+                .toList();
+        List<FeedbackResponse> responses = feedbackRepository.findBySubmissionIdIn(submissionIds).stream()
+                .map(this::convertToResponse)
+                .toList();
+
+        log.info("AI 피드백 배치 생성 완료: assignmentId={}, 생성={}건, 소요시간={}ms",
+                request.getAssignmentId(), generatedFeedbacks.size(), System.currentTimeMillis() - startTime);
+        return responses;
+    }
+
+    /**
+     * 제출/멤버 조합으로 피드백 중복 확인용 키 생성
+     */
+    private String feedbackKey(Long submissionId, Long memberId) {
+        return submissionId + ":" + memberId;
+    }
+
+    /**
+     * AI 피드백 결과를 Feedback 엔티티로 변환
+     */
+    private Feedback toFeedback(Submission submission, Map<String, Object> aiFeedback) {
+        Feedback feedback = new Feedback();
+        feedback.setMemberId(submission.getMemberId());
+        feedback.setSubmissionId(submission.getSubmissionId());
+        feedback.setScore((Integer) aiFeedback.get("score"));
+        feedback.setComment((String) aiFeedback.get("comment"));
+        feedback.setCreatedAt(Timestamp.valueOf(LocalDateTime.now()));
+        return feedback;
+    }
+
     /**
      * Assignment와 Submission을 직접 받아서 AI 피드백 생성 (SubmissionService에서 사용)
      */
@@ -131,8 +234,9 @@ public class FeedbackService {
 
     /**
      * Submission만 받아서 AI 피드백을 생성하고 저장 (SubmissionService에서 사용)
+     * AI 호출은 트랜잭션 밖에서 하고, 피드백 저장과 점수 반영만 한 트랜잭션으로 처리함
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void generateFeedbackForSubmission(Submission submission) {
         try {
             log.info("제출에 대한 AI 피드백 생성 및 저장 시작: submissionId={}", submission.getSubmissionId());
@@ -171,26 +275,25 @@ public class FeedbackService {
 
             // 3. AI 피드백 생성
             Map<String, Object> aiFeedback = generateAiFeedback(assignment, submission);
-            log.info("🎯 [DEBUG] AI 피드백 생성 결과: score={}, comment={}", 
+            log.debug("AI 피드백 생성 결과: score={}, comment={}", 
                     aiFeedback.get("score"), aiFeedback.get("comment") != null ? "있음" : "없음");
             
-            // 4. 피드백을 데이터베이스에 저장
-            Feedback feedback = new Feedback();
-            feedback.setMemberId(submission.getMemberId());
-            feedback.setSubmissionId(submission.getSubmissionId());
-            feedback.setScore((Integer) aiFeedback.get("score"));
-            feedback.setComment((String) aiFeedback.get("comment"));
-            feedback.setCreatedAt(Timestamp.valueOf(LocalDateTime.now()));
-
-            Feedback savedFeedback = feedbackRepository.save(feedback);
-            
-            log.info("✅ [DEBUG] 제출 {}에 대한 AI 피드백 생성 및 저장 완료: feedId={}, score={}", 
-                    submission.getSubmissionId(), savedFeedback.getFeedId(), savedFeedback.getScore());
-            
-            // 5. AI 피드백 점수를 사용자의 총 점수에 반영 (가중치 없이 그대로 반영)
-            log.info("🚀 [DEBUG] 사용자 점수 반영 시작: memberId={}, 피드백점수={}", 
-                    submission.getMemberId(), savedFeedback.getScore());
-            updateUserScoreFromFeedback(submission.getMemberId(), savedFeedback.getScore());
+            // 4. 피드백을 데이터베이스에 저장하고 5. AI 피드백 점수를 사용자의 총 점수에 반영 (가중치 없이 그대로 반영)
+            // 다른 요청이 먼저 저장했으면 유니크 키 위반으로 롤백되어 점수도 중복 반영되지 않음
+            Feedback feedback = toFeedback(submission, aiFeedback);
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Feedback savedFeedback = feedbackRepository.saveAndFlush(feedback);
+                    log.debug("AI 피드백 저장, 점수 반영: submissionId={}, feedId={}, memberId={}, score={}",
+                            submission.getSubmissionId(), savedFeedback.getFeedId(),
+                            submission.getMemberId(), savedFeedback.getScore());
+                    updateUserScoreFromFeedback(submission.getMemberId(), savedFeedback.getScore());
+                });
+            } catch (DataIntegrityViolationException e) {
+                log.info("제출 {}에 대한 피드백이 다른 요청에서 이미 저장되었습니다.", submission.getSubmissionId());
+                return;
+            }
+            log.info("제출 {}에 대한 AI 피드백 생성 및 저장 완료", submission.getSubmissionId());
             
         } catch (Exception e) {
             log.error("제출에 대한 AI 피드백 생성 및 저장 중 오류 발생: submissionId={}, error={}", submission.getSubmissionId(), e.getMessage());
@@ -234,7 +337,8 @@ public class FeedbackService {
             HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
 
             log.info("🌐 [DEBUG] FastAPI 서버 호출 시작: {}", url);
-            Map<String, Object> response = restTemplate.postForObject(url, entity, Map.class);
+            Map<String, Object> response = timedUpstream("generate-feedback",
+                    () -> restTemplate.postForObject(url, entity, Map.class));
             log.info("✅ [DEBUG] FastAPI 서버 응답 받음");
 
             if (response != null) {
@@ -267,6 +371,10 @@ public class FeedbackService {
             log.error("💥 [DEBUG] AI 피드백 생성 중 오류 발생", e);
             log.error("💥 [DEBUG] 오류 타입: {}", e.getClass().getSimpleName());
             log.error("💥 [DEBUG] 오류 메시지: {}", e.getMessage());
+            Counter.builder("graddy.feedback.fallback")
+                    .description("AI 피드백 생성 실패로 기본 피드백을 반환한 횟수")
+                    .register(meterRegistry)
+                    .increment();
             
             // 기본 피드백 반환
             Map<String, Object> defaultFeedback = new HashMap<>();
@@ -279,6 +387,26 @@ public class FeedbackService {
         }
     }
 
+    /**
+     * FastAPI 호출 시간 기록 (graddy.ai.upstream 타이머, outcome: success / empty / error)
+     */
+    private <T> T timedUpstream(String operation, Supplier<T> call) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = result != null ? "success" : "empty";
+            return result;
+        } finally {
+            sample.stop(Timer.builder("graddy.ai.upstream")
+                    .description("AI 서버 호출 시간")
+                    .tag("target", "fastapi")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
     /**
      * 제출별 피드백 조회
      */
@@ -331,8 +459,9 @@ public class FeedbackService {
 
     /**
      * 특정 제출물의 피드백 수동 재생성 (디버깅용)
+     * 기존 피드백 삭제 후 generateFeedbackForSubmission과 같이 AI 호출은 트랜잭션 밖에서 실행
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void regenerateFeedbackForSubmission(Long submissionId) {
         try {
             log.info("🔧 [DEBUG] 피드백 수동 재생성 시작: submissionId={}", submissionId);
@@ -8,12 +8,16 @@ import com.smhrd.graddy.assignment.repository.SubmissionRepository;
 import com.smhrd.graddy.assignment.repository.AssignmentRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
 
 @Service
 @RequiredArgsConstructor
@@ -24,6 +28,7 @@ public class SubmissionService {
     private final SubmissionRepository submissionRepository;
     private final AssignmentRepository assignmentRepository;
     private final FeedbackService feedbackService;
+    private final AsyncTaskExecutor feedbackExecutor;
 
     /**
      * 과제 제출 및 자동 AI 피드백 생성
@@ -57,10 +62,10 @@ public class SubmissionService {
                 throw new RuntimeException("과제 제출 저장에 실패했습니다.");
             }
 
-            // 3. 과제 제출 완료 후 AI 피드백 생성 (비동기로 처리하여 제출 응답 지연 방지)
+            // 3. 과제 제출 커밋 후 AI 피드백 생성 (비동기로 처리하여 제출 응답 지연 방지)
+            // 피드백 작업 큐가 가득 차면 자리가 날 때까지 기다리므로, 커밋하여 커넥션을 반납한 뒤에 작업을 넣음
             try {
-                log.info("과제 제출 완료 확인됨. AI 피드백 생성 시작: submissionId={}", savedSubmission.getSubmissionId());
-                generateAiFeedbackAsync(savedSubmission);
+                runAfterCommit(() -> generateAiFeedbackAsync(savedSubmission));
             } catch (Exception e) {
                 log.warn("자동 AI 피드백 생성 실패: submissionId={}, error={}. 과제 제출은 성공했습니다.", 
                         savedSubmission.getSubmissionId(), e.getMessage());
@@ -76,6 +81,19 @@ public class SubmissionService {
         }
     }
 
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+            return;
+        }
+        task.run();
+    }
+
     /**
      * 과제 제출 완료 후 AI 피드백 생성 (비동기 처리)
      * 과제 제출이 성공적으로 완료된 후에만 호출됩니다.
@@ -87,23 +105,28 @@ public class SubmissionService {
             return;
         }
 
-        // 별도 스레드에서 AI 피드백 생성 (과제 제출 응답 지연 방지)
-        new Thread(() -> {
-            try {
-                log.info("과제 제출 완료 확인됨. AI 피드백 생성 시작: submissionId={}", submission.getSubmissionId());
-                
-                // 과제 제출 완료 후 AI 피드백 생성 및 저장
-                feedbackService.generateFeedbackForSubmission(submission);
-                
-                log.info("AI 피드백 생성 완료: submissionId={}", submission.getSubmissionId());
-                
-            } catch (Exception e) {
-                log.error("AI 피드백 생성 실패: submissionId={}, error={}. 과제 제출은 이미 완료되었습니다.", 
-                        submission.getSubmissionId(), e.getMessage());
-                // AI 피드백 생성 실패는 과제 제출에 영향을 주지 않음
-                // 과제 제출은 성공적으로 완료되었으므로 사용자에게는 정상적으로 응답됨
-            }
-        }).start();
+        // feedbackExecutor에서 AI 피드백 생성 (과제 제출 응답 지연 방지)
+        try {
+            feedbackExecutor.execute(() -> {
+                try {
+                    log.info("과제 제출 완료 확인됨. AI 피드백 생성 시작: submissionId={}", submission.getSubmissionId());
+                    
+                    // 과제 제출 완료 후 AI 피드백 생성 및 저장
+                    feedbackService.generateFeedbackForSubmission(submission);
+                    
+                    log.info("AI 피드백 생성 완료: submissionId={}", submission.getSubmissionId());
+                    
+                } catch (Exception e) {
+                    log.error("AI 피드백 생성 실패: submissionId={}, error={}. 과제 제출은 이미 완료되었습니다.", 
+                            submission.getSubmissionId(), e.getMessage());
+                    // AI 피드백 생성 실패는 과제 제출에 영향을 주지 않음
+                    // 과제 제출은 성공적으로 완료되었으므로 사용자에게는 정상적으로 응답됨
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // 피드백 작업 큐가 가득 차도 과제 제출은 성공으로 처리 (피드백은 배치 생성/재생성으로 보완)
+            log.warn("AI 피드백 작업 큐가 가득 차 피드백 생성을 건너뜁니다: submissionId={}", submission.getSubmissionId());
+        }
     }
 
     /**
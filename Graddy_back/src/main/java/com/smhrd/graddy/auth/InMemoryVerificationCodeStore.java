@@ -1,61 +1,184 @@
 package com.smhrd.graddy.auth;
 
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
 
+/**
+ * 메모리 인증번호 저장소 (테스트/단일 서버용, verification.store=memory)
+ * 서버 메모리에만 있으므로 서버가 여러 대면 발송한 서버와 검증하는 서버가 달라 인증이 실패할 수 있음
+ *
+ * 전화번호 해시로 나눈 샤드마다 잠금을 따로 두어 경합을 줄이고, 샤드마다 타이밍 휠로 만료를 처리함
+ * (만료 시각의 틱에 해당하는 칸에만 넣어두고 틱마다 한 칸씩 비우므로 전체를 훑지 않고 만료된 항목만 제거함)
+ */
 @Service
+@ConditionalOnProperty(name = "verification.store", havingValue = "memory", matchIfMissing = true)
 public class InMemoryVerificationCodeStore implements VerificationCodeStore {
-    
-    private final Map<String, VerificationInfo> verificationStore = new ConcurrentHashMap<>();
-    
-    private static class VerificationInfo {
+
+    private static final int SHARD_COUNT = 16;
+
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final LongSupplier currentTimeMillis;
+    private final long ttlMillis;
+    private final int maxAttempts;
+    private final long tickMillis;
+    private final Shard[] shards = new Shard[SHARD_COUNT];
+
+    @Autowired
+    public InMemoryVerificationCodeStore(ScheduledJobRunner scheduledJobRunner,
+                                         @Value("${verification.code.ttl-seconds:300}") long ttlSeconds,
+                                         @Value("${verification.code.max-attempts:5}") int maxAttempts,
+                                         @Value("${verification.store.tick-ms:1000}") long tickMillis) {
+        this(scheduledJobRunner, ttlSeconds, maxAttempts, tickMillis, System::currentTimeMillis);
+    }
+
+    // 현재 시각을 지정하는 생성자 (테스트에서 만료를 기다리지 않고 확인)
+    InMemoryVerificationCodeStore(ScheduledJobRunner scheduledJobRunner, long ttlSeconds, int maxAttempts,
+                                  long tickMillis, LongSupplier currentTimeMillis) {
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.currentTimeMillis = currentTimeMillis;
+        this.ttlMillis = ttlSeconds * 1000;
+        this.maxAttempts = maxAttempts;
+        this.tickMillis = tickMillis;
+        // 유효 시간이 모두 같으므로 휠 한 바퀴가 유효 시간보다 길면 한 칸에는 같은 바퀴의 항목만 들어감
+        int wheelSize = (int) (ttlMillis / tickMillis) + 2;
+        long currentTick = currentTimeMillis.getAsLong() / tickMillis;
+        for (int i = 0; i < SHARD_COUNT; i++) {
+            shards[i] = new Shard(wheelSize, currentTick);
+        }
+    }
+
+    private static final class Entry {
+        private final String phoneNumber;
         private final String code;
-        private final LocalDateTime expireTime;
-        
-        public VerificationInfo(String code) {
+        private final long expiresAt;
+        private int attempts;
+
+        private Entry(String phoneNumber, String code, long expiresAt) {
+            this.phoneNumber = phoneNumber;
             this.code = code;
-            this.expireTime = LocalDateTime.now().plusMinutes(5);
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+
+    private final class Shard {
+        private final Map<String, Entry> entries = new HashMap<>();
+        private final ArrayDeque<Entry>[] wheel;
+        private long lastTick;
+
+        @SuppressWarnings("unchecked")
+        private Shard(int wheelSize, long currentTick) {
+            wheel = new ArrayDeque[wheelSize];
+            for (int i = 0; i < wheelSize; i++) {
+                wheel[i] = new ArrayDeque<>();
+            }
+            lastTick = currentTick;
+        }
+
+        private synchronized void put(Entry entry) {
+            entries.put(entry.phoneNumber, entry);
+            // 만료 시각이 속한 틱의 다음 칸에 넣어 해당 칸을 비울 때는 항상 만료된 상태가 되도록 함
+            long expiryTick = entry.expiresAt / tickMillis + 1;
+            wheel[(int) (expiryTick % wheel.length)].add(entry);
         }
-        
-        public boolean isExpired() {
-            return LocalDateTime.now().isAfter(expireTime);
+
+        private synchronized VerificationResult check(String phoneNumber, String inputCode, long now) {
+            Entry entry = entries.get(phoneNumber);
+            if (entry == null || entry.isExpired(now)) {
+                entries.remove(phoneNumber);
+                return VerificationResult.expired;
+            }
+            if (entry.attempts >= maxAttempts) {
+                return VerificationResult.too_many_attempts;
+            }
+            entry.attempts++;
+            if (entry.code.equals(inputCode)) {
+                entries.remove(phoneNumber);
+                return VerificationResult.verified;
+            }
+            return entry.attempts >= maxAttempts ? VerificationResult.too_many_attempts : VerificationResult.mismatch;
+        }
+
+        private synchronized void remove(String phoneNumber) {
+            entries.remove(phoneNumber);
+        }
+
+        private synchronized int size() {
+            return entries.size();
+        }
+
+        /**
+         * 지난 틱의 칸을 비움 (다시 저장되었거나 이미 삭제된 항목은 맵에서 지우지 않음)
+         * 정리가 밀려 다음 바퀴의 항목이 같은 칸에 들어온 경우 아직 만료되지 않은 항목은 칸에 남겨둠
+         */
+        private synchronized void advance(long currentTick, long now) {
+            long from = Math.max(lastTick + 1, currentTick - wheel.length + 1);
+            for (long tick = from; tick <= currentTick; tick++) {
+                ArrayDeque<Entry> slot = wheel[(int) (tick % wheel.length)];
+                int size = slot.size();
+                for (int i = 0; i < size; i++) {
+                    Entry entry = slot.poll();
+                    if (entry.isExpired(now)) {
+                        entries.remove(entry.phoneNumber, entry);
+                    } else {
+                        slot.add(entry);
+                    }
+                }
+            }
+            lastTick = Math.max(lastTick, currentTick);
         }
     }
-    
+
     @Override
     public void saveCode(String phoneNumber, String code) {
-        verificationStore.put(phoneNumber, new VerificationInfo(code));
+        shard(phoneNumber).put(new Entry(phoneNumber, code, currentTimeMillis.getAsLong() + ttlMillis));
     }
-    
+
     @Override
-    public boolean verifyCode(String phoneNumber, String inputCode) {
-        VerificationInfo info = verificationStore.get(phoneNumber);
-        
-        if (info == null || info.isExpired()) {
-            verificationStore.remove(phoneNumber);
-            return false;
-        }
-        
-        if (info.code.equals(inputCode)) {
-            verificationStore.remove(phoneNumber);
-            return true;
-        }
-        
-        return false;
-    }
-    
+    public VerificationResult checkCode(String phoneNumber, String inputCode) {
+        return shard(phoneNumber).check(phoneNumber, inputCode, currentTimeMillis.getAsLong());
+    }
+
     @Override
     public void removeCode(String phoneNumber) {
-        verificationStore.remove(phoneNumber);
+        shard(phoneNumber).remove(phoneNumber);
     }
-    
-    // 주기적으로 만료된 데이터 정리
-    @Scheduled(fixedRate = 60000) // 1분마다 실행
+
+    // 틱마다 만료된 칸 정리 (서버 메모리의 데이터이므로 서버마다 실행)
+    @Scheduled(fixedRateString = "${verification.store.tick-ms:1000}")
     public void cleanupExpiredCodes() {
-        verificationStore.entrySet().removeIf(entry -> entry.getValue().isExpired());
+        scheduledJobRunner.runLocal("verification-code-cleanup", () -> {
+            long now = currentTimeMillis.getAsLong();
+            long currentTick = now / tickMillis;
+            for (Shard shard : shards) {
+                shard.advance(currentTick, now);
+            }
+        });
+    }
+
+    // 저장된 인증번호 수 (만료 정리 확인용)
+    int size() {
+        int size = 0;
+        for (Shard shard : shards) {
+            size += shard.size();
+        }
+        return size;
+    }
+
+    private Shard shard(String phoneNumber) {
+        int hash = phoneNumber.hashCode();
+        return shards[(hash ^ (hash >>> 16)) & (SHARD_COUNT - 1)];
     }
 }
@@ -0,0 +1,114 @@
+package com.smhrd.graddy.auth;
+
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+
+/**
+ * DB 인증번호 저장소 (verification.store=jdbc)
+ * phone_verification_code 테이블을 모든 서버가 공유하므로 로드밸런서 뒤에서도 발송한 서버와 검증하는 서버가 달라도 됨
+ *
+ * 만료 시각은 DB의 NOW(3) 기준으로 저장하고 조회할 때마다 확인하므로 정리 작업이 늦어도 만료된 인증번호는 통과하지 않음
+ * 시도 횟수 증가와 인증 성공 시 삭제는 각각 조건부 UPDATE/DELETE 한 번으로 처리하여 동시 요청에도 횟수가 새지 않음
+ */
+@Service
+@ConditionalOnProperty(name = "verification.store", havingValue = "jdbc")
+@Slf4j
+public class JdbcVerificationCodeStore implements VerificationCodeStore {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO phone_verification_code (phone_number, code, attempts, expires_at) " +
+            "VALUES (?, ?, 0, TIMESTAMPADD(MICROSECOND, ?, NOW(3))) " +
+            "ON DUPLICATE KEY UPDATE code = VALUES(code), attempts = 0, expires_at = VALUES(expires_at)";
+
+    private static final String INCREMENT_ATTEMPTS_SQL =
+            "UPDATE phone_verification_code SET attempts = attempts + 1 " +
+            "WHERE phone_number = ? AND expires_at > NOW(3) AND attempts < ?";
+
+    private static final String SELECT_SQL =
+            "SELECT code, attempts, expires_at > NOW(3) AS valid FROM phone_verification_code WHERE phone_number = ?";
+
+    private static final String DELETE_MATCHED_SQL =
+            "DELETE FROM phone_verification_code WHERE phone_number = ? AND code = ?";
+
+    private static final String DELETE_SQL =
+            "DELETE FROM phone_verification_code WHERE phone_number = ?";
+
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM phone_verification_code WHERE expires_at < NOW(3) LIMIT ?";
+
+    private static final int CLEANUP_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final long ttlMicros;
+    private final int maxAttempts;
+
+    private record StoredCode(String code, int attempts, boolean valid) {
+    }
+
+    public JdbcVerificationCodeStore(JdbcTemplate jdbcTemplate,
+                                     ScheduledJobRunner scheduledJobRunner,
+                                     @Value("${verification.code.ttl-seconds:300}") long ttlSeconds,
+                                     @Value("${verification.code.max-attempts:5}") int maxAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.scheduledJobRunner = scheduledJobRunner;
+        this.ttlMicros = ttlSeconds * 1_000_000;
+        this.maxAttempts = maxAttempts;
+    }
+
+    @Override
+    public void saveCode(String phoneNumber, String code) {
+        jdbcTemplate.update(UPSERT_SQL, phoneNumber, code, ttlMicros);
+    }
+
+    @Override
+    public VerificationResult checkCode(String phoneNumber, String inputCode) {
+        boolean counted = jdbcTemplate.update(INCREMENT_ATTEMPTS_SQL, phoneNumber, maxAttempts) == 1;
+        StoredCode stored = find(phoneNumber);
+        if (stored == null || !stored.valid()) {
+            return VerificationResult.expired;
+        }
+        if (!counted) {
+            return VerificationResult.too_many_attempts;
+        }
+        if (stored.code().equals(inputCode)) {
+            // 같은 인증번호로 동시에 요청해도 한 요청만 성공
+            return jdbcTemplate.update(DELETE_MATCHED_SQL, phoneNumber, inputCode) == 1
+                    ? VerificationResult.verified : VerificationResult.expired;
+        }
+        return stored.attempts() >= maxAttempts ? VerificationResult.too_many_attempts : VerificationResult.mismatch;
+    }
+
+    @Override
+    public void removeCode(String phoneNumber) {
+        jdbcTemplate.update(DELETE_SQL, phoneNumber);
+    }
+
+    // 만료된 인증번호 정리 (공유 테이블이므로 여러 서버 중 한 곳에서만 실행)
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void cleanupExpiredCodes() {
+        try {
+            scheduledJobRunner.runExclusive("verification-code-cleanup", () -> {
+                int deleted;
+                do {
+                    deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, CLEANUP_CHUNK_SIZE);
+                } while (deleted == CLEANUP_CHUNK_SIZE);
+            });
+        } catch (Exception e) {
+            log.error("만료된 인증번호 정리 중 오류 발생: {}", e.getMessage());
+        }
+    }
+
+    private StoredCode find(String phoneNumber) {
+        List<StoredCode> rows = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) ->
+                new StoredCode(rs.getString("code"), rs.getInt("attempts"), rs.getBoolean("valid")), phoneNumber);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+}
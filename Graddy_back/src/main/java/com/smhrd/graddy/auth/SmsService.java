@@ -1,79 +1,45 @@
 package com.smhrd.graddy.auth;
 
-import net.nurigo.sdk.message.model.Message;
-import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
-import net.nurigo.sdk.message.service.DefaultMessageService;
+import com.smhrd.graddy.auth.sms.SmsMessage;
+import com.smhrd.graddy.auth.sms.SmsOutbox;
+import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
-import org.springframework.beans.factory.annotation.Value;
-// Dotenv import는 제거합니다.
-// import io.github.cdimascio.dotenv.Dotenv;
+import java.util.Optional;
 
+/**
+ * SMS 발송 서비스
+ * 실제 발송은 SmsOutbox의 전용 발송 스레드가 처리하므로 요청 스레드는 대기열에 넣고 바로 반환함
+ * 발송 수단은 sms.transport 설정으로 선택 (solapi: 실제 발송, stub: 로그만 출력)
+ */
 @Service
+@RequiredArgsConstructor
 public class SmsService {
 
-    @Value("${SOLAPI_SENDER_NUMBER}")
-    private String solapiSenderNumber;
-    @Value("${SOLAPI_API_KEY}")
-    private String apiKey;
-    @Value("${SOLAPI_API_SECRET}")
-    private String apiSecret;
+    private final SmsOutbox smsOutbox;
 
-    // @Value 어노테이션을 사용하여 생성자로 값을 주입받습니다.
-    // 이 방식이 Spring에서 권장하는 '생성자 주입(Constructor Injection)' 방식입니다.
-    // public SmsService(
-
-    // @Value("${solapi.api.key}") String apiKey,
-    // @Value("${solapi.api.secret}") String apiSecret) {
-    // this.apiKey = apiKey;
-    // this.apiSecret = apiSecret;
-    // }
-
-    public void sendVerificationCode(String phoneNumber, String verificationCode) {
-        // TODO: 솔라피 SDK 의존성 설치 후 실제 SMS 발송 구현
-        System.out.println("SMS 발송 시뮬레이션: " + phoneNumber + "로 인증번호 " + verificationCode + " 발송");
-        System.out.println("실제 SMS 발송을 위해서는 솔라피 SDK 의존성을 설치하고 주석을 해제하세요.");
-
-        // 실제 SMS 발송 코드 (의존성 설치 후 주석 해제)
-        DefaultMessageService messageService = new DefaultMessageService(apiKey, apiSecret, "https://api.solapi.com");
-
-        Message message = new Message();
-        message.setFrom(solapiSenderNumber);
-        message.setTo(phoneNumber);
-        message.setText("Graddy 인증번호: " + verificationCode + "\n5분 내에 입력해주세요.");
-
-        try {
-            messageService.sendOne(new SingleMessageSendingRequest(message));
-            System.out.println("SMS 발송 성공");
-        } catch (Exception exception) {
-            throw new RuntimeException("SMS 발송 중 오류 발생: " + exception.getMessage());
-        }
-
-    }
-    
     /**
-     * 스케줄 알림 문자 발송
+     * 인증번호 문자 발송 요청
+     *
+     * @return 발송 상태 조회용 메시지 ID
      */
-    public void sendScheduleNotification(String phoneNumber, String message) {
-        // TODO: 솔라피 SDK 의존성 설치 후 실제 SMS 발송 구현
-        System.out.println("스케줄 알림 SMS 발송 시뮬레이션: " + phoneNumber + "로 메시지 " + message + " 발송");
-        System.out.println("실제 SMS 발송을 위해서는 솔라피 SDK 의존성을 설치하고 주석을 해제하세요.");
-
-        // 실제 SMS 발송 코드 (의존성 설치 후 주석 해제)
-        /*
-        DefaultMessageService messageService = new DefaultMessageService(apiKey, apiSecret, "https://api.solapi.com");
+    public String sendVerificationCode(String phoneNumber, String verificationCode) {
+        return smsOutbox.enqueue(phoneNumber, "Graddy 인증번호: " + verificationCode + "\n5분 내에 입력해주세요.");
+    }
 
-        Message smsMessage = new Message();
-        smsMessage.setFrom(solapiSenderNumber);
-        smsMessage.setTo(phoneNumber);
-        smsMessage.setText(message);
+    /**
+     * 스케줄 알림 문자 발송 요청
+     *
+     * @return 발송 상태 조회용 메시지 ID
+     */
+    public String sendScheduleNotification(String phoneNumber, String message) {
+        return smsOutbox.enqueue(phoneNumber, message);
+    }
 
-        try {
-            messageService.sendOne(new SingleMessageSendingRequest(smsMessage));
-            System.out.println("스케줄 알림 SMS 발송 성공");
-        } catch (Exception e) {
-            System.err.println("스케줄 알림 SMS 발송 실패: " + e.getMessage());
-        }
-        */
+    /**
+     * 발송 상태 조회 (발송 요청 시 반환한 메시지 ID, 보관 시간이 지났거나 다른 서버에서 보낸 메시지는 조회되지 않음)
+     */
+    public Optional<SmsMessage> getDeliveryStatus(String messageId) {
+        return smsOutbox.getMessage(messageId);
     }
 }
@@ -1,7 +1,24 @@
 package com.smhrd.graddy.auth;
 
+/**
+ * 인증번호 저장소
+ * 구현체는 verification.store 설정으로 선택 (jdbc: 서버 간 공유되는 DB 테이블, memory: 서버 메모리, 테스트/단일 서버용)
+ */
 public interface VerificationCodeStore {
+
+    /**
+     * 인증번호 저장 (같은 번호로 이미 저장된 인증번호와 시도 횟수는 초기화)
+     */
     void saveCode(String phoneNumber, String code);
-    boolean verifyCode(String phoneNumber, String inputCode);
+
+    /**
+     * 인증번호 검증 (검증할 때마다 시도 횟수가 증가하며, 최대 시도 횟수를 넘으면 인증번호가 무효화됨)
+     */
+    VerificationResult checkCode(String phoneNumber, String inputCode);
+
+    default boolean verifyCode(String phoneNumber, String inputCode) {
+        return checkCode(phoneNumber, inputCode) == VerificationResult.verified;
+    }
+
     void removeCode(String phoneNumber);
 }
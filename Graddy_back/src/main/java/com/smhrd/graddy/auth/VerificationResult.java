@@ -0,0 +1,11 @@
+package com.smhrd.graddy.auth;
+
+/**
+ * 인증번호 검증 결과
+ */
+public enum VerificationResult {
+    verified,           // 인증 성공 (인증번호는 바로 삭제됨)
+    mismatch,           // 인증번호 불일치
+    expired,            // 인증번호가 없거나 유효 시간이 지남
+    too_many_attempts   // 시도 횟수 초과 (새 인증번호를 발급받아야 함)
+}
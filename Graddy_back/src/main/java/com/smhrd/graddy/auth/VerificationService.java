@@ -17,7 +17,12 @@ public class VerificationService {
         this.smsService = smsService;
     }
     
-    public void sendVerificationCode(String phoneNumber) {
+    /**
+     * 인증번호 생성, 저장 후 SMS 발송 요청
+     *
+     * @return 발송 상태 조회용 메시지 ID
+     */
+    public String sendVerificationCode(String phoneNumber) {
         // 인증번호 생성
         String code = codeGenerator.generateCode();
         
@@ -25,7 +30,7 @@ public class VerificationService {
         codeStore.saveCode(phoneNumber, code);
         
         // SMS 발송
-        smsService.sendVerificationCode(phoneNumber, code);
+        return smsService.sendVerificationCode(phoneNumber, code);
     }
     
     public boolean verifyCode(String phoneNumber, String inputCode) {
@@ -2,9 +2,11 @@ package com.smhrd.graddy.auth.controller;
 
 import com.smhrd.graddy.api.dto.ApiResponse;
 import com.smhrd.graddy.auth.VerificationCodeStore;
+import com.smhrd.graddy.auth.VerificationResult;
 import com.smhrd.graddy.auth.SmsService;
 import com.smhrd.graddy.auth.dto.VerifyCodeRequest;
 import com.smhrd.graddy.auth.dto.SendCodeRequest;
+import com.smhrd.graddy.auth.dto.SmsDeliveryStatusResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -33,9 +35,9 @@ public class SmsVerificationController {
     /**
      * SMS 인증번호 발송
      * @param request 전화번호
-     * @return 발송 결과
+     * @return 발송 상태 조회용 메시지 ID
      */
-    @Operation(summary = "SMS 인증번호 발송", description = "전화번호로 SMS 인증번호를 발송합니다.")
+    @Operation(summary = "SMS 인증번호 발송", description = "전화번호로 SMS 인증번호를 발송합니다. 응답 data는 발송 상태 조회용 메시지 ID입니다.")
     @PostMapping("/send-code")
     public ResponseEntity<ApiResponse<String>> sendVerificationCode(
             @Parameter(description = "전화번호") @RequestBody SendCodeRequest request) {
@@ -49,11 +51,11 @@ public class SmsVerificationController {
             // 인증번호 저장
             verificationCodeStore.saveCode(request.getPhoneNumber(), verificationCode);
             
-            // SMS 발송
-            smsService.sendVerificationCode(request.getPhoneNumber(), verificationCode);
+            // SMS 발송 (발송 대기열에 넣고 바로 반환, 실제 발송 결과는 sms-status로 조회)
+            String messageId = smsService.sendVerificationCode(request.getPhoneNumber(), verificationCode);
             
-            log.info("SMS 인증번호 발송 성공: phoneNumber={}", request.getPhoneNumber());
-            return ApiResponse.success("인증번호가 발송되었습니다.", "SUCCESS");
+            log.info("SMS 인증번호 발송 요청 완료: phoneNumber={}, messageId={}", request.getPhoneNumber(), messageId);
+            return ApiResponse.success("인증번호가 발송되었습니다.", messageId);
             
         } catch (Exception e) {
             log.error("SMS 인증번호 발송 중 오류 발생: phoneNumber={}, error={}", 
@@ -76,13 +78,14 @@ public class SmsVerificationController {
         log.info("SMS 인증번호 검증 요청: phoneNumber={}", request.getPhoneNumber());
         
         try {
-            boolean verified = verificationCodeStore.verifyCode(request.getPhoneNumber(), request.getCode());
+            VerificationResult result = verificationCodeStore.checkCode(request.getPhoneNumber(), request.getCode());
             
-            if (verified) {
-                return ApiResponse.success("인증번호가 확인되었습니다.", true);
-            } else {
-                return ApiResponse.error(HttpStatus.BAD_REQUEST, "인증번호가 일치하지 않습니다.", false);
-            }
+            return switch (result) {
+                case verified -> ApiResponse.success("인증번호가 확인되었습니다.", true);
+                case expired -> ApiResponse.error(HttpStatus.BAD_REQUEST, "인증번호가 만료되었습니다. 인증번호를 다시 요청해주세요.", false);
+                case too_many_attempts -> ApiResponse.error(HttpStatus.TOO_MANY_REQUESTS, "인증 시도 횟수를 초과했습니다. 인증번호를 다시 요청해주세요.", false);
+                case mismatch -> ApiResponse.error(HttpStatus.BAD_REQUEST, "인증번호가 일치하지 않습니다.", false);
+            };
         } catch (Exception e) {
             log.error("SMS 인증번호 검증 중 오류 발생: phoneNumber={}, error={}", 
                 request.getPhoneNumber(), e.getMessage());
@@ -90,4 +93,18 @@ public class SmsVerificationController {
                 "인증번호 검증 중 오류가 발생했습니다: " + e.getMessage(), false);
         }
     }
+
+    /**
+     * SMS 발송 상태 조회
+     * @param messageId 발송 요청 시 받은 메시지 ID
+     * @return 발송 상태 (queued, sent, failed)
+     */
+    @Operation(summary = "SMS 발송 상태 조회", description = "인증번호 발송 요청의 실제 발송 상태를 조회합니다. 발송 후 일정 시간이 지나면 조회되지 않습니다.")
+    @GetMapping("/sms-status/{messageId}")
+    public ResponseEntity<ApiResponse<SmsDeliveryStatusResponse>> getSmsStatus(
+            @Parameter(description = "메시지 ID") @PathVariable String messageId) {
+        return smsService.getDeliveryStatus(messageId)
+                .map(message -> ApiResponse.success("SMS 발송 상태 조회 성공", new SmsDeliveryStatusResponse(message)))
+                .orElseGet(() -> ApiResponse.error(HttpStatus.NOT_FOUND, "발송 상태를 찾을 수 없습니다.", null));
+    }
 }
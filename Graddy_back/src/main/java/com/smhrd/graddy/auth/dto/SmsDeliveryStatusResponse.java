@@ -0,0 +1,39 @@
+package com.smhrd.graddy.auth.dto;
+
+import com.smhrd.graddy.auth.sms.SmsDeliveryStatus;
+import com.smhrd.graddy.auth.sms.SmsMessage;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * SMS 발송 상태 응답 DTO
+ */
+@Getter
+@Schema(description = "SMS 발송 상태 응답")
+public class SmsDeliveryStatusResponse {
+
+    @Schema(description = "메시지 ID", example = "3f2b8c1e-6a0d-4e8f-9b7a-2c4d5e6f7a8b")
+    private final String messageId;
+
+    @Schema(description = "발송 상태 (queued: 발송 대기/재시도 대기, sent: 발송 요청 완료, failed: 재시도 후에도 실패)", example = "sent")
+    private final SmsDeliveryStatus status;
+
+    @Schema(description = "발송 시도 횟수", example = "1")
+    private final int attempts;
+
+    @Schema(description = "마지막 실패 사유 (없으면 null)")
+    private final String lastError;
+
+    @Schema(description = "발송 완료/실패 시각 (대기 중이면 null)")
+    private final LocalDateTime completedAt;
+
+    public SmsDeliveryStatusResponse(SmsMessage message) {
+        this.messageId = message.getMessageId();
+        this.status = message.getStatus();
+        this.attempts = message.getAttempts();
+        this.lastError = message.getLastError();
+        this.completedAt = message.getCompletedAt();
+    }
+}
@@ -26,10 +26,20 @@ public class UnifiedPhoneVerificationResponse {
     @Schema(description = "전화번호", example = "010-1234-5678")
     private String tel;
 
+    @Schema(description = "SMS 발송 상태 조회용 메시지 ID (GET /api/auth/sms-status/{messageId}, 발송 요청 실패 시 null)",
+            example = "3f2b8c1e-6a0d-4e8f-9b7a-2c4d5e6f7a8b")
+    private String messageId;
+
     public UnifiedPhoneVerificationResponse(boolean isPhoneAvailable, boolean isSmsSent, String message, String tel) {
         this.isPhoneAvailable = isPhoneAvailable;
         this.isSmsSent = isSmsSent;
         this.message = message;
         this.tel = tel;
     }
+
+    public UnifiedPhoneVerificationResponse(boolean isPhoneAvailable, boolean isSmsSent, String message, String tel,
+                                            String messageId) {
+        this(isPhoneAvailable, isSmsSent, message, tel);
+        this.messageId = messageId;
+    }
 }
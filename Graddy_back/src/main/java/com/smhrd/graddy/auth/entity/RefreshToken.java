@@ -9,6 +9,11 @@ import lombok.Builder;
 
 import java.time.LocalDateTime;
 
+/**
+ * Refresh Token
+ * 토큰 원문은 저장하지 않고 SHA-256 해시(64자 hex)를 기본 키로 사용함
+ * 사용자당 하나만 유지하며(user_id 유니크), 재발급 시 같은 행의 해시와 만료 시각을 교체함
+ */
 @Entity
 @Table(name = "refresh_tokens")
 @Getter
@@ -19,22 +24,22 @@ import java.time.LocalDateTime;
 public class RefreshToken {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
-    @Column(name = "token_id")
-    private Long tokenId;
+    @Column(name = "token_hash", columnDefinition = "CHAR(64)", length = 64)
+    private String tokenHash;
 
-    @Column(name = "user_id", nullable = false)
+    @Column(name = "user_id", nullable = false, unique = true)
     private String userId;
 
-    @Column(name = "token_value", nullable = false, unique = true, length = 500)
-    private String tokenValue;
-
     @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
 
     @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt;
 
+    // 발급 직후 클라이언트에 전달할 토큰 원문 (DB에는 저장하지 않음)
+    @Transient
+    private String tokenValue;
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
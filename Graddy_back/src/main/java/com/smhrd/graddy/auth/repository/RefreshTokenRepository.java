@@ -1,34 +1,63 @@
 package com.smhrd.graddy.auth.repository;
 
 import com.smhrd.graddy.auth.entity.RefreshToken;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
 
+/**
+ * Refresh Token 리포지토리 (기본 키는 토큰 해시)
+ */
 @Repository
-public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
 
     // 사용자 ID로 Refresh Token 조회
     Optional<RefreshToken> findByUserId(String userId);
 
-    // 토큰 값으로 Refresh Token 조회
-    Optional<RefreshToken> findByTokenValue(String tokenValue);
-
     // 사용자 ID로 Refresh Token 존재 여부 확인
     boolean existsByUserId(String userId);
 
-    // 만료된 토큰들 삭제
+    /**
+     * Refresh Token 발급/교체 (문장 하나로 처리)
+     * 사용자의 토큰이 없으면 추가하고, 있으면 같은 행의 해시와 만료 시각을 교체함 (user_id 유니크 키 사용)
+     * 네이티브 쿼리는 변경 테이블을 지정하지 않으면 2차 캐시 전체를 비우므로 refresh_tokens만 지정함
+     */
+    @Modifying
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = "INSERT INTO refresh_tokens (token_hash, user_id, expiry_date, created_at) " +
+                   "VALUES (:tokenHash, :userId, :expiryDate, :createdAt) " +
+                   "ON DUPLICATE KEY UPDATE token_hash = VALUES(token_hash), " +
+                   "expiry_date = VALUES(expiry_date), created_at = VALUES(created_at)",
+           nativeQuery = true)
+    int upsertForUser(@Param("tokenHash") String tokenHash,
+                      @Param("userId") String userId,
+                      @Param("expiryDate") LocalDateTime expiryDate,
+                      @Param("createdAt") LocalDateTime createdAt);
+
+    /**
+     * 만료된 토큰을 limit개까지 삭제 (한 번에 지우는 행 수를 제한하여 테이블 잠금 시간을 짧게 유지)
+     *
+     * @return 삭제된 행 수
+     */
     @Modifying
-    @Query("DELETE FROM RefreshToken rt WHERE rt.expiryDate < :currentTime")
-    void deleteExpiredTokens(@Param("currentTime") LocalDateTime currentTime);
+    @Transactional
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "refresh_tokens"))
+    @Query(value = "DELETE FROM refresh_tokens WHERE expiry_date < :currentTime LIMIT :limit", nativeQuery = true)
+    int deleteExpiredTokens(@Param("currentTime") LocalDateTime currentTime, @Param("limit") int limit);
 
     // 사용자 ID로 Refresh Token 삭제
     @Modifying
+    @Transactional
     @Query("DELETE FROM RefreshToken rt WHERE rt.userId = :userId")
-    void deleteByUserId(@Param("userId") String userId);
+    int deleteByUserId(@Param("userId") String userId);
 }
@@ -24,8 +24,8 @@ public class AuthService {
 
     @Transactional
     public LoginResponse login(LoginRequest request) {
-        // 사용자 조회
-        User user = userRepository.findByUserId(request.getUserId())
+        // 사용자 조회 (다른 서버에서 바꾼 비밀번호가 바로 반영되도록 캐시를 거치지 않음)
+        User user = userRepository.findForAuthenticationByUserId(request.getUserId())
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
         // 비밀번호 검증
@@ -0,0 +1,129 @@
+package com.smhrd.graddy.auth.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Refresh Token 조회 캐시 (토큰 해시 → 사용자 ID, 만료 시각)
+ * 토큰 검증/사용자 조회가 같은 토큰으로 연달아 호출되므로 DB 조회 결과를 짧게 보관함
+ *
+ * 서버마다 따로 두므로 다른 서버에서 재발급/로그아웃한 토큰은 ttl-seconds 동안 이 서버에서 유효할 수 있음
+ * 이 서버에서 재발급/로그아웃한 경우에는 바로 제거함
+ *
+ * 캐시 미스로 DB에서 읽는 동안 재발급/로그아웃이 일어나면 읽어 온 이전 토큰을 다시 넣지 않도록,
+ * 제거할 때마다 순번을 올리고 조회 시작 시점의 순번보다 뒤에 제거된 사용자의 토큰은 보관하지 않음
+ */
+@Component
+public class RefreshTokenCache {
+
+    record CachedToken(String tokenHash, String userId, LocalDateTime expiryDate, long cachedAtMillis) {
+    }
+
+    private record Eviction(long sequence, long evictedAtMillis) {
+    }
+
+    @Value("${auth.refresh-token.cache.ttl-seconds:30}")
+    private long ttlSeconds;
+
+    @Value("${auth.refresh-token.cache.max-size:10000}")
+    private int maxSize;
+
+    private final Map<String, CachedToken> byHash = new ConcurrentHashMap<>();
+    private final Map<String, String> hashByUser = new ConcurrentHashMap<>();
+    private final AtomicLong evictionSequence = new AtomicLong();
+    private final Map<String, Eviction> lastEvictionByUser = new ConcurrentHashMap<>();
+
+    Optional<CachedToken> get(String tokenHash) {
+        CachedToken cached = byHash.get(tokenHash);
+        if (cached == null) {
+            return Optional.empty();
+        }
+        if (isStale(cached, System.currentTimeMillis())) {
+            remove(cached);
+            return Optional.empty();
+        }
+        return Optional.of(cached);
+    }
+
+    /**
+     * DB 조회를 시작하기 전에 읽어 두고 put에 넘길 순번
+     */
+    long currentSequence() {
+        return evictionSequence.get();
+    }
+
+    /**
+     * DB에서 읽은 토큰 보관
+     *
+     * @param loadedAtSequence DB 조회 시작 전에 currentSequence()로 읽은 순번
+     */
+    void put(String tokenHash, String userId, LocalDateTime expiryDate, long loadedAtSequence) {
+        // 가득 찬 경우 새 항목은 캐시하지 않음 (오래된 항목은 purgeExpired에서 정리)
+        if (byHash.size() >= maxSize || evictedSince(userId, loadedAtSequence)) {
+            return;
+        }
+        CachedToken cached = new CachedToken(tokenHash, userId, expiryDate, System.currentTimeMillis());
+        String previousHash = hashByUser.put(userId, tokenHash);
+        if (previousHash != null && !previousHash.equals(tokenHash)) {
+            byHash.remove(previousHash);
+        }
+        byHash.put(tokenHash, cached);
+
+        // 확인과 보관 사이에 제거된 경우 방금 넣은 항목을 다시 뺌
+        if (evictedSince(userId, loadedAtSequence)) {
+            remove(cached);
+        }
+    }
+
+    /**
+     * 사용자의 토큰 캐시 제거 (재발급/로그아웃 시)
+     */
+    void evictUser(String userId) {
+        lastEvictionByUser.put(userId, new Eviction(evictionSequence.incrementAndGet(), System.currentTimeMillis()));
+        String tokenHash = hashByUser.remove(userId);
+        if (tokenHash != null) {
+            byHash.remove(tokenHash);
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 항목 정리
+     *
+     * @return 제거된 항목 수
+     */
+    int purgeExpired() {
+        long now = System.currentTimeMillis();
+        int before = byHash.size();
+        byHash.values().stream()
+                .filter(cached -> isStale(cached, now))
+                .toList()
+                .forEach(this::remove);
+        // 제거 기록은 진행 중인 DB 조회(ttl-seconds보다 훨씬 짧음)와 비교할 때만 필요하므로 보관 시간이 지나면 정리
+        lastEvictionByUser.values().removeIf(eviction -> now - eviction.evictedAtMillis() > ttlSeconds * 1000);
+        return before - byHash.size();
+    }
+
+    int size() {
+        return byHash.size();
+    }
+
+    private boolean evictedSince(String userId, long sequence) {
+        Eviction eviction = lastEvictionByUser.get(userId);
+        return eviction != null && eviction.sequence() > sequence;
+    }
+
+    private boolean isStale(CachedToken cached, long now) {
+        return now - cached.cachedAtMillis() > ttlSeconds * 1000 || LocalDateTime.now().isAfter(cached.expiryDate());
+    }
+
+    private void remove(CachedToken cached) {
+        byHash.remove(cached.tokenHash(), cached);
+        hashByUser.remove(cached.userId(), cached.tokenHash());
+    }
+}
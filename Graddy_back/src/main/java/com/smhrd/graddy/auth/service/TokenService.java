@@ -2,46 +2,67 @@ package com.smhrd.graddy.auth.service;
 
 import com.smhrd.graddy.auth.entity.RefreshToken;
 import com.smhrd.graddy.auth.repository.RefreshTokenRepository;
+import com.smhrd.graddy.auth.service.RefreshTokenCache.CachedToken;
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
 import com.smhrd.graddy.security.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.Optional;
 import java.util.UUID;
 
+/**
+ * Refresh Token 관리
+ * DB에는 토큰 원문 대신 SHA-256 해시를 기본 키로 저장하고, 조회는 RefreshTokenCache를 거쳐 DB를 읽음
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TokenService {
 
     private final RefreshTokenRepository refreshTokenRepository;
+    private final RefreshTokenCache refreshTokenCache;
     private final JwtUtil jwtUtil;
+    private final ScheduledJobRunner scheduledJobRunner;
 
-    // Refresh Token 생성
-    @Transactional
+    // 만료 토큰 정리 시 한 번에 삭제할 행 수
+    @Value("${auth.refresh-token.cleanup-chunk-size:1000}")
+    private int cleanupChunkSize;
+
+    // Refresh Token 생성 (기존 토큰이 있으면 같은 행을 새 토큰으로 교체)
     public RefreshToken createRefreshToken(String userId) {
-        // 기존 Refresh Token이 있다면 삭제
-        refreshTokenRepository.deleteByUserId(userId);
+        String tokenValue = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.now();
 
-        // 새로운 Refresh Token 생성
         RefreshToken refreshToken = RefreshToken.builder()
+                .tokenHash(hash(tokenValue))
                 .userId(userId)
-                .tokenValue(UUID.randomUUID().toString())
-                .expiryDate(LocalDateTime.now().plusHours(1)) // 1시간 유효
+                .expiryDate(now.plusHours(1)) // 1시간 유효
+                .createdAt(now)
+                .tokenValue(tokenValue)
                 .build();
 
-        return refreshTokenRepository.save(refreshToken);
+        refreshTokenRepository.upsertForUser(refreshToken.getTokenHash(), userId,
+                refreshToken.getExpiryDate(), refreshToken.getCreatedAt());
+        evictCachedToken(userId);
+        return refreshToken;
     }
 
     // Refresh Token 유효성 검증 (토큰 값만으로)
     public boolean validateRefreshToken(String tokenValue) {
         try {
-            return refreshTokenRepository.findByTokenValue(tokenValue)
-                    .map(token -> !token.isExpired())
-                    .orElse(false);
+            return findActiveToken(tokenValue).isPresent();
         } catch (Exception e) {
             log.error("Refresh Token 검증 중 오류 발생", e);
             return false;
@@ -51,8 +72,8 @@ public class TokenService {
     // Refresh Token 유효성 검증 (토큰 값과 사용자 ID로)
     public boolean validateRefreshToken(String tokenValue, String userId) {
         try {
-            return refreshTokenRepository.findByTokenValue(tokenValue)
-                    .map(token -> token.getUserId().equals(userId) && !token.isExpired())
+            return findActiveToken(tokenValue)
+                    .map(token -> token.userId().equals(userId))
                     .orElse(false);
         } catch (Exception e) {
             log.error("Refresh Token 검증 중 오류 발생", e);
@@ -61,37 +82,50 @@ public class TokenService {
     }
 
     // Access Token 갱신
-    @Transactional
     public String refreshAccessToken(String refreshTokenValue) {
-        RefreshToken refreshToken = refreshTokenRepository.findByTokenValue(refreshTokenValue)
+        CachedToken refreshToken = findToken(refreshTokenValue)
                 .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 Refresh Token입니다."));
 
-        if (refreshToken.isExpired()) {
+        if (LocalDateTime.now().isAfter(refreshToken.expiryDate())) {
             throw new IllegalArgumentException("Refresh Token이 만료되었습니다.");
         }
 
         // 새로운 Access Token 생성
-        return jwtUtil.generateAccessToken(refreshToken.getUserId());
+        return jwtUtil.generateAccessToken(refreshToken.userId());
     }
 
     // Refresh Token 삭제
-    @Transactional
     public void deleteRefreshToken(String userId) {
         refreshTokenRepository.deleteByUserId(userId);
+        evictCachedToken(userId);
     }
 
-    // 만료된 토큰들 정리 (스케줄링)
+    // 만료된 토큰들 정리 (스케줄링, 여러 서버 중 한 곳에서만 실행)
+    // 한 번에 cleanup-chunk-size개씩 나눠 삭제하여 테이블을 오래 잠그지 않음
     @Scheduled(fixedRate = 3600000) // 1시간마다 실행
-    @Transactional
     public void cleanupExpiredTokens() {
         try {
-            refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
-            log.info("만료된 Refresh Token 정리 완료");
+            scheduledJobRunner.runExclusive("refresh-token-cleanup", () -> {
+                LocalDateTime now = LocalDateTime.now();
+                int total = 0;
+                int deleted;
+                do {
+                    deleted = refreshTokenRepository.deleteExpiredTokens(now, cleanupChunkSize);
+                    total += deleted;
+                } while (deleted == cleanupChunkSize);
+                log.info("만료된 Refresh Token 정리 완료: {}개 삭제", total);
+            });
         } catch (Exception e) {
             log.error("만료된 Refresh Token 정리 중 오류 발생", e);
         }
     }
 
+    // 보관 시간이 지난 캐시 정리 (서버 메모리의 캐시이므로 서버마다 실행)
+    @Scheduled(fixedRate = 60000) // 1분마다 실행
+    public void purgeTokenCache() {
+        scheduledJobRunner.runLocal("refresh-token-cache-purge", refreshTokenCache::purgeExpired);
+    }
+
     // 사용자가 Refresh Token을 가지고 있는지 확인
     public boolean hasRefreshToken(String userId) {
         return refreshTokenRepository.existsByUserId(userId);
@@ -99,16 +133,16 @@ public class TokenService {
 
     // Refresh Token의 남은 시간 조회
     public long getRemainingTime(String tokenValue) {
-        return refreshTokenRepository.findByTokenValue(tokenValue)
-                .map(RefreshToken::getMinutesUntilExpiry)
+        return findActiveToken(tokenValue)
+                .map(token -> Duration.between(LocalDateTime.now(), token.expiryDate()).toMinutes())
                 .orElse(0L);
     }
 
     // Refresh Token에서 사용자 ID 추출 (JWT 파싱 없이)
     public String extractUserIdFromToken(String tokenValue) {
         try {
-            return refreshTokenRepository.findByTokenValue(tokenValue)
-                    .map(RefreshToken::getUserId)
+            return findToken(tokenValue)
+                    .map(CachedToken::userId)
                     .orElse(null);
         } catch (Exception e) {
             log.error("Refresh Token에서 사용자 ID 추출 중 오류 발생", e);
@@ -119,12 +153,65 @@ public class TokenService {
     // Refresh Token 값으로 직접 userId 조회 (로그아웃용)
     public String getUserIdFromRefreshToken(String tokenValue) {
         try {
-            return refreshTokenRepository.findByTokenValue(tokenValue)
-                    .map(RefreshToken::getUserId)
+            return findToken(tokenValue)
+                    .map(CachedToken::userId)
                     .orElse(null);
         } catch (Exception e) {
             log.error("Refresh Token에서 사용자 ID 조회 중 오류 발생", e);
             return null;
         }
     }
+
+    private Optional<CachedToken> findActiveToken(String tokenValue) {
+        return findToken(tokenValue)
+                .filter(token -> !LocalDateTime.now().isAfter(token.expiryDate()));
+    }
+
+    /**
+     * 사용자의 토큰 캐시 제거
+     * 트랜잭션 안이면 커밋 전까지 다른 요청이 DB에서 이전 토큰을 읽어 캐시에 넣을 수 있으므로 커밋 후에 한 번 더 제거
+     */
+    private void evictCachedToken(String userId) {
+        refreshTokenCache.evictUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refreshTokenCache.evictUser(userId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 토큰 조회 (캐시에 없으면 해시 기본 키로 DB 조회 후 캐시에 보관)
+     */
+    private Optional<CachedToken> findToken(String tokenValue) {
+        if (tokenValue == null || tokenValue.isBlank()) {
+            return Optional.empty();
+        }
+        String tokenHash = hash(tokenValue);
+        Optional<CachedToken> cached = refreshTokenCache.get(tokenHash);
+        if (cached.isPresent()) {
+            return cached;
+        }
+        // 조회 중에 재발급/로그아웃으로 제거되면 읽어 온 이전 토큰을 캐시에 넣지 않음
+        long sequence = refreshTokenCache.currentSequence();
+        return refreshTokenRepository.findById(tokenHash).map(token -> {
+            refreshTokenCache.put(tokenHash, token.getUserId(), token.getExpiryDate(), sequence);
+            return new CachedToken(tokenHash, token.getUserId(), token.getExpiryDate(), System.currentTimeMillis());
+        });
+    }
+
+    /**
+     * 토큰 원문의 SHA-256 해시 (64자 소문자 hex, MySQL SHA2(token, 256)과 같은 값)
+     */
+    static String hash(String tokenValue) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(tokenValue.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
 }
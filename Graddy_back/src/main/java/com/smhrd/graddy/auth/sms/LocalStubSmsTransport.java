@@ -0,0 +1,44 @@
+package com.smhrd.graddy.auth.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedDeque;
+
+/**
+ * 로컬/테스트용 발송 구현체
+ * 실제로 발송하지 않고 로그와 최근 발송 목록만 남김
+ */
+@Component
+@ConditionalOnProperty(name = "sms.transport", havingValue = "stub")
+@Slf4j
+public class LocalStubSmsTransport implements SmsTransport {
+
+    private static final int MAX_HISTORY = 1000;
+
+    private final Deque<SmsMessage> sentMessages = new ConcurrentLinkedDeque<>();
+
+    @Override
+    public Map<String, String> send(List<SmsMessage> messages) {
+        for (SmsMessage message : messages) {
+            log.info("SMS 발송 시뮬레이션: phoneNumber={}, text={}", message.getPhoneNumber(), message.getText());
+            sentMessages.addLast(message);
+            if (sentMessages.size() > MAX_HISTORY) {
+                sentMessages.pollFirst();
+            }
+        }
+        return Map.of();
+    }
+
+    /**
+     * 최근 발송된 메시지 목록 (테스트 검증용)
+     */
+    public List<SmsMessage> getSentMessages() {
+        return new ArrayList<>(sentMessages);
+    }
+}
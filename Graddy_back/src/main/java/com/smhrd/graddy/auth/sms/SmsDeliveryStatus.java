@@ -0,0 +1,10 @@
+package com.smhrd.graddy.auth.sms;
+
+/**
+ * SMS 발송 상태
+ */
+public enum SmsDeliveryStatus {
+    queued,   // 발송 대기
+    sent,     // 발송 요청 완료
+    failed    // 재시도 후에도 실패
+}
@@ -0,0 +1,51 @@
+package com.smhrd.graddy.auth.sms;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 발송 대기열에 들어가는 SMS 한 건
+ */
+@Getter
+public class SmsMessage {
+
+    private final String messageId = UUID.randomUUID().toString();
+    private final String phoneNumber;
+    private final String text;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    private volatile SmsDeliveryStatus status = SmsDeliveryStatus.queued;
+    private volatile LocalDateTime completedAt;
+    private volatile String lastError;
+    private int attempts;
+
+    public SmsMessage(String phoneNumber, String text) {
+        this.phoneNumber = phoneNumber;
+        this.text = text;
+    }
+
+    void markAttempt() {
+        attempts++;
+    }
+
+    void markSent() {
+        status = SmsDeliveryStatus.sent;
+        completedAt = LocalDateTime.now();
+    }
+
+    void markFailed(String error) {
+        lastError = error;
+        status = SmsDeliveryStatus.failed;
+        completedAt = LocalDateTime.now();
+    }
+
+    void recordError(String error) {
+        lastError = error;
+    }
+
+    boolean isCompleted() {
+        return status != SmsDeliveryStatus.queued;
+    }
+}
@@ -0,0 +1,228 @@
+package com.smhrd.graddy.auth.sms;
+
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SMS 발송 대기열 (아웃박스)
+ * 요청 스레드는 대기열에 넣고 바로 반환하며, 전용 발송 스레드가 토큰 버킷으로 발송량을 제한하면서
+ * 대기 중인 메시지를 모아 한 번에 발송함. 실패한 메시지(요청 실패 또는 다건 발송 중 개별 실패)는
+ * 지수 백오프(retry-initial-delay-ms부터 두 배씩, 최대 retry-max-delay-ms) 후 최대 시도 횟수까지 다시 발송함
+ */
+@Component
+@Slf4j
+public class SmsOutbox {
+
+    private final SmsTransport transport;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    @Value("${sms.outbox.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${sms.outbox.batch-size:100}")
+    private int batchSize;
+
+    @Value("${sms.outbox.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${sms.outbox.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${sms.outbox.retry-initial-delay-ms:1000}")
+    private long retryInitialDelayMs;
+
+    @Value("${sms.outbox.retry-max-delay-ms:30000}")
+    private long retryMaxDelayMs;
+
+    // 발송 완료된 메시지 상태를 보관하는 시간 (분)
+    @Value("${sms.outbox.status-retention-minutes:60}")
+    private long statusRetentionMinutes;
+
+    private BlockingQueue<SmsMessage> queue;
+    private TokenBucket rateLimiter;
+    private final Map<String, SmsMessage> messages = new ConcurrentHashMap<>();
+    // 재시도 대기 중인 메시지 (재시도 시각이 되면 발송 스레드가 꺼냄)
+    private final DelayQueue<RetryEntry> retries = new DelayQueue<>();
+
+    private volatile boolean running;
+    private Thread senderThread;
+
+    public SmsOutbox(SmsTransport transport, ScheduledJobRunner scheduledJobRunner) {
+        this.transport = transport;
+        this.scheduledJobRunner = scheduledJobRunner;
+    }
+
+    @PostConstruct
+    public void start() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+        rateLimiter = new TokenBucket(ratePerSecond, Math.max(ratePerSecond, batchSize));
+        running = true;
+        senderThread = Thread.ofPlatform().name("sms-outbox").daemon(true).start(this::runSender);
+        log.info("SMS 발송 대기열 시작: transport={}, ratePerSecond={}, batchSize={}",
+                transport.getClass().getSimpleName(), ratePerSecond, batchSize);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        // 대기 중인 메시지를 보낼 시간을 잠시 준 뒤 종료
+        senderThread.join(TimeUnit.SECONDS.toMillis(5));
+        senderThread.interrupt();
+        if (!queue.isEmpty() || !retries.isEmpty()) {
+            log.warn("SMS 발송 대기열 종료 시 미발송 메시지: {}건 (재시도 대기 {}건)", queue.size() + retries.size(), retries.size());
+        }
+    }
+
+    /**
+     * 발송 대기열에 메시지 추가
+     *
+     * @return 발송 상태 조회용 메시지 ID
+     * @throws IllegalStateException 대기열이 가득 찬 경우
+     */
+    public String enqueue(String phoneNumber, String text) {
+        SmsMessage message = new SmsMessage(phoneNumber, text);
+        messages.put(message.getMessageId(), message);
+        if (!queue.offer(message)) {
+            messages.remove(message.getMessageId());
+            throw new IllegalStateException("SMS 발송 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return message.getMessageId();
+    }
+
+    /**
+     * 메시지 발송 상태 조회 (보관 시간이 지난 메시지는 조회되지 않음)
+     */
+    public Optional<SmsMessage> getMessage(String messageId) {
+        return Optional.ofNullable(messages.get(messageId));
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    private void runSender() {
+        List<SmsMessage> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                // 재시도 시각이 된 메시지를 먼저 담고, 남은 자리는 새 메시지로 채움
+                RetryEntry retry;
+                while (batch.size() < batchSize && (retry = retries.poll()) != null) {
+                    batch.add(retry.message);
+                }
+                if (batch.isEmpty()) {
+                    SmsMessage first = queue.poll(pollTimeoutMs(), TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                queue.drainTo(batch, batchSize - batch.size());
+
+                rateLimiter.acquire(batch.size());
+                deliver(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (Exception e) {
+                log.error("SMS 발송 스레드 오류: {}", e.getMessage(), e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    // 다음 재시도 시각까지만 대기 (최대 1초)
+    private long pollTimeoutMs() {
+        RetryEntry next = retries.peek();
+        long untilRetry = next != null ? next.getDelay(TimeUnit.MILLISECONDS) : Long.MAX_VALUE;
+        return Math.max(0, Math.min(untilRetry, TimeUnit.SECONDS.toMillis(1)));
+    }
+
+    private void deliver(List<SmsMessage> batch) {
+        batch.forEach(SmsMessage::markAttempt);
+        Map<String, String> failures;
+        try {
+            failures = transport.send(batch);
+        } catch (Exception e) {
+            log.error("SMS 발송 실패: {}건, error={}", batch.size(), e.getMessage());
+            batch.forEach(message -> retryOrFail(message, e.getMessage()));
+            return;
+        }
+
+        int sent = 0;
+        for (SmsMessage message : batch) {
+            String failure = failures.get(message.getMessageId());
+            if (failure == null) {
+                message.markSent();
+                sent++;
+            } else {
+                retryOrFail(message, failure);
+            }
+        }
+        log.info("SMS 발송 완료: {}건, 실패: {}건", sent, batch.size() - sent);
+    }
+
+    private void retryOrFail(SmsMessage message, String error) {
+        message.recordError(error);
+        if (running && message.getAttempts() < maxAttempts) {
+            retries.add(new RetryEntry(message, retryDelayMs(message.getAttempts())));
+            return;
+        }
+        message.markFailed(error);
+        log.warn("SMS 최종 발송 실패: messageId={}, phoneNumber={}, attempts={}, error={}",
+                message.getMessageId(), message.getPhoneNumber(), message.getAttempts(), error);
+    }
+
+    // attempts회 시도 후의 재시도 대기 시간 (1회: initial, 2회: initial * 2, ..., 최대 retryMaxDelayMs)
+    private long retryDelayMs(int attempts) {
+        int shift = Math.min(attempts - 1, 20);
+        return Math.min(retryMaxDelayMs, retryInitialDelayMs << shift);
+    }
+
+    // 재시도 대기 중인 메시지 한 건
+    private static class RetryEntry implements Delayed {
+        private final SmsMessage message;
+        private final long dueNanos;
+
+        RetryEntry(SmsMessage message, long delayMs) {
+            this.message = message;
+            this.dueNanos = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(delayMs);
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueNanos - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(getDelay(TimeUnit.NANOSECONDS), other.getDelay(TimeUnit.NANOSECONDS));
+        }
+    }
+
+    // 주기적으로 보관 시간이 지난 발송 상태 정리 (서버 메모리의 상태이므로 서버마다 실행)
+    @Scheduled(fixedRate = 600000) // 10분마다 실행
+    public void cleanupCompletedMessages() {
+        scheduledJobRunner.runLocal("sms-status-cleanup", () -> {
+            LocalDateTime threshold = LocalDateTime.now().minusMinutes(statusRetentionMinutes);
+            messages.values().removeIf(message -> message.isCompleted() && message.getCompletedAt().isBefore(threshold));
+        });
+    }
+}
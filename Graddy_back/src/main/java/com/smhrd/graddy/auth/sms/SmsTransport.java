@@ -0,0 +1,19 @@
+package com.smhrd.graddy.auth.sms;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SMS 실제 발송 수단
+ * sms.transport 설정값으로 구현체를 선택함 (solapi, stub)
+ */
+public interface SmsTransport {
+
+    /**
+     * 메시지 목록을 한 번의 요청으로 발송
+     * 예외가 발생하면 목록 전체를 실패로 보고 재시도함
+     *
+     * @return 발송되지 않은 메시지의 실패 사유 (SmsMessage.messageId -> 사유, 모두 접수되면 빈 Map)
+     */
+    Map<String, String> send(List<SmsMessage> messages) throws Exception;
+}
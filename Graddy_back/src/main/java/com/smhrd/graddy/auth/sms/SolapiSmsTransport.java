@@ -0,0 +1,108 @@
+package com.smhrd.graddy.auth.sms;
+
+import lombok.extern.slf4j.Slf4j;
+import net.nurigo.sdk.message.exception.NurigoMessageNotReceivedException;
+import net.nurigo.sdk.message.model.FailedMessage;
+import net.nurigo.sdk.message.model.Message;
+import net.nurigo.sdk.message.request.SingleMessageSendingRequest;
+import net.nurigo.sdk.message.response.MultipleDetailMessageSentResponse;
+import net.nurigo.sdk.message.service.DefaultMessageService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * SOLAPI 발송 구현체
+ * 메시지 서비스 클라이언트는 한 번만 생성하여 재사용하고, 여러 건은 다건 발송 API로 보냄
+ * 다건 발송은 일부만 실패할 수 있으므로 응답의 failedMessageList를 메시지별 실패로 돌려줌
+ * (각 메시지의 customFields에 SmsMessage.messageId를 넣어 응답과 대조)
+ */
+@Component
+@ConditionalOnProperty(name = "sms.transport", havingValue = "solapi", matchIfMissing = true)
+@Slf4j
+public class SolapiSmsTransport implements SmsTransport {
+
+    private static final String MESSAGE_ID_FIELD = "graddyMessageId";
+
+    private final DefaultMessageService messageService;
+    private final String senderNumber;
+
+    public SolapiSmsTransport(@Value("${SOLAPI_API_KEY}") String apiKey,
+                              @Value("${SOLAPI_API_SECRET}") String apiSecret,
+                              @Value("${SOLAPI_SENDER_NUMBER}") String senderNumber) {
+        this.messageService = new DefaultMessageService(apiKey, apiSecret, "https://api.solapi.com");
+        this.senderNumber = senderNumber;
+    }
+
+    @Override
+    public Map<String, String> send(List<SmsMessage> messages) throws Exception {
+        if (messages.size() == 1) {
+            messageService.sendOne(new SingleMessageSendingRequest(toMessage(messages.get(0))));
+            return Map.of();
+        }
+
+        List<Message> smsMessages = new ArrayList<>(messages.size());
+        for (SmsMessage message : messages) {
+            smsMessages.add(toMessage(message));
+        }
+        try {
+            MultipleDetailMessageSentResponse response = messageService.send(smsMessages);
+            return toFailures(messages, response.getFailedMessageList());
+        } catch (NurigoMessageNotReceivedException e) {
+            // 모든 메시지가 접수되지 않은 경우에도 메시지별 사유를 남김
+            Map<String, String> failures = toFailures(messages, e.getFailedMessageList());
+            if (failures.isEmpty()) {
+                throw e;
+            }
+            return failures;
+        }
+    }
+
+    private Message toMessage(SmsMessage message) {
+        Message smsMessage = new Message();
+        smsMessage.setFrom(senderNumber);
+        smsMessage.setTo(message.getPhoneNumber());
+        smsMessage.setText(message.getText());
+        Map<String, String> customFields = new HashMap<>();
+        customFields.put(MESSAGE_ID_FIELD, message.getMessageId());
+        smsMessage.setCustomFields(customFields);
+        return smsMessage;
+    }
+
+    /**
+     * 실패 목록을 SmsMessage.messageId 기준으로 변환
+     * customFields가 없는 응답은 수신 번호로 대조함 (같은 번호의 메시지는 모두 실패로 처리)
+     */
+    private Map<String, String> toFailures(List<SmsMessage> messages, List<FailedMessage> failedMessages) {
+        Map<String, String> failures = new HashMap<>();
+        if (failedMessages == null || failedMessages.isEmpty()) {
+            return failures;
+        }
+        for (FailedMessage failed : failedMessages) {
+            String reason = failed.getStatusCode() + " " + failed.getStatusMessage();
+            Map<String, String> customFields = failed.getCustomFields();
+            String messageId = customFields != null ? customFields.get(MESSAGE_ID_FIELD) : null;
+            if (messageId != null) {
+                failures.put(messageId, reason);
+                continue;
+            }
+            String to = digits(failed.getTo());
+            for (SmsMessage message : messages) {
+                if (digits(message.getPhoneNumber()).equals(to)) {
+                    failures.put(message.getMessageId(), reason);
+                }
+            }
+        }
+        log.warn("SMS 다건 발송 중 일부 실패: {}건 중 {}건", messages.size(), failures.size());
+        return failures;
+    }
+
+    private static String digits(String phoneNumber) {
+        return phoneNumber == null ? "" : phoneNumber.replaceAll("[^0-9]", "");
+    }
+}
@@ -0,0 +1,36 @@
+package com.smhrd.graddy.auth.sms;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 초당 발송량 제한용 토큰 버킷
+ * 요청한 토큰이 부족하면 부족분이 채워질 때까지 대기함 (한 번에 버킷 용량보다 많이 요청해도 동작)
+ */
+class TokenBucket {
+
+    private final double capacity;
+    private final double tokensPerNano;
+    private double tokens;
+    private long lastRefillNanos;
+
+    TokenBucket(double ratePerSecond, double capacity) {
+        this.capacity = capacity;
+        this.tokensPerNano = ratePerSecond / TimeUnit.SECONDS.toNanos(1);
+        this.tokens = capacity;
+        this.lastRefillNanos = System.nanoTime();
+    }
+
+    synchronized void acquire(int permits) throws InterruptedException {
+        refill();
+        tokens -= permits;
+        if (tokens < 0) {
+            TimeUnit.NANOSECONDS.sleep((long) (-tokens / tokensPerNano));
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * tokensPerNano);
+        lastRefillNanos = now;
+    }
+}
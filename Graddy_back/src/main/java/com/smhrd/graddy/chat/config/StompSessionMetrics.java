@@ -0,0 +1,85 @@
+package com.smhrd.graddy.chat.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * STOMP 세션 지표
+ * 연결/해제 이벤트로 이 서버에 연결된 세션 수와 구독 수를 집계함
+ *
+ * - graddy.stomp.sessions: 현재 연결된 세션 수
+ * - graddy.stomp.subscriptions: 현재 세션들의 구독 수 합계 (세션 종료 시 함께 정리)
+ * - graddy.stomp.connections: 연결/해제 누적 횟수 (event 태그)
+ *
+ * 해제 이벤트는 한 세션에 여러 번 발생할 수 있으므로 세션 ID 집합으로 중복을 제외함
+ */
+@Component
+public class StompSessionMetrics {
+
+    // 세션 ID -> 구독 수
+    private final Map<String, Integer> sessions = new ConcurrentHashMap<>();
+    private final Counter connectedCounter;
+    private final Counter disconnectedCounter;
+
+    public StompSessionMetrics(MeterRegistry meterRegistry) {
+        Gauge.builder("graddy.stomp.sessions", sessions, Map::size)
+                .description("현재 연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("graddy.stomp.subscriptions", sessions,
+                        map -> map.values().stream().mapToInt(Integer::intValue).sum())
+                .description("현재 STOMP 구독 수")
+                .register(meterRegistry);
+        this.connectedCounter = Counter.builder("graddy.stomp.connections")
+                .tag("event", "connected")
+                .register(meterRegistry);
+        this.disconnectedCounter = Counter.builder("graddy.stomp.connections")
+                .tag("event", "disconnected")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null && sessions.putIfAbsent(sessionId, 0) == null) {
+            connectedCounter.increment();
+        }
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessions.computeIfPresent(sessionId, (id, count) -> count + 1);
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders());
+        if (sessionId != null) {
+            sessions.computeIfPresent(sessionId, (id, count) -> Math.max(0, count - 1));
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        if (sessions.remove(event.getSessionId()) != null) {
+            disconnectedCounter.increment();
+        }
+    }
+
+    public int getSessionCount() {
+        return sessions.size();
+    }
+}
@@ -1,6 +1,9 @@
 package com.smhrd.graddy.chat.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
@@ -19,6 +22,9 @@ import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerCo
 @EnableWebSocketMessageBroker
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
     /**
      * 메시지 브로커 설정
      * 
@@ -56,4 +62,31 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .setAllowedOriginPatterns("*")  // CORS 설정 (프로덕션에서는 특정 도메인만 허용 권장)
                 .withSockJS();                  // SockJS 지원 (WebSocket 폴백)
     }
+
+    /**
+     * 클라이언트 → 서버 메시지 채널 Executor 설정
+     * 가상 스레드 모드에서는 메시지마다 가상 스레드에서 처리 (기본값은 플랫폼 스레드 풀)
+     */
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (virtualThreadsEnabled) {
+            registration.executor(virtualThreadExecutor("stomp-inbound-"));
+        }
+    }
+
+    /**
+     * 서버 → 클라이언트 메시지 채널 Executor 설정
+     */
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (virtualThreadsEnabled) {
+            registration.executor(virtualThreadExecutor("stomp-outbound-"));
+        }
+    }
+
+    private SimpleAsyncTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        executor.setVirtualThreads(true);
+        return executor;
+    }
 }
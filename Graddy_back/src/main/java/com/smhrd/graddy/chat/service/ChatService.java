@@ -7,6 +7,8 @@ import com.smhrd.graddy.chat.repository.ChatMessageRepository;
 import com.smhrd.graddy.study.repository.StudyProjectMemberRepository;
 import com.smhrd.graddy.member.entity.Member;
 import com.smhrd.graddy.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -28,6 +30,8 @@ import org.springframework.data.domain.Sort;
  * - 스터디 멤버십 검증 (채팅 권한 확인)
  * - 발신자 정보 조회 (닉네임 등)
  * - 메시지 타입별 처리
+ *
+ * 메시지 처리 시간은 graddy.chat.message 타이머(type, outcome 태그)로 기록
  */
 @Service
 @RequiredArgsConstructor
@@ -37,6 +41,7 @@ public class ChatService {
     private final ChatMessageRepository chatMessageRepository;
     private final StudyProjectMemberRepository memberRepository;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
 
     /**
      * 클라이언트로부터 받은 채팅 메시지를 처리하고 저장
@@ -54,6 +59,25 @@ public class ChatService {
      */
     @Transactional
     public ChatMessageResponse processAndSaveMessage(Long studyProjectId, String userId, ChatMessageRequest request) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            ChatMessageResponse response = saveMessage(studyProjectId, userId, request);
+            outcome = "success";
+            return response;
+        } catch (IllegalArgumentException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("graddy.chat.message")
+                    .description("채팅 메시지 처리 시간 (멤버십 검증, 저장, 발신자 조회)")
+                    .tag("type", request.getMessageType() != null ? request.getMessageType().name().toLowerCase() : "unknown")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
+        }
+    }
+
+    private ChatMessageResponse saveMessage(Long studyProjectId, String userId, ChatMessageRequest request) {
         log.info("채팅 메시지 처리 시작: studyProjectId={}, userId={}, type={}", 
                 studyProjectId, userId, request.getMessageType());
         
@@ -5,6 +5,7 @@ import com.smhrd.graddy.comment.dto.CommentRequest;
 import com.smhrd.graddy.comment.dto.CommentResponse;
 import com.smhrd.graddy.comment.service.CommentService;
 import com.smhrd.graddy.security.jwt.JwtUtil;
+import com.smhrd.graddy.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -89,6 +90,7 @@ public class CommentController {
         description = "과제의 댓글 목록을 조회합니다. (닉네임, 작성일, 내용 포함)"
     )
     @GetMapping("/assignments/{assignmentId}")
+    @QueryBudget(2)
     public ResponseEntity<ApiResponse<List<CommentResponse>>> getAssignmentComments(
         @Parameter(description = "과제 ID") 
         @PathVariable Long assignmentId) {
@@ -134,6 +136,7 @@ public class CommentController {
         description = "자유게시판의 댓글 목록을 조회합니다. (닉네임, 작성일, 내용 포함)"
     )
     @GetMapping("/free-posts/{frPostId}")
+    @QueryBudget(2)
     public ResponseEntity<ApiResponse<List<CommentResponse>>> getFreePostComments(
         @Parameter(description = "자유게시판 ID") 
         @PathVariable Long frPostId) {
@@ -200,6 +203,7 @@ public class CommentController {
         description = "스터디게시판의 댓글 목록을 조회합니다. (닉네임, 작성일, 내용 포함)"
     )
     @GetMapping("/study-posts/{stPrPostId}")
+    @QueryBudget(2)
     public ResponseEntity<ApiResponse<List<CommentResponse>>> getStudyPostComments(
         @Parameter(description = "스터디게시판 ID") 
         @PathVariable Long stPrPostId) {
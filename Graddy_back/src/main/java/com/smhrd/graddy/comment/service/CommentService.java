@@ -4,6 +4,7 @@ import com.smhrd.graddy.comment.dto.CommentRequest;
 import com.smhrd.graddy.comment.dto.CommentResponse;
 import com.smhrd.graddy.comment.entity.Comment;
 import com.smhrd.graddy.comment.repository.CommentRepository;
+import com.smhrd.graddy.user.entity.User;
 import com.smhrd.graddy.user.repository.UserRepository;
 import com.smhrd.graddy.study.repository.StudyProjectMemberRepository;
 import com.smhrd.graddy.post.repository.PostRepository;
@@ -13,7 +14,9 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -274,12 +277,7 @@ public class CommentService {
         
         List<Comment> comments = commentRepository.findAllCommentsByAssignmentId(assignmentId);
         
-        List<CommentResponse> responses = comments.stream()
-                .map(comment -> {
-                    String nickname = getNicknameByUserId(comment.getUserId());
-                    return CommentResponse.from(comment, nickname);
-                })
-                .collect(Collectors.toList());
+        List<CommentResponse> responses = toResponses(comments);
         
         log.info("과제 댓글 목록 조회 완료: count={}", responses.size());
         return responses;
@@ -295,12 +293,7 @@ public class CommentService {
         
         List<Comment> comments = commentRepository.findAllCommentsByFrPostId(frPostId);
         
-        List<CommentResponse> responses = comments.stream()
-                .map(comment -> {
-                    String nickname = getNicknameByUserId(comment.getUserId());
-                    return CommentResponse.from(comment, nickname);
-                })
-                .collect(Collectors.toList());
+        List<CommentResponse> responses = toResponses(comments);
         
         log.info("자유게시판 댓글 목록 조회 완료: count={}", responses.size());
         return responses;
@@ -316,12 +309,7 @@ public class CommentService {
         
         List<Comment> comments = commentRepository.findAllCommentsByStPrPostId(stPrPostId);
         
-        List<CommentResponse> responses = comments.stream()
-                .map(comment -> {
-                    String nickname = getNicknameByUserId(comment.getUserId());
-                    return CommentResponse.from(comment, nickname);
-                })
-                .collect(Collectors.toList());
+        List<CommentResponse> responses = toResponses(comments);
         
         log.info("스터디게시판 댓글 목록 조회 완료: count={}", responses.size());
         return responses;
@@ -422,6 +410,31 @@ public class CommentService {
         return commentRepository.countCommentsByStPrPostId(stPrPostId);
     }
 
+    /**
+     * 댓글 목록을 응답 DTO로 변환 (작성자 닉네임은 한 번에 조회)
+     */
+    private List<CommentResponse> toResponses(List<Comment> comments) {
+        Map<String, String> nicknames = getNicknamesByUserIds(comments.stream()
+                .map(Comment::getUserId)
+                .collect(Collectors.toSet()));
+        return comments.stream()
+                .map(comment -> CommentResponse.from(comment, nicknames.getOrDefault(comment.getUserId(), "알 수 없음")))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 여러 사용자의 닉네임을 한 번에 조회 (댓글마다 사용자를 조회하지 않도록 함)
+     * @param userIds 사용자 ID 목록
+     * @return 사용자 ID -> 닉네임, 조회되지 않은 사용자는 포함되지 않음
+     */
+    private Map<String, String> getNicknamesByUserIds(Set<String> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, User::getNick));
+    }
+
     /**
      * 사용자 ID를 통해 닉네임을 조회
      * @param userId 사용자 ID
@@ -0,0 +1,99 @@
+package com.smhrd.graddy.config;
+
+import com.smhrd.graddy.datasource.BackgroundWork;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 비동기 작업용 Executor 설정
+ * 두 Executor의 작업은 BackgroundWork로 표시되어 DB 커넥션을 background 풀에서 얻음
+ */
+@Configuration
+@Slf4j
+public class AsyncConfig {
+
+    @Value("${feedback.batch.parallelism:8}")
+    private int feedbackParallelism;
+
+    @Value("${feedback.executor.queue-wait-ms:5000}")
+    private long feedbackQueueWaitMs;
+
+    @Value("${schedule.reminder.dispatch.parallelism:4}")
+    private int reminderParallelism;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreadsEnabled;
+
+    /**
+     * AI 피드백 생성용 Executor
+     * FastAPI 서버로의 동시 요청 수를 feedback.batch.parallelism으로 제한
+     * 가상 스레드 모드에서는 작업마다 가상 스레드를 생성하고, 한도에 닿으면 플랫폼 모드와 같이
+     * feedback.executor.queue-wait-ms까지 기다린 뒤 거부함
+     */
+    @Bean(name = "feedbackExecutor")
+    public AsyncTaskExecutor feedbackExecutor() {
+        if (virtualThreadsEnabled) {
+            log.info("AI 피드백 Executor 생성 (가상 스레드): concurrencyLimit={}, waitMs={}",
+                    feedbackParallelism, feedbackQueueWaitMs);
+            return VirtualThreadBulkheadExecutor.rejecting("ai-feedback-", feedbackParallelism, feedbackQueueWaitMs);
+        }
+
+        log.info("AI 피드백 Executor 생성: parallelism={}", feedbackParallelism);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(feedbackParallelism);
+        executor.setMaxPoolSize(feedbackParallelism);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("ai-feedback-");
+        executor.setTaskDecorator(BackgroundWork::wrap);
+        // 큐가 가득 차면 자리가 날 때까지 feedback.executor.queue-wait-ms만큼 기다리고, 그래도 없으면 거부
+        // (호출 스레드에서 실행하면 요청 스레드가 AI 호출 동안 묶이고 동시 요청 수 제한도 깨짐)
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            try {
+                if (!pool.isShutdown() && pool.getQueue().offer(task, feedbackQueueWaitMs, TimeUnit.MILLISECONDS)) {
+                    return;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            throw new RejectedExecutionException("AI 피드백 작업 큐가 가득 찼습니다.");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 일정 알림 파티션 처리용 Executor
+     * 파티션마다 DB 조회/갱신을 하므로 동시 실행 수를 schedule.reminder.dispatch.parallelism으로 제한 (background 커넥션 풀보다 작게)
+     * 가상 스레드 모드에서도 발송 스레드는 기다리지 않고, 배치마다 만든 가상 스레드가 자리를 기다림
+     */
+    @Bean(name = "reminderExecutor")
+    public AsyncTaskExecutor reminderExecutor() {
+        if (virtualThreadsEnabled) {
+            log.info("일정 알림 Executor 생성 (가상 스레드): concurrencyLimit={}", reminderParallelism);
+            return VirtualThreadBulkheadExecutor.queueing("schedule-dispatch-", reminderParallelism);
+        }
+
+        log.info("일정 알림 Executor 생성: parallelism={}", reminderParallelism);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(reminderParallelism);
+        executor.setMaxPoolSize(reminderParallelism);
+        // 파티션 배치는 모두 큐에 넣고 먼저 끝난 스레드가 다음 배치를 가져가도록 큐 크기를 제한하지 않음
+        executor.setThreadNamePrefix("schedule-dispatch-");
+        executor.setTaskDecorator(BackgroundWork::wrap);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,103 @@
+package com.smhrd.graddy.config;
+
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 통계 조회
+ * 영역별 적중/미스/저장 수와 메모리 보관 항목 수를 제공하며, 통계 수집이 켜져 있으면
+ * (hibernate.generate_statistics=true) cache.statistics.log-interval-ms 주기로 로그를 남김
+ */
+@Component
+@Slf4j
+public class HibernateCacheStatistics {
+
+    private final Statistics statistics;
+    private final ScheduledJobRunner scheduledJobRunner;
+
+    public HibernateCacheStatistics(EntityManagerFactory entityManagerFactory, ScheduledJobRunner scheduledJobRunner) {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.scheduledJobRunner = scheduledJobRunner;
+    }
+
+    /**
+     * 캐시 영역 통계
+     *
+     * @param elementCount 서버 메모리에 보관 중인 항목 수 (제공자가 지원하지 않으면 -1)
+     */
+    public record RegionStats(String region, long hitCount, long missCount, long putCount, long elementCount) {
+
+        public double getHitRatio() {
+            long total = hitCount + missCount;
+            return total == 0 ? 0.0 : (double) hitCount / total;
+        }
+    }
+
+    public boolean isEnabled() {
+        return statistics.isStatisticsEnabled();
+    }
+
+    /**
+     * 2차 캐시 영역(엔티티, 컬렉션, 쿼리 결과)별 통계
+     */
+    public List<RegionStats> getRegionStats() {
+        List<RegionStats> result = new ArrayList<>();
+        String[] regionNames = statistics.getSecondLevelCacheRegionNames();
+        Arrays.sort(regionNames);
+        for (String regionName : regionNames) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(regionName);
+            if (region != null) {
+                result.add(new RegionStats(regionName, region.getHitCount(), region.getMissCount(),
+                        region.getPutCount(), region.getElementCountInMemory()));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 쿼리 캐시 전체 통계 (결과 영역 적중/미스, 무효화 기준인 테이블 변경 시각 영역 포함)
+     */
+    public RegionStats getQueryCacheStats() {
+        return new RegionStats("query-cache", statistics.getQueryCacheHitCount(),
+                statistics.getQueryCacheMissCount(), statistics.getQueryCachePutCount(), -1);
+    }
+
+    /**
+     * 전체 2차 캐시 통계
+     */
+    public RegionStats getSecondLevelCacheStats() {
+        return new RegionStats("second-level-cache", statistics.getSecondLevelCacheHitCount(),
+                statistics.getSecondLevelCacheMissCount(), statistics.getSecondLevelCachePutCount(), -1);
+    }
+
+    // 주기적으로 영역별 통계 로그 출력 (서버 메모리의 캐시이므로 서버마다 실행)
+    @Scheduled(fixedDelayString = "${cache.statistics.log-interval-ms:300000}",
+            initialDelayString = "${cache.statistics.log-interval-ms:300000}")
+    public void logStatistics() {
+        if (!isEnabled()) {
+            return;
+        }
+        scheduledJobRunner.runLocal("cache-statistics-log", () -> {
+            RegionStats total = getSecondLevelCacheStats();
+            RegionStats query = getQueryCacheStats();
+            log.info("2차 캐시 통계: hit={}, miss={}, put={}, hitRatio={} / 쿼리 캐시: hit={}, miss={}, hitRatio={}",
+                    total.hitCount(), total.missCount(), total.putCount(), String.format("%.2f", total.getHitRatio()),
+                    query.hitCount(), query.missCount(), String.format("%.2f", query.getHitRatio()));
+            for (RegionStats region : getRegionStats()) {
+                log.info("  영역 {}: hit={}, miss={}, put={}, elements={}, hitRatio={}",
+                        region.region(), region.hitCount(), region.missCount(), region.putCount(),
+                        region.elementCount(), String.format("%.2f", region.getHitRatio()));
+            }
+        });
+    }
+}
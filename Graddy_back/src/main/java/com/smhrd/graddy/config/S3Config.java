@@ -9,6 +9,8 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
 import java.net.URI;
 
@@ -79,4 +81,37 @@ public class S3Config {
                 .forcePathStyle(true) // LocalStack에서는 path-style 접근 필요
                 .build();
     }
+
+    /**
+     * 실제 AWS S3용 Presigned URL 생성기 (production, staging 환경)
+     */
+    @Bean
+    @Profile({"prod", "staging", "default"})
+    public S3Presigner s3Presigner() {
+        return S3Presigner.builder()
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)))
+                .build();
+    }
+
+    /**
+     * LocalStack용 Presigned URL 생성기 (development, test 환경)
+     */
+    @Bean
+    @Profile({"dev", "test", "local"})
+    public S3Presigner localStackS3Presigner() {
+        String localAccessKey = (accessKey != null && !accessKey.isEmpty()) ? accessKey : "test";
+        String localSecretKey = (secretKey != null && !secretKey.isEmpty()) ? secretKey : "test";
+
+        return S3Presigner.builder()
+                .endpointOverride(URI.create(endpoint.isEmpty() ? "https://s3.ap-northeast-1.amazonaws.com" : endpoint))
+                .region(Region.of(region))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(localAccessKey, localSecretKey)))
+                .serviceConfiguration(S3Configuration.builder()
+                        .pathStyleAccessEnabled(true) // LocalStack에서는 path-style 접근 필요
+                        .build())
+                .build();
+    }
 }
@@ -0,0 +1,86 @@
+package com.smhrd.graddy.config;
+
+import com.smhrd.graddy.datasource.BackgroundWork;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 실행 수를 제한하는 가상 스레드 Executor (벌크헤드)
+ * SimpleAsyncTaskExecutor.setConcurrencyLimit은 한도에 닿으면 execute()를 호출한 스레드를 기한 없이 멈추므로 Semaphore로 대신 제한함
+ *
+ * - rejecting: 호출 스레드가 최대 admissionWaitMs 동안 자리를 기다리고, 그래도 없으면 TaskRejectedException
+ *   (플랫폼 모드의 큐 대기 후 거부와 같음)
+ * - queueing: 호출 스레드는 기다리지 않고 작업마다 만든 가상 스레드가 자리를 기다림
+ *   (플랫폼 모드의 크기 제한 없는 큐와 같음)
+ */
+class VirtualThreadBulkheadExecutor implements AsyncTaskExecutor, AutoCloseable {
+
+    private final SimpleAsyncTaskExecutor delegate;
+    private final Semaphore permits;
+    private final String name;
+    // 0 이상이면 호출 스레드의 최대 대기 시간, 음수면 가상 스레드 안에서 대기
+    private final long admissionWaitMs;
+
+    private VirtualThreadBulkheadExecutor(String threadNamePrefix, int concurrencyLimit, long admissionWaitMs) {
+        this.delegate = new SimpleAsyncTaskExecutor(threadNamePrefix);
+        this.delegate.setVirtualThreads(true);
+        this.delegate.setTaskDecorator(BackgroundWork::wrap);
+        this.permits = new Semaphore(concurrencyLimit);
+        this.name = threadNamePrefix;
+        this.admissionWaitMs = admissionWaitMs;
+    }
+
+    static VirtualThreadBulkheadExecutor rejecting(String threadNamePrefix, int concurrencyLimit, long admissionWaitMs) {
+        return new VirtualThreadBulkheadExecutor(threadNamePrefix, concurrencyLimit, Math.max(0, admissionWaitMs));
+    }
+
+    static VirtualThreadBulkheadExecutor queueing(String threadNamePrefix, int concurrencyLimit) {
+        return new VirtualThreadBulkheadExecutor(threadNamePrefix, concurrencyLimit, -1);
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (admissionWaitMs < 0) {
+            delegate.execute(() -> {
+                permits.acquireUninterruptibly();
+                runAndRelease(task);
+            });
+            return;
+        }
+
+        boolean acquired;
+        try {
+            acquired = permits.tryAcquire(admissionWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new TaskRejectedException(name + " 동시 실행 한도에 도달하여 작업을 거부합니다.");
+        }
+
+        try {
+            delegate.execute(() -> runAndRelease(task));
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    private void runAndRelease(Runnable task) {
+        try {
+            task.run();
+        } finally {
+            permits.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
@@ -1,11 +1,15 @@
 package com.smhrd.graddy.config;
 
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.net.http.HttpClient;
+import java.time.Duration;
+
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
@@ -21,8 +25,21 @@ public class WebConfig implements WebMvcConfigurer {
                 .maxAge(3600); // preflight 요청 캐시 시간 (초)
     }
 
+    /**
+     * RestTemplateBuilder로 만들어야 호출마다 http.client.requests 지표(AI 서버, OpenAI 응답 시간)가 기록됨
+     */
+    @Bean
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder.build();
+    }
+
+    /**
+     * 스트리밍(SSE) 업스트림 호출용 논블로킹 HTTP 클라이언트
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplate();
+    public HttpClient httpClient() {
+        return HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .build();
     }
 }
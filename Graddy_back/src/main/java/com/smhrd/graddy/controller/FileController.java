@@ -1,8 +1,11 @@
 package com.smhrd.graddy.controller;
 
 import com.smhrd.graddy.api.dto.ApiResponse;
+import com.smhrd.graddy.security.jwt.JwtUtil;
 import com.smhrd.graddy.service.FileService;
+import com.smhrd.graddy.service.LocalFileDownloadService;
 import com.smhrd.graddy.service.LocalFileService;
+import com.smhrd.graddy.service.S3FileService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -11,21 +14,15 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.ApplicationContext;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.InitializingBean;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
-import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import java.io.IOException;
-import java.net.MalformedURLException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -45,6 +42,8 @@ public class FileController implements InitializingBean {
 
     private FileService fileService;
     private final LocalFileService localFileService;
+    private final LocalFileDownloadService localFileDownloadService;
+    private final JwtUtil jwtUtil;
 
     @Value("${file.storage.type:local}")
     private String storageType;
@@ -55,8 +54,11 @@ public class FileController implements InitializingBean {
     @Autowired
     private ApplicationContext applicationContext;
 
-    public FileController(LocalFileService localFileService) {
+    public FileController(LocalFileService localFileService, LocalFileDownloadService localFileDownloadService,
+                          JwtUtil jwtUtil) {
         this.localFileService = localFileService;
+        this.localFileDownloadService = localFileDownloadService;
+        this.jwtUtil = jwtUtil;
     }
 
     @Override
@@ -70,9 +72,6 @@ public class FileController implements InitializingBean {
         }
     }
 
-    @Value("${file.upload.path:uploads}")
-    private String uploadPath;
-
     /**
      * 과제 제출용 파일 업로드
      */
@@ -133,90 +132,114 @@ public class FileController implements InitializingBean {
         }
     }
 
+    /**
+     * S3 직접 업로드 시작 - Presigned PUT URL 발급
+     */
+    @PostMapping("/upload/presigned")
+    @Operation(summary = "직접 업로드 URL 발급", 
+              description = "브라우저가 S3에 파일을 직접 업로드할 수 있는 Presigned PUT URL을 발급합니다.\n\n" +
+                           "• 폴더: assignments, general\n" +
+                           "• 응답의 uploadUrl로 headers를 모두 포함하여 PUT 요청 후 /files/upload/complete 호출\n" +
+                           "• 완료 확인은 URL을 발급받은 사용자만 가능 (JWT 필요)\n" +
+                           "• S3 스토리지 사용 시에만 지원")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> createPresignedUpload(
+            @Parameter(description = "원본 파일명")
+            @RequestParam("fileName") String fileName,
+            @Parameter(description = "파일 MIME 타입")
+            @RequestParam(value = "contentType", required = false) String contentType,
+            @Parameter(description = "파일 크기 (bytes)")
+            @RequestParam("size") long size,
+            @Parameter(description = "저장할 폴더명 (assignments 또는 general)")
+            @RequestParam(value = "folder", defaultValue = "general") String folder,
+            @Parameter(description = "JWT 토큰", example = "Bearer eyJhbGciOiJIUzI1NiJ9...")
+            @RequestHeader("Authorization") String authorization) {
+
+        if (!(fileService instanceof S3FileService s3FileService)) {
+            return ApiResponse.error(HttpStatus.BAD_REQUEST, "직접 업로드는 S3 스토리지에서만 지원됩니다.", null);
+        }
+
+        String userId = extractUserId(authorization);
+        if (userId == null) {
+            return ApiResponse.error(HttpStatus.UNAUTHORIZED, "JWT 토큰이 유효하지 않습니다.", null);
+        }
+
+        try {
+            Map<String, Object> response = s3FileService.createPresignedUpload(userId, folder, fileName, contentType, size);
+            return ApiResponse.success("업로드 URL이 발급되었습니다.", response);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(HttpStatus.BAD_REQUEST, e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("업로드 URL 발급 실패: {}/{}", folder, fileName, e);
+            return ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR, 
+                "업로드 URL 발급에 실패했습니다: " + e.getMessage(), null);
+        }
+    }
+
+    /**
+     * S3 직접 업로드 완료 확인
+     */
+    @PostMapping("/upload/complete")
+    @Operation(summary = "직접 업로드 완료", 
+              description = "Presigned URL로 업로드한 객체를 확인하고 파일 URL과 메타데이터를 반환합니다.\n\n" +
+                           "URL을 발급받은 사용자가 아니면 403을 반환합니다.")
+    public ResponseEntity<ApiResponse<Map<String, Object>>> completePresignedUpload(
+            @Parameter(description = "업로드 URL 발급 시 받은 객체 키")
+            @RequestParam("key") String key,
+            @Parameter(description = "JWT 토큰", example = "Bearer eyJhbGciOiJIUzI1NiJ9...")
+            @RequestHeader("Authorization") String authorization) {
+
+        if (!(fileService instanceof S3FileService s3FileService)) {
+            return ApiResponse.error(HttpStatus.BAD_REQUEST, "직접 업로드는 S3 스토리지에서만 지원됩니다.", null);
+        }
+
+        String userId = extractUserId(authorization);
+        if (userId == null) {
+            return ApiResponse.error(HttpStatus.UNAUTHORIZED, "JWT 토큰이 유효하지 않습니다.", null);
+        }
+
+        try {
+            Map<String, Object> response = s3FileService.completePresignedUpload(userId, key);
+            response.put("storageType", storageType);
+            return ApiResponse.success("파일이 성공적으로 업로드되었습니다.", response);
+        } catch (SecurityException e) {
+            return ApiResponse.error(HttpStatus.FORBIDDEN, e.getMessage(), null);
+        } catch (IllegalArgumentException e) {
+            return ApiResponse.error(HttpStatus.BAD_REQUEST, e.getMessage(), null);
+        } catch (Exception e) {
+            log.error("직접 업로드 완료 처리 실패: {}", key, e);
+            return ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR, 
+                "업로드 완료 처리에 실패했습니다: " + e.getMessage(), null);
+        }
+    }
+
     /**
      * 파일 다운로드/조회
+     * - 로컬 스토리지: ETag/Last-Modified 조건부 요청과 Range 요청을 지원하며 sendfile/transferTo로 전송
+     * - S3 스토리지: Presigned URL로 리다이렉트하여 객체 바이트가 백엔드를 거치지 않음
      */
     @GetMapping("/{folder}/{fileName}")
     @Operation(summary = "파일 다운로드", 
-              description = "업로드된 파일을 다운로드하거나 조회합니다.")
-    public ResponseEntity<Resource> downloadFile(
+              description = "업로드된 파일을 다운로드하거나 조회합니다.\n\n" +
+                           "• Range / If-Range 요청 시 206 Partial Content 응답\n" +
+                           "• If-None-Match / If-Modified-Since 요청 시 304 Not Modified 응답\n" +
+                           "• S3 스토리지는 Presigned URL로 302 리다이렉트")
+    public void downloadFile(
             @Parameter(description = "폴더명")
             @PathVariable String folder,
             @Parameter(description = "파일명")
             @PathVariable String fileName,
-            HttpServletRequest request) {
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
         
-        try {
-            log.info("🔍 [DEBUG] 파일 다운로드 요청: {}/{}", folder, fileName);
-            log.info("🔍 [DEBUG] 요청 URL: {}", request.getRequestURL());
-            log.info("🔍 [DEBUG] 요청 URI: {}", request.getRequestURI());
-            log.info("🔍 [DEBUG] 컨텍스트 패스: {}", request.getContextPath());
-            log.info("🔍 [DEBUG] 스토리지 타입: {}", storageType);
-            log.info("🔍 [DEBUG] 업로드 경로: {}", uploadPath);
-            log.info("🔍 [DEBUG] 현재 작업 디렉토리: {}", System.getProperty("user.dir"));
-            
-            Path filePath = Paths.get(uploadPath).resolve(folder).resolve(fileName);
-            log.info("🔍 [DEBUG] 파일 전체 경로: {}", filePath.toAbsolutePath());
-            log.info("🔍 [DEBUG] 파일 존재 여부: {}", Files.exists(filePath));
-            log.info("🔍 [DEBUG] 파일 읽기 가능 여부: {}", Files.isReadable(filePath));
-            
-            if (Files.exists(filePath)) {
-                log.info("🔍 [DEBUG] 파일 크기: {} bytes", Files.size(filePath));
-                log.info("🔍 [DEBUG] 파일 마지막 수정일: {}", Files.getLastModifiedTime(filePath));
-                try {
-                    log.info("🔍 [DEBUG] 파일 권한: {}", Files.getPosixFilePermissions(filePath));
-                } catch (UnsupportedOperationException e) {
-                    log.info("🔍 [DEBUG] POSIX 권한 확인 불가 (Windows 환경)");
-                }
-            }
-            
-            Resource resource = new UrlResource(filePath.toUri());
-            log.info("🔍 [DEBUG] Resource 생성 완료: {}", resource.getURI());
-            
-            if (!resource.exists() || !resource.isReadable()) {
-                log.warn("❌ [DEBUG] 파일을 찾을 수 없거나 읽을 수 없습니다: {}", filePath);
-                log.warn("❌ [DEBUG] Resource exists: {}, isReadable: {}", resource.exists(), resource.isReadable());
-                
-                // 추가 진단 정보
-                if (!Files.exists(filePath)) {
-                    log.error("💥 [DEBUG] 물리적 파일이 존재하지 않음: {}", filePath.toAbsolutePath());
-                } else if (!Files.isReadable(filePath)) {
-                    log.error("💥 [DEBUG] 파일 읽기 권한 없음: {}", filePath.toAbsolutePath());
-                } else {
-                    log.error("💥 [DEBUG] Resource 생성 문제: {}", resource.getURI());
-                }
-                
-                return ResponseEntity.notFound().build();
-            }
-            
-            // 파일의 MIME 타입 결정
-            String contentType;
-            try {
-                contentType = Files.probeContentType(filePath);
-                if (contentType == null) {
-                    contentType = "application/octet-stream";
-                }
-                log.info("🔍 [DEBUG] 감지된 Content-Type: {}", contentType);
-            } catch (IOException e) {
-                contentType = "application/octet-stream";
-                log.warn("🔍 [DEBUG] Content-Type 감지 실패, 기본값 사용: {}", contentType);
-            }
-            
-            log.info("✅ [DEBUG] 파일 서빙 준비 완료: {}", fileName);
-            
-            return ResponseEntity.ok()
-                    .contentType(MediaType.parseMediaType(contentType))
-                    .header(HttpHeaders.CONTENT_DISPOSITION, 
-                           "inline; filename=\"" + resource.getFilename() + "\"")
-                    .body(resource);
-                    
-        } catch (MalformedURLException e) {
-            log.error("💥 [DEBUG] MalformedURLException 파일 다운로드 실패: {}/{}", folder, fileName, e);
-            return ResponseEntity.badRequest().build();
-        } catch (Exception e) {
-            log.error("💥 [DEBUG] 예상치 못한 오류 발생: {}/{}", folder, fileName, e);
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
+        log.debug("파일 다운로드 요청: {}/{} (스토리지 타입: {})", folder, fileName, storageType);
+
+        if (fileService instanceof S3FileService s3FileService) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            response.sendRedirect(s3FileService.generatePresignedDownloadUrl(folder, fileName));
+            return;
         }
+
+        localFileDownloadService.serve(folder, fileName, request, response);
     }
 
     /**
@@ -246,4 +269,17 @@ public class FileController implements InitializingBean {
                 "파일 삭제에 실패했습니다: " + e.getMessage(), fileUrl);
         }
     }
+
+    /**
+     * Authorization 헤더의 JWT 토큰에서 사용자 ID 추출 (유효하지 않으면 null)
+     */
+    private String extractUserId(String authorization) {
+        try {
+            String token = authorization.replace("Bearer ", "");
+            return jwtUtil.extractUserId(token);
+        } catch (Exception e) {
+            log.warn("JWT 토큰 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
 }
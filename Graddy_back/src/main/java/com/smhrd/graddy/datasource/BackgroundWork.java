@@ -0,0 +1,51 @@
+package com.smhrd.graddy.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 백그라운드 작업 표시
+ * 스케줄 작업, 알림 발송, AI 피드백 생성처럼 요청 처리 스레드가 아닌 곳에서 실행되는 작업을 스레드에 표시하여
+ * 이 작업이 얻는 DB 커넥션은 background 풀에서 가져오도록 함 (WorkloadRoutingDataSource)
+ *
+ * 작업 실행기에는 taskDecorator를 등록하고, 직접 만든 스케줄러에는 wrap으로 감싼 작업을 넘김
+ */
+public final class BackgroundWork {
+
+    private static final ThreadLocal<Boolean> ACTIVE = new ThreadLocal<>();
+
+    private BackgroundWork() {
+    }
+
+    public static boolean isActive() {
+        return Boolean.TRUE.equals(ACTIVE.get());
+    }
+
+    /**
+     * 백그라운드 작업으로 실행 (이미 백그라운드 작업 안이면 그대로 실행)
+     */
+    public static <T> T call(Supplier<T> task) {
+        if (isActive()) {
+            return task.get();
+        }
+        ACTIVE.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            ACTIVE.remove();
+        }
+    }
+
+    public static void run(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 실행 시 백그라운드 작업으로 표시되는 Runnable (TaskDecorator로도 사용)
+     */
+    public static Runnable wrap(Runnable task) {
+        return () -> run(task);
+    }
+}
@@ -0,0 +1,204 @@
+package com.smhrd.graddy.datasource;
+
+import com.smhrd.graddy.sql.SqlCallSite;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 커넥션 점유 추적 (장시간 점유, 누수 의심)
+ * 풀에서 꺼낸 커넥션을 감싸서 커넥션을 얻은 호출 위치(첫 애플리케이션 메서드, "FeedbackService.generateFeedback")와
+ * 스레드를 기록하고, 반납될 때까지의 점유 시간을 확인함
+ *
+ * - 반납 시 long-hold-threshold-ms 이상 점유했으면 WARN 로그와 graddy.datasource.connection.long_hold(pool, call_site)
+ * - 점유 중 long-hold-threshold-ms를 넘으면 점유 스레드의 현재 스택을 한 번 기록 (트랜잭션 안의 외부 호출 등을 확인)
+ * - 점유 중 leak-threshold-ms를 넘으면 ERROR 로그와 graddy.datasource.connection.leak(pool, call_site)
+ *
+ * 점유 중 확인(checkHolds)은 ConnectionPoolMonitor가 주기적으로 실행함
+ */
+@Slf4j
+public class ConnectionHoldTracker {
+
+    private static final String APPLICATION_PACKAGE = "com.smhrd.graddy.";
+    private static final String DATASOURCE_PACKAGE = "com.smhrd.graddy.datasource.";
+    private static final String SQL_PACKAGE = "com.smhrd.graddy.sql.";
+    private static final int LOGGED_STACK_DEPTH = 25;
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    // DataSource 생성 시점에 MeterRegistry를 미리 만들지 않도록 지연 조회
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+    private final boolean enabled;
+    private final long longHoldThresholdMs;
+    private final long leakThresholdMs;
+
+    private final Set<Hold> holds = ConcurrentHashMap.newKeySet();
+
+    // 커넥션 하나의 점유 정보 (reported: 점유 중 기록한 단계, 0: 없음, 1: 장시간 점유, 2: 누수 의심)
+    static class Hold {
+        private final String pool;
+        private final String callSite;
+        private final Thread thread;
+        private final long acquiredAtNanos = System.nanoTime();
+        private volatile int reported;
+
+        Hold(String pool, String callSite, Thread thread) {
+            this.pool = pool;
+            this.callSite = callSite;
+            this.thread = thread;
+        }
+
+        long heldMs() {
+            return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - acquiredAtNanos);
+        }
+    }
+
+    ConnectionHoldTracker(ObjectProvider<MeterRegistry> meterRegistryProvider, boolean enabled,
+                          long longHoldThresholdMs, long leakThresholdMs) {
+        this.meterRegistryProvider = meterRegistryProvider;
+        this.enabled = enabled;
+        this.longHoldThresholdMs = longHoldThresholdMs;
+        this.leakThresholdMs = leakThresholdMs;
+    }
+
+    /**
+     * 풀에서 꺼낸 커넥션을 점유 추적 대상으로 등록
+     *
+     * @param pool 커넥션 풀 이름 (request, background, replica-N)
+     */
+    Connection track(String pool, Connection connection) {
+        if (!enabled) {
+            return connection;
+        }
+        Hold hold = new Hold(pool, callSite(), Thread.currentThread());
+        holds.add(hold);
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class}, new TrackedConnection(connection, hold));
+    }
+
+    /**
+     * 점유 중인 커넥션 확인 (장시간 점유 스택 기록, 누수 의심 보고)
+     */
+    void checkHolds() {
+        for (Hold hold : holds) {
+            long heldMs = hold.heldMs();
+            if (heldMs >= leakThresholdMs && hold.reported < 2) {
+                hold.reported = 2;
+                log.error("DB 커넥션 누수 의심: pool={}, callSite={}, thread={}, heldMs={}, 현재 스택:{}",
+                        hold.pool, hold.callSite, hold.thread.getName(), heldMs, stackOf(hold.thread));
+                increment("graddy.datasource.connection.leak", "반납되지 않고 leak-threshold-ms를 넘긴 커넥션 수", hold);
+            } else if (heldMs >= longHoldThresholdMs && hold.reported < 1) {
+                hold.reported = 1;
+                log.warn("DB 커넥션 장시간 점유 중: pool={}, callSite={}, thread={}, heldMs={}, 현재 스택:{}",
+                        hold.pool, hold.callSite, hold.thread.getName(), heldMs, stackOf(hold.thread));
+            }
+        }
+    }
+
+    private void release(Hold hold) {
+        if (!holds.remove(hold)) {
+            return;
+        }
+        long heldMs = hold.heldMs();
+        if (heldMs >= longHoldThresholdMs) {
+            log.warn("DB 커넥션 장시간 점유 후 반납: pool={}, callSite={}, thread={}, heldMs={}, thresholdMs={}",
+                    hold.pool, hold.callSite, hold.thread.getName(), heldMs, longHoldThresholdMs);
+            increment("graddy.datasource.connection.long_hold", "long-hold-threshold-ms 이상 점유 후 반납된 커넥션 수", hold);
+        }
+    }
+
+    private void increment(String name, String description, Hold hold) {
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder(name)
+                .description(description)
+                .tag("pool", hold.pool)
+                .tag("call_site", hold.callSite)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    // 커넥션을 얻은 첫 애플리케이션 메서드 (DataSource/SQL 계측 클래스와 CGLIB 프록시는 제외, 지표 태그 수를 위해 줄 번호 제외)
+    private static String callSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(ConnectionHoldTracker::isApplicationFrame)
+                .findFirst()
+                .map(frame -> simpleName(frame.getClassName()) + "." + methodName(frame.getMethodName()))
+                .orElse(SqlCallSite.UNKNOWN));
+    }
+
+    private static boolean isApplicationFrame(StackWalker.StackFrame frame) {
+        String className = frame.getClassName();
+        return className.startsWith(APPLICATION_PACKAGE)
+                && !className.startsWith(DATASOURCE_PACKAGE)
+                && !className.startsWith(SQL_PACKAGE)
+                && !className.contains("$$");
+    }
+
+    private static String simpleName(String className) {
+        return className.substring(className.lastIndexOf('.') + 1);
+    }
+
+    // 람다 본문은 감싼 메서드 이름으로 표시 (lambda$generateFeedbackBatch$3 -> generateFeedbackBatch)
+    private static String methodName(String methodName) {
+        if (methodName.startsWith("lambda$")) {
+            int end = methodName.indexOf('$', "lambda$".length());
+            return end > 0 ? methodName.substring("lambda$".length(), end) : methodName;
+        }
+        return methodName;
+    }
+
+    private static String stackOf(Thread thread) {
+        return Arrays.stream(thread.getStackTrace())
+                .limit(LOGGED_STACK_DEPTH)
+                .map(element -> "\n\tat " + element)
+                .collect(Collectors.joining());
+    }
+
+    // close 호출 시 점유 기록을 정리하는 커넥션 프록시 (그 밖의 호출은 그대로 위임)
+    private class TrackedConnection implements InvocationHandler {
+
+        private final Connection target;
+        private final Hold hold;
+
+        TrackedConnection(Connection target, Hold hold) {
+            this.target = target;
+            this.hold = hold;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Tracked[" + hold.pool + "] " + target;
+                case "close":
+                    release(hold);
+                    break;
+                default:
+                    break;
+            }
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getTargetException();
+            }
+        }
+    }
+}
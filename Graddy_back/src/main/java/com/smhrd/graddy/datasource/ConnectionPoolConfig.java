@@ -0,0 +1,118 @@
+package com.smhrd.graddy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.SQLException;
+
+/**
+ * 커넥션 풀 설정 (scripts/README_CONNECTION_POOL.md)
+ * 주 DB 풀을 요청 처리용(request)과 백그라운드 작업용(background)으로 나누어 WorkloadRoutingDataSource로 묶고,
+ * datasource.replica.urls가 있으면 그 바깥에 읽기 복제본 라우팅(ReplicaRoutingDataSource)을 둔 뒤
+ * 애플리케이션 DataSource로 등록함
+ *
+ * 풀 설정은 spring.datasource.hikari.*를 공통으로 적용하고 datasource.pool.request.*, datasource.pool.background.*로 덮어씀
+ * 개별 커넥션 풀은 Bean으로 등록하지 않음
+ * (DataSource Bean은 SQL 계측 프록시가 감싸므로, 풀까지 Bean이면 같은 쿼리가 두 번 기록됨)
+ */
+@Configuration
+@Slf4j
+public class ConnectionPoolConfig {
+
+    @Bean
+    public DataSource dataSource(DataSourceProperties properties, Environment environment,
+                                 ObjectProvider<MeterRegistry> meterRegistryProvider,
+                                 @Value("${datasource.connection-tracking.enabled:true}") boolean trackingEnabled,
+                                 @Value("${datasource.connection-tracking.long-hold-threshold-ms:2000}") long longHoldThresholdMs,
+                                 @Value("${datasource.connection-tracking.leak-threshold-ms:60000}") long leakThresholdMs) {
+        ConnectionHoldTracker tracker = new ConnectionHoldTracker(meterRegistryProvider, trackingEnabled,
+                longHoldThresholdMs, leakThresholdMs);
+        HikariDataSource requestPool = createPool(properties, environment,
+                WorkloadRoutingDataSource.REQUEST_POOL, "datasource.pool.request");
+        HikariDataSource backgroundPool = createPool(properties, environment,
+                WorkloadRoutingDataSource.BACKGROUND_POOL, "datasource.pool.background");
+        log.info("DB 커넥션 풀 구성: request(max={}, connectionTimeoutMs={}), background(max={}, connectionTimeoutMs={}), "
+                        + "tracking={}, longHoldThresholdMs={}, leakThresholdMs={}",
+                requestPool.getMaximumPoolSize(), requestPool.getConnectionTimeout(),
+                backgroundPool.getMaximumPoolSize(), backgroundPool.getConnectionTimeout(),
+                trackingEnabled, longHoldThresholdMs, leakThresholdMs);
+
+        DataSource dataSource = new WorkloadRoutingDataSource(requestPool, backgroundPool, tracker);
+        if (!environment.getProperty("datasource.replica.urls", "").isBlank()) {
+            dataSource = ReplicaRoutingConfig.createRoutingDataSource(dataSource, tracker, properties, environment);
+        }
+        // 트랜잭션 시작 시점이 아니라 첫 쿼리 시점에 커넥션을 얻도록 하여
+        // 복제본 라우팅이 readOnly 여부를 알 수 있고, 쿼리 전의 작업 동안 커넥션을 점유하지 않도록 함
+        return new PooledDataSourceProxy(dataSource);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.connection-tracking.enabled", havingValue = "true", matchIfMissing = true)
+    public ConnectionPoolMonitor connectionPoolMonitor(DataSource dataSource,
+                                                       @Value("${datasource.connection-tracking.check-interval-ms:1000}") long intervalMs)
+            throws SQLException {
+        return new ConnectionPoolMonitor(workload(dataSource).tracker(), intervalMs);
+    }
+
+    @Bean
+    public MeterBinder connectionPoolMetrics(DataSource dataSource) throws SQLException {
+        WorkloadRoutingDataSource workload = workload(dataSource);
+        return workload::bindTo;
+    }
+
+    /**
+     * spring.datasource.hikari.* 설정(풀 크기, 드라이버 속성 등)에 풀별 설정(prefix.*)을 덮어쓴 풀
+     *
+     * @param prefix 풀별 설정 접두사 (없으면 null)
+     */
+    static HikariDataSource createPool(DataSourceProperties properties, Environment environment,
+                                       String poolName, String prefix) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        if (prefix != null) {
+            binder.bind(prefix, Bindable.ofInstance(pool));
+        }
+        pool.setPoolName(poolName);
+        return pool;
+    }
+
+    // SQL 계측 프록시와 LazyConnectionDataSourceProxy 안쪽의 주 DB DataSource
+    private static WorkloadRoutingDataSource workload(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(WorkloadRoutingDataSource.class);
+    }
+
+    // 애플리케이션 종료 시 안쪽 커넥션 풀까지 닫히도록 close를 제공 (SQL 계측 프록시도 close를 위임함)
+    private static class PooledDataSourceProxy extends LazyConnectionDataSourceProxy implements Closeable {
+
+        PooledDataSourceProxy(DataSource targetDataSource) {
+            super(targetDataSource);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (getTargetDataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    throw new IOException("커넥션 풀 종료 실패", e);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.smhrd.graddy.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+
+/**
+ * 커넥션 점유 주기 확인 (ConnectionPoolConfig에서 등록)
+ * 노드마다 자신의 커넥션 풀 상태를 확인하는 작업이므로 scheduler_lock 임대 없이 실행하고,
+ * 스프링 스케줄러(@Scheduled)와 스레드를 공유하지 않도록 전용 스케줄러를 내부에서 생성함
+ */
+@Slf4j
+public class ConnectionPoolMonitor {
+
+    private final ConnectionHoldTracker tracker;
+    private final long intervalMs;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    public ConnectionPoolMonitor(ConnectionHoldTracker tracker, long intervalMs) {
+        this.tracker = tracker;
+        this.intervalMs = intervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("connection-hold-check-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::check, Duration.ofMillis(intervalMs));
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    private void check() {
+        try {
+            tracker.checkHolds();
+        } catch (Exception e) {
+            log.warn("커넥션 점유 확인 중 오류: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.smhrd.graddy.datasource;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+
+/**
+ * 복제본 상태 주기 확인 (ReplicaRoutingConfig에서 등록)
+ * 노드마다 자신의 커넥션 풀 상태를 확인하는 작업이므로 scheduler_lock 임대 없이 실행하고,
+ * 스프링 스케줄러(@Scheduled)와 스레드를 공유하지 않도록 전용 스케줄러를 내부에서 생성함
+ * (커넥션 풀은 DataSource Bean이 종료될 때 함께 닫힘, ConnectionPoolConfig)
+ */
+@Slf4j
+public class ReplicaHealthMonitor {
+
+    private final ReplicaRoutingDataSource routingDataSource;
+    private final long intervalMs;
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    public ReplicaHealthMonitor(ReplicaRoutingDataSource routingDataSource, long intervalMs) {
+        this.routingDataSource = routingDataSource;
+        this.intervalMs = intervalMs;
+    }
+
+    @PostConstruct
+    public void start() {
+        // 첫 확인이 끝나기 전에는 복제본을 사용하지 않으므로 시작 시 한 번 바로 확인
+        routingDataSource.checkReplicas();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("replica-health-");
+        scheduler.initialize();
+        scheduler.scheduleWithFixedDelay(this::check, Duration.ofMillis(intervalMs));
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+    }
+
+    private void check() {
+        try {
+            routingDataSource.checkReplicas();
+        } catch (Exception e) {
+            log.warn("복제본 상태 확인 중 오류: {}", e.getMessage());
+        }
+    }
+}
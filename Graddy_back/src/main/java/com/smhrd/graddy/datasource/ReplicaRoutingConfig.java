@@ -0,0 +1,92 @@
+package com.smhrd.graddy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 읽기 복제본 라우팅 설정 (datasource.replica.urls가 비어 있으면 기존처럼 주 DB 하나만 사용)
+ * 복제본 풀(datasource.replica.*)을 만들어 주 DB(request/background 풀)와 함께 ReplicaRoutingDataSource로 묶는 부분은
+ * ConnectionPoolConfig가 DataSource를 만들 때 createRoutingDataSource로 호출하고,
+ * 여기서는 복제본 상태 확인, 라우팅 지표, 요청 단위 라우팅 필터를 등록함
+ */
+@Configuration
+@ConditionalOnExpression("!'${datasource.replica.urls:}'.isBlank()")
+@Slf4j
+public class ReplicaRoutingConfig {
+
+    /**
+     * 주 DB DataSource와 datasource.replica.urls의 복제본 풀을 묶은 라우팅 DataSource 생성
+     */
+    static ReplicaRoutingDataSource createRoutingDataSource(DataSource primary, ConnectionHoldTracker tracker,
+                                                            DataSourceProperties properties, Environment environment) {
+        String replicaUrls = environment.getProperty("datasource.replica.urls", "");
+        String replicaUsername = environment.getProperty("datasource.replica.username", properties.determineUsername());
+        String replicaPassword = environment.getProperty("datasource.replica.password", properties.determinePassword());
+        int replicaPoolSize = environment.getProperty("datasource.replica.pool-size", Integer.class, 10);
+        long replicaConnectionTimeoutMs = environment.getProperty("datasource.replica.connection-timeout-ms", Long.class, 2000L);
+        boolean lagCheck = environment.getProperty("datasource.replica.lag-check", Boolean.class, true);
+        long maxLagSeconds = environment.getProperty("datasource.replica.max-lag-seconds", Long.class, 3L);
+        long readYourWritesWindowMs = environment.getProperty("datasource.replica.read-your-writes-window-ms", Long.class, 5000L);
+
+        List<ReplicaRoutingDataSource.ReplicaTarget> replicas = new ArrayList<>();
+        List<String> urls = Arrays.stream(replicaUrls.split(",")).map(String::trim).filter(url -> !url.isEmpty()).toList();
+        for (int i = 0; i < urls.size(); i++) {
+            HikariDataSource replica = ConnectionPoolConfig.createPool(properties, environment, "replica-" + (i + 1), null);
+            replica.setJdbcUrl(urls.get(i));
+            replica.setUsername(replicaUsername);
+            replica.setPassword(replicaPassword);
+            replica.setMaximumPoolSize(replicaPoolSize);
+            replica.setConnectionTimeout(replicaConnectionTimeoutMs);
+            replica.setReadOnly(true);
+            // 복제본이 내려가 있어도 애플리케이션은 시작하고 주 DB로 읽도록 함
+            replica.setInitializationFailTimeout(-1);
+            replicas.add(new ReplicaRoutingDataSource.ReplicaTarget(replica.getPoolName(), replica));
+        }
+        log.info("읽기 복제본 라우팅 사용: replicas={}, lagCheck={}, maxLagSeconds={}, readYourWritesWindowMs={}",
+                replicas.size(), lagCheck, maxLagSeconds, readYourWritesWindowMs);
+
+        return new ReplicaRoutingDataSource(primary, replicas, tracker, lagCheck, maxLagSeconds, readYourWritesWindowMs);
+    }
+
+    @Bean
+    public ReplicaHealthMonitor replicaHealthMonitor(DataSource dataSource,
+                                                     @Value("${datasource.replica.health-check-interval-ms:2000}") long intervalMs)
+            throws SQLException {
+        return new ReplicaHealthMonitor(routing(dataSource), intervalMs);
+    }
+
+    @Bean
+    public MeterBinder replicaRoutingMetrics(DataSource dataSource) throws SQLException {
+        ReplicaRoutingDataSource routing = routing(dataSource);
+        return routing::bindTo;
+    }
+
+    // 인증 정보로 사용자를 구분해야 하므로 Spring Security 필터 다음에 실행
+    @Bean
+    public FilterRegistrationBean<ReplicaRoutingFilter> replicaRoutingFilter(DataSource dataSource) throws SQLException {
+        FilterRegistrationBean<ReplicaRoutingFilter> registration =
+                new FilterRegistrationBean<>(new ReplicaRoutingFilter(routing(dataSource)));
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+
+    // SQL 계측 프록시와 LazyConnectionDataSourceProxy 안쪽의 라우팅 DataSource
+    private static ReplicaRoutingDataSource routing(DataSource dataSource) throws SQLException {
+        return dataSource.unwrap(ReplicaRoutingDataSource.class);
+    }
+}
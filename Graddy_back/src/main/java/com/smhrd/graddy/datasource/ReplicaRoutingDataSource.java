@@ -0,0 +1,286 @@
+package com.smhrd.graddy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기/쓰기 분리 DataSource
+ * 읽기 전용 트랜잭션(@Transactional(readOnly = true), Spring Data 조회 메서드)은 정상 상태인 복제본에 번갈아 보내고,
+ * 그 밖의 모든 커넥션(쓰기 트랜잭션, 트랜잭션 밖의 조회)은 주 DB(WorkloadRoutingDataSource, request/background 풀)로 보냄
+ *
+ * 복제본은 checkReplicas가 주기적으로 지연 시간(Seconds_Behind_Source)을 확인하여 기준을 넘거나 연결할 수 없으면 제외하고,
+ * 사용할 수 있는 복제본이 없거나 커넥션을 얻지 못하면 주 DB로 보냄
+ *
+ * 방금 쓴 데이터를 읽는 경로는 주 DB에 고정함 (RequestRouting)
+ * - 쓰기 요청(GET/HEAD 이외)과, 요청 안에서 쓰기 트랜잭션을 실행한 뒤의 조회
+ * - 쓰기 요청 후 read-your-writes-window-ms 동안 같은 사용자의 요청
+ * - HTTP 요청 밖의 스레드(스케줄 작업, 임대 연장, 알림 발송, STOMP 처리)와 BackgroundWork로 표시된 작업
+ *   (알림 발송 여부처럼 임대 안에서 다시 읽어 중복을 막는 상태를 지연된 복제본에서 읽지 않도록 함)
+ *
+ * 트랜잭션 속성이 정해진 뒤에 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용함 (ConnectionPoolConfig)
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    private static final ThreadLocal<RequestRouting> CURRENT_REQUEST = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<ReplicaTarget> replicas;
+    private final ConnectionHoldTracker tracker;
+    private final boolean lagCheckEnabled;
+    private final long maxLagSeconds;
+    private final long readYourWritesWindowMs;
+
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    // 최근 쓰기 요청 시각 (사용자 ID -> epoch ms)
+    private final Map<String, Long> recentWriters = new ConcurrentHashMap<>();
+
+    private volatile Counter primaryWriteCounter;
+    private volatile Counter primaryPinnedCounter;
+    private volatile Counter primaryNonRequestCounter;
+    private volatile Counter primaryFallbackCounter;
+    private volatile Counter replicaCounter;
+
+    // 복제본 상태 (처음 상태 확인 전에는 사용하지 않음, lagSeconds: 마지막 확인 시 복제 지연, 확인 실패 시 -1)
+    static class ReplicaTarget {
+        private final String name;
+        private final HikariDataSource dataSource;
+        private volatile boolean healthy;
+        private volatile long lagSeconds = -1;
+
+        ReplicaTarget(String name, HikariDataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+
+    // 요청 하나의 라우팅 상태 (ReplicaRoutingFilter가 요청 처리 스레드에 설정)
+    static class RequestRouting {
+        private final String userId;
+        private final boolean pinnedToPrimary;
+        private boolean wrote;
+
+        RequestRouting(String userId, boolean pinnedToPrimary) {
+            this.userId = userId;
+            this.pinnedToPrimary = pinnedToPrimary;
+        }
+    }
+
+    ReplicaRoutingDataSource(DataSource primary, List<ReplicaTarget> replicas, ConnectionHoldTracker tracker,
+                             boolean lagCheckEnabled, long maxLagSeconds, long readYourWritesWindowMs) {
+        this.primary = primary;
+        this.replicas = replicas;
+        this.tracker = tracker;
+        this.lagCheckEnabled = lagCheckEnabled;
+        this.maxLagSeconds = maxLagSeconds;
+        this.readYourWritesWindowMs = readYourWritesWindowMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            RequestRouting request = CURRENT_REQUEST.get();
+            if (request != null && TransactionSynchronizationManager.isActualTransactionActive()) {
+                request.wrote = true;
+            }
+            increment(primaryWriteCounter);
+            return primary.getConnection();
+        }
+
+        RequestRouting request = CURRENT_REQUEST.get();
+        if (request == null || BackgroundWork.isActive()) {
+            increment(primaryNonRequestCounter);
+            return primary.getConnection();
+        }
+        if (request.pinnedToPrimary || request.wrote) {
+            increment(primaryPinnedCounter);
+            return primary.getConnection();
+        }
+
+        ReplicaTarget replica = nextHealthyReplica();
+        if (replica != null) {
+            try {
+                Connection connection = replica.dataSource.getConnection();
+                increment(replicaCounter);
+                return tracker.track(replica.name, connection);
+            } catch (SQLException e) {
+                replica.healthy = false;
+                log.warn("복제본 커넥션 실패, 주 DB로 전환: replica={}, error={}", replica.name, e.getMessage());
+            }
+        }
+        increment(primaryFallbackCounter);
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("사용자별 커넥션은 지원하지 않습니다.");
+    }
+
+    // 주 DB 쪽 DataSource(WorkloadRoutingDataSource)도 unwrap으로 찾을 수 있도록 위임
+    @Override
+    public <T> T unwrap(Class<T> iface) throws SQLException {
+        return iface.isInstance(this) ? iface.cast(this) : primary.unwrap(iface);
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> iface) throws SQLException {
+        return iface.isInstance(this) || primary.isWrapperFor(iface);
+    }
+
+    /**
+     * 요청 시작 (ReplicaRoutingFilter)
+     *
+     * @param userId 인증된 사용자 ID (없으면 null)
+     * @param writeRequest GET/HEAD 이외의 요청이면 true
+     */
+    void beginRequest(String userId, boolean writeRequest) {
+        boolean recentWriter = userId != null && isRecentWriter(userId);
+        CURRENT_REQUEST.set(new RequestRouting(userId, writeRequest || recentWriter));
+    }
+
+    /**
+     * 요청 종료, 쓰기 트랜잭션을 실행한 사용자는 이후 요청도 일정 시간 주 DB에서 읽도록 기록
+     */
+    void endRequest() {
+        RequestRouting request = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        if (request != null && request.wrote && request.userId != null) {
+            recentWriters.put(request.userId, System.currentTimeMillis());
+        }
+    }
+
+    private boolean isRecentWriter(String userId) {
+        Long writtenAt = recentWriters.get(userId);
+        return writtenAt != null && System.currentTimeMillis() - writtenAt < readYourWritesWindowMs;
+    }
+
+    private ReplicaTarget nextHealthyReplica() {
+        int size = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            ReplicaTarget replica = replicas.get((start + i) % size);
+            if (replica.healthy) {
+                return replica;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 복제본 상태 확인 (연결 가능 여부, 복제 지연) 및 만료된 쓰기 기록 정리
+     */
+    void checkReplicas() {
+        for (ReplicaTarget replica : replicas) {
+            boolean wasHealthy = replica.healthy;
+            try (Connection connection = replica.dataSource.getConnection()) {
+                if (lagCheckEnabled) {
+                    replica.lagSeconds = readLagSeconds(connection);
+                    replica.healthy = replica.lagSeconds >= 0 && replica.lagSeconds <= maxLagSeconds;
+                } else {
+                    replica.healthy = connection.isValid(2);
+                }
+            } catch (SQLException e) {
+                replica.lagSeconds = -1;
+                replica.healthy = false;
+                log.debug("복제본 상태 확인 실패: replica={}, error={}", replica.name, e.getMessage());
+            }
+            if (wasHealthy != replica.healthy) {
+                log.warn("복제본 상태 변경: replica={}, healthy={}, lagSeconds={}, maxLagSeconds={}",
+                        replica.name, replica.healthy, replica.lagSeconds, maxLagSeconds);
+            }
+        }
+
+        long expiredBefore = System.currentTimeMillis() - readYourWritesWindowMs;
+        recentWriters.values().removeIf(writtenAt -> writtenAt < expiredBefore);
+    }
+
+    // 복제 지연(초), 복제가 멈췄거나 복제본이 아니면 -1 (MySQL 8.0.22 이전과 MariaDB는 SHOW SLAVE STATUS)
+    private static long readLagSeconds(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = showReplicaStatus(statement)) {
+            if (!resultSet.next()) {
+                return -1;
+            }
+            ResultSetMetaData metaData = resultSet.getMetaData();
+            for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                String column = metaData.getColumnLabel(i);
+                if ("Seconds_Behind_Source".equalsIgnoreCase(column) || "Seconds_Behind_Master".equalsIgnoreCase(column)) {
+                    long lag = resultSet.getLong(i);
+                    return resultSet.wasNull() ? -1 : lag;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static ResultSet showReplicaStatus(Statement statement) throws SQLException {
+        try {
+            return statement.executeQuery("SHOW REPLICA STATUS");
+        } catch (SQLException e) {
+            return statement.executeQuery("SHOW SLAVE STATUS");
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 커넥션 풀이 Bean이 아니므로 hikaricp.* 지표(pool 태그: replica-1...)를 직접 연결
+        replicas.forEach(replica -> replica.dataSource.setMetricRegistry(registry));
+        primaryWriteCounter = routeCounter(registry, "primary", "write");
+        primaryPinnedCounter = routeCounter(registry, "primary", "read_your_writes");
+        primaryNonRequestCounter = routeCounter(registry, "primary", "non_request");
+        primaryFallbackCounter = routeCounter(registry, "primary", "fallback");
+        replicaCounter = routeCounter(registry, "replica", "read");
+        for (ReplicaTarget replica : replicas) {
+            Gauge.builder("graddy.datasource.replica.lag", replica, r -> r.lagSeconds)
+                    .description("복제본 복제 지연 (초, 확인 실패 시 -1)")
+                    .baseUnit("seconds")
+                    .tag("replica", replica.name)
+                    .register(registry);
+            Gauge.builder("graddy.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                    .description("복제본 사용 가능 여부 (1: 사용, 0: 제외)")
+                    .tag("replica", replica.name)
+                    .register(registry);
+        }
+    }
+
+    private static Counter routeCounter(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("graddy.datasource.routing")
+                .description("커넥션 라우팅 횟수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+
+    private static void increment(Counter counter) {
+        if (counter != null) {
+            counter.increment();
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        replicas.forEach(replica -> replica.dataSource.close());
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.smhrd.graddy.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * 요청 단위 읽기 라우팅 상태 설정 (ReplicaRoutingConfig에서 등록)
+ * 조회 요청(GET, HEAD, OPTIONS)만 읽기 전용 트랜잭션을 복제본으로 보내고, 쓰기 요청은 요청 전체를 주 DB에서 처리함
+ * 요청이 끝날 때 쓰기 트랜잭션이 있었으면 사용자별로 기록하여 이후 조회 요청도 일정 시간 주 DB에서 읽도록 함
+ */
+@RequiredArgsConstructor
+public class ReplicaRoutingFilter extends OncePerRequestFilter {
+
+    private static final Set<String> READ_METHODS = Set.of("GET", "HEAD", "OPTIONS");
+
+    private final ReplicaRoutingDataSource routingDataSource;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        routingDataSource.beginRequest(currentUserId(), !READ_METHODS.contains(request.getMethod()));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            routingDataSource.endRequest();
+        }
+    }
+
+    private static String currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated() || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
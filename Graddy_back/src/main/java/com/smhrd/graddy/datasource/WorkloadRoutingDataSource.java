@@ -0,0 +1,61 @@
+package com.smhrd.graddy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * 작업 종류별 주 DB 커넥션 풀
+ * 요청 처리는 request 풀, 백그라운드 작업(BackgroundWork로 표시된 스레드)은 background 풀에서 커넥션을 얻어서
+ * 스케줄 작업이나 AI 피드백 생성이 커넥션을 오래 잡아도 요청 처리용 커넥션이 고갈되지 않도록 함
+ *
+ * 두 풀에서 꺼낸 커넥션은 ConnectionHoldTracker로 점유 시간과 호출 위치를 추적함
+ */
+public class WorkloadRoutingDataSource extends AbstractDataSource implements MeterBinder, AutoCloseable {
+
+    static final String REQUEST_POOL = "request";
+    static final String BACKGROUND_POOL = "background";
+
+    private final HikariDataSource requestPool;
+    private final HikariDataSource backgroundPool;
+    private final ConnectionHoldTracker tracker;
+
+    WorkloadRoutingDataSource(HikariDataSource requestPool, HikariDataSource backgroundPool, ConnectionHoldTracker tracker) {
+        this.requestPool = requestPool;
+        this.backgroundPool = backgroundPool;
+        this.tracker = tracker;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        HikariDataSource pool = BackgroundWork.isActive() ? backgroundPool : requestPool;
+        return tracker.track(pool.getPoolName(), pool.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("사용자별 커넥션은 지원하지 않습니다.");
+    }
+
+    ConnectionHoldTracker tracker() {
+        return tracker;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // 커넥션 풀이 Bean이 아니므로 hikaricp.* 지표(pool 태그: request, background)를 직접 연결
+        requestPool.setMetricRegistry(registry);
+        backgroundPool.setMetricRegistry(registry);
+    }
+
+    @Override
+    public void close() {
+        backgroundPool.close();
+        requestPool.close();
+    }
+}
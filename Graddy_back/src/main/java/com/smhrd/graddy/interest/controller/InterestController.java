@@ -28,6 +28,14 @@ public class InterestController {
         return ApiResponse.success("전체 관심 항목 조회 성공", interests);
     }
 
+    // 관심 항목명 접두어 검색
+    @GetMapping("/search")
+    @Operation(summary = "관심 항목 이름 검색", description = "이름이 입력한 접두어로 시작하는 관심 항목을 이름순으로 조회합니다. (자동완성용)")
+    public ResponseEntity<ApiResponse<List<Interest>>> searchInterests(@RequestParam(required = false) String prefix) {
+        List<Interest> interests = interestService.searchInterestsByPrefix(prefix);
+        return ApiResponse.success("관심 항목 검색 성공", interests);
+    }
+
 //    // 관심 항목 분류별 조회
 //    @GetMapping("/division/{division}")
 //    @Operation(summary = "분류별 관심 항목 조회", description = "특정 분류에 속한 관심 항목들을 조회합니다.")
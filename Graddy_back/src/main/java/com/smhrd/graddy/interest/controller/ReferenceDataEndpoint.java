@@ -0,0 +1,38 @@
+package com.smhrd.graddy.interest.controller;
+
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기준 데이터(관심 항목, 요일) 갱신 관리 엔드포인트 (관리 포트의 /actuator/referencedata, ADMIN 권한 필요)
+ * 관리자가 interest/days 테이블을 변경한 뒤 POST로 호출하면 주기 갱신을 기다리지 않고 바로 반영됨
+ * 서버 메모리의 스냅샷이므로 서버가 여러 대면 서버마다 호출해야 함 (호출하지 않은 서버는 주기 갱신 때 반영)
+ */
+@Component
+@Endpoint(id = "referencedata")
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataEndpoint {
+
+    private final ReferenceDataRegistry referenceDataRegistry;
+
+    @ReadOperation
+    public Map<String, Object> version() {
+        return Map.of("version", referenceDataRegistry.getVersion());
+    }
+
+    @WriteOperation
+    public Map<String, Object> reload() {
+        long previousVersion = referenceDataRegistry.getVersion();
+        long version = referenceDataRegistry.reload();
+        log.info("기준 데이터 수동 갱신: version {} -> {}", previousVersion, version);
+        return Map.of("previousVersion", previousVersion, "version", version, "changed", version != previousVersion);
+    }
+}
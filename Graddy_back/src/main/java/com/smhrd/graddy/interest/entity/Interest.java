@@ -6,9 +6,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "interest")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "interest")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,33 +1,33 @@
 package com.smhrd.graddy.interest.service;
 
 import com.smhrd.graddy.interest.entity.Interest;
-import com.smhrd.graddy.interest.repository.InterestRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 
+/**
+ * 관심 항목 조회 (DB 대신 ReferenceDataRegistry의 메모리 스냅샷에서 조회)
+ */
 @Service
-@Transactional(readOnly = true)
 public class InterestService {
 
     @Autowired
-    private InterestRepository interestRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     // 전체 관심 항목 조회
     public List<Interest> getAllInterests() {
-        return interestRepository.findAll();
+        return referenceDataRegistry.getAllInterests();
     }
 
     // 관심 항목 분류별 조회
     public List<Interest> getInterestsByDivision(Integer division) {
-        return interestRepository.findByInterestDivisionOrderByInterestName(division);
+        return referenceDataRegistry.getInterestsByDivision(division);
     }
 
     // 특정 관심 항목 ID로 조회
     public Interest getInterestById(Long interestId) {
-        return interestRepository.findById(interestId)
+        return referenceDataRegistry.findInterest(interestId)
                 .orElseThrow(() -> new IllegalArgumentException("관심 항목을 찾을 수 없습니다: " + interestId));
     }
 
@@ -36,6 +36,14 @@ public class InterestService {
         if (keyword == null || keyword.trim().isEmpty()) {
             return getAllInterests();
         }
-        return interestRepository.findByInterestNameContainingIgnoreCaseOrderByInterestName(keyword);
+        return referenceDataRegistry.searchInterestsByName(keyword);
+    }
+
+    // 관심 항목명 접두어로 검색 (자동완성용)
+    public List<Interest> searchInterestsByPrefix(String prefix) {
+        if (prefix == null || prefix.trim().isEmpty()) {
+            return getAllInterests();
+        }
+        return referenceDataRegistry.searchInterestsByPrefix(prefix.trim());
     }
 }
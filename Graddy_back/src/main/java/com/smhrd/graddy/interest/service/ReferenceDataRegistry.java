@@ -0,0 +1,267 @@
+package com.smhrd.graddy.interest.service;
+
+import com.smhrd.graddy.interest.entity.Interest;
+import com.smhrd.graddy.interest.repository.InterestRepository;
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import com.smhrd.graddy.user.entity.Days;
+import com.smhrd.graddy.user.repository.DaysRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 기준 데이터(관심 항목, 요일) 메모리 조회
+ * 거의 바뀌지 않는 interest, days 테이블을 시작 시 한 번 읽어 ID 인덱스 배열로 보관하고,
+ * 태그 이름 변환 등에서 행마다 findById를 호출하지 않도록 메모리에서 조회함
+ *
+ * 조회용 스냅샷은 만들어진 뒤 바뀌지 않으며, 갱신 시 새 스냅샷으로 통째로 교체하므로 조회 시 잠금이 필요 없음
+ * 관리자가 테이블을 변경하면 관리 포트의 POST /actuator/referencedata(ReferenceDataEndpoint)로 reload()를 호출하거나
+ * reference-data.refresh-interval-ms 주기 갱신을 기다리면 되고, 내용이 바뀐 경우에만 버전이 올라감
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReferenceDataRegistry {
+
+    // ID가 이 값보다 크면 배열 대신 맵으로 인덱싱 (ID가 드문드문한 경우 배열이 커지지 않도록)
+    private static final int MAX_ARRAY_INDEX = 100_000;
+
+    private final InterestRepository interestRepository;
+    private final DaysRepository daysRepository;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final EntityManagerFactory entityManagerFactory;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+
+    /**
+     * 조회용 스냅샷
+     *
+     * @param interestsById 관심 항목 ID 인덱스 배열 (없는 ID는 null)
+     * @param interestsByName 관심 항목 이름순 정렬 (이름 접두어 이진 탐색용)
+     * @param lowerNames interestsByName과 같은 순서의 소문자 이름
+     */
+    private record Snapshot(long version,
+                            Interest[] interestsById,
+                            Map<Long, Interest> sparseInterests,
+                            List<Interest> allInterests,
+                            Interest[] interestsByName,
+                            String[] lowerNames,
+                            Map<Integer, List<Interest>> interestsByDivision,
+                            Days[] daysById,
+                            List<Days> allDays) {
+
+        static final Snapshot EMPTY = new Snapshot(0, new Interest[0], Map.of(), List.of(), new Interest[0],
+                new String[0], Map.of(), new Days[0], List.of());
+    }
+
+    @PostConstruct
+    public void init() {
+        refresh();
+    }
+
+    /**
+     * 주기적으로 다시 읽어 변경 사항 반영 (서버 메모리의 데이터이므로 서버마다 실행)
+     */
+    @Scheduled(fixedDelayString = "${reference-data.refresh-interval-ms:600000}",
+            initialDelayString = "${reference-data.refresh-interval-ms:600000}")
+    public void refreshPeriodically() {
+        try {
+            scheduledJobRunner.runLocal("reference-data-refresh", this::refresh);
+        } catch (Exception e) {
+            log.error("기준 데이터 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 관심 항목/요일을 다시 읽어 스냅샷 교체 (내용이 같으면 버전 유지)
+     *
+     * @return 현재 버전
+     */
+    public synchronized long refresh() {
+        List<Interest> interests = interestRepository.findAll();
+        List<Days> days = daysRepository.findAll();
+
+        Snapshot current = snapshot.get();
+        if (current.version() > 0 && sameInterests(current.allInterests(), interests) && sameDays(current.allDays(), days)) {
+            return current.version();
+        }
+
+        Snapshot next = build(current.version() + 1, interests, days);
+        snapshot.set(next);
+        log.info("기준 데이터 적재 완료: version={}, 관심 항목={}개, 요일={}개",
+                next.version(), interests.size(), days.size());
+        return next.version();
+    }
+
+    /**
+     * DB에서 직접 변경한 내용을 반영 (READ_ONLY 2차 캐시의 관심 항목/요일을 비운 뒤 다시 읽음)
+     *
+     * @return 현재 버전
+     */
+    public synchronized long reload() {
+        Cache cache = entityManagerFactory.getCache();
+        cache.evict(Interest.class);
+        cache.evict(Days.class);
+        return refresh();
+    }
+
+    public long getVersion() {
+        return snapshot.get().version();
+    }
+
+    /**
+     * 관심 항목 ID로 조회
+     */
+    public Optional<Interest> findInterest(Long interestId) {
+        if (interestId == null) {
+            return Optional.empty();
+        }
+        Snapshot current = snapshot.get();
+        if (interestId >= 0 && interestId < current.interestsById().length) {
+            return Optional.ofNullable(current.interestsById()[interestId.intValue()]);
+        }
+        return Optional.ofNullable(current.sparseInterests().get(interestId));
+    }
+
+    public boolean existsInterest(Long interestId) {
+        return findInterest(interestId).isPresent();
+    }
+
+    /**
+     * 전체 관심 항목 (ID순)
+     */
+    public List<Interest> getAllInterests() {
+        return snapshot.get().allInterests();
+    }
+
+    /**
+     * 분류별 관심 항목 (이름순)
+     */
+    public List<Interest> getInterestsByDivision(Integer division) {
+        return snapshot.get().interestsByDivision().getOrDefault(division, List.of());
+    }
+
+    /**
+     * 이름 접두어로 관심 항목 검색 (대소문자 무시, 이름순)
+     */
+    public List<Interest> searchInterestsByPrefix(String prefix) {
+        Snapshot current = snapshot.get();
+        String lowerPrefix = prefix.toLowerCase(Locale.ROOT);
+        String[] names = current.lowerNames();
+        int from = Arrays.binarySearch(names, lowerPrefix);
+        if (from < 0) {
+            from = -from - 1;
+        }
+        List<Interest> result = new ArrayList<>();
+        for (int i = from; i < names.length && names[i].startsWith(lowerPrefix); i++) {
+            result.add(current.interestsByName()[i]);
+        }
+        return result;
+    }
+
+    /**
+     * 이름에 키워드가 포함된 관심 항목 검색 (대소문자 무시, 이름순)
+     */
+    public List<Interest> searchInterestsByName(String keyword) {
+        Snapshot current = snapshot.get();
+        String lowerKeyword = keyword.toLowerCase(Locale.ROOT);
+        List<Interest> result = new ArrayList<>();
+        for (int i = 0; i < current.lowerNames().length; i++) {
+            if (current.lowerNames()[i].contains(lowerKeyword)) {
+                result.add(current.interestsByName()[i]);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 요일 ID로 조회
+     */
+    public Optional<Days> findDay(Integer dayId) {
+        Days[] days = snapshot.get().daysById();
+        if (dayId == null || dayId < 0 || dayId >= days.length) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(days[dayId]);
+    }
+
+    public boolean existsDay(Integer dayId) {
+        return findDay(dayId).isPresent();
+    }
+
+    private static Snapshot build(long version, List<Interest> interests, List<Days> days) {
+        List<Interest> byId = interests.stream()
+                .sorted(Comparator.comparing(Interest::getInterestId))
+                .toList();
+
+        long maxId = byId.isEmpty() ? -1 : byId.get(byId.size() - 1).getInterestId();
+        Interest[] interestsById = new Interest[(int) Math.min(maxId + 1, MAX_ARRAY_INDEX)];
+        Map<Long, Interest> sparse = new LinkedHashMap<>();
+        for (Interest interest : byId) {
+            long id = interest.getInterestId();
+            if (id >= 0 && id < interestsById.length) {
+                interestsById[(int) id] = interest;
+            } else {
+                sparse.put(id, interest);
+            }
+        }
+
+        Comparator<Interest> byName = Comparator.comparing(interest -> interest.getInterestName().toLowerCase(Locale.ROOT));
+        Interest[] interestsByName = byId.stream().sorted(byName).toArray(Interest[]::new);
+        String[] lowerNames = Arrays.stream(interestsByName)
+                .map(interest -> interest.getInterestName().toLowerCase(Locale.ROOT))
+                .toArray(String[]::new);
+
+        Map<Integer, List<Interest>> byDivision = Arrays.stream(interestsByName)
+                .collect(Collectors.groupingBy(Interest::getInterestDivision, LinkedHashMap::new,
+                        Collectors.collectingAndThen(Collectors.toList(), Collections::unmodifiableList)));
+
+        int maxDayId = days.stream().mapToInt(Days::getDayId).max().orElse(-1);
+        Days[] daysById = new Days[maxDayId + 1];
+        days.stream().filter(day -> day.getDayId() >= 0).forEach(day -> daysById[day.getDayId()] = day);
+        List<Days> allDays = days.stream().sorted(Comparator.comparing(Days::getDayId)).toList();
+
+        return new Snapshot(version, interestsById, Collections.unmodifiableMap(sparse), byId,
+                interestsByName, lowerNames, Collections.unmodifiableMap(byDivision), daysById, allDays);
+    }
+
+    private static boolean sameInterests(List<Interest> current, List<Interest> loaded) {
+        if (current.size() != loaded.size()) {
+            return false;
+        }
+        Map<Long, Interest> byId = loaded.stream().collect(Collectors.toMap(Interest::getInterestId, i -> i));
+        for (Interest interest : current) {
+            Interest other = byId.get(interest.getInterestId());
+            if (other == null
+                    || !interest.getInterestName().equals(other.getInterestName())
+                    || !interest.getInterestDivision().equals(other.getInterestDivision())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean sameDays(List<Days> current, List<Days> loaded) {
+        if (current.size() != loaded.size()) {
+            return false;
+        }
+        Map<Integer, String> names = loaded.stream().collect(Collectors.toMap(Days::getDayId, Days::getDayName));
+        return current.stream().allMatch(day -> day.getDayName().equals(names.get(day.getDayId())));
+    }
+}
@@ -5,6 +5,7 @@ import com.smhrd.graddy.member.dto.MemberInfo;
 import com.smhrd.graddy.member.entity.Member;
 import com.smhrd.graddy.member.service.MemberService;
 import com.smhrd.graddy.security.jwt.JwtUtil;
+import com.smhrd.graddy.sql.QueryBudget;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
@@ -189,6 +190,7 @@ public class MemberController {
                            "• 멤버 타입 (리더/일반 멤버)\n" +
                            "• 멤버 상태 (승인됨/탈퇴)\n" +
                            "• 가입일")
+    @QueryBudget(2)
     public ResponseEntity<ApiResponse<List<MemberInfo>>> getMembers(
             @PathVariable Long studyProjectId) {
         try {
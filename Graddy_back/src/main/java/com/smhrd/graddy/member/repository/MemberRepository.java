@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,6 +34,9 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
     
     // 스터디/프로젝트의 approved 상태 멤버 목록 조회
     List<Member> findByStudyProjectIdAndStudyProjectCheck(Long studyProjectId, Member.MemberStatus status);
+
+    // 여러 스터디/프로젝트의 특정 상태 멤버 목록을 한 번에 조회
+    List<Member> findByStudyProjectIdInAndStudyProjectCheck(Collection<Long> studyProjectIds, Member.MemberStatus status);
     
     // 스터디/프로젝트 ID로 삭제
     void deleteByStudyProjectId(Long studyProjectId);
@@ -5,7 +5,6 @@ import com.smhrd.graddy.member.entity.Member;
 import com.smhrd.graddy.member.repository.MemberRepository;
 import com.smhrd.graddy.study.entity.StudyProject;
 import com.smhrd.graddy.study.repository.StudyProjectRepository;
-import com.smhrd.graddy.user.entity.User;
 import com.smhrd.graddy.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -14,8 +13,12 @@ import org.springframework.transaction.annotation.Transactional;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -28,17 +31,41 @@ public class MemberService {
 
     // 스터디/프로젝트의 멤버 정보 목록 조회
     public List<MemberInfo> getMembersByStudyProjectId(Long studyProjectId) {
-        List<MemberInfo> members = new ArrayList<>();
         List<Member> memberList = memberRepository.findByStudyProjectIdAndStudyProjectCheck(
                 studyProjectId, Member.MemberStatus.approved);
-        
+        return toMemberInfos(memberList, findNicks(memberList));
+    }
+
+    // 여러 스터디/프로젝트의 멤버 정보 목록을 한 번에 조회 (스터디/프로젝트 ID -> 멤버 목록, 멤버가 없으면 포함되지 않음)
+    public Map<Long, List<MemberInfo>> getMembersByStudyProjectIds(Collection<Long> studyProjectIds) {
+        if (studyProjectIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Member> memberList = memberRepository.findByStudyProjectIdInAndStudyProjectCheck(
+                studyProjectIds, Member.MemberStatus.approved);
+        Map<String, String> nicks = findNicks(memberList);
+        Map<Long, List<MemberInfo>> members = new HashMap<>();
+        memberList.stream()
+                .collect(Collectors.groupingBy(Member::getStudyProjectId))
+                .forEach((studyProjectId, list) -> members.put(studyProjectId, toMemberInfos(list, nicks)));
+        return members;
+    }
+
+    // 사용자의 nick 정보를 한 번에 조회 (멤버마다 사용자를 조회하지 않도록 함)
+    private Map<String, String> findNicks(List<Member> memberList) {
+        Map<String, String> nicks = new HashMap<>();
+        if (memberList.isEmpty()) {
+            return nicks;
+        }
+        userRepository.findAllById(memberList.stream().map(Member::getUserId).collect(Collectors.toSet()))
+                .forEach(user -> nicks.put(user.getUserId(), user.getNick()));
+        return nicks;
+    }
+
+    private List<MemberInfo> toMemberInfos(List<Member> memberList, Map<String, String> nicks) {
+        List<MemberInfo> members = new ArrayList<>();
         for (Member member : memberList) {
-            // 사용자의 nick 정보 조회
-            String nick = "";
-            Optional<User> user = userRepository.findById(member.getUserId());
-            if (user.isPresent()) {
-                nick = user.get().getNick();
-            }
+            String nick = nicks.getOrDefault(member.getUserId(), "");
             
             MemberInfo memberInfo = new MemberInfo(
                     member.getMemberId(),
@@ -50,7 +77,6 @@ public class MemberService {
             );
             members.add(memberInfo);
         }
-        
         return members;
     }
 
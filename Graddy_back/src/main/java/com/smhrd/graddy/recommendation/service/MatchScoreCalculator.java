@@ -0,0 +1,140 @@
+package com.smhrd.graddy.recommendation.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 추천 점수 계산 (DB 조회 없이 값만으로 계산하는 부분)
+ * StudyMatchingService가 조회한 요일/관심사/시간대/레벨 값을 넘겨서 사용하며,
+ * 후보 스터디 수만큼 반복 실행되는 구간이므로 JMH 벤치마크(src/jmh)에서 직접 측정함
+ */
+public final class MatchScoreCalculator {
+
+    private MatchScoreCalculator() {
+    }
+
+    /**
+     * Jaccard 유사도: |A ∩ B| / |A ∪ B|
+     *
+     * @return 0.0 ~ 1.0 (둘 중 하나라도 비어 있으면 0.0)
+     */
+    public static <T> double jaccard(Collection<T> first, Collection<T> second) {
+        if (first.isEmpty() || second.isEmpty()) {
+            return 0.0;
+        }
+        Set<T> intersection = new HashSet<>(first);
+        intersection.retainAll(new HashSet<>(second));
+
+        Set<T> union = new HashSet<>(first);
+        union.addAll(second);
+
+        return union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+    }
+
+    /**
+     * 시간 일치도 (겹치는 시간 / 더 긴 시간 범위)
+     *
+     * @return 0.0 ~ 1.0 (겹치는 시간이 없으면 0.0)
+     */
+    public static double timeMatchScore(int userStartHour, int userEndHour, int studyStartHour, int studyEndHour) {
+        int userDuration = calculateDuration(userStartHour, userEndHour);
+        int studyDuration = calculateDuration(studyStartHour, studyEndHour);
+        int overlapDuration = calculateOverlapDuration(userStartHour, userEndHour, studyStartHour, studyEndHour);
+        if (overlapDuration <= 0) {
+            return 0.0;
+        }
+        int maxDuration = Math.max(userDuration, studyDuration);
+        return maxDuration > 0 ? (double) overlapDuration / maxDuration : 0.0;
+    }
+
+    /**
+     * 레벨 근접도: 1 - (차이 / 최대 차이 2), 0.0 ~ 1.0으로 제한
+     */
+    public static double levelMatchScore(double averageUserLevel, int studyLevel) {
+        double levelDifference = Math.abs(averageUserLevel - studyLevel);
+        double levelMatchScore = 1.0 - (levelDifference / 2.0);
+        return Math.max(0.0, Math.min(1.0, levelMatchScore));
+    }
+
+    /**
+     * 시간 범위의 지속 시간 계산 (자정을 넘나드는 경우 고려)
+     * @param startHour 시작 시간 (0-23)
+     * @param endHour 끝 시간 (0-23)
+     * @return 지속 시간 (시간 단위)
+     */
+    public static int calculateDuration(int startHour, int endHour) {
+        if (endHour >= startHour) {
+            // 같은 날 내의 시간 범위 (예: 10시-13시 = 3시간)
+            return endHour - startHour;
+        } else {
+            // 자정을 넘나드는 시간 범위 (예: 23시-01시 = 2시간)
+            return (24 - startHour) + endHour;
+        }
+    }
+
+    /**
+     * 두 시간 범위 간의 겹치는 시간 계산 (자정을 넘나드는 경우 고려)
+     * @param start1 첫 번째 범위 시작 시간
+     * @param end1 첫 번째 범위 끝 시간
+     * @param start2 두 번째 범위 시작 시간
+     * @param end2 두 번째 범위 끝 시간
+     * @return 겹치는 시간 (시간 단위)
+     */
+    public static int calculateOverlapDuration(int start1, int end1, int start2, int end2) {
+        // 두 범위 모두 자정을 넘나드는지 확인
+        boolean range1CrossesMidnight = end1 < start1;
+        boolean range2CrossesMidnight = end2 < start2;
+
+        if (range1CrossesMidnight && range2CrossesMidnight) {
+            // 둘 다 자정을 넘나드는 경우
+            return calculateOverlapForCrossingRanges(start1, end1, start2, end2);
+        } else if (range1CrossesMidnight) {
+            // 첫 번째 범위만 자정을 넘나드는 경우
+            return calculateOverlapWithCrossingRange(start1, end1, start2, end2);
+        } else if (range2CrossesMidnight) {
+            // 두 번째 범위만 자정을 넘나드는 경우
+            return calculateOverlapWithCrossingRange(start2, end2, start1, end1);
+        } else {
+            // 둘 다 같은 날 내의 범위인 경우
+            int overlapStart = Math.max(start1, start2);
+            int overlapEnd = Math.min(end1, end2);
+            return overlapStart < overlapEnd ? overlapEnd - overlapStart : 0;
+        }
+    }
+
+    /**
+     * 자정을 넘나드는 두 범위 간의 겹치는 시간 계산
+     */
+    private static int calculateOverlapForCrossingRanges(int start1, int end1, int start2, int end2) {
+        // 자정 이전 부분과 자정 이후 부분으로 나누어 계산
+        int beforeMidnight1 = 24 - start1;
+        int afterMidnight1 = end1;
+        int beforeMidnight2 = 24 - start2;
+        int afterMidnight2 = end2;
+
+        int overlapBefore = Math.min(beforeMidnight1, beforeMidnight2);
+        int overlapAfter = Math.min(afterMidnight1, afterMidnight2);
+
+        return overlapBefore + overlapAfter;
+    }
+
+    /**
+     * 자정을 넘나드는 범위와 일반 범위 간의 겹치는 시간 계산
+     */
+    private static int calculateOverlapWithCrossingRange(int crossStart, int crossEnd, int normalStart, int normalEnd) {
+        int overlap = 0;
+
+        // 자정 이전 부분과 겹치는지 확인
+        if (normalStart < 24 && normalEnd > crossStart) {
+            overlap += Math.min(24 - crossStart, normalEnd) - Math.max(crossStart, normalStart);
+        }
+
+        // 자정 이후 부분과 겹치는지 확인
+        if (normalStart < crossEnd && normalEnd > 0) {
+            overlap += Math.min(crossEnd, normalEnd) - Math.max(0, normalStart);
+        }
+
+        return Math.max(0, overlap);
+    }
+}
@@ -13,6 +13,9 @@ import com.smhrd.graddy.user.repository.UserRepository;
 import com.smhrd.graddy.user.repository.UserAvailableDaysRepository;
 import com.smhrd.graddy.user.repository.UserInterestRepository;
 import com.smhrd.graddy.study.repository.StudyProjectAvailableDayRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -27,6 +30,8 @@ import java.util.stream.Collectors;
 /**
  * 스터디 매칭 추천 서비스
  * 하이브리드 추천 알고리즘을 구현하여 사용자에게 최적의 스터디/프로젝트를 추천
+ *
+ * 추천 시간은 graddy.recommendation 타이머(outcome 태그), 점수를 계산한 후보 수는 graddy.recommendation.candidates로 기록
  */
 @Slf4j
 @Service
@@ -50,6 +55,7 @@ public class StudyMatchingService {
     private final UserAvailableDaysRepository userAvailableDaysRepository;
     private final StudyProjectAvailableDayRepository studyProjectAvailableDayRepository;
     private final UserInterestRepository userInterestRepository;
+    private final MeterRegistry meterRegistry;
     
     /**
      * 사용자에게 스터디 추천 (프로젝트 제외)
@@ -60,6 +66,8 @@ public class StudyMatchingService {
     @Transactional(readOnly = true)
     public List<StudyRecommendationDto> recommendStudies(String userId, int limit) {
         log.info("사용자 {}에게 스터디 추천 시작", userId);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         
         try {
             // 1. 사용자 정보 조회 (트랜잭션 내에서)
@@ -71,9 +79,16 @@ public class StudyMatchingService {
             
             if (availableStudies.isEmpty()) {
                 log.info("사용자 {}에게 추천할 수 있는 스터디가 없습니다", userId);
+                outcome = "empty";
                 return new ArrayList<>();
             }
             
+            // 후보 수에 비례하여 점수 계산 쿼리가 늘어나므로 분포를 기록
+            DistributionSummary.builder("graddy.recommendation.candidates")
+                    .description("추천 점수를 계산한 후보 스터디 수")
+                    .register(meterRegistry)
+                    .record(availableStudies.size());
+            
             // 3. 각 스터디에 대해 추천 점수 계산
             List<StudyRecommendationDto> recommendations = availableStudies.stream()
                     .map(study -> calculateRecommendationScore(user, study))
@@ -82,11 +97,17 @@ public class StudyMatchingService {
                     .collect(Collectors.toList());
             
             log.info("사용자 {}에게 {}개의 스터디를 추천했습니다", userId, recommendations.size());
+            outcome = "success";
             return recommendations;
             
         } catch (Exception e) {
             log.error("스터디 추천 중 오류 발생: {}", e.getMessage(), e);
             throw new RuntimeException("스터디 추천 중 오류가 발생했습니다", e);
+        } finally {
+            sample.stop(Timer.builder("graddy.recommendation")
+                    .description("스터디 추천 처리 시간")
+                    .tag("outcome", outcome)
+                    .register(meterRegistry));
         }
     }
     
@@ -271,24 +292,11 @@ public class StudyMatchingService {
             // 스터디의 가능 요일 조회
             List<Byte> studyDays = studyProjectAvailableDayRepository.findDayIdsByStudyProjectId(study.getStudyProjectId());
             
-            if (userDays.isEmpty() || studyDays.isEmpty()) {
-                return 0.0;
-            }
-            
             // Jaccard 유사도 계산: |A ∩ B| / |A ∪ B|
-            Set<Byte> userDaysSet = new HashSet<>(userDays);
-            Set<Byte> studyDaysSet = new HashSet<>(studyDays);
-            
-            Set<Byte> intersection = new HashSet<>(userDaysSet);
-            intersection.retainAll(studyDaysSet);
-            
-            Set<Byte> union = new HashSet<>(userDaysSet);
-            union.addAll(studyDaysSet);
+            double dayMatchScore = MatchScoreCalculator.jaccard(userDays, studyDays);
             
-            double dayMatchScore = union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
-            
-            log.debug("요일 일치도 계산: 사용자 요일={}, 스터디 요일={}, 교집합={}, 합집합={}, 점수={}",
-                    userDays, studyDays, intersection.size(), union.size(), dayMatchScore);
+            log.debug("요일 일치도 계산: 사용자 요일={}, 스터디 요일={}, 점수={}",
+                    userDays, studyDays, dayMatchScore);
             
             return dayMatchScore;
             
@@ -318,22 +326,11 @@ public class StudyMatchingService {
             int studyStartHour = extractHourFromTimestamp(study.getSoltStart());
             int studyEndHour = extractHourFromTimestamp(study.getSoltEnd());
             
-            // 자정을 넘나드는 시간대 처리
-            int userDuration = calculateDuration(userStartHour, userEndHour);
-            int studyDuration = calculateDuration(studyStartHour, studyEndHour);
-            int overlapDuration = calculateOverlapDuration(userStartHour, userEndHour, studyStartHour, studyEndHour);
-            
-            // 겹치는 시간이 있는지 확인
-            if (overlapDuration <= 0) {
-                return 0.0;
-            }
-            
-            // 시간 일치도 점수 계산 (겹치는 시간 / 더 긴 시간 범위)
-            int maxDuration = Math.max(userDuration, studyDuration);
-            double timeMatchScore = maxDuration > 0 ? (double) overlapDuration / maxDuration : 0.0;
+            // 시간 일치도 점수 계산 (자정을 넘나드는 시간대 포함, 겹치는 시간 / 더 긴 시간 범위)
+            double timeMatchScore = MatchScoreCalculator.timeMatchScore(userStartHour, userEndHour, studyStartHour, studyEndHour);
             
-            log.debug("시간 일치도 계산: 사용자({}시-{}시, {}시간), 스터디({}시-{}시, {}시간), 겹치는 시간={}시간, 점수={}",
-                    userStartHour, userEndHour, userDuration, studyStartHour, studyEndHour, studyDuration, overlapDuration, timeMatchScore);
+            log.debug("시간 일치도 계산: 사용자({}시-{}시), 스터디({}시-{}시), 점수={}",
+                    userStartHour, userEndHour, studyStartHour, studyEndHour, timeMatchScore);
             
             return timeMatchScore;
             
@@ -370,24 +367,11 @@ public class StudyMatchingService {
             // 스터디의 태그 조회
             List<Long> studyTagIds = tagRepository.findInterestIdsByStudyProjectId(study.getStudyProjectId());
             
-            if (userInterestIds.isEmpty() || studyTagIds.isEmpty()) {
-                return 0.0;
-            }
-            
             // Jaccard 유사도 계산: |A ∩ B| / |A ∪ B|
-            Set<Long> userInterestSet = new HashSet<>(userInterestIds);
-            Set<Long> studyTagSet = new HashSet<>(studyTagIds);
-            
-            Set<Long> intersection = new HashSet<>(userInterestSet);
-            intersection.retainAll(studyTagSet);
+            double interestMatchScore = MatchScoreCalculator.jaccard(userInterestIds, studyTagIds);
             
-            Set<Long> union = new HashSet<>(userInterestSet);
-            union.addAll(studyTagSet);
-            
-            double interestMatchScore = union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
-            
-            log.debug("관심사 일치도 계산: 사용자 관심사={}, 스터디 태그={}, 교집합={}, 합집합={}, 점수={}",
-                    userInterestIds, studyTagIds, intersection.size(), union.size(), interestMatchScore);
+            log.debug("관심사 일치도 계산: 사용자 관심사={}, 스터디 태그={}, 점수={}",
+                    userInterestIds, studyTagIds, interestMatchScore);
             
             return interestMatchScore;
             
@@ -431,18 +415,11 @@ public class StudyMatchingService {
                     .average()
                     .orElse(0.0);
             
-            // 레벨 차이 계산 (1~3 범위)
-            double levelDifference = Math.abs(averageUserLevel - study.getStudyLevel());
-            
-            // 레벨 근접도 점수 계산: 1 - (차이 / 최대 차이)
-            // 최대 차이는 2 (1과 3의 차이)
-            double levelMatchScore = 1.0 - (levelDifference / 2.0);
+            // 레벨 근접도 점수 계산: 1 - (차이 / 최대 차이 2), 레벨은 1~3 범위
+            double levelMatchScore = MatchScoreCalculator.levelMatchScore(averageUserLevel, study.getStudyLevel());
             
-            // 점수를 0.0 ~ 1.0 범위로 제한
-            levelMatchScore = Math.max(0.0, Math.min(1.0, levelMatchScore));
-            
-            log.debug("레벨 근접도 계산: 사용자 평균 레벨={}, 스터디 레벨={}, 차이={}, 점수={}",
-                    averageUserLevel, study.getStudyLevel(), levelDifference, levelMatchScore);
+            log.debug("레벨 근접도 계산: 사용자 평균 레벨={}, 스터디 레벨={}, 점수={}",
+                    averageUserLevel, study.getStudyLevel(), levelMatchScore);
             
             return levelMatchScore;
             
@@ -540,13 +517,7 @@ public class StudyMatchingService {
                 Set<Long> otherUserStudies = entry.getValue();
                 
                 // Jaccard 유사도 계산
-                Set<Long> intersection = new HashSet<>(currentUserStudies);
-                intersection.retainAll(otherUserStudies);
-                
-                Set<Long> union = new HashSet<>(currentUserStudies);
-                union.addAll(otherUserStudies);
-                
-                double similarity = union.isEmpty() ? 0.0 : (double) intersection.size() / union.size();
+                double similarity = MatchScoreCalculator.jaccard(currentUserStudies, otherUserStudies);
                 
                 // 유사도가 0보다 큰 경우만 추가
                 if (similarity > 0) {
@@ -640,87 +611,6 @@ public class StudyMatchingService {
         return timestamp.toLocalDateTime().getHour();
     }
     
-    /**
-     * 시간 범위의 지속 시간 계산 (자정을 넘나드는 경우 고려)
-     * @param startHour 시작 시간 (0-23)
-     * @param endHour 끝 시간 (0-23)
-     * @return 지속 시간 (시간 단위)
-     */
-    private int calculateDuration(int startHour, int endHour) {
-        if (endHour >= startHour) {
-            // 같은 날 내의 시간 범위 (예: 10시-13시 = 3시간)
-            return endHour - startHour;
-        } else {
-            // 자정을 넘나드는 시간 범위 (예: 23시-01시 = 2시간)
-            return (24 - startHour) + endHour;
-        }
-    }
-    
-    /**
-     * 두 시간 범위 간의 겹치는 시간 계산 (자정을 넘나드는 경우 고려)
-     * @param start1 첫 번째 범위 시작 시간
-     * @param end1 첫 번째 범위 끝 시간
-     * @param start2 두 번째 범위 시작 시간
-     * @param end2 두 번째 범위 끝 시간
-     * @return 겹치는 시간 (시간 단위)
-     */
-    private int calculateOverlapDuration(int start1, int end1, int start2, int end2) {
-        // 두 범위 모두 자정을 넘나드는지 확인
-        boolean range1CrossesMidnight = end1 < start1;
-        boolean range2CrossesMidnight = end2 < start2;
-        
-        if (range1CrossesMidnight && range2CrossesMidnight) {
-            // 둘 다 자정을 넘나드는 경우
-            return calculateOverlapForCrossingRanges(start1, end1, start2, end2);
-        } else if (range1CrossesMidnight) {
-            // 첫 번째 범위만 자정을 넘나드는 경우
-            return calculateOverlapWithCrossingRange(start1, end1, start2, end2);
-        } else if (range2CrossesMidnight) {
-            // 두 번째 범위만 자정을 넘나드는 경우
-            return calculateOverlapWithCrossingRange(start2, end2, start1, end1);
-        } else {
-            // 둘 다 같은 날 내의 범위인 경우
-            int overlapStart = Math.max(start1, start2);
-            int overlapEnd = Math.min(end1, end2);
-            return overlapStart < overlapEnd ? overlapEnd - overlapStart : 0;
-        }
-    }
-    
-    /**
-     * 자정을 넘나드는 두 범위 간의 겹치는 시간 계산
-     */
-    private int calculateOverlapForCrossingRanges(int start1, int end1, int start2, int end2) {
-        // 자정 이전 부분과 자정 이후 부분으로 나누어 계산
-        int beforeMidnight1 = 24 - start1;
-        int afterMidnight1 = end1;
-        int beforeMidnight2 = 24 - start2;
-        int afterMidnight2 = end2;
-        
-        int overlapBefore = Math.min(beforeMidnight1, beforeMidnight2);
-        int overlapAfter = Math.min(afterMidnight1, afterMidnight2);
-        
-        return overlapBefore + overlapAfter;
-    }
-    
-    /**
-     * 자정을 넘나드는 범위와 일반 범위 간의 겹치는 시간 계산
-     */
-    private int calculateOverlapWithCrossingRange(int crossStart, int crossEnd, int normalStart, int normalEnd) {
-        int overlap = 0;
-        
-        // 자정 이전 부분과 겹치는지 확인
-        if (normalStart < 24 && normalEnd > crossStart) {
-            overlap += Math.min(24 - crossStart, normalEnd) - Math.max(crossStart, normalStart);
-        }
-        
-        // 자정 이후 부분과 겹치는지 확인
-        if (normalStart < crossEnd && normalEnd > 0) {
-            overlap += Math.min(crossEnd, normalEnd) - Math.max(0, normalStart);
-        }
-        
-        return Math.max(0, overlap);
-    }
-    
     /**
      * 리더의 닉네임 조회
      * @param userId 리더의 사용자 ID
@@ -157,4 +157,36 @@ public class ScheduleController {
         
         return ResponseEntity.noContent().build();
     }
+    
+    /**
+     * 스터디 공용 일정 수정
+     */
+    @PutMapping("/study-events/{eventId}")
+    @Operation(summary = "스터디 공용 일정 수정", description = "스터디 멤버 전체가 공유하는 일정을 수정합니다. 일정을 만든 사용자 또는 스터디 리더만 수정할 수 있습니다.")
+    public ResponseEntity<ScheduleResponse> updateStudyEvent(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long eventId,
+            @RequestBody ScheduleRequest request) {
+        
+        String userId = jwtUtil.extractUserId(authorization.replace("Bearer ", ""));
+        request.setUserId(userId);
+        
+        ScheduleResponse response = scheduleService.updateStudyEvent(eventId, request);
+        return ResponseEntity.ok(response);
+    }
+    
+    /**
+     * 스터디 공용 일정 삭제
+     */
+    @DeleteMapping("/study-events/{eventId}")
+    @Operation(summary = "스터디 공용 일정 삭제", description = "스터디 멤버 전체가 공유하는 일정을 삭제합니다. 일정을 만든 사용자 또는 스터디 리더만 삭제할 수 있습니다.")
+    public ResponseEntity<Void> deleteStudyEvent(
+            @RequestHeader("Authorization") String authorization,
+            @PathVariable Long eventId) {
+        
+        String userId = jwtUtil.extractUserId(authorization.replace("Bearer ", ""));
+        scheduleService.deleteStudyEvent(eventId, userId);
+        
+        return ResponseEntity.noContent().build();
+    }
 }
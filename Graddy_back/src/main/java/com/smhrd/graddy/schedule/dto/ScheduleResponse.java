@@ -15,7 +15,8 @@ import java.time.LocalDateTime;
 @Builder
 public class ScheduleResponse {
     
-    private Long schId;
+    private Long schId; // 본인 일정인 경우에만
+    private Long eventId; // 스터디 공용 일정인 경우에만
     private String userId;
     private Long studyProjectId;
     private String content;
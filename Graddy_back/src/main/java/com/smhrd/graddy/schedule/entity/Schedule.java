@@ -38,6 +38,20 @@ public class Schedule {
     @Column(name = "aram_chk", columnDefinition = "TINYINT(1) DEFAULT 0")
     private Boolean aramChk = false;
     
+    // 일정 종류 (알림 대상 판별용, content 접두어 대신 사용)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sch_kind", length = 20)
+    private ScheduleKind schKind;
+    
+    // 일정 종류 enum
+    public enum ScheduleKind {
+        personal,       // 개인 일정
+        study_event,    // [스터디 일정]
+        assignment_due, // [과제 제출일]
+        study_start,    // [스터디 시작]
+        study_end       // [스터디 종료]
+    }
+    
     // 스터디 일정인지 개인 일정인지 구분하는 메서드
     public boolean isStudySchedule() {
         return studyProjectId != null;
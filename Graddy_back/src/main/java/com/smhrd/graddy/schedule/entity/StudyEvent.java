@@ -0,0 +1,55 @@
+package com.smhrd.graddy.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.sql.Timestamp;
+
+/**
+ * 스터디 공용 일정
+ * 스터디 일정/과제 제출일/스터디 시작·종료일을 멤버 수만큼 복사하지 않고 스터디당 한 행으로 저장함
+ * 멤버별 알림 상태는 StudyEventMemberState에 따로 저장함
+ */
+@Entity
+@Table(name = "study_events")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Column(name = "study_project_id", nullable = false)
+    private Long studyProjectId;
+
+    // 일정을 만든 사용자 ID
+    @Column(name = "user_id", nullable = false)
+    private String userId;
+
+    @Column(name = "content", nullable = false, columnDefinition = "TEXT")
+    private String content;
+
+    @Column(name = "sch_time", nullable = false)
+    private Timestamp schTime;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "sch_kind", length = 20, nullable = false)
+    private Schedule.ScheduleKind schKind;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Timestamp createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = new Timestamp(System.currentTimeMillis());
+    }
+}
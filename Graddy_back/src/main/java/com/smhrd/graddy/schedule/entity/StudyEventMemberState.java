@@ -0,0 +1,70 @@
+package com.smhrd.graddy.schedule.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.io.Serializable;
+import java.sql.Timestamp;
+import java.util.Objects;
+
+/**
+ * 스터디 공용 일정의 멤버별 알림 상태
+ * 알림이 처리된 멤버만 행이 생기며, 행이 없으면 아직 알림을 받지 않은 상태임
+ */
+@Entity
+@Table(name = "study_event_member_state")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@IdClass(StudyEventMemberState.StudyEventMemberStateId.class)
+public class StudyEventMemberState {
+
+    @Id
+    @Column(name = "event_id")
+    private Long eventId;
+
+    @Id
+    @Column(name = "user_id")
+    private String userId;
+
+    @Column(name = "aram_chk", columnDefinition = "TINYINT(1) DEFAULT 0")
+    private Boolean aramChk;
+
+    @Column(name = "notified_at")
+    private Timestamp notifiedAt;
+
+    // 복합키 클래스
+    public static class StudyEventMemberStateId implements Serializable {
+        private Long eventId;
+        private String userId;
+
+        public StudyEventMemberStateId() {}
+
+        public StudyEventMemberStateId(Long eventId, String userId) {
+            this.eventId = eventId;
+            this.userId = userId;
+        }
+
+        public Long getEventId() { return eventId; }
+        public void setEventId(Long eventId) { this.eventId = eventId; }
+        public String getUserId() { return userId; }
+        public void setUserId(String userId) { this.userId = userId; }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (o == null || getClass() != o.getClass()) return false;
+            StudyEventMemberStateId that = (StudyEventMemberStateId) o;
+            return Objects.equals(eventId, that.eventId) && Objects.equals(userId, that.userId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(eventId, userId);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.smhrd.graddy.schedule.repository;
+
+import com.smhrd.graddy.schedule.entity.StudyEventMemberState;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 일정 대량 저장용 JDBC 리포지토리
+ * 여러 행을 JPA로 하나씩 저장하지 않고 JdbcTemplate.batchUpdate 한 번으로 저장함
+ */
+@Repository
+@RequiredArgsConstructor
+public class ScheduleBatchRepository {
+
+    private static final String UPSERT_EVENT_STATE_SQL =
+            "INSERT INTO study_event_member_state (event_id, user_id, aram_chk, notified_at) VALUES (?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE aram_chk = VALUES(aram_chk), notified_at = VALUES(notified_at)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 공용 일정의 멤버별 알림 상태를 하나의 JDBC 배치로 저장 (이미 있으면 갱신하므로 재실행해도 결과가 같음)
+     */
+    public int[] batchUpsertEventStates(List<StudyEventMemberState> states) {
+        if (states.isEmpty()) {
+            return new int[0];
+        }
+        return jdbcTemplate.batchUpdate(UPSERT_EVENT_STATE_SQL, states, states.size(), (ps, state) -> {
+            ps.setLong(1, state.getEventId());
+            ps.setString(2, state.getUserId());
+            ps.setBoolean(3, Boolean.TRUE.equals(state.getAramChk()));
+            ps.setTimestamp(4, state.getNotifiedAt());
+        });
+    }
+}
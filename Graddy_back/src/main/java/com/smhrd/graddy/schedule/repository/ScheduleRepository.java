@@ -2,11 +2,14 @@ package com.smhrd.graddy.schedule.repository;
 
 import com.smhrd.graddy.schedule.entity.Schedule;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -48,27 +51,20 @@ public interface ScheduleRepository extends JpaRepository<Schedule, Long> {
             @Param("startTime") Timestamp startTime, 
             @Param("endTime") Timestamp endTime);
     
-    // content가 특정 문자열로 시작하고 N시간 이내에 있는 스케줄 조회
-    @Query("SELECT s FROM Schedule s WHERE s.content LIKE :contentPrefix% AND s.schTime <= :endTime ORDER BY s.schTime ASC")
-    List<Schedule> findByContentStartingWithAndSchTimeBefore(
-            @Param("contentPrefix") String contentPrefix,
+    // 특정 종류의 일정 중 아직 알림을 보내지 않았고 [startTime, endTime] 구간에 있는 스케줄 조회 (알림 큐 적재용)
+    @Query("SELECT s FROM Schedule s WHERE s.schKind IN :kinds AND s.aramChk = false AND s.schTime > :startTime AND s.schTime <= :endTime ORDER BY s.schTime ASC")
+    List<Schedule> findReminderCandidates(
+            @Param("kinds") Collection<Schedule.ScheduleKind> kinds,
+            @Param("startTime") Timestamp startTime,
             @Param("endTime") Timestamp endTime);
     
-    // content가 특정 문자열로 시작하고 N시간 이내에 있고 아직 알림을 보내지 않은 스케줄 조회
-    @Query("SELECT s FROM Schedule s WHERE s.content LIKE :contentPrefix% AND s.schTime <= :endTime AND s.aramChk = false ORDER BY s.schTime ASC")
-    List<Schedule> findByContentStartingWithAndSchTimeBeforeAndAramChkFalse(
-            @Param("contentPrefix") String contentPrefix,
-            @Param("endTime") Timestamp endTime);
+    // 알림 처리 완료 표시 (일괄)
+    @Modifying
+    @Transactional
+    @Query("UPDATE Schedule s SET s.aramChk = true WHERE s.schId IN :schIds")
+    int markNotified(@Param("schIds") Collection<Long> schIds);
     
     // 사용자의 이미 처리된 스케줄 조회 (재활성화용)
     @Query("SELECT s FROM Schedule s WHERE s.userId = :userId AND s.aramChk = true ORDER BY s.schTime ASC")
     List<Schedule> findByUserIdAndAramChkTrue(@Param("userId") String userId);
-    
-    // 특정 사용자에게 동일한 스케줄이 이미 존재하는지 확인
-    @Query("SELECT COUNT(s) > 0 FROM Schedule s WHERE s.userId = :userId AND s.studyProjectId = :studyProjectId AND s.content = :content AND s.schTime = :schTime")
-    boolean existsByUserIdAndStudyProjectIdAndContentAndSchTime(
-            @Param("userId") String userId, 
-            @Param("studyProjectId") Long studyProjectId, 
-            @Param("content") String content, 
-            @Param("schTime") Timestamp schTime);
 }
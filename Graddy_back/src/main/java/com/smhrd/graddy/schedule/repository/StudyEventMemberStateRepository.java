@@ -0,0 +1,30 @@
+package com.smhrd.graddy.schedule.repository;
+
+import com.smhrd.graddy.schedule.entity.StudyEventMemberState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudyEventMemberStateRepository
+        extends JpaRepository<StudyEventMemberState, StudyEventMemberState.StudyEventMemberStateId> {
+
+    // 여러 공용 일정의 알림 처리 완료 상태 일괄 조회
+    @Query("SELECT s FROM StudyEventMemberState s WHERE s.eventId IN :eventIds AND s.aramChk = true")
+    List<StudyEventMemberState> findNotifiedByEventIdIn(@Param("eventIds") Collection<Long> eventIds);
+
+    // 공용 일정의 멤버별 알림 상태 초기화 (일정 시간 변경/삭제 시)
+    @Modifying
+    @Query("DELETE FROM StudyEventMemberState s WHERE s.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") Long eventId);
+
+    // 특정 사용자의 공용 일정 알림 상태 초기화 (알람 설정 재활성화 시)
+    @Modifying
+    @Query("DELETE FROM StudyEventMemberState s WHERE s.userId = :userId AND s.eventId IN :eventIds")
+    int deleteByUserIdAndEventIdIn(@Param("userId") String userId, @Param("eventIds") Collection<Long> eventIds);
+}
@@ -0,0 +1,46 @@
+package com.smhrd.graddy.schedule.repository;
+
+import com.smhrd.graddy.member.entity.Member;
+import com.smhrd.graddy.schedule.entity.Schedule;
+import com.smhrd.graddy.schedule.entity.StudyEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface StudyEventRepository extends JpaRepository<StudyEvent, Long> {
+
+    // 특정 스터디의 공용 일정 조회
+    @Query("SELECT e FROM StudyEvent e WHERE e.studyProjectId = :studyProjectId ORDER BY e.schTime ASC")
+    List<StudyEvent> findByStudyProjectIdOrderBySchTimeAsc(@Param("studyProjectId") Long studyProjectId);
+
+    // 사용자가 멤버로 참여 중인 스터디의 공용 일정 조회
+    @Query("SELECT e FROM StudyEvent e WHERE e.studyProjectId IN " +
+           "(SELECT m.studyProjectId FROM Member m WHERE m.userId = :userId AND m.studyProjectCheck = :status) " +
+           "ORDER BY e.schTime ASC")
+    List<StudyEvent> findByMemberUserIdOrderBySchTimeAsc(
+            @Param("userId") String userId,
+            @Param("status") Member.MemberStatus status);
+
+    // 사용자가 멤버로 참여 중인 스터디의 특정 기간 공용 일정 조회
+    @Query("SELECT e FROM StudyEvent e WHERE e.studyProjectId IN " +
+           "(SELECT m.studyProjectId FROM Member m WHERE m.userId = :userId AND m.studyProjectCheck = :status) " +
+           "AND e.schTime BETWEEN :startTime AND :endTime ORDER BY e.schTime ASC")
+    List<StudyEvent> findByMemberUserIdAndSchTimeBetweenOrderBySchTimeAsc(
+            @Param("userId") String userId,
+            @Param("status") Member.MemberStatus status,
+            @Param("startTime") Timestamp startTime,
+            @Param("endTime") Timestamp endTime);
+
+    // 특정 종류의 공용 일정 중 (startTime, endTime] 구간에 있는 일정 조회 (알림 큐 적재용)
+    @Query("SELECT e FROM StudyEvent e WHERE e.schKind IN :kinds AND e.schTime > :startTime AND e.schTime <= :endTime ORDER BY e.schTime ASC")
+    List<StudyEvent> findReminderCandidates(
+            @Param("kinds") Collection<Schedule.ScheduleKind> kinds,
+            @Param("startTime") Timestamp startTime,
+            @Param("endTime") Timestamp endTime);
+}
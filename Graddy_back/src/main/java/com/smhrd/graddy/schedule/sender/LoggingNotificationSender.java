@@ -0,0 +1,26 @@
+package com.smhrd.graddy.schedule.sender;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 로그 출력 전용 알림 발송기 (기본값, 로컬/테스트 환경용)
+ * 실제 SMS를 발송하지 않고 발송될 메시지만 로그로 남김
+ */
+@Component
+@ConditionalOnProperty(name = "schedule.notification.sender", havingValue = "log", matchIfMissing = true)
+@Slf4j
+public class LoggingNotificationSender implements NotificationSender {
+
+    @Override
+    public int sendAll(List<NotificationMessage> messages) {
+        for (NotificationMessage message : messages) {
+            log.info("일정 알림 테스트 (SMS 발송 비활성화): userId={}, phone={}, schIds={}, message={}",
+                    message.getUserId(), message.getPhoneNumber(), message.getSchIds(), message.getText());
+        }
+        return messages.size();
+    }
+}
@@ -0,0 +1,22 @@
+package com.smhrd.graddy.schedule.sender;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.List;
+
+/**
+ * 수신자 한 명에게 발송할 알림 메시지
+ * 같은 배치에서 한 사용자에게 여러 일정 알림이 있으면 하나의 메시지로 합쳐짐
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class NotificationMessage {
+
+    private final String userId;
+    private final String phoneNumber;
+    private final String text;
+    private final List<Long> schIds;
+}
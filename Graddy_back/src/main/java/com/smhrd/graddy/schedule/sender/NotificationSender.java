@@ -0,0 +1,18 @@
+package com.smhrd.graddy.schedule.sender;
+
+import java.util.List;
+
+/**
+ * 일정 알림 일괄 발송 인터페이스
+ * schedule.notification.sender 설정값으로 구현체를 선택함 (log, sms)
+ */
+public interface NotificationSender {
+
+    /**
+     * 메시지 목록을 한 번에 발송
+     *
+     * @param messages 수신자별 메시지 목록
+     * @return 발송 요청에 성공한 메시지 수
+     */
+    int sendAll(List<NotificationMessage> messages);
+}
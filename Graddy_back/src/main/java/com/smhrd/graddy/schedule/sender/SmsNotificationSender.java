@@ -0,0 +1,36 @@
+package com.smhrd.graddy.schedule.sender;
+
+import com.smhrd.graddy.auth.SmsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * SMS 발송 대기열을 통한 알림 발송기
+ * 발송량 제한과 다건 묶음 발송은 SMS 발송 대기열(SmsOutbox)이 처리함
+ */
+@Component
+@ConditionalOnProperty(name = "schedule.notification.sender", havingValue = "sms")
+@RequiredArgsConstructor
+@Slf4j
+public class SmsNotificationSender implements NotificationSender {
+
+    private final SmsService smsService;
+
+    @Override
+    public int sendAll(List<NotificationMessage> messages) {
+        int queuedCount = 0;
+        for (NotificationMessage message : messages) {
+            try {
+                smsService.sendScheduleNotification(message.getPhoneNumber(), message.getText());
+                queuedCount++;
+            } catch (IllegalStateException e) {
+                log.error("일정 알림 SMS 대기열 추가 실패: userId={}, error={}", message.getUserId(), e.getMessage());
+            }
+        }
+        return queuedCount;
+    }
+}
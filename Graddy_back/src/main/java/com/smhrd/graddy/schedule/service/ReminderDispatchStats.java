@@ -0,0 +1,25 @@
+package com.smhrd.graddy.schedule.service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 알림 일괄 발송 1회 실행 지표
+ *
+ * @param targetCount 알림 대상 수
+ * @param batchCount 처리한 배치 수 (파티션별 배치 합계)
+ * @param failedBatchCount 실패한 배치 수 (처리 완료 표시가 되지 않아 failedTargets로 다시 예약됨)
+ * @param sentCount 발송 요청한 메시지 수
+ * @param durationMs 전체 실행 시간
+ * @param throughputPerSecond 초당 처리한 알림 대상 수
+ * @param p50BatchMs 배치 처리 시간 중앙값
+ * @param p95BatchMs 배치 처리 시간 95백분위
+ * @param maxBatchMs 가장 오래 걸린 배치 처리 시간
+ * @param finishedAt 실행 완료 시각
+ * @param failedTargets 실패한 배치의 알림 대상
+ */
+public record ReminderDispatchStats(int targetCount, int batchCount, int failedBatchCount, int sentCount,
+                                    long durationMs, double throughputPerSecond,
+                                    long p50BatchMs, long p95BatchMs, long maxBatchMs,
+                                    LocalDateTime finishedAt, List<ReminderTarget> failedTargets) {
+}
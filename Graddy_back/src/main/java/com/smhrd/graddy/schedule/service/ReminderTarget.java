@@ -0,0 +1,12 @@
+package com.smhrd.graddy.schedule.service;
+
+import com.smhrd.graddy.schedule.entity.Schedule.ScheduleKind;
+
+import java.sql.Timestamp;
+
+/**
+ * 알림 한 건 (개인 일정 한 행, 또는 공용 일정 × 멤버 한 명)
+ */
+public record ReminderTarget(Long schId, Long eventId, String userId, Long studyProjectId,
+                             ScheduleKind kind, Timestamp schTime) {
+}
@@ -1,182 +1,447 @@
 package com.smhrd.graddy.schedule.service;
 
-import com.smhrd.graddy.auth.SmsService;
+import com.smhrd.graddy.member.entity.Member;
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
 import com.smhrd.graddy.schedule.entity.Schedule;
+import com.smhrd.graddy.schedule.entity.Schedule.ScheduleKind;
+import com.smhrd.graddy.schedule.entity.StudyEvent;
 import com.smhrd.graddy.schedule.repository.ScheduleRepository;
-import com.smhrd.graddy.user.entity.User;
-import com.smhrd.graddy.user.repository.UserRepository;
-import com.smhrd.graddy.study.entity.StudyProject;
-import com.smhrd.graddy.study.repository.StudyProjectRepository;
+import com.smhrd.graddy.schedule.repository.StudyEventMemberStateRepository;
+import com.smhrd.graddy.schedule.repository.StudyEventRepository;
+import com.smhrd.graddy.study.repository.StudyProjectMemberRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.sql.Timestamp;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.Duration;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class ScheduleNotificationService {
 
+    private static final String SCHEDULE_KEY_PREFIX = "schedule:";
+    private static final String EVENT_KEY_PREFIX = "event:";
+    private static final String DISPATCH_JOB_NAME = "schedule-reminder-dispatch";
+    private static final int COLLECT_CHUNK_SIZE = 1000;
+
+    /**
+     * 종류별 알림 선행 시간 (과제 제출일 48시간 전, 스터디 일정 24시간 전)
+     */
+    private static final Map<ScheduleKind, Duration> REMINDER_LEAD_TIMES = Map.of(
+            ScheduleKind.assignment_due, Duration.ofHours(48),
+            ScheduleKind.study_event, Duration.ofHours(24)
+    );
+
     private final ScheduleRepository scheduleRepository;
-    private final UserRepository userRepository;
-    private final StudyProjectRepository studyProjectRepository;
-    private final SmsService smsService;
+    private final StudyEventRepository studyEventRepository;
+    private final StudyEventMemberStateRepository studyEventMemberStateRepository;
+    private final StudyProjectMemberRepository studyProjectMemberRepository;
+    private final ScheduleReminderQueue reminderQueue;
+    private final ScheduleReminderDispatcher reminderDispatcher;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final MeterRegistry meterRegistry;
+
+    // 알림 시각에 도달하여 일괄 발송을 기다리는 알림 키
+    private final Queue<String> pendingReminders = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean dispatchScheduled = new AtomicBoolean(false);
+
+    // 배치 처리에 실패하여 다시 예약한 알림 키별 재시도 횟수
+    private final Map<String, Integer> retryAttempts = new ConcurrentHashMap<>();
+
+    /**
+     * 알림 일괄 발송 대기 시간 (밀리초)
+     * 첫 알림 도달 후 이 시간 동안 도달한 알림을 모아서 함께 발송함
+     */
+    @Value("${schedule.reminder.batch-window-ms:1000}")
+    private long batchWindowMs;
 
     /**
-     * 매시간 실행되는 스케줄 알림
+     * 알림 큐에 미리 적재할 범위 (시간)
+     * 가장 긴 알림 선행 시간(과제 48시간)과 적재 주기보다 충분히 커야 함
      */
-    @Scheduled(cron = "0 0 * * * ?") // 매시간 실행
-    public void sendHourlyScheduleNotifications() {
+    @Value("${schedule.reminder.horizon-hours:72}")
+    private long horizonHours;
+
+    /**
+     * 배치 처리에 실패한 알림의 첫 재시도 대기 시간 (밀리초, 재시도마다 두 배)
+     */
+    @Value("${schedule.reminder.retry-delay-ms:30000}")
+    private long retryDelayMs;
+
+    /**
+     * 배치 처리 실패 시 최대 재시도 횟수 (넘으면 다음 주기 적재에서 다시 예약됨)
+     */
+    @Value("${schedule.reminder.retry-max-attempts:5}")
+    private int retryMaxAttempts;
+
+    /**
+     * 알림 지표 등록
+     * - graddy.schedule.reminder.queued: 알림 시각을 기다리는 예약 수
+     * - graddy.schedule.reminder.pending: 알림 시각에 도달하여 일괄 발송을 기다리는 알림 수
+     */
+    @PostConstruct
+    public void registerMeters() {
+        Gauge.builder("graddy.schedule.reminder.queued", reminderQueue, ScheduleReminderQueue::size)
+                .description("알림 큐에 예약된 일정 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("graddy.schedule.reminder.pending", pendingReminders, Queue::size)
+                .description("일괄 발송을 기다리는 일정 알림 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 애플리케이션 시작 시 다가오는 알림을 큐에 적재
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadRemindersOnStartup() {
+        loadUpcomingReminders();
+    }
+
+    /**
+     * 적재 범위 밖에 있던 일정이 범위 안으로 들어오면 큐에 추가
+     * 알림 자체는 큐에서 정확한 시각에 실행되므로 여기서는 구간 조회만 수행함
+     */
+    @Scheduled(fixedDelayString = "${schedule.reminder.refill-interval-ms:21600000}",
+            initialDelayString = "${schedule.reminder.refill-interval-ms:21600000}")
+    public void loadUpcomingReminders() {
+        // 알림 큐는 서버 메모리에 있으므로 적재는 서버마다 실행하고, 중복 발송은 발송 단계의 임대로 막음
+        scheduledJobRunner.runLocal("schedule-reminder-refill", this::refillReminderQueue);
+    }
+
+    private void refillReminderQueue() {
         LocalDateTime now = LocalDateTime.now();
-        log.info("스케줄 알림 시작: {}", now);
-        
-        // 과제 제출일 알림 (48시간 이하)
-        sendAssignmentNotifications(now);
-        
-        // 스터디 일정 알림 (24시간 이하)
-        sendStudyScheduleNotifications(now);
-        
-        log.info("스케줄 알림 완료");
-    }
-
-    /**
-     * 과제 제출일 알림 (48시간 이하)
-     */
-    private void sendAssignmentNotifications(LocalDateTime now) {
-        log.info("과제 제출일 알림 시작");
-        
-        // content가 "[과제 제출일]"로 시작하고 아직 알림을 보내지 않은 스케줄 중 48시간 이하인 것만 조회
-        Timestamp endTime = Timestamp.valueOf(now.plusHours(48));
-        List<Schedule> assignmentSchedules = scheduleRepository.findByContentStartingWithAndSchTimeBeforeAndAramChkFalse(
-            "[과제 제출일]", 
-            endTime
-        );
-        
-        for (Schedule schedule : assignmentSchedules) {
-            try {
-                // 현재 시간과의 차이 계산
-                long hoursUntilDue = Duration.between(now, schedule.getSchTime().toLocalDateTime()).toHours();
-                
-                // 48시간 이하인 경우만 처리
-                if (hoursUntilDue <= 48 && hoursUntilDue > 0) {
-                    sendAssignmentNotification(schedule, hoursUntilDue);
-                }
-            } catch (Exception e) {
-                log.error("과제 제출일 알림 처리 실패: scheduleId={}, error={}", 
-                    schedule.getSchId(), e.getMessage());
+        Timestamp startTime = Timestamp.valueOf(now);
+        Timestamp endTime = Timestamp.valueOf(now.plusHours(horizonHours));
+
+        int registered = 0;
+        List<Schedule> schedules = scheduleRepository.findReminderCandidates(
+                REMINDER_LEAD_TIMES.keySet(), startTime, endTime);
+        for (Schedule schedule : schedules) {
+            if (!reminderQueue.contains(scheduleKey(schedule.getSchId())) && registerReminderNow(schedule)) {
+                registered++;
+            }
+        }
+
+        List<StudyEvent> events = studyEventRepository.findReminderCandidates(
+                REMINDER_LEAD_TIMES.keySet(), startTime, endTime);
+        for (StudyEvent event : events) {
+            if (!reminderQueue.contains(eventKey(event.getEventId())) && registerReminderNow(event)) {
+                registered++;
             }
         }
+
+        log.info("일정 알림 큐 적재 완료: 개인 일정={}, 공용 일정={}, 신규 등록={}, 대기 중={}",
+                schedules.size(), events.size(), registered, reminderQueue.size());
+    }
+
+    /**
+     * 일정 생성/수정 시 알림 예약 (적재 범위 밖이면 이후 주기 적재에서 등록)
+     * 트랜잭션 안에서 호출되면 커밋 이후에 예약함 (알림 작업이 커밋 전 데이터를 조회하지 않도록)
+     */
+    public void registerReminder(Schedule schedule) {
+        runAfterCommit(() -> registerReminderNow(schedule));
+    }
+
+    /**
+     * 공용 일정 생성/수정 시 알림 예약 (멤버 전체 대상)
+     */
+    public void registerReminder(StudyEvent event) {
+        runAfterCommit(() -> registerReminderNow(event));
     }
 
     /**
-     * 스터디 일정 알림 (24시간 이하)
-     */
-    private void sendStudyScheduleNotifications(LocalDateTime now) {
-        log.info("스터디 일정 알림 시작");
-        
-        // content가 "[스터디 일정]"으로 시작하고 아직 알림을 보내지 않은 스케줄 중 24시간 이하인 것만 조회
-        Timestamp endTime = Timestamp.valueOf(now.plusHours(24));
-        List<Schedule> studySchedules = scheduleRepository.findByContentStartingWithAndSchTimeBeforeAndAramChkFalse(
-            "[스터디 일정]", 
-            endTime
-        );
-        
-        for (Schedule schedule : studySchedules) {
-            try {
-                // 현재 시간과의 차이 계산
-                long hoursUntilStudy = Duration.between(now, schedule.getSchTime().toLocalDateTime()).toHours();
-                
-                // 24시간 이하인 경우만 처리
-                if (hoursUntilStudy <= 24 && hoursUntilStudy > 0) {
-                    sendStudyNotification(schedule, hoursUntilStudy);
+     * 일정 삭제 시 알림 예약 취소
+     */
+    public void cancelReminder(Long schId) {
+        reminderQueue.cancel(scheduleKey(schId));
+        retryAttempts.remove(scheduleKey(schId));
+    }
+
+    /**
+     * 공용 일정 삭제 시 알림 예약 취소
+     */
+    public void cancelEventReminder(Long eventId) {
+        reminderQueue.cancel(eventKey(eventId));
+        retryAttempts.remove(eventKey(eventId));
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
                 }
-            } catch (Exception e) {
-                log.error("스터디 일정 알림 처리 실패: scheduleId={}, error={}", 
-                    schedule.getSchId(), e.getMessage());
-            }
+            });
+            return;
         }
+        task.run();
+    }
+
+    private boolean registerReminderNow(Schedule schedule) {
+        String key = scheduleKey(schedule.getSchId());
+        if (Boolean.TRUE.equals(schedule.getAramChk())) {
+            reminderQueue.cancel(key);
+            return false;
+        }
+        return scheduleAt(key, schedule.getSchKind(), schedule.getSchTime());
+    }
+
+    private boolean registerReminderNow(StudyEvent event) {
+        return scheduleAt(eventKey(event.getEventId()), event.getSchKind(), event.getSchTime());
+    }
+
+    private boolean scheduleAt(String key, ScheduleKind kind, Timestamp schTimestamp) {
+        Duration leadTime = kind != null ? REMINDER_LEAD_TIMES.get(kind) : null;
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime schTime = schTimestamp.toLocalDateTime();
+        if (leadTime == null || !schTime.isAfter(now) || schTime.isAfter(now.plusHours(horizonHours))) {
+            reminderQueue.cancel(key);
+            return false;
+        }
+
+        // 알림 시각이 이미 지났으면 (예: 마감 10시간 전에 생성된 과제) 즉시 발송
+        LocalDateTime fireAt = schTime.minus(leadTime);
+        Instant fireInstant = (fireAt.isBefore(now) ? now : fireAt).atZone(ZoneId.systemDefault()).toInstant();
+
+        reminderQueue.schedule(key, fireInstant, () -> sendReminder(key));
+        log.debug("일정 알림 예약: key={}, kind={}, fireAt={}", key, kind, fireAt);
+        return true;
+    }
+
+    private static String scheduleKey(Long schId) {
+        return SCHEDULE_KEY_PREFIX + schId;
+    }
+
+    private static String eventKey(Long eventId) {
+        return EVENT_KEY_PREFIX + eventId;
     }
 
     /**
-     * 과제 제출일 알림 발송
+     * 큐에서 알림 시각에 도달한 일정을 발송 대기 목록에 추가
+     * 같은 시각에 도달한 알림(시작 시 밀린 알림 등)을 묶어서 한 번에 처리하기 위해
+     * 첫 알림 도달 후 batch-window-ms 뒤에 일괄 발송함
      */
-    @Transactional
-    private void sendAssignmentNotification(Schedule schedule, long hoursUntilDue) {
+    private void sendReminder(String key) {
+        pendingReminders.add(key);
+        if (dispatchScheduled.compareAndSet(false, true)) {
+            reminderQueue.runAt(Instant.now().plusMillis(batchWindowMs), this::dispatchPendingReminders);
+        }
+    }
+
+    /**
+     * 발송 대기 중인 알림 일괄 처리
+     */
+    private void dispatchPendingReminders() {
+        dispatchScheduled.set(false);
+
+        List<String> keys = new ArrayList<>();
+        String key;
+        while ((key = pendingReminders.poll()) != null) {
+            keys.add(key);
+        }
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        Set<Long> schIds = new HashSet<>();
+        Set<Long> eventIds = new HashSet<>();
+        for (String pendingKey : keys) {
+            if (pendingKey.startsWith(EVENT_KEY_PREFIX)) {
+                eventIds.add(Long.valueOf(pendingKey.substring(EVENT_KEY_PREFIX.length())));
+            } else {
+                schIds.add(Long.valueOf(pendingKey.substring(SCHEDULE_KEY_PREFIX.length())));
+            }
+        }
+
         try {
-            // 사용자 정보 조회
-            User user = userRepository.findByUserId(schedule.getUserId()).orElse(null);
-            
-            if (user != null) {
-                // 메시지 생성
-                String message = createAssignmentMessage(hoursUntilDue);
-                
-                // 문자 알림 발송 (테스트를 위해 주석처리)
-                // smsService.sendScheduleNotification(user.getTel(), message);
-                
-                // 테스트용 로그 출력
-                log.info("과제 제출일 알림 테스트 (SMS 발송 비활성화): userId={}, hoursUntil={}, phone={}, message={}", 
-                    user.getUserId(), hoursUntilDue, user.getTel(), message);
-                
-                // 알림 발송 완료 표시
-                schedule.setAramChk(true);
-                scheduleRepository.save(schedule);
-                
-                log.info("과제 제출일 알림 처리 완료: userId={}, hoursUntil={}, phone={}", 
-                    user.getUserId(), hoursUntilDue, user.getTel());
+            // 서버가 여러 대면 같은 알림이 여러 서버의 큐에 있을 수 있으므로, 발송은 임대를 얻은 서버에서 한 번에 하나씩 처리함
+            // 대상은 임대 안에서 다시 조회하므로 다른 서버가 먼저 처리한 알림은 제외됨
+            boolean dispatched = scheduledJobRunner.runExclusive(DISPATCH_JOB_NAME, Duration.ZERO, () -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<ReminderTarget> targets = new ArrayList<>();
+                // 밀린 알림이 많아도 IN 조회 크기가 커지지 않도록 나눠서 조회
+                chunks(schIds).forEach(chunk -> collectScheduleTargets(chunk, now, targets));
+                chunks(eventIds).forEach(chunk -> collectEventTargets(chunk, now, targets));
+                if (!targets.isEmpty()) {
+                    ReminderDispatchStats stats = reminderDispatcher.dispatch(targets, now);
+                    recordDispatch(stats);
+                    retryFailedReminders(keys, stats.failedTargets());
+                }
+            });
+            if (!dispatched) {
+                // 다른 서버가 발송 중이면 배치 대기 시간 뒤에 다시 시도
+                Counter.builder("graddy.schedule.reminder.deferred")
+                        .description("다른 서버가 발송 중이라 다시 대기시킨 알림 수")
+                        .register(meterRegistry)
+                        .increment(keys.size());
+                keys.forEach(this::sendReminder);
             }
         } catch (Exception e) {
-            log.error("과제 제출일 알림 처리 실패: scheduleId={}, error={}", 
-                schedule.getSchId(), e.getMessage());
+            log.error("일정 알림 일괄 처리 실패: 개인 일정={}건, 공용 일정={}건, error={}",
+                    schIds.size(), eventIds.size(), e.getMessage());
         }
     }
 
     /**
-     * 스터디 일정 알림 발송
+     * 처리에 실패한 배치의 알림을 짧은 대기 후 다시 예약 (적재 주기까지 기다리지 않도록)
+     * 대상은 발송 시점에 다시 조회하므로, 공용 일정은 아직 알림을 받지 않은 멤버에게만 다시 발송됨
      */
-    @Transactional
-    private void sendStudyNotification(Schedule schedule, long hoursUntilStudy) {
-        try {
-            // 사용자 정보 조회 (매번 최신 정보 확인)
-            User user = userRepository.findByUserId(schedule.getUserId()).orElse(null);
-            
-            if (user != null && schedule.getStudyProjectId() != null) {
-                // 스터디 정보 조회
-                StudyProject studyProject = studyProjectRepository.findById(schedule.getStudyProjectId()).orElse(null);
-                
-                if (studyProject != null) {
-                    // 현재 사용자 알람 설정 확인
-                    if (user.isAlarmType()) {
-                        // 메시지 생성
-                        String message = createStudyScheduleMessage(hoursUntilStudy, studyProject.getStudyProjectName());
-                        
-                        // 문자 알림 발송 (테스트를 위해 주석처리)
-                        // smsService.sendScheduleNotification(user.getTel(), message);
-                        
-                        // 테스트용 로그 출력
-                        log.info("스터디 일정 알림 테스트 (SMS 발송 비활성화): userId={}, studyProject={}, hoursUntil={}, phone={}, message={}", 
-                            user.getUserId(), studyProject.getStudyProjectName(), hoursUntilStudy, user.getTel(), message);
-                    } else {
-                        log.info("사용자가 알림을 거부함: userId={}, studyProject={}", 
-                            user.getUserId(), studyProject.getStudyProjectName());
-                    }
-                    
-                    // 알림 발송 완료 표시 (발송 여부와 관계없이)
-                    schedule.setAramChk(true);
-                    scheduleRepository.save(schedule);
+    private void retryFailedReminders(List<String> dispatchedKeys, List<ReminderTarget> failedTargets) {
+        Set<String> failedKeys = failedTargets.stream()
+                .map(target -> target.schId() != null ? scheduleKey(target.schId()) : eventKey(target.eventId()))
+                .collect(Collectors.toSet());
+        dispatchedKeys.stream().filter(key -> !failedKeys.contains(key)).forEach(retryAttempts::remove);
+
+        for (String key : failedKeys) {
+            int attempt = retryAttempts.merge(key, 1, Integer::sum);
+            if (attempt > retryMaxAttempts) {
+                retryAttempts.remove(key);
+                log.warn("일정 알림 재시도 횟수 초과, 다음 적재에서 다시 예약: key={}, attempts={}", key, retryMaxAttempts);
+                continue;
+            }
+            long delayMs = retryDelayMs << Math.min(attempt - 1, 10);
+            reminderQueue.schedule(key, Instant.now().plusMillis(delayMs), () -> sendReminder(key));
+            log.info("일정 알림 재시도 예약: key={}, attempt={}, delayMs={}", key, attempt, delayMs);
+        }
+        if (!failedKeys.isEmpty()) {
+            Counter.builder("graddy.schedule.reminder.retried")
+                    .description("배치 처리 실패로 다시 예약한 알림 수")
+                    .register(meterRegistry)
+                    .increment(failedKeys.size());
+        }
+    }
+
+    /**
+     * 일괄 발송 결과 기록 (발송 시간, 대상/발송/실패 배치 수)
+     */
+    private void recordDispatch(ReminderDispatchStats stats) {
+        Timer.builder("graddy.schedule.reminder.dispatch")
+                .description("일정 알림 일괄 발송 시간")
+                .register(meterRegistry)
+                .record(stats.durationMs(), TimeUnit.MILLISECONDS);
+        Counter.builder("graddy.schedule.reminder.targets")
+                .description("알림 대상 수")
+                .register(meterRegistry)
+                .increment(stats.targetCount());
+        Counter.builder("graddy.schedule.reminder.sent")
+                .description("발송 요청한 알림 메시지 수")
+                .register(meterRegistry)
+                .increment(stats.sentCount());
+        Counter.builder("graddy.schedule.reminder.failed.batches")
+                .description("처리에 실패한 알림 배치 수")
+                .register(meterRegistry)
+                .increment(stats.failedBatchCount());
+    }
+
+    private static List<List<Long>> chunks(Set<Long> ids) {
+        List<Long> sorted = ids.stream().sorted().toList();
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < sorted.size(); from += COLLECT_CHUNK_SIZE) {
+            chunks.add(sorted.subList(from, Math.min(from + COLLECT_CHUNK_SIZE, sorted.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * 개인 일정 알림 대상 수집
+     * 예약 이후 일정이 수정/삭제/처리되었을 수 있으므로 최신 상태를 다시 조회하여 확인함
+     */
+    private void collectScheduleTargets(List<Long> schIds, LocalDateTime now, List<ReminderTarget> targets) {
+        if (schIds.isEmpty()) {
+            return;
+        }
+        for (Schedule schedule : scheduleRepository.findAllById(schIds)) {
+            if (Boolean.TRUE.equals(schedule.getAramChk()) || !isDue(schedule.getSchKind(), schedule.getSchTime(), now)) {
+                // 예약 이후 일정 시간이 늦춰진 경우 다시 예약
+                registerReminderNow(schedule);
+                continue;
+            }
+            targets.add(new ReminderTarget(schedule.getSchId(), null, schedule.getUserId(),
+                    schedule.getStudyProjectId(), schedule.getSchKind(), schedule.getSchTime()));
+        }
+    }
+
+    /**
+     * 공용 일정 알림 대상 수집 (공용 일정 × 아직 알림을 받지 않은 승인 멤버)
+     * 멤버와 알림 처리 상태는 IN 조회 한 번씩으로 가져옴
+     */
+    private void collectEventTargets(List<Long> eventIds, LocalDateTime now, List<ReminderTarget> targets) {
+        if (eventIds.isEmpty()) {
+            return;
+        }
+
+        List<StudyEvent> dueEvents = new ArrayList<>();
+        for (StudyEvent event : studyEventRepository.findAllById(eventIds)) {
+            if (isDue(event.getSchKind(), event.getSchTime(), now)) {
+                dueEvents.add(event);
+            } else {
+                registerReminderNow(event);
+            }
+        }
+        if (dueEvents.isEmpty()) {
+            return;
+        }
+
+        Set<Long> studyProjectIds = dueEvents.stream().map(StudyEvent::getStudyProjectId).collect(Collectors.toSet());
+        Map<Long, List<String>> memberIdsByStudy = studyProjectMemberRepository
+                .findByStudyProjectIdInAndStudyProjectCheck(studyProjectIds, Member.MemberStatus.approved).stream()
+                .collect(Collectors.groupingBy(Member::getStudyProjectId,
+                        Collectors.mapping(Member::getUserId, Collectors.toList())));
+
+        Set<String> notified = studyEventMemberStateRepository
+                .findNotifiedByEventIdIn(dueEvents.stream().map(StudyEvent::getEventId).toList()).stream()
+                .map(state -> state.getEventId() + "|" + state.getUserId())
+                .collect(Collectors.toSet());
+
+        for (StudyEvent event : dueEvents) {
+            for (String memberId : memberIdsByStudy.getOrDefault(event.getStudyProjectId(), List.of())) {
+                if (!notified.contains(event.getEventId() + "|" + memberId)) {
+                    targets.add(new ReminderTarget(null, event.getEventId(), memberId,
+                            event.getStudyProjectId(), event.getSchKind(), event.getSchTime()));
                 }
             }
-        } catch (Exception e) {
-            log.error("스터디 일정 알림 처리 실패: scheduleId={}, error={}", 
-                schedule.getSchId(), e.getMessage());
         }
     }
 
+    // 지금 알림을 보낼 시점인지 (일정이 지나지 않았고 알림 시각에 도달함)
+    private boolean isDue(ScheduleKind kind, Timestamp schTimestamp, LocalDateTime now) {
+        Duration leadTime = kind != null ? REMINDER_LEAD_TIMES.get(kind) : null;
+        if (leadTime == null) {
+            return false;
+        }
+        LocalDateTime schTime = schTimestamp.toLocalDateTime();
+        return schTime.isAfter(now) && !schTime.minus(leadTime).isAfter(now.plusMinutes(1));
+    }
+
     /**
      * 사용자 알람 설정 변경 시 스케줄 재활성화
      */
@@ -191,11 +456,12 @@ public class ScheduleNotificationService {
             
             for (Schedule schedule : schedules) {
                 // 24시간 이내의 스터디 일정만 재활성화
-                if (schedule.getContent().startsWith("[스터디 일정]")) {
+                if (schedule.getSchKind() == ScheduleKind.study_event) {
                     long hoursUntil = Duration.between(now, schedule.getSchTime().toLocalDateTime()).toHours();
                     if (hoursUntil <= 24 && hoursUntil > 0) {
                         schedule.setAramChk(false);
                         scheduleRepository.save(schedule);
+                        registerReminder(schedule);
                         reactivatedCount++;
                         
                         log.info("스케줄 재활성화: scheduleId={}, userId={}, hoursUntil={}", 
@@ -204,6 +470,19 @@ public class ScheduleNotificationService {
                 }
             }
             
+            // 참여 중인 스터디의 24시간 이내 공용 스터디 일정은 해당 사용자의 알림 상태만 초기화
+            List<StudyEvent> events = studyEventRepository.findByMemberUserIdAndSchTimeBetweenOrderBySchTimeAsc(
+                    userId, Member.MemberStatus.approved,
+                    Timestamp.valueOf(now), Timestamp.valueOf(now.plusHours(24)));
+            List<StudyEvent> studyEvents = events.stream()
+                    .filter(event -> event.getSchKind() == ScheduleKind.study_event)
+                    .toList();
+            if (!studyEvents.isEmpty()) {
+                reactivatedCount += studyEventMemberStateRepository.deleteByUserIdAndEventIdIn(
+                        userId, studyEvents.stream().map(StudyEvent::getEventId).toList());
+                studyEvents.forEach(this::registerReminder);
+            }
+            
             if (reactivatedCount > 0) {
                 log.info("사용자 스케줄 재활성화 완료: userId={}, 재활성화된 스케줄 수={}", 
                     userId, reactivatedCount);
@@ -213,38 +492,4 @@ public class ScheduleNotificationService {
             log.error("사용자 스케줄 재활성화 실패: userId={}, error={}", userId, e.getMessage());
         }
     }
-
-    /**
-     * 과제 제출일 알림 메시지 생성
-     */
-    private String createAssignmentMessage(long hoursUntilDue) {
-        if (hoursUntilDue >= 24) {
-            return "모레는 과제 제출일입니다. 잊지 않으셨죠?";
-        } else if (hoursUntilDue >= 12) {
-            return "내일은 과제 제출일입니다. 잊지 않으셨죠?";
-        } else if (hoursUntilDue >= 6) {
-            return "오늘 오후 과제 제출일입니다. 준비하셨나요?";
-        } else if (hoursUntilDue >= 1) {
-            return String.format("약 %d시간 후 과제 제출 마감입니다!", hoursUntilDue);
-        } else {
-            return "과제 제출 마감 시간입니다! 지금 바로 제출하세요.";
-        }
-    }
-
-    /**
-     * 스터디 일정 알림 메시지 생성
-     */
-    private String createStudyScheduleMessage(long hoursUntilStudy, String studyProjectName) {
-        if (hoursUntilStudy >= 12) {
-            return String.format("내일 **%s** 스터디 일정이 있습니다. 잊지 마세요!", studyProjectName);
-        } else if (hoursUntilStudy >= 6) {
-            return String.format("오늘 오후 **%s** 스터디 일정이 있습니다. 참여 준비되셨나요?", studyProjectName);
-        } else if (hoursUntilStudy >= 2) {
-            return String.format("**%s** 스터디가 약 %d시간 후에 시작됩니다. 참여 준비하세요!", studyProjectName, hoursUntilStudy);
-        } else if (hoursUntilStudy >= 1) {
-            return String.format("**%s** 스터디가 1시간 후에 시작됩니다! 서둘러주세요!", studyProjectName);
-        } else {
-            return String.format("**%s** 스터디가 곧 시작됩니다! 지금 바로 참여하세요!", studyProjectName);
-        }
-    }
 }
@@ -0,0 +1,283 @@
+package com.smhrd.graddy.schedule.service;
+
+import com.smhrd.graddy.schedule.entity.Schedule.ScheduleKind;
+import com.smhrd.graddy.schedule.entity.StudyEventMemberState;
+import com.smhrd.graddy.schedule.repository.ScheduleBatchRepository;
+import com.smhrd.graddy.schedule.repository.ScheduleRepository;
+import com.smhrd.graddy.schedule.sender.NotificationMessage;
+import com.smhrd.graddy.schedule.sender.NotificationSender;
+import com.smhrd.graddy.study.entity.StudyProject;
+import com.smhrd.graddy.study.repository.StudyProjectRepository;
+import com.smhrd.graddy.user.entity.User;
+import com.smhrd.graddy.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 일정 알림 일괄 발송
+ * 알림 대상을 사용자 ID 해시로 파티션을 나누고, 파티션마다 batch-size 단위 배치로 묶어 reminderExecutor에서 병렬 처리함
+ * 같은 사용자의 알림은 항상 같은 배치에 들어가므로 사용자당 메시지 한 건으로 합쳐서 발송됨
+ *
+ * 배치마다 발송 직후 처리 완료 표시(개인 일정 UPDATE, 공용 일정 멤버 상태 배치 INSERT)를 커밋하므로
+ * 이 표시가 체크포인트 역할을 함. 실행 도중 서버가 종료되어도 완료된 배치는 다시 발송되지 않고,
+ * 나머지 대상은 시작 시 알림 큐 적재에서 다시 예약되어 이어서 발송됨
+ * 처리에 실패한 배치의 대상은 실행 지표(failedTargets)로 돌려주어 호출 측에서 짧은 대기 후 다시 예약함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduleReminderDispatcher {
+
+    private final ScheduleRepository scheduleRepository;
+    private final ScheduleBatchRepository scheduleBatchRepository;
+    private final UserRepository userRepository;
+    private final StudyProjectRepository studyProjectRepository;
+    private final NotificationSender notificationSender;
+    private final AsyncTaskExecutor reminderExecutor;
+
+    // 파티션 수 (동시 실행 수는 reminderExecutor가 제한하며, 파티션을 더 잘게 나누면 먼저 끝난 스레드가 남은 배치를 가져감)
+    @Value("${schedule.reminder.dispatch.partitions:16}")
+    private int partitionCount;
+
+    // 배치 하나의 최대 알림 대상 수 (사용자/스터디 IN 조회와 완료 표시 쿼리 크기를 제한)
+    @Value("${schedule.reminder.dispatch.batch-size:500}")
+    private int batchSize;
+
+    private volatile ReminderDispatchStats lastStats;
+
+    private record BatchResult(int sentCount, long durationMs, List<ReminderTarget> failedTargets) {
+
+        boolean failed() {
+            return !failedTargets.isEmpty();
+        }
+    }
+
+    /**
+     * 알림 대상 일괄 발송
+     *
+     * @return 실행 지표
+     */
+    public ReminderDispatchStats dispatch(List<ReminderTarget> targets, LocalDateTime now) {
+        long start = System.nanoTime();
+
+        List<List<ReminderTarget>> batches = partition(targets);
+        List<CompletableFuture<BatchResult>> futures = batches.stream()
+                .map(batch -> CompletableFuture.supplyAsync(() -> processBatch(batch, now), reminderExecutor))
+                .toList();
+        List<BatchResult> results = futures.stream().map(CompletableFuture::join).toList();
+
+        long durationMs = (System.nanoTime() - start) / 1_000_000;
+        ReminderDispatchStats stats = toStats(targets.size(), results, durationMs);
+        lastStats = stats;
+
+        log.info("일정 알림 일괄 처리 완료: 대상={}건, 배치={}개 (실패 {}개), 발송={}건, {}ms, {}건/초, 배치 p50={}ms p95={}ms max={}ms",
+                stats.targetCount(), stats.batchCount(), stats.failedBatchCount(), stats.sentCount(),
+                stats.durationMs(), String.format("%.1f", stats.throughputPerSecond()),
+                stats.p50BatchMs(), stats.p95BatchMs(), stats.maxBatchMs());
+        return stats;
+    }
+
+    public Optional<ReminderDispatchStats> getLastStats() {
+        return Optional.ofNullable(lastStats);
+    }
+
+    /**
+     * 사용자 ID 해시로 파티션을 나눈 뒤, 파티션마다 사용자 단위로 batch-size까지 채워 배치 구성
+     */
+    private List<List<ReminderTarget>> partition(List<ReminderTarget> targets) {
+        int partitions = Math.max(1, partitionCount);
+        List<Map<String, List<ReminderTarget>>> byPartition = new ArrayList<>(partitions);
+        for (int i = 0; i < partitions; i++) {
+            byPartition.add(new LinkedHashMap<>());
+        }
+        for (ReminderTarget target : targets) {
+            int index = Math.floorMod(target.userId().hashCode(), partitions);
+            byPartition.get(index).computeIfAbsent(target.userId(), k -> new ArrayList<>()).add(target);
+        }
+
+        List<List<ReminderTarget>> batches = new ArrayList<>();
+        for (Map<String, List<ReminderTarget>> userTargets : byPartition) {
+            List<ReminderTarget> batch = new ArrayList<>();
+            for (List<ReminderTarget> targetsOfUser : userTargets.values()) {
+                if (!batch.isEmpty() && batch.size() + targetsOfUser.size() > batchSize) {
+                    batches.add(batch);
+                    batch = new ArrayList<>();
+                }
+                batch.addAll(targetsOfUser);
+            }
+            if (!batch.isEmpty()) {
+                batches.add(batch);
+            }
+        }
+        return batches;
+    }
+
+    private BatchResult processBatch(List<ReminderTarget> batch, LocalDateTime now) {
+        long start = System.nanoTime();
+        try {
+            int sentCount = sendBatch(batch, now);
+            return new BatchResult(sentCount, (System.nanoTime() - start) / 1_000_000, List.of());
+        } catch (Exception e) {
+            log.error("일정 알림 배치 처리 실패: 대상={}건, error={}", batch.size(), e.getMessage());
+            return new BatchResult(0, (System.nanoTime() - start) / 1_000_000, batch);
+        }
+    }
+
+    /**
+     * 배치 하나 발송
+     * 사용자/스터디 정보는 IN 조회 두 번으로 가져오고, 처리 완료 표시는 개인 일정 UPDATE 한 번과
+     * 공용 일정 멤버 상태 배치 INSERT 한 번으로 수행함
+     *
+     * @return 발송 요청한 메시지 수
+     */
+    private int sendBatch(List<ReminderTarget> targets, LocalDateTime now) {
+        // 사용자/스터디 정보 일괄 조회
+        Set<String> userIds = targets.stream().map(ReminderTarget::userId).collect(Collectors.toSet());
+        Set<Long> studyProjectIds = targets.stream()
+                .map(ReminderTarget::studyProjectId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        Map<String, User> users = userRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        Map<Long, StudyProject> studyProjects = studyProjectRepository.findAllById(studyProjectIds).stream()
+                .collect(Collectors.toMap(StudyProject::getStudyProjectId, Function.identity()));
+
+        // 수신자별 메시지 묶기 (처리 완료 표시는 발송 여부와 관계없이 대상 판별이 끝난 알림 전체)
+        Map<String, List<String>> textsByUser = new LinkedHashMap<>();
+        Map<String, List<Long>> schIdsByUser = new HashMap<>();
+        List<Long> processedSchIds = new ArrayList<>();
+        List<StudyEventMemberState> processedEventStates = new ArrayList<>();
+        Timestamp notifiedAt = Timestamp.valueOf(now);
+
+        int skippedCount = 0;
+
+        for (ReminderTarget target : targets) {
+            User user = users.get(target.userId());
+            long hoursUntil = Duration.between(now, target.schTime().toLocalDateTime()).toHours();
+            String message = null;
+
+            if (user == null) {
+                // 탈퇴 등으로 사용자가 없으면 발송하지 않고 처리 완료로 표시 (다시 적재되어 계속 대상이 되지 않도록)
+                skippedCount++;
+                log.debug("알림 대상 사용자가 없어 건너뜀: userId={}, schId={}, eventId={}",
+                        target.userId(), target.schId(), target.eventId());
+            } else if (target.kind() == ScheduleKind.assignment_due) {
+                message = createAssignmentMessage(hoursUntil);
+            } else {
+                StudyProject studyProject = target.studyProjectId() != null
+                        ? studyProjects.get(target.studyProjectId()) : null;
+                if (studyProject == null) {
+                    // 삭제된 스터디의 일정도 같은 이유로 처리 완료로 표시
+                    skippedCount++;
+                    log.debug("알림 대상 스터디가 없어 건너뜀: studyProjectId={}, schId={}, eventId={}",
+                            target.studyProjectId(), target.schId(), target.eventId());
+                } else if (user.isAlarmType()) {
+                    // 현재 사용자 알람 설정 확인
+                    message = createStudyScheduleMessage(hoursUntil, studyProject.getStudyProjectName());
+                } else {
+                    log.info("사용자가 알림을 거부함: userId={}, studyProject={}",
+                            user.getUserId(), studyProject.getStudyProjectName());
+                }
+            }
+
+            if (target.schId() != null) {
+                processedSchIds.add(target.schId());
+            } else {
+                processedEventStates.add(new StudyEventMemberState(target.eventId(), target.userId(), true, notifiedAt));
+            }
+            if (message != null) {
+                textsByUser.computeIfAbsent(user.getUserId(), k -> new ArrayList<>()).add(message);
+                if (target.schId() != null) {
+                    schIdsByUser.computeIfAbsent(user.getUserId(), k -> new ArrayList<>()).add(target.schId());
+                }
+            }
+        }
+
+        List<NotificationMessage> messages = new ArrayList<>(textsByUser.size());
+        textsByUser.forEach((userId, texts) -> messages.add(new NotificationMessage(
+                userId, users.get(userId).getTel(), String.join("\n", texts),
+                schIdsByUser.getOrDefault(userId, List.of()))));
+
+        int sentCount = messages.isEmpty() ? 0 : notificationSender.sendAll(messages);
+
+        // 알림 발송 완료 표시 (배치 단위 체크포인트)
+        int updatedCount = processedSchIds.isEmpty() ? 0 : scheduleRepository.markNotified(processedSchIds);
+        scheduleBatchRepository.batchUpsertEventStates(processedEventStates);
+
+        log.debug("일정 알림 배치 처리: 대상={}건, 수신자={}명, 발송={}건, 건너뜀={}건, 개인 일정 처리={}건, 공용 일정 멤버 처리={}건",
+                targets.size(), messages.size(), sentCount, skippedCount, updatedCount, processedEventStates.size());
+        return sentCount;
+    }
+
+    private ReminderDispatchStats toStats(int targetCount, List<BatchResult> results, long durationMs) {
+        long[] latencies = results.stream().mapToLong(BatchResult::durationMs).sorted().toArray();
+        int sentCount = results.stream().mapToInt(BatchResult::sentCount).sum();
+        int failedCount = (int) results.stream().filter(BatchResult::failed).count();
+        List<ReminderTarget> failedTargets = results.stream().flatMap(result -> result.failedTargets().stream()).toList();
+        double throughput = durationMs > 0 ? targetCount * 1000.0 / durationMs : targetCount;
+        return new ReminderDispatchStats(targetCount, results.size(), failedCount, sentCount, durationMs, throughput,
+                percentile(latencies, 0.50), percentile(latencies, 0.95),
+                latencies.length == 0 ? 0 : latencies[latencies.length - 1], LocalDateTime.now(), failedTargets);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+    }
+
+    /**
+     * 과제 제출일 알림 메시지 생성
+     */
+    private String createAssignmentMessage(long hoursUntilDue) {
+        if (hoursUntilDue >= 24) {
+            return "모레는 과제 제출일입니다. 잊지 않으셨죠?";
+        } else if (hoursUntilDue >= 12) {
+            return "내일은 과제 제출일입니다. 잊지 않으셨죠?";
+        } else if (hoursUntilDue >= 6) {
+            return "오늘 오후 과제 제출일입니다. 준비하셨나요?";
+        } else if (hoursUntilDue >= 1) {
+            return String.format("약 %d시간 후 과제 제출 마감입니다!", hoursUntilDue);
+        } else {
+            return "과제 제출 마감 시간입니다! 지금 바로 제출하세요.";
+        }
+    }
+
+    /**
+     * 스터디 일정 알림 메시지 생성
+     */
+    private String createStudyScheduleMessage(long hoursUntilStudy, String studyProjectName) {
+        if (hoursUntilStudy >= 12) {
+            return String.format("내일 **%s** 스터디 일정이 있습니다. 잊지 마세요!", studyProjectName);
+        } else if (hoursUntilStudy >= 6) {
+            return String.format("오늘 오후 **%s** 스터디 일정이 있습니다. 참여 준비되셨나요?", studyProjectName);
+        } else if (hoursUntilStudy >= 2) {
+            return String.format("**%s** 스터디가 약 %d시간 후에 시작됩니다. 참여 준비하세요!", studyProjectName, hoursUntilStudy);
+        } else if (hoursUntilStudy >= 1) {
+            return String.format("**%s** 스터디가 1시간 후에 시작됩니다! 서둘러주세요!", studyProjectName);
+        } else {
+            return String.format("**%s** 스터디가 곧 시작됩니다! 지금 바로 참여하세요!", studyProjectName);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.smhrd.graddy.schedule.service;
+
+import com.smhrd.graddy.datasource.BackgroundWork;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * 일정 알림 지연 큐
+ * 알림 시각이 가까운 일정만 메모리에 보관하고 정확한 시각에 알림 작업을 실행함
+ * 알림 키(개인 일정 "schedule:{schId}", 공용 일정 "event:{eventId}")당 하나의 예약만 유지하며,
+ * 같은 키로 다시 예약하면 기존 예약은 취소됨
+ *
+ * 스프링 스케줄러(@Scheduled)와 스레드를 공유하지 않도록 전용 스케줄러를 내부에서 생성함
+ * (Bean으로 등록하면 @Scheduled 작업의 TaskScheduler 선택에 영향을 줌)
+ * 예약 작업은 BackgroundWork로 표시되어 DB 커넥션을 background 풀에서 얻음
+ */
+@Component
+@Slf4j
+public class ScheduleReminderQueue {
+
+    @Value("${schedule.reminder.pool-size:2}")
+    private int poolSize;
+
+    private final ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+
+    private final Map<String, Reminder> reminders = new ConcurrentHashMap<>();
+
+    // 예약 하나 (스케줄러 등록 전에 취소되면 등록 직후 취소함)
+    private static final class Reminder {
+        private volatile ScheduledFuture<?> future;
+        private volatile boolean cancelled;
+
+        void attach(ScheduledFuture<?> future) {
+            this.future = future;
+            if (cancelled) {
+                future.cancel(false);
+            }
+        }
+
+        void cancel() {
+            cancelled = true;
+            ScheduledFuture<?> current = future;
+            if (current != null) {
+                current.cancel(false);
+            }
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        scheduler.setPoolSize(poolSize);
+        scheduler.setThreadNamePrefix("schedule-reminder-");
+        // 취소된 예약은 즉시 큐에서 제거하여 수정/삭제가 잦아도 메모리가 쌓이지 않도록 함
+        scheduler.setRemoveOnCancelPolicy(true);
+        scheduler.initialize();
+        log.info("일정 알림 큐 초기화: poolSize={}", poolSize);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scheduler.shutdown();
+    }
+
+    /**
+     * 알림 예약 (이미 예약된 일정이면 기존 예약을 교체)
+     * 맵 갱신과 스케줄러 등록을 분리하여, 과거 시각이라 즉시 실행되는 작업이 맵 갱신 중에 맵을 수정하지 않도록 함
+     *
+     * @param key 알림 키
+     * @param fireAt 알림 실행 시각 (과거 시각이면 즉시 실행)
+     * @param task 실행할 알림 작업
+     */
+    public void schedule(String key, Instant fireAt, Runnable task) {
+        Reminder reminder = new Reminder();
+        Reminder previous = reminders.put(key, reminder);
+        if (previous != null) {
+            previous.cancel();
+        }
+        try {
+            reminder.attach(scheduler.schedule(BackgroundWork.wrap(() -> {
+                // 아직 이 예약이 등록되어 있을 때만 실행 (그 사이 같은 키로 재예약/취소되었으면 새 예약만 남김)
+                if (reminders.remove(key, reminder)) {
+                    task.run();
+                }
+            }), fireAt));
+        } catch (RuntimeException e) {
+            reminders.remove(key, reminder);
+            throw e;
+        }
+    }
+
+    /**
+     * 일정과 무관한 일회성 작업 예약 (알림 일괄 발송 등)
+     */
+    public void runAt(Instant runAt, Runnable task) {
+        scheduler.schedule(BackgroundWork.wrap(task), runAt);
+    }
+
+    /**
+     * 알림 예약 취소
+     */
+    public void cancel(String key) {
+        Reminder previous = reminders.remove(key);
+        if (previous != null) {
+            previous.cancel();
+        }
+    }
+
+    public boolean contains(String key) {
+        return reminders.containsKey(key);
+    }
+
+    public int size() {
+        return reminders.size();
+    }
+}
@@ -3,7 +3,14 @@ package com.smhrd.graddy.schedule.service;
 import com.smhrd.graddy.schedule.dto.ScheduleRequest;
 import com.smhrd.graddy.schedule.dto.ScheduleResponse;
 import com.smhrd.graddy.schedule.entity.Schedule;
+import com.smhrd.graddy.member.entity.Member;
+import com.smhrd.graddy.schedule.entity.Schedule.ScheduleKind;
+import com.smhrd.graddy.schedule.entity.StudyEvent;
+import com.smhrd.graddy.schedule.entity.StudyEventMemberState;
+import com.smhrd.graddy.schedule.repository.ScheduleBatchRepository;
 import com.smhrd.graddy.schedule.repository.ScheduleRepository;
+import com.smhrd.graddy.schedule.repository.StudyEventMemberStateRepository;
+import com.smhrd.graddy.schedule.repository.StudyEventRepository;
 import com.smhrd.graddy.study.entity.StudyProject;
 import com.smhrd.graddy.study.repository.StudyProjectRepository;
 import com.smhrd.graddy.study.repository.StudyProjectMemberRepository;
@@ -14,7 +21,13 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -24,8 +37,12 @@ import java.util.stream.Collectors;
 public class ScheduleService {
     
     private final ScheduleRepository scheduleRepository;
+    private final ScheduleBatchRepository scheduleBatchRepository;
+    private final StudyEventRepository studyEventRepository;
+    private final StudyEventMemberStateRepository studyEventMemberStateRepository;
     private final StudyProjectRepository studyProjectRepository;
     private final StudyProjectMemberRepository studyProjectMemberRepository;
+    private final ScheduleNotificationService scheduleNotificationService;
     
     /**
      * 개인 일정 생성
@@ -40,6 +57,7 @@ public class ScheduleService {
                 .studyProjectId(null) // 개인 일정
                 .content(request.getContent())
                 .schTime(localDateTimeToTimestamp(request.getSchTime()))
+                .schKind(ScheduleKind.personal)
                 .build();
         
         Schedule savedSchedule = scheduleRepository.save(schedule);
@@ -49,58 +67,51 @@ public class ScheduleService {
     }
     
     /**
-     * 스터디 일정 생성
+     * 스터디 일정 생성 (스터디 멤버 전체가 공유하는 일정 한 건)
      */
     @Transactional
     public ScheduleResponse createStudySchedule(ScheduleRequest request) {
         log.info("스터디 일정 생성 시작: userId={}, studyProjectId={}, content={}, schTime={}", 
                 request.getUserId(), request.getStudyProjectId(), request.getContent(), request.getSchTime());
         
-                String startContent = String.format("[스터디 일정] %s", request.getContent());
         // 스터디 프로젝트 존재 여부 확인
         StudyProject studyProject = studyProjectRepository.findById(request.getStudyProjectId())
                 .orElseThrow(() -> new IllegalArgumentException("스터디 프로젝트를 찾을 수 없습니다: " + request.getStudyProjectId()));
         
-        Schedule schedule = Schedule.builder()
-                .userId(request.getUserId())
-                .studyProjectId(request.getStudyProjectId())
-                .content(startContent)
-                .schTime(localDateTimeToTimestamp(request.getSchTime()))
-                .build();
+        // 멤버 전체에게 보이는 일정이므로 스터디 멤버만 등록 가능
+        if (studyProjectMemberRepository.findByUserIdAndStudyProjectId(request.getUserId(), request.getStudyProjectId()).isEmpty()) {
+            throw new IllegalArgumentException("스터디 멤버만 스터디 일정을 등록할 수 있습니다.");
+        }
         
-        Schedule savedSchedule = scheduleRepository.save(schedule);
-        log.info("스터디 일정 생성 완료: schId={}", savedSchedule.getSchId());
+        StudyEvent savedEvent = createStudyEvent(request.getUserId(), request.getStudyProjectId(),
+                String.format("[스터디 일정] %s", request.getContent()),
+                request.getSchTime(), ScheduleKind.study_event);
+        log.info("스터디 일정 생성 완료: eventId={}", savedEvent.getEventId());
         
-        return convertToResponse(savedSchedule, studyProject);
+        return convertToResponse(savedEvent, studyProject.getStudyProjectName());
     }
     
     /**
-     * 과제 제출일에 맞춰 자동으로 일정 추가
+     * 과제 제출일에 맞춰 자동으로 일정 추가 (스터디 멤버 전체 공용)
      */
     @Transactional
     public ScheduleResponse createAssignmentSchedule(String userId, Long studyProjectId, String assignmentTitle, LocalDateTime deadline) {
         log.info("과제 제출일 일정 자동 생성: userId={}, studyProjectId={}, assignmentTitle={}, deadline={}", 
                 userId, studyProjectId, assignmentTitle, deadline);
         
-        // 과제 제출일 당일 일정만 생성
-        String submissionContent = String.format("[과제 제출일] %s - %s", 
-                getStudyProjectName(studyProjectId), assignmentTitle);
+        String studyProjectName = getStudyProjectName(studyProjectId);
         
-        Schedule submissionSchedule = Schedule.builder()
-                .userId(userId)
-                .studyProjectId(studyProjectId)
-                .content(submissionContent)
-                .schTime(localDateTimeToTimestamp(deadline))
-                .build();
-        
-        Schedule savedSubmissionSchedule = scheduleRepository.save(submissionSchedule);
-        log.info("과제 제출일 일정 생성 완료: schId={}", savedSubmissionSchedule.getSchId());
+        // 과제 제출일 당일 일정만 생성
+        StudyEvent savedEvent = createStudyEvent(userId, studyProjectId,
+                String.format("[과제 제출일] %s - %s", studyProjectName, assignmentTitle),
+                deadline, ScheduleKind.assignment_due);
+        log.info("과제 제출일 일정 생성 완료: eventId={}", savedEvent.getEventId());
         
-        return convertToResponse(savedSubmissionSchedule);
+        return convertToResponse(savedEvent, studyProjectName);
     }
     
     /**
-     * 스터디 시작/종료일에 맞춰 자동으로 일정 추가
+     * 스터디 시작/종료일에 맞춰 자동으로 일정 추가 (스터디 멤버 전체 공용)
      */
     @Transactional
     public void createStudyPeriodSchedules(String userId, Long studyProjectId, String studyProjectName, 
@@ -109,28 +120,30 @@ public class ScheduleService {
                 userId, studyProjectId, startDate, endDate);
         
         // 스터디 시작일 일정
-        String startContent = String.format("[스터디 시작] %s", studyProjectName);
-        Schedule startSchedule = Schedule.builder()
-                .userId(userId)
-                .studyProjectId(studyProjectId)
-                .content(startContent)
-                .schTime(localDateTimeToTimestamp(startDate))
-                .build();
-        
-        scheduleRepository.save(startSchedule);
+        createStudyEvent(userId, studyProjectId, String.format("[스터디 시작] %s", studyProjectName),
+                startDate, ScheduleKind.study_start);
         log.info("스터디 시작일 일정 생성 완료");
         
         // 스터디 종료일 일정
-        String endContent = String.format("[스터디 종료] %s", studyProjectName);
-        Schedule endSchedule = Schedule.builder()
+        createStudyEvent(userId, studyProjectId, String.format("[스터디 종료] %s", studyProjectName),
+                endDate, ScheduleKind.study_end);
+        log.info("스터디 종료일 일정 생성 완료");
+    }
+    
+    // 스터디 공용 일정 저장 후 알림 예약 (멤버 수와 관계없이 한 행만 저장)
+    private StudyEvent createStudyEvent(String userId, Long studyProjectId, String content,
+                                        LocalDateTime schTime, ScheduleKind kind) {
+        StudyEvent event = StudyEvent.builder()
                 .userId(userId)
                 .studyProjectId(studyProjectId)
-                .content(endContent)
-                .schTime(localDateTimeToTimestamp(endDate))
+                .content(content)
+                .schTime(localDateTimeToTimestamp(schTime))
+                .schKind(kind)
                 .build();
         
-        scheduleRepository.save(endSchedule);
-        log.info("스터디 종료일 일정 생성 완료");
+        StudyEvent savedEvent = studyEventRepository.save(event);
+        scheduleNotificationService.registerReminder(savedEvent);
+        return savedEvent;
     }
     
     /**
@@ -139,10 +152,10 @@ public class ScheduleService {
     public List<ScheduleResponse> getAllSchedulesByUserId(String userId) {
         log.info("사용자 전체 일정 조회: userId={}", userId);
         
+        // 본인 일정(개인 + 기존 멤버별 스터디 일정)과 참여 중인 스터디의 공용 일정을 시간순으로 병합
         List<Schedule> schedules = scheduleRepository.findByUserIdOrderBySchTimeAsc(userId);
-        List<ScheduleResponse> responses = schedules.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<StudyEvent> events = studyEventRepository.findByMemberUserIdOrderBySchTimeAsc(userId, Member.MemberStatus.approved);
+        List<ScheduleResponse> responses = mergeByTime(schedules, events);
         
         log.info("사용자 전체 일정 조회 완료: {}개", responses.size());
         return responses;
@@ -155,9 +168,7 @@ public class ScheduleService {
         log.info("사용자 개인 일정 조회: userId={}", userId);
         
         List<Schedule> schedules = scheduleRepository.findPersonalSchedulesByUserIdOrderBySchTimeAsc(userId);
-        List<ScheduleResponse> responses = schedules.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<ScheduleResponse> responses = mergeByTime(schedules, List.of());
         
         log.info("사용자 개인 일정 조회 완료: {}개", responses.size());
         return responses;
@@ -170,9 +181,8 @@ public class ScheduleService {
         log.info("사용자 스터디 일정 조회: userId={}", userId);
         
         List<Schedule> schedules = scheduleRepository.findStudySchedulesByUserIdOrderBySchTimeAsc(userId);
-        List<ScheduleResponse> responses = schedules.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<StudyEvent> events = studyEventRepository.findByMemberUserIdOrderBySchTimeAsc(userId, Member.MemberStatus.approved);
+        List<ScheduleResponse> responses = mergeByTime(schedules, events);
         
         log.info("사용자 스터디 일정 조회 완료: {}개", responses.size());
         return responses;
@@ -185,9 +195,8 @@ public class ScheduleService {
         log.info("스터디 일정 조회: studyProjectId={}", studyProjectId);
         
         List<Schedule> schedules = scheduleRepository.findByStudyProjectIdOrderBySchTimeAsc(studyProjectId);
-        List<ScheduleResponse> responses = schedules.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<StudyEvent> events = studyEventRepository.findByStudyProjectIdOrderBySchTimeAsc(studyProjectId);
+        List<ScheduleResponse> responses = mergeByTime(schedules, events);
         
         log.info("스터디 일정 조회 완료: {}개", responses.size());
         return responses;
@@ -201,10 +210,10 @@ public class ScheduleService {
         
         List<Schedule> schedules = scheduleRepository.findByUserIdAndSchTimeBetweenOrderBySchTimeAsc(
                 userId, localDateTimeToTimestamp(startTime), localDateTimeToTimestamp(endTime));
+        List<StudyEvent> events = studyEventRepository.findByMemberUserIdAndSchTimeBetweenOrderBySchTimeAsc(
+                userId, Member.MemberStatus.approved, localDateTimeToTimestamp(startTime), localDateTimeToTimestamp(endTime));
         
-        List<ScheduleResponse> responses = schedules.stream()
-                .map(this::convertToResponse)
-                .collect(Collectors.toList());
+        List<ScheduleResponse> responses = mergeByTime(schedules, events);
         
         log.info("사용자 기간별 일정 조회 완료: {}개", responses.size());
         return responses;
@@ -229,6 +238,8 @@ public class ScheduleService {
         schedule.setSchTime(localDateTimeToTimestamp(request.getSchTime()));
         
         Schedule updatedSchedule = scheduleRepository.save(schedule);
+        // 변경된 시간 기준으로 알림 재예약 (알림 대상이 아니거나 범위 밖이면 기존 예약만 취소)
+        scheduleNotificationService.registerReminder(updatedSchedule);
         log.info("일정 수정 완료: schId={}", updatedSchedule.getSchId());
         
         return convertToResponse(updatedSchedule);
@@ -250,25 +261,125 @@ public class ScheduleService {
         }
         
         scheduleRepository.deleteById(schId);
+        scheduleNotificationService.cancelReminder(schId);
         log.info("일정 삭제 완료: schId={}", schId);
     }
     
-    // Entity를 Response DTO로 변환
-    private ScheduleResponse convertToResponse(Schedule schedule) {
-        return convertToResponse(schedule, null);
+    /**
+     * 스터디 공용 일정 수정 (멤버 전체에게 바로 반영됨)
+     */
+    @Transactional
+    public ScheduleResponse updateStudyEvent(Long eventId, ScheduleRequest request) {
+        log.info("스터디 공용 일정 수정: eventId={}", eventId);
+        
+        StudyEvent event = studyEventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다: " + eventId));
+        StudyProject studyProject = studyProjectRepository.findById(event.getStudyProjectId()).orElse(null);
+        
+        // 권한 체크: 일정을 만든 사용자 또는 스터디 리더만 수정 가능
+        if (!canManageStudyEvent(event, studyProject, request.getUserId())) {
+            throw new IllegalArgumentException("일정을 수정할 권한이 없습니다.");
+        }
+        
+        Timestamp newSchTime = localDateTimeToTimestamp(request.getSchTime());
+        boolean timeChanged = !event.getSchTime().equals(newSchTime);
+        
+        event.setContent(request.getContent());
+        event.setSchTime(newSchTime);
+        StudyEvent updatedEvent = studyEventRepository.save(event);
+        
+        // 시간이 바뀌면 멤버 전체가 새 시간 기준으로 다시 알림을 받도록 알림 상태 초기화
+        if (timeChanged) {
+            studyEventMemberStateRepository.deleteByEventId(eventId);
+        }
+        scheduleNotificationService.registerReminder(updatedEvent);
+        log.info("스터디 공용 일정 수정 완료: eventId={}", eventId);
+        
+        return convertToResponse(updatedEvent, studyProject != null ? studyProject.getStudyProjectName() : "알 수 없는 스터디");
     }
     
-    // Entity를 Response DTO로 변환 (스터디 정보 포함)
-    private ScheduleResponse convertToResponse(Schedule schedule, StudyProject studyProject) {
-        String scheduleType = schedule.isStudySchedule() ? "study" : "personal";
-        String studyProjectName = null;
+    /**
+     * 스터디 공용 일정 삭제
+     */
+    @Transactional
+    public void deleteStudyEvent(Long eventId, String userId) {
+        log.info("스터디 공용 일정 삭제: eventId={}, userId={}", eventId, userId);
+        
+        StudyEvent event = studyEventRepository.findById(eventId)
+                .orElseThrow(() -> new IllegalArgumentException("일정을 찾을 수 없습니다: " + eventId));
+        StudyProject studyProject = studyProjectRepository.findById(event.getStudyProjectId()).orElse(null);
         
-        if (schedule.isStudySchedule() && studyProject != null) {
-            studyProjectName = studyProject.getStudyProjectName();
-        } else if (schedule.isStudySchedule()) {
-            studyProjectName = getStudyProjectName(schedule.getStudyProjectId());
+        // 권한 체크: 일정을 만든 사용자 또는 스터디 리더만 삭제 가능
+        if (!canManageStudyEvent(event, studyProject, userId)) {
+            throw new IllegalArgumentException("일정을 삭제할 권한이 없습니다.");
         }
         
+        studyEventMemberStateRepository.deleteByEventId(eventId);
+        studyEventRepository.delete(event);
+        scheduleNotificationService.cancelEventReminder(eventId);
+        log.info("스터디 공용 일정 삭제 완료: eventId={}", eventId);
+    }
+    
+    private boolean canManageStudyEvent(StudyEvent event, StudyProject studyProject, String userId) {
+        return event.getUserId().equals(userId)
+                || (studyProject != null && studyProject.getUserId().equals(userId));
+    }
+    
+    /**
+     * 시간순으로 정렬된 본인 일정과 스터디 공용 일정을 하나의 시간순 목록으로 병합
+     * 스터디명은 IN 조회 한 번으로 가져옴
+     */
+    private List<ScheduleResponse> mergeByTime(List<Schedule> schedules, List<StudyEvent> events) {
+        Set<Long> studyProjectIds = new HashSet<>();
+        schedules.stream().map(Schedule::getStudyProjectId).filter(Objects::nonNull).forEach(studyProjectIds::add);
+        events.forEach(event -> studyProjectIds.add(event.getStudyProjectId()));
+        
+        Map<Long, String> studyProjectNames = studyProjectIds.isEmpty() ? Map.of()
+                : studyProjectRepository.findAllById(studyProjectIds).stream()
+                        .collect(Collectors.toMap(StudyProject::getStudyProjectId, StudyProject::getStudyProjectName));
+        
+        List<ScheduleResponse> responses = new ArrayList<>(schedules.size() + events.size());
+        int i = 0;
+        int j = 0;
+        while (i < schedules.size() || j < events.size()) {
+            boolean takeSchedule = j >= events.size()
+                    || (i < schedules.size() && !schedules.get(i).getSchTime().after(events.get(j).getSchTime()));
+            if (takeSchedule) {
+                Schedule schedule = schedules.get(i++);
+                String studyProjectName = schedule.isStudySchedule()
+                        ? studyProjectNames.getOrDefault(schedule.getStudyProjectId(), "알 수 없는 스터디") : null;
+                responses.add(toResponse(schedule, studyProjectName));
+            } else {
+                StudyEvent event = events.get(j++);
+                responses.add(convertToResponse(event,
+                        studyProjectNames.getOrDefault(event.getStudyProjectId(), "알 수 없는 스터디")));
+            }
+        }
+        return responses;
+    }
+    
+    // 스터디 공용 일정을 Response DTO로 변환
+    private ScheduleResponse convertToResponse(StudyEvent event, String studyProjectName) {
+        return ScheduleResponse.builder()
+                .eventId(event.getEventId())
+                .userId(event.getUserId())
+                .studyProjectId(event.getStudyProjectId())
+                .content(event.getContent())
+                .schTime(timestampToLocalDateTime(event.getSchTime()))
+                .scheduleType("study")
+                .studyProjectName(studyProjectName)
+                .build();
+    }
+    
+    // Entity를 Response DTO로 변환
+    private ScheduleResponse convertToResponse(Schedule schedule) {
+        String studyProjectName = schedule.isStudySchedule() ? getStudyProjectName(schedule.getStudyProjectId()) : null;
+        return toResponse(schedule, studyProjectName);
+    }
+    
+    // Entity를 Response DTO로 변환 (스터디명 포함)
+    private ScheduleResponse toResponse(Schedule schedule, String studyProjectName) {
+        String scheduleType = schedule.isStudySchedule() ? "study" : "personal";
         return ScheduleResponse.builder()
                 .schId(schedule.getSchId())
                 .userId(schedule.getUserId())
@@ -306,181 +417,62 @@ public class ScheduleService {
     }
     
     /**
-     * 스터디 일정 생성 시 모든 멤버에게 개별 스케줄 생성
+     * 기존 멤버별로 복사된 스터디 일정을 스터디 공용 일정으로 이전 (기존 데이터 마이그레이션용)
+     * 같은 일정(종류, 시간, 내용)은 공용 일정 한 건으로 합치고, 이미 알림을 받은 멤버는 알림 상태로 옮긴 뒤
+     * 멤버별 복사본은 삭제함
      * 
-     * @param content 일정 내용
-     * @param schTime 일정 시간
      * @param studyProjectId 스터디 프로젝트 ID
-     * @return 생성된 스케줄 개수
+     * @return 생성된 공용 일정 개수
      */
     @Transactional
-    public int createStudyScheduleForAllMembers(String content, LocalDateTime schTime, Long studyProjectId) {
-        log.info("스터디 일정 멤버별 생성 시작: studyProjectId={}, content={}, schTime={}", 
-                studyProjectId, content, schTime);
-        
-        // 스터디 프로젝트 존재 여부 확인
-        StudyProject studyProject = studyProjectRepository.findById(studyProjectId)
-                .orElseThrow(() -> new IllegalArgumentException("스터디 프로젝트를 찾을 수 없습니다: " + studyProjectId));
-        
-        // 스터디 멤버들 조회
-        List<String> memberIds = studyProjectMemberRepository.findUserIdsByStudyProjectId(studyProjectId);
-        
-        if (memberIds.isEmpty()) {
-            log.warn("스터디 멤버가 없습니다: studyProjectId={}", studyProjectId);
-            return 0;
-        }
+    public int migrateMemberSchedulesToStudyEvents(Long studyProjectId) {
+        log.info("멤버별 스터디 일정 공용 일정 이전 시작: studyProjectId={}", studyProjectId);
         
-        String scheduleContent = String.format("[스터디 일정] %s", content);
-        int createdCount = 0;
-        
-        for (String memberId : memberIds) {
-            try {
-                Schedule schedule = Schedule.builder()
-                    .content(scheduleContent)
-                    .schTime(localDateTimeToTimestamp(schTime))
-                    .studyProjectId(studyProjectId)
-                    .userId(memberId)
-                    .aramChk(false)
-                    .build();
-                
-                scheduleRepository.save(schedule);
-                createdCount++;
-                
-                log.debug("멤버별 스케줄 생성 완료: userId={}, schId={}", memberId, schedule.getSchId());
-                
-            } catch (Exception e) {
-                log.error("멤버별 스케줄 생성 실패: userId={}, studyProjectId={}, error={}", 
-                    memberId, studyProjectId, e.getMessage());
+        Map<String, List<Schedule>> groups = new LinkedHashMap<>();
+        for (Schedule schedule : scheduleRepository.findByStudyProjectIdOrderBySchTimeAsc(studyProjectId)) {
+            if (schedule.getSchKind() != null && schedule.getSchKind() != ScheduleKind.personal) {
+                groups.computeIfAbsent(eventKey(schedule), k -> new ArrayList<>()).add(schedule);
             }
         }
         
-        log.info("스터디 일정 멤버별 생성 완료: studyProjectId={}, 생성된 스케줄 수={}", 
-                studyProjectId, createdCount);
-        
-        return createdCount;
-    }
-    
-    /**
-     * 과제 일정 생성 시 모든 멤버에게 개별 스케줄 생성
-     * 
-     * @param content 과제 제목
-     * @param schTime 제출 마감 시간
-     * @param studyProjectId 스터디 프로젝트 ID
-     * @return 생성된 스케줄 개수
-     */
-    @Transactional
-    public int createAssignmentScheduleForAllMembers(String content, LocalDateTime schTime, Long studyProjectId) {
-        log.info("과제 일정 멤버별 생성 시작: studyProjectId={}, content={}, schTime={}", 
-                studyProjectId, content, schTime);
-        
-        // 스터디 프로젝트 존재 여부 확인
-        StudyProject studyProject = studyProjectRepository.findById(studyProjectId)
-                .orElseThrow(() -> new IllegalArgumentException("스터디 프로젝트를 찾을 수 없습니다: " + studyProjectId));
-        
-        // 스터디 멤버들 조회
-        List<String> memberIds = studyProjectMemberRepository.findUserIdsByStudyProjectId(studyProjectId);
-        
-        if (memberIds.isEmpty()) {
-            log.warn("스터디 멤버가 없습니다: studyProjectId={}", studyProjectId);
+        if (groups.isEmpty()) {
+            log.info("이전할 멤버별 일정이 없습니다: studyProjectId={}", studyProjectId);
             return 0;
         }
         
-        String scheduleContent = String.format("[과제 제출일] %s - %s", 
-                studyProject.getStudyProjectName(), content);
-        int createdCount = 0;
-        
-        for (String memberId : memberIds) {
-            try {
-                Schedule schedule = Schedule.builder()
-                    .content(scheduleContent)
-                    .schTime(localDateTimeToTimestamp(schTime))
+        List<StudyEventMemberState> states = new ArrayList<>();
+        List<Schedule> migrated = new ArrayList<>();
+        for (List<Schedule> copies : groups.values()) {
+            Schedule first = copies.get(0);
+            StudyEvent event = studyEventRepository.save(StudyEvent.builder()
+                    .userId(first.getUserId())
                     .studyProjectId(studyProjectId)
-                    .userId(memberId)
-                    .aramChk(false)
-                    .build();
-                
-                scheduleRepository.save(schedule);
-                createdCount++;
-                
-                log.debug("멤버별 과제 스케줄 생성 완료: userId={}, schId={}", memberId, schedule.getSchId());
-                
-            } catch (Exception e) {
-                log.error("멤버별 과제 스케줄 생성 실패: userId={}, studyProjectId={}, error={}", 
-                    memberId, studyProjectId, e.getMessage());
+                    .content(first.getContent())
+                    .schTime(first.getSchTime())
+                    .schKind(first.getSchKind())
+                    .build());
+            
+            for (Schedule copy : copies) {
+                if (Boolean.TRUE.equals(copy.getAramChk())) {
+                    states.add(new StudyEventMemberState(event.getEventId(), copy.getUserId(), true, null));
+                }
+                scheduleNotificationService.cancelReminder(copy.getSchId());
             }
+            scheduleNotificationService.registerReminder(event);
+            migrated.addAll(copies);
         }
         
-        log.info("과제 일정 멤버별 생성 완료: studyProjectId={}, 생성된 스케줄 수={}", 
-                studyProjectId, createdCount);
+        scheduleBatchRepository.batchUpsertEventStates(states);
+        scheduleRepository.deleteAllInBatch(migrated);
+        
+        log.info("멤버별 스터디 일정 공용 일정 이전 완료: studyProjectId={}, 공용 일정={}건, 삭제된 멤버별 일정={}건", 
+                studyProjectId, groups.size(), migrated.size());
         
-        return createdCount;
+        return groups.size();
     }
     
-    /**
-     * 기존 스터디 일정을 모든 멤버에게 복사 (기존 데이터 마이그레이션용)
-     * 
-     * @param studyProjectId 스터디 프로젝트 ID
-     * @return 복사된 스케줄 개수
-     */
-    @Transactional
-    public int copyExistingStudySchedulesToAllMembers(Long studyProjectId) {
-        log.info("기존 스터디 일정 멤버별 복사 시작: studyProjectId={}", studyProjectId);
-        
-        // 기존 스터디 일정 조회 (리더가 생성한 것들)
-        List<Schedule> existingSchedules = scheduleRepository.findByStudyProjectIdOrderBySchTimeAsc(studyProjectId);
-        
-        if (existingSchedules.isEmpty()) {
-            log.info("복사할 기존 스케줄이 없습니다: studyProjectId={}", studyProjectId);
-            return 0;
-        }
-        
-        // 스터디 멤버들 조회
-        List<String> memberIds = studyProjectMemberRepository.findUserIdsByStudyProjectId(studyProjectId);
-        
-        if (memberIds.isEmpty()) {
-            log.warn("스터디 멤버가 없습니다: studyProjectId={}", studyProjectId);
-            return 0;
-        }
-        
-        int copiedCount = 0;
-        
-        for (Schedule existingSchedule : existingSchedules) {
-            // 스터디 일정이나 과제 제출일인 경우만 복사
-            if (existingSchedule.getContent().startsWith("[스터디 일정]") || 
-                existingSchedule.getContent().startsWith("[과제 제출일]")) {
-                
-                for (String memberId : memberIds) {
-                    // 이미 해당 멤버에게 동일한 스케줄이 있는지 확인
-                    if (!scheduleRepository.existsByUserIdAndStudyProjectIdAndContentAndSchTime(
-                            memberId, studyProjectId, existingSchedule.getContent(), existingSchedule.getSchTime())) {
-                        
-                        try {
-                            Schedule newSchedule = Schedule.builder()
-                                .content(existingSchedule.getContent())
-                                .schTime(existingSchedule.getSchTime())
-                                .studyProjectId(studyProjectId)
-                                .userId(memberId)
-                                .aramChk(false)
-                                .build();
-                            
-                            scheduleRepository.save(newSchedule);
-                            copiedCount++;
-                            
-                            log.debug("기존 스케줄 복사 완료: userId={}, content={}", 
-                                memberId, existingSchedule.getContent());
-                            
-                        } catch (Exception e) {
-                            log.error("기존 스케줄 복사 실패: userId={}, content={}, error={}", 
-                                memberId, existingSchedule.getContent(), e.getMessage());
-                        }
-                    }
-                }
-            }
-        }
-        
-        log.info("기존 스터디 일정 멤버별 복사 완료: studyProjectId={}, 복사된 스케줄 수={}", 
-                studyProjectId, copiedCount);
-        
-        return copiedCount;
+    // 멤버와 무관하게 같은 일정인지 판별하는 키
+    private String eventKey(Schedule schedule) {
+        return schedule.getSchKind() + "|" + schedule.getSchTime().getTime() + "|" + schedule.getContent();
     }
 }
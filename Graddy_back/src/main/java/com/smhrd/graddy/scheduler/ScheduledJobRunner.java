@@ -0,0 +1,242 @@
+package com.smhrd.graddy.scheduler;
+
+import com.smhrd.graddy.datasource.BackgroundWork;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * 스케줄 작업 실행기
+ * 서버를 여러 대 띄워도 DB를 변경하는 작업은 매 주기마다 한 노드에서만 실행되도록
+ * scheduler_lock 테이블의 임대를 얻은 경우에만 작업을 실행하고, 작업별 실행 시간을 기록함
+ *
+ * - runExclusive: 클러스터 전체에서 한 노드만 실행 (DB 정리, 만료 처리, 알림 발송 등)
+ * - runLocal: 노드마다 실행 (메모리 캐시 정리 등 노드 자신의 상태만 다루는 작업), 실행 시간만 기록
+ *
+ * 실행이 임대 시간보다 길어지면 lease의 1/3 간격으로 임대를 연장함
+ * 임대 연장용 스케줄러는 @Scheduled 작업의 TaskScheduler 선택에 영향을 주지 않도록 Bean으로 등록하지 않음
+ *
+ * 실행 시간은 graddy.scheduler.job 타이머(job, outcome 태그), 건너뛴 횟수는 graddy.scheduler.job.skipped로도 노출함
+ * 작업(임대 획득/연장 포함)은 BackgroundWork로 표시되어 DB 커넥션을 background 풀에서 얻음
+ */
+@Component
+@Slf4j
+public class ScheduledJobRunner {
+
+    private final SchedulerLockRepository lockRepository;
+    private final MeterRegistry meterRegistry;
+
+    // false면 DB 임대 없이 노드 안에서만 중복 실행을 막음 (단일 서버 개발 환경용)
+    @Value("${scheduler.lock.enabled:true}")
+    private boolean lockEnabled;
+
+    @Value("${scheduler.lock.lease-ms:60000}")
+    private long leaseMs;
+
+    // 작업이 일찍 끝나도 유지할 최소 임대 시간 (노드 간 실행 시각 차이로 같은 주기에 두 번 실행되는 것을 방지)
+    @Value("${scheduler.lock.min-hold-ms:5000}")
+    private long defaultMinHoldMs;
+
+    @Value("${scheduler.lock.node-id:}")
+    private String nodeId;
+
+    private final ThreadPoolTaskScheduler renewalScheduler = new ThreadPoolTaskScheduler();
+    private final Set<String> runningJobs = ConcurrentHashMap.newKeySet();
+    private final Map<String, ScheduledJobStats> stats = new ConcurrentHashMap<>();
+
+    public ScheduledJobRunner(SchedulerLockRepository lockRepository, MeterRegistry meterRegistry) {
+        this.lockRepository = lockRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        if (nodeId == null || nodeId.isBlank()) {
+            nodeId = resolveHostName() + ":" + ProcessHandle.current().pid();
+        }
+        renewalScheduler.setPoolSize(1);
+        renewalScheduler.setThreadNamePrefix("scheduler-lock-renew-");
+        renewalScheduler.setRemoveOnCancelPolicy(true);
+        renewalScheduler.initialize();
+        Gauge.builder("graddy.scheduler.job.running", runningJobs, Set::size)
+                .description("이 노드에서 실행 중인 스케줄 작업 수")
+                .register(meterRegistry);
+        log.info("스케줄 작업 실행기 초기화: nodeId={}, lockEnabled={}, leaseMs={}", nodeId, lockEnabled, leaseMs);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        renewalScheduler.shutdown();
+    }
+
+    /**
+     * 클러스터 전체에서 한 노드만 작업 실행 (기본 최소 유지 시간 적용)
+     *
+     * @return 실행 여부 (다른 노드나 스레드가 실행 중이면 false)
+     */
+    public boolean runExclusive(String jobName, Runnable task) {
+        return runExclusive(jobName, Duration.ofMillis(defaultMinHoldMs), task);
+    }
+
+    /**
+     * 클러스터 전체에서 한 노드만 작업 실행
+     *
+     * @param minHold 작업이 일찍 끝나도 임대를 유지할 시간 (연속 실행이 필요한 작업은 Duration.ZERO)
+     * @return 실행 여부 (다른 노드나 스레드가 실행 중이면 false)
+     */
+    public boolean runExclusive(String jobName, Duration minHold, Runnable task) {
+        return callExclusive(jobName, minHold, () -> {
+            task.run();
+            return Boolean.TRUE;
+        }).isPresent();
+    }
+
+    /**
+     * 클러스터 전체에서 한 노드만 작업을 실행하고 결과 반환
+     *
+     * @return 작업 결과 (다른 노드나 스레드가 실행 중이면 empty)
+     */
+    public <T> Optional<T> callExclusive(String jobName, Duration minHold, Supplier<T> task) {
+        return BackgroundWork.call(() -> callExclusiveInBackground(jobName, minHold, task));
+    }
+
+    private <T> Optional<T> callExclusiveInBackground(String jobName, Duration minHold, Supplier<T> task) {
+        if (!runningJobs.add(jobName)) {
+            recordSkip(jobName, "local");
+            log.debug("스케줄 작업 건너뜀 (이 노드에서 실행 중): job={}", jobName);
+            return Optional.empty();
+        }
+        try {
+            if (!lockEnabled) {
+                return Optional.ofNullable(timed(jobName, task));
+            }
+
+            String owner = nodeId + "#" + UUID.randomUUID().toString().substring(0, 8);
+            Duration lease = Duration.ofMillis(leaseMs);
+            if (!lockRepository.tryAcquire(jobName, owner, lease)) {
+                recordSkip(jobName, "remote");
+                log.debug("스케줄 작업 건너뜀 (다른 노드에서 실행 중): job={}", jobName);
+                return Optional.empty();
+            }
+
+            ScheduledFuture<?> renewal = renewalScheduler.scheduleAtFixedRate(
+                    BackgroundWork.wrap(() -> renew(jobName, owner, lease)), lease.dividedBy(3));
+            try {
+                return Optional.ofNullable(timed(jobName, task));
+            } finally {
+                renewal.cancel(false);
+                releaseQuietly(jobName, owner, minHold);
+            }
+        } finally {
+            runningJobs.remove(jobName);
+        }
+    }
+
+    /**
+     * 노드마다 실행하는 작업 (실행 시간만 기록)
+     */
+    public void runLocal(String jobName, Runnable task) {
+        BackgroundWork.call(() -> timed(jobName, () -> {
+            task.run();
+            return null;
+        }));
+    }
+
+    /**
+     * 작업별 실행 지표 (작업 이름순)
+     */
+    public Map<String, ScheduledJobStats> getJobStats() {
+        return new TreeMap<>(stats);
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    private <T> T timed(String jobName, Supplier<T> task) {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            T result = task.get();
+            failed = false;
+            return result;
+        } finally {
+            long durationNanos = System.nanoTime() - start;
+            long durationMs = durationNanos / 1_000_000;
+            stats(jobName).recordRun(startedAt, durationMs, failed);
+            Timer.builder("graddy.scheduler.job")
+                    .description("스케줄 작업 실행 시간")
+                    .tag("job", jobName)
+                    .tag("outcome", failed ? "failure" : "success")
+                    .register(meterRegistry)
+                    .record(durationNanos, TimeUnit.NANOSECONDS);
+            if (durationMs >= leaseMs) {
+                log.warn("스케줄 작업 실행 시간이 임대 시간보다 김: job={}, durationMs={}, leaseMs={}",
+                        jobName, durationMs, leaseMs);
+            }
+        }
+    }
+
+    private void renew(String jobName, String owner, Duration lease) {
+        try {
+            if (!lockRepository.extend(jobName, owner, lease)) {
+                log.warn("스케줄 작업 임대 연장 실패 (임대를 잃음): job={}, owner={}", jobName, owner);
+            }
+        } catch (Exception e) {
+            log.warn("스케줄 작업 임대 연장 중 오류: job={}, error={}", jobName, e.getMessage());
+        }
+    }
+
+    private void releaseQuietly(String jobName, String owner, Duration minHold) {
+        try {
+            lockRepository.release(jobName, owner, minHold);
+        } catch (Exception e) {
+            // 반납하지 못해도 임대 시간이 지나면 다른 노드가 가져갈 수 있음
+            log.warn("스케줄 작업 임대 반납 실패: job={}, error={}", jobName, e.getMessage());
+        }
+    }
+
+    // reason: local(이 노드에서 실행 중), remote(다른 노드가 임대를 가짐)
+    private void recordSkip(String jobName, String reason) {
+        stats(jobName).recordSkip();
+        Counter.builder("graddy.scheduler.job.skipped")
+                .description("실행 중이라 건너뛴 스케줄 작업 수")
+                .tag("job", jobName)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private ScheduledJobStats stats(String jobName) {
+        return stats.computeIfAbsent(jobName, ScheduledJobStats::new);
+    }
+
+    private static String resolveHostName() {
+        try {
+            return InetAddress.getLocalHost().getHostName();
+        } catch (Exception e) {
+            return "unknown";
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.smhrd.graddy.scheduler;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스케줄 작업별 실행 지표
+ * 실행 횟수, 다른 노드가 실행 중이라 건너뛴 횟수, 실패 횟수와 실행 시간을 누적함
+ */
+@Getter
+public class ScheduledJobStats {
+
+    private final String jobName;
+    private long runCount;
+    private long skippedCount;
+    private long failureCount;
+    private long lastDurationMs;
+    private long maxDurationMs;
+    private long totalDurationMs;
+    private LocalDateTime lastStartedAt;
+    private LocalDateTime lastSkippedAt;
+
+    ScheduledJobStats(String jobName) {
+        this.jobName = jobName;
+    }
+
+    synchronized void recordRun(LocalDateTime startedAt, long durationMs, boolean failed) {
+        runCount++;
+        if (failed) {
+            failureCount++;
+        }
+        lastStartedAt = startedAt;
+        lastDurationMs = durationMs;
+        maxDurationMs = Math.max(maxDurationMs, durationMs);
+        totalDurationMs += durationMs;
+    }
+
+    synchronized void recordSkip() {
+        skippedCount++;
+        lastSkippedAt = LocalDateTime.now();
+    }
+
+    public synchronized long getAverageDurationMs() {
+        return runCount == 0 ? 0 : totalDurationMs / runCount;
+    }
+}
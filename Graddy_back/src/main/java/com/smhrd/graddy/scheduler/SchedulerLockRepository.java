@@ -0,0 +1,85 @@
+package com.smhrd.graddy.scheduler;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+/**
+ * 스케줄 작업 임대(lease) 테이블 리포지토리 (scheduler_lock)
+ * 작업 이름당 한 행을 두고 locked_until이 지난 경우에만 다른 노드가 가져갈 수 있음
+ *
+ * 노드 간 시계 차이의 영향을 받지 않도록 시각은 모두 DB의 NOW(3) 기준으로 계산하고,
+ * 호출하는 쪽의 트랜잭션과 관계없이 바로 커밋되도록 항상 새 트랜잭션에서 실행함
+ */
+@Repository
+public class SchedulerLockRepository {
+
+    private static final String INSERT_SQL =
+            "INSERT IGNORE INTO scheduler_lock (lock_name, locked_by, locked_at, locked_until) " +
+            "VALUES (?, ?, NOW(3), TIMESTAMPADD(MICROSECOND, ?, NOW(3)))";
+
+    private static final String TAKE_OVER_SQL =
+            "UPDATE scheduler_lock SET locked_by = ?, locked_at = NOW(3), " +
+            "locked_until = TIMESTAMPADD(MICROSECOND, ?, NOW(3)) " +
+            "WHERE lock_name = ? AND locked_until <= NOW(3)";
+
+    private static final String EXTEND_SQL =
+            "UPDATE scheduler_lock SET locked_until = TIMESTAMPADD(MICROSECOND, ?, NOW(3)) " +
+            "WHERE lock_name = ? AND locked_by = ?";
+
+    // 최소 유지 시간 전에 끝난 작업은 locked_at + 최소 유지 시간까지 잠금을 남겨 같은 주기에 다른 노드가 다시 실행하지 않도록 함
+    private static final String RELEASE_SQL =
+            "UPDATE scheduler_lock SET locked_until = GREATEST(NOW(3), TIMESTAMPADD(MICROSECOND, ?, locked_at)) " +
+            "WHERE lock_name = ? AND locked_by = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNew;
+
+    public SchedulerLockRepository(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 임대 획득 시도 (처음 실행되는 작업이면 행을 만들고, 기존 임대가 만료되었으면 가져옴)
+     *
+     * @return 획득 여부
+     */
+    public boolean tryAcquire(String lockName, String owner, Duration lease) {
+        long leaseMicros = toMicros(lease);
+        Boolean acquired = requiresNew.execute(status ->
+                jdbcTemplate.update(INSERT_SQL, lockName, owner, leaseMicros) == 1
+                        || jdbcTemplate.update(TAKE_OVER_SQL, owner, leaseMicros, lockName) == 1);
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * 임대 연장 (오래 걸리는 작업 실행 중 주기적으로 호출)
+     *
+     * @return 연장 여부 (false면 임대가 만료되어 다른 노드가 가져간 상태)
+     */
+    public boolean extend(String lockName, String owner, Duration lease) {
+        Integer updated = requiresNew.execute(status ->
+                jdbcTemplate.update(EXTEND_SQL, toMicros(lease), lockName, owner));
+        return updated != null && updated == 1;
+    }
+
+    /**
+     * 임대 반납
+     *
+     * @param minHold 작업 시작 시각부터 최소한 유지할 시간
+     */
+    public void release(String lockName, String owner, Duration minHold) {
+        requiresNew.executeWithoutResult(status ->
+                jdbcTemplate.update(RELEASE_SQL, toMicros(minHold), lockName, owner));
+    }
+
+    private static long toMicros(Duration duration) {
+        return duration.toNanos() / 1_000;
+    }
+}
@@ -4,6 +4,9 @@ import com.smhrd.graddy.score.dto.ScoreResponse;
 import com.smhrd.graddy.score.dto.RankingResponse;
 import com.smhrd.graddy.score.entity.Score;
 import com.smhrd.graddy.score.repository.ScoreRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -21,6 +24,7 @@ import java.util.stream.Collectors;
 public class ScoreService {
     
     private final ScoreRepository scoreRepository;
+    private final MeterRegistry meterRegistry;
     
     /**
      * 사용자 점수 조회
@@ -57,10 +61,7 @@ public class ScoreService {
         List<Score> topScores = scoreRepository.findTop100ByOrderByUserScoreDesc();
         Long totalUsers = scoreRepository.countTotalUsers();
         
-        List<ScoreResponse> rankings = topScores.stream()
-                .map(this::convertToScoreResponse)
-                .filter(response -> response != null) // null 응답 필터링
-                .collect(Collectors.toList());
+        List<ScoreResponse> rankings = toRankings("top100", topScores);
         
         return RankingResponse.builder()
                 .rankings(rankings)
@@ -79,10 +80,7 @@ public class ScoreService {
         List<Score> scores = scoreRepository.findByUserScoreGreaterThanEqualOrderByUserScoreDesc(minScore);
         Long totalUsers = scoreRepository.countTotalUsers();
         
-        List<ScoreResponse> rankings = scores.stream()
-                .map(this::convertToScoreResponse)
-                .filter(response -> response != null) // null 응답 필터링
-                .collect(Collectors.toList());
+        List<ScoreResponse> rankings = toRankings("min_score", scores);
         
         return RankingResponse.builder()
                 .rankings(rankings)
@@ -101,10 +99,7 @@ public class ScoreService {
         List<Score> scores = scoreRepository.findByUserScoreBetweenOrderByUserScoreDesc(minScore, maxScore);
         Long totalUsers = scoreRepository.countTotalUsers();
         
-        List<ScoreResponse> rankings = scores.stream()
-                .map(this::convertToScoreResponse)
-                .filter(response -> response != null) // null 응답 필터링
-                .collect(Collectors.toList());
+        List<ScoreResponse> rankings = toRankings("score_range", scores);
         
         return RankingResponse.builder()
                 .rankings(rankings)
@@ -207,6 +202,7 @@ public class ScoreService {
             }
         }
         
+        recordScoreChange("increase", points);
         int previousScore = score.getUserScore();
         int newScore = score.getUserScore() + points;
         score.setUserScore(newScore);
@@ -254,6 +250,7 @@ public class ScoreService {
             }
         }
         
+        recordScoreChange("decrease", points);
         int newScore = Math.max(0, score.getUserScore() - points); // 최소 0점
         score.setUserScore(newScore);
         score.setLastUpdated(new Timestamp(System.currentTimeMillis()));
@@ -288,6 +285,39 @@ public class ScoreService {
         log.info("점수 마이그레이션은 수동으로 실행해야 합니다.");
     }
     
+    /**
+     * 랭킹 목록 변환
+     * 행마다 순위 조회 쿼리가 실행되므로 기준(criteria 태그)별 변환 시간과 행 수를 graddy.score.ranking 지표로 기록
+     */
+    private List<ScoreResponse> toRankings(String criteria, List<Score> scores) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        List<ScoreResponse> rankings = scores.stream()
+                .map(this::convertToScoreResponse)
+                .filter(response -> response != null) // null 응답 필터링
+                .collect(Collectors.toList());
+        sample.stop(Timer.builder("graddy.score.ranking")
+                .description("랭킹 목록 변환 시간")
+                .tag("criteria", criteria)
+                .register(meterRegistry));
+        DistributionSummary.builder("graddy.score.ranking.rows")
+                .description("랭킹 조회 1회의 행 수")
+                .tag("criteria", criteria)
+                .register(meterRegistry)
+                .record(scores.size());
+        return rankings;
+    }
+
+    /**
+     * 점수 증감량 기록 (operation: increase / decrease)
+     */
+    private void recordScoreChange(String operation, Integer points) {
+        DistributionSummary.builder("graddy.score.change")
+                .description("사용자 점수 증감량")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(points != null ? points : 0);
+    }
+
     /**
      * Score 엔티티를 ScoreResponse로 변환
      */
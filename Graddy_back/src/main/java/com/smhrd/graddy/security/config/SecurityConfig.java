@@ -1,6 +1,7 @@
 package com.smhrd.graddy.security.config;
 
 import com.smhrd.graddy.security.jwt.JwtAuthenticationFilter;
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -33,10 +34,17 @@ public class SecurityConfig {
 
                 // 2. HTTP 요청 인증 설정
                 .authorizeHttpRequests(authorize -> authorize
+                        // SSE(SseEmitter) 비동기 디스패치 허용 - 최초 요청에서 이미 인증/인가됨
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC, DispatcherType.ERROR).permitAll()
                         // 인증 관련 엔드포인트는 JWT 검증 없이 허용
                         .requestMatchers("/auth/login", "/auth/refresh", "/auth/logout", "/api/auth/login", "/login", "/interests", "/studies-projects", "/scores/ranking/**" , "/free/posts", "/posts/**", "/studies-projects/**").permitAll()
                         .requestMatchers("/auth/**", "/scores/ranking/**","/api/phone-verification/**", "/join", "/interests", "/studies-projects","/join/check-userId", "/join/check-nick","/ws-stomp/**").permitAll()
 
+                        // 헬스 체크와 Prometheus 수집 엔드포인트 허용 (관리 포트는 외부에 열지 않음)
+                        .requestMatchers("/actuator/health/**", "/actuator/prometheus").permitAll()
+                        // 기준 데이터 갱신은 관리자만 호출
+                        .requestMatchers("/actuator/referencedata").hasRole("ADMIN")
+
                         // 파일 업로드/다운로드 엔드포인트 허용 (첨부파일 접근용)
                         .requestMatchers("/files/**").permitAll()
                                        
@@ -0,0 +1,165 @@
+package com.smhrd.graddy.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.stereotype.Service;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+
+/**
+ * 로컬 파일 다운로드 서비스
+ * - ETag / Last-Modified 기반 조건부 요청(If-None-Match, If-Modified-Since) 처리
+ * - 단일 바이트 범위(Range, If-Range) 요청 처리
+ * - Tomcat sendfile 지원 시 커넥터가 커널 수준에서 직접 전송(zero-copy),
+ *   그 외에는 FileChannel.transferTo로 전체 파일을 메모리에 올리지 않고 전송
+ */
+@Service
+@Slf4j
+public class LocalFileDownloadService {
+
+    // Tomcat sendfile 요청 속성 (NIO 커넥터에서 FileChannel.transferTo로 전송)
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    // Tomcat DefaultServlet과 동일하게 작은 파일은 sendfile 대신 직접 전송
+    private static final long SENDFILE_MIN_SIZE = 48 * 1024;
+
+    @Value("${file.upload.path:uploads}")
+    private String uploadPath;
+
+    /**
+     * 업로드 폴더의 파일을 응답으로 전송
+     */
+    public void serve(String folder, String fileName, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Path root = Paths.get(uploadPath).toAbsolutePath().normalize();
+        Path filePath = root.resolve(folder).resolve(fileName).normalize();
+        if (!filePath.startsWith(root)) {
+            log.warn("업로드 경로 밖의 파일 요청 차단: {}/{}", folder, fileName);
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST);
+            return;
+        }
+
+        BasicFileAttributes attributes;
+        try {
+            attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+        } catch (NoSuchFileException e) {
+            log.warn("파일을 찾을 수 없습니다: {}", filePath);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+        if (!attributes.isRegularFile()) {
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        long length = attributes.size();
+        long lastModified = attributes.lastModifiedTime().toMillis();
+        String etag = "\"" + Long.toHexString(length) + "-" + Long.toHexString(lastModified) + "\"";
+
+        // 조건부 요청: 변경되지 않았으면 304 응답 (ETag, Last-Modified 헤더도 여기서 설정됨)
+        if (new ServletWebRequest(request, response).checkNotModified(etag, lastModified)) {
+            return;
+        }
+
+        String contentType = Files.probeContentType(filePath);
+        response.setContentType(contentType != null ? contentType : "application/octet-stream");
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=3600");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.inline().filename(fileName, StandardCharsets.UTF_8).build().toString());
+
+        // 바이트 범위 요청 처리 (다중 범위는 지원하지 않고 전체 응답으로 처리)
+        long start = 0;
+        long end = length - 1;
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && length > 0 && isRangeApplicable(request, etag, lastModified)) {
+            try {
+                List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+                if (ranges.size() == 1) {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length);
+                    // 시작 위치가 파일 길이 이상이면 만족할 수 없는 범위 (bytes=100- 이고 길이 100, bytes=-0)
+                    if (start >= length || end < start) {
+                        throw new IllegalArgumentException("Unsatisfiable range: " + rangeHeader);
+                    }
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + length);
+                }
+            } catch (IllegalArgumentException e) {
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long count = end - start + 1;
+        response.setContentLengthLong(Math.max(count, 0));
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || count <= 0) {
+            return;
+        }
+
+        // Tomcat sendfile 지원 시 커넥터가 직접 전송
+        if (count >= SENDFILE_MIN_SIZE && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, filePath.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, end + 1);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = count;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
+    }
+
+    /**
+     * If-Range 조건 확인 (ETag 또는 날짜가 현재 파일과 일치할 때만 범위 응답)
+     * If-Range는 강한 비교만 허용하므로 약한 ETag(W/)는 일치하지 않는 것으로 보고 전체 응답 (RFC 9110 13.1.5)
+     */
+    private boolean isRangeApplicable(HttpServletRequest request, String etag, long lastModified) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange == null) {
+            return true;
+        }
+        if (ifRange.startsWith("W/")) {
+            return false;
+        }
+        if (ifRange.startsWith("\"")) {
+            return ifRange.equals(etag);
+        }
+        try {
+            long ifRangeDate = request.getDateHeader(HttpHeaders.IF_RANGE);
+            return ifRangeDate != -1 && lastModified / 1000 <= ifRangeDate / 1000;
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
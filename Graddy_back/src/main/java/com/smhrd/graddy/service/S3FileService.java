@@ -8,10 +8,18 @@ import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.GetObjectPresignRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +32,7 @@ import java.util.UUID;
 public class S3FileService implements FileService {
 
     private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
 
     @Value("${aws.s3.bucket-name}")
     private String bucketName;
@@ -34,6 +43,23 @@ public class S3FileService implements FileService {
     @Value("${spring.profiles.active:default}")
     private String activeProfile;
 
+    @Value("${aws.s3.presigned-url.expiration-minutes:10}")
+    private long presignedUrlExpirationMinutes;
+
+    @Value("${aws.s3.direct-upload.max-file-size:104857600}")
+    private long directUploadMaxFileSize;
+
+    /**
+     * 직접 업로드(Presigned URL)를 허용하는 폴더
+     */
+    private static final Set<String> DIRECT_UPLOAD_FOLDERS = Set.of("assignments", "general");
+
+    /**
+     * 직접 업로드한 사용자를 기록하는 객체 메타데이터 (x-amz-meta-uploaded-by)
+     * 서명에 포함되므로 URL을 발급받은 사용자 ID로만 업로드할 수 있음
+     */
+    private static final String UPLOADER_METADATA = "uploaded-by";
+
     /**
      * 파일을 S3에 업로드
      */
@@ -42,10 +68,7 @@ public class S3FileService implements FileService {
             throw new IllegalArgumentException("파일이 비어있습니다.");
         }
 
-        // 파일명 생성 (UUID + 타임스탬프 + 원본명)
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
-        String fileName = UUID.randomUUID().toString() + "_" + timestamp + "_" + file.getOriginalFilename();
-        String key = folder + "/" + fileName;
+        String key = generateKey(folder, file.getOriginalFilename());
 
         log.info("S3 파일 업로드 시작: {}", key);
         log.info("파일 크기: {} bytes", file.getSize());
@@ -130,6 +153,133 @@ public class S3FileService implements FileService {
         }
     }
 
+    /**
+     * 다운로드용 Presigned GET URL 생성
+     * 클라이언트가 S3에서 직접 내려받으므로 객체 바이트가 백엔드를 거치지 않음
+     *
+     * @param folder 폴더명
+     * @param fileName 파일명
+     * @return 만료 시간이 있는 다운로드 URL
+     */
+    public String generatePresignedDownloadUrl(String folder, String fileName) {
+        String key = folder + "/" + fileName;
+
+        GetObjectRequest getObjectRequest = GetObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+
+        GetObjectPresignRequest presignRequest = GetObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(presignedUrlExpirationMinutes))
+                .getObjectRequest(getObjectRequest)
+                .build();
+
+        String url = s3Presigner.presignGetObject(presignRequest).url().toString();
+        log.debug("S3 다운로드 Presigned URL 생성: {}", key);
+        return url;
+    }
+
+    /**
+     * 직접 업로드용 Presigned PUT URL 생성
+     * 브라우저가 S3(LocalStack)에 바로 업로드하고, 백엔드는 메타데이터만 처리합니다.
+     * Content-Type과 Content-Length가 서명에 포함되므로 요청한 크기/형식으로만 업로드할 수 있습니다.
+     * 발급받은 사용자 ID도 객체 메타데이터로 서명에 포함하여, 완료 확인 시 같은 사용자인지 검사합니다.
+     *
+     * @param userId URL을 발급받는 사용자 ID
+     * @param folder 저장할 폴더 (assignments, general)
+     * @param originalFilename 원본 파일명
+     * @param contentType 파일 MIME 타입
+     * @param size 파일 크기 (bytes)
+     * @return uploadUrl, method, headers, key, fileUrl, expiresAt
+     */
+    public Map<String, Object> createPresignedUpload(String userId, String folder, String originalFilename,
+                                                     String contentType, long size) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("사용자 정보가 없습니다.");
+        }
+        if (!DIRECT_UPLOAD_FOLDERS.contains(folder)) {
+            throw new IllegalArgumentException("직접 업로드를 허용하지 않는 폴더입니다: " + folder);
+        }
+        if (originalFilename == null || originalFilename.isBlank()) {
+            throw new IllegalArgumentException("파일명이 비어있습니다.");
+        }
+        if (size <= 0 || size > directUploadMaxFileSize) {
+            throw new IllegalArgumentException("허용되지 않는 파일 크기입니다: " + size + " bytes (최대 " + directUploadMaxFileSize + " bytes)");
+        }
+        String resolvedContentType = (contentType == null || contentType.isBlank()) ? "application/octet-stream" : contentType;
+        String key = generateKey(folder, originalFilename);
+
+        PutObjectRequest putObjectRequest = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(resolvedContentType)
+                .contentLength(size)
+                .metadata(Map.of(UPLOADER_METADATA, userId))
+                .build();
+
+        PutObjectPresignRequest presignRequest = PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofMinutes(presignedUrlExpirationMinutes))
+                .putObjectRequest(putObjectRequest)
+                .build();
+
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(presignRequest);
+        log.info("S3 직접 업로드 Presigned URL 생성: key={}, size={}, userId={}", key, size, userId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("uploadUrl", presigned.url().toString());
+        result.put("method", "PUT");
+        result.put("headers", Map.of(
+                "Content-Type", resolvedContentType,
+                "x-amz-meta-" + UPLOADER_METADATA, userId));
+        result.put("key", key);
+        result.put("fileUrl", generateFileUrl(key));
+        result.put("expiresAt", presigned.expiration().toString());
+        return result;
+    }
+
+    /**
+     * 직접 업로드 완료 확인
+     * 객체가 실제로 업로드되었는지 HeadObject로 확인하고 메타데이터를 반환합니다.
+     * 객체 키만 알아서는 다른 사용자의 업로드를 완료 처리할 수 없도록, URL을 발급받은 사용자인지 확인합니다.
+     *
+     * @param userId 완료를 요청한 사용자 ID
+     * @param key 업로드 시작 시 발급한 객체 키
+     * @return key, fileUrl, fileName, size, contentType
+     * @throws SecurityException URL을 발급받은 사용자가 아닌 경우
+     */
+    public Map<String, Object> completePresignedUpload(String userId, String key) {
+        String folder = key == null ? null : key.substring(0, Math.max(key.indexOf('/'), 0));
+        if (folder == null || !DIRECT_UPLOAD_FOLDERS.contains(folder) || key.contains("..")) {
+            throw new IllegalArgumentException("유효하지 않은 객체 키입니다: " + key);
+        }
+
+        HeadObjectResponse head;
+        try {
+            head = s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (NoSuchKeyException e) {
+            throw new IllegalArgumentException("업로드된 파일을 찾을 수 없습니다: " + key);
+        }
+
+        String uploader = head.metadata().get(UPLOADER_METADATA);
+        if (uploader == null || !uploader.equals(userId)) {
+            log.warn("S3 직접 업로드 완료 거부 (발급 사용자 불일치): key={}, userId={}, uploader={}", key, userId, uploader);
+            throw new SecurityException("업로드 URL을 발급받은 사용자만 완료할 수 있습니다.");
+        }
+
+        log.info("S3 직접 업로드 완료: key={}, size={}, userId={}", key, head.contentLength(), userId);
+
+        Map<String, Object> result = new HashMap<>();
+        result.put("key", key);
+        result.put("fileUrl", generateFileUrl(key));
+        result.put("fileName", key.substring(key.indexOf('/') + 1));
+        result.put("size", head.contentLength());
+        result.put("contentType", head.contentType());
+        return result;
+    }
+
     @Override
     public void initializeStorage() {
         ensureBucketExists();
@@ -203,6 +353,15 @@ public class S3FileService implements FileService {
         }
     }
 
+    /**
+     * 객체 키 생성 (폴더/UUID_타임스탬프_원본명)
+     */
+    private String generateKey(String folder, String originalFilename) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String safeFilename = originalFilename == null ? "" : originalFilename.replaceAll("[/\\\\]", "_");
+        return folder + "/" + UUID.randomUUID().toString() + "_" + timestamp + "_" + safeFilename;
+    }
+
     /**
      * 파일 URL 생성
      */
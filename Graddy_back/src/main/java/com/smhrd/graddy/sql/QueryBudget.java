@@ -0,0 +1,24 @@
+package com.smhrd.graddy.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 요청 하나에서 실행할 수 있는 SQL 수 상한 (QueryBudgetGuard)
+ * 컨트롤러 메서드에 지정하며, 클래스에 지정하면 메서드에 지정하지 않은 모든 핸들러에 적용됨
+ *
+ * 상한은 결과 건수와 상관없이 고정된 값으로 정함 (목록 건수만큼 늘어나는 N+1 조회를 잡기 위함)
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface QueryBudget {
+
+    /**
+     * 허용하는 SQL 실행 수 (Hibernate가 실행한 문장 기준, 2차 캐시 적중은 포함되지 않음)
+     */
+    int value();
+}
@@ -0,0 +1,33 @@
+package com.smhrd.graddy.sql;
+
+import lombok.RequiredArgsConstructor;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * SQL 실행 수 상한 검사 설정 (sql.query-budget.enabled=false면 비활성화)
+ * - QueryBudgetGuard를 Hibernate StatementInspector로 등록하여 실행되는 문장을 셈
+ * - 같은 Bean을 MVC 인터셉터로 등록하여 핸들러별 상한(@QueryBudget)과 집계 구간을 정함
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryBudgetConfig implements WebMvcConfigurer {
+
+    private final QueryBudgetGuard queryBudgetGuard;
+
+    @Bean
+    public HibernatePropertiesCustomizer queryBudgetStatementInspector() {
+        return hibernateProperties -> hibernateProperties.put(AvailableSettings.STATEMENT_INSPECTOR, queryBudgetGuard);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryBudgetGuard);
+    }
+}
@@ -0,0 +1,12 @@
+package com.smhrd.graddy.sql;
+
+/**
+ * 요청의 SQL 실행 수가 @QueryBudget 상한을 넘었을 때 발생 (sql.query-budget.mode=fail)
+ * 테스트/CI에서 N+1 조회가 추가되면 요청이 실패하도록 하기 위한 것으로, 운영에서는 warn 모드로 로그만 남김
+ */
+public class QueryBudgetExceededException extends RuntimeException {
+
+    public QueryBudgetExceededException(String endpoint, int budget, int count, String sql) {
+        super("SQL 실행 수 상한 초과: endpoint=" + endpoint + ", budget=" + budget + ", count=" + count + ", sql=" + sql);
+    }
+}
@@ -0,0 +1,140 @@
+package com.smhrd.graddy.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 단위 SQL 실행 수 상한 검사 (@QueryBudget)
+ * Hibernate StatementInspector로 요청 처리 스레드에서 실행된 문장을 세고, 핸들러에 지정된 상한을 넘으면
+ * warn 모드는 요청이 끝날 때 WARN 로그를, fail 모드는 상한을 넘는 문장에서 QueryBudgetExceededException을 발생시킴
+ *
+ * 상한 지정 여부와 상관없이 모든 핸들러의 SQL 실행 수를 graddy.sql.request.statements(endpoint 태그)로 기록함
+ * 집계 구간은 핸들러 실행부터 응답 완료까지이며(open-in-view 지연 로딩 포함), 보안 필터와 비동기 작업 스레드의 SQL은 포함되지 않음
+ * JdbcTemplate 일괄 INSERT처럼 Hibernate를 거치지 않는 SQL도 포함되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "sql.query-budget.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+@Slf4j
+public class QueryBudgetGuard implements StatementInspector, AsyncHandlerInterceptor {
+
+    private static final ThreadLocal<RequestBudget> CURRENT_REQUEST = new ThreadLocal<>();
+
+    // EntityManagerFactory 생성 시점에 MeterRegistry를 미리 만들지 않도록 지연 조회
+    private final ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    // warn: 로그만 남김, fail: 상한을 넘는 문장에서 예외 발생 (테스트/CI)
+    @Value("${sql.query-budget.mode:warn}")
+    private String mode;
+
+    // 요청 하나에서 실행된 SQL 수
+    private static class RequestBudget {
+        private final String endpoint;
+        private final int budget;
+        private int count;
+        private String firstExceededSql;
+
+        RequestBudget(String endpoint, int budget) {
+            this.endpoint = endpoint;
+            this.budget = budget;
+        }
+
+        boolean hasBudget() {
+            return budget >= 0;
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        RequestBudget request = CURRENT_REQUEST.get();
+        if (request == null) {
+            return sql;
+        }
+        request.count++;
+        if (request.hasBudget() && request.count > request.budget && request.firstExceededSql == null) {
+            request.firstExceededSql = sql;
+            if ("fail".equalsIgnoreCase(mode)) {
+                throw new QueryBudgetExceededException(request.endpoint, request.budget, request.count,
+                        SqlStatementRecorder.abbreviate(sql));
+            }
+        }
+        return sql;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기/오류 디스패치는 최초 요청에서 이미 집계함
+        if (request.getDispatcherType() != DispatcherType.REQUEST || !(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        QueryBudget budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), QueryBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), QueryBudget.class);
+        }
+        CURRENT_REQUEST.set(new RequestBudget(endpoint(request), budget != null ? budget.value() : -1));
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        finishRequest();
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // SSE 등 비동기 응답은 요청 스레드를 반납하는 시점까지만 집계
+        finishRequest();
+    }
+
+    private void finishRequest() {
+        RequestBudget request = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        if (request == null) {
+            return;
+        }
+        boolean exceeded = request.firstExceededSql != null;
+        if (exceeded) {
+            log.warn("SQL 실행 수 상한 초과: endpoint={}, budget={}, count={}, 처음 초과한 sql={}",
+                    request.endpoint, request.budget, request.count,
+                    SqlStatementRecorder.abbreviate(request.firstExceededSql));
+        }
+
+        MeterRegistry meterRegistry = meterRegistryProvider.getIfAvailable();
+        if (meterRegistry == null) {
+            return;
+        }
+        DistributionSummary.builder("graddy.sql.request.statements")
+                .description("요청 하나에서 Hibernate가 실행한 SQL 수")
+                .tag("endpoint", request.endpoint)
+                .register(meterRegistry)
+                .record(request.count);
+        if (exceeded) {
+            Counter.builder("graddy.sql.query_budget.exceeded")
+                    .description("@QueryBudget 상한을 넘은 요청 수")
+                    .tag("endpoint", request.endpoint)
+                    .register(meterRegistry)
+                    .increment();
+        }
+    }
+
+    // 지표 태그 수가 늘어나지 않도록 실제 경로 대신 매핑 패턴 사용 (GET /studies-projects/{studyProjectId})
+    private static String endpoint(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return request.getMethod() + " " + (pattern != null ? pattern : "unknown");
+    }
+}
@@ -0,0 +1,55 @@
+package com.smhrd.graddy.sql;
+
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 쿼리를 실행한 리포지토리 메서드 (호출 위치)
+ * 리포지토리 프록시에 Interceptor를 추가하여 메서드 실행 중에만 스레드에 "TagRepository.findByStudyProjectId" 형태로 기록함
+ * 리포지토리 메서드 안에서 다른 리포지토리를 호출하면 바깥 메서드를 유지함
+ */
+public final class SqlCallSite {
+
+    // 리포지토리 밖(JdbcTemplate 직접 호출 등)에서 실행된 쿼리
+    public static final String UNKNOWN = "other";
+
+    private static final ThreadLocal<String> CURRENT = new ThreadLocal<>();
+
+    private SqlCallSite() {
+    }
+
+    public static String current() {
+        String callSite = CURRENT.get();
+        return callSite != null ? callSite : UNKNOWN;
+    }
+
+    /**
+     * 리포지토리 프록시용 Interceptor (리포지토리 인터페이스마다 하나씩 생성)
+     */
+    static class Interceptor implements MethodInterceptor {
+
+        private final String repositoryName;
+        private final Map<Method, String> names = new ConcurrentHashMap<>();
+
+        Interceptor(Class<?> repositoryInterface) {
+            this.repositoryName = repositoryInterface.getSimpleName();
+        }
+
+        @Override
+        public Object invoke(MethodInvocation invocation) throws Throwable {
+            if (CURRENT.get() != null) {
+                return invocation.proceed();
+            }
+            CURRENT.set(names.computeIfAbsent(invocation.getMethod(), method -> repositoryName + "." + method.getName()));
+            try {
+                return invocation.proceed();
+            } finally {
+                CURRENT.remove();
+            }
+        }
+    }
+}
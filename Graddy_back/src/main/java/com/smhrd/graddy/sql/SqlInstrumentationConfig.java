@@ -0,0 +1,68 @@
+package com.smhrd.graddy.sql;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 계측 설정 (sql.instrumentation.enabled=false면 전체 비활성화)
+ * - DataSource를 datasource-proxy로 감싸서 모든 JDBC 실행(JPA, JdbcTemplate)의 실행 시간과 변경 행 수를 기록
+ *   (조회 행 수는 sql.instrumentation.count-rows=true일 때만 기록)
+ * - Spring Data 리포지토리 프록시에 호출 위치 Interceptor를 추가하여 쿼리를 리포지토리 메서드별로 집계
+ *
+ * BeanPostProcessor는 다른 Bean보다 먼저 만들어져야 하므로 static 메서드로 등록함
+ */
+@Configuration
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlInstrumentationConfig {
+
+    @Bean
+    public static BeanPostProcessor sqlDataSourceProxyPostProcessor(ObjectProvider<SqlStatementRecorder> recorderProvider,
+                                                                    Environment environment) {
+        boolean countRows = environment.getProperty("sql.instrumentation.count-rows", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlStatementListener listener = new SqlStatementListener(recorderProvider);
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource)
+                        .name(beanName)
+                        .listener(listener);
+                if (countRows) {
+                    // ResultSet까지 프록시로 감싸야 조회 행 수를 셀 수 있음 (next() 호출마다 프록시를 거치므로 기본값은 끔)
+                    builder.methodListener(listener).proxyResultSet();
+                }
+                log.info("SQL 계측 DataSource 적용: bean={}, countRows={}", beanName, countRows);
+                return builder.build();
+            }
+        };
+    }
+
+    @Bean
+    public static BeanPostProcessor sqlRepositoryCallSitePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                // 리포지토리 프록시는 FactoryBean 초기화 시 만들어지므로 초기화 전에 등록
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, repositoryInformation) -> proxyFactory.addAdvice(
+                                    new SqlCallSite.Interceptor(repositoryInformation.getRepositoryInterface()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,103 @@
+package com.smhrd.graddy.sql;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 쿼리 실행 시간 히스토그램 (고정 버킷)
+ * 버킷마다 LongAdder로 누적하므로 여러 스레드가 동시에 기록해도 잠금이 없고,
+ * 백분위수는 해당 순위가 속한 버킷의 상한값으로 근사함
+ */
+class SqlLatencyHistogram {
+
+    // 버킷 상한 (ms), 마지막 상한보다 긴 실행은 초과 버킷에 기록
+    static final long[] BUCKET_BOUNDS_MS = {1, 2, 5, 10, 25, 50, 100, 250, 500, 1000, 2500, 5000, 10000};
+
+    private final LongAdder[] buckets = new LongAdder[BUCKET_BOUNDS_MS.length + 1];
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalMs = new LongAdder();
+    private final LongAccumulator maxMs = new LongAccumulator(Long::max, 0);
+    private final LongAdder rows = new LongAdder();
+    private final LongAccumulator maxRows = new LongAccumulator(Long::max, 0);
+    private final LongAdder slowCount = new LongAdder();
+
+    SqlLatencyHistogram() {
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new LongAdder();
+        }
+    }
+
+    void record(long elapsedMs, boolean slow) {
+        buckets[bucketIndex(elapsedMs)].increment();
+        count.increment();
+        totalMs.add(elapsedMs);
+        maxMs.accumulate(elapsedMs);
+        if (slow) {
+            slowCount.increment();
+        }
+    }
+
+    void recordRows(long rowCount) {
+        rows.add(rowCount);
+        maxRows.accumulate(rowCount);
+    }
+
+    long getCount() {
+        return count.sum();
+    }
+
+    long getTotalMs() {
+        return totalMs.sum();
+    }
+
+    long getMaxMs() {
+        return maxMs.get();
+    }
+
+    long getRows() {
+        return rows.sum();
+    }
+
+    long getMaxRows() {
+        return maxRows.get();
+    }
+
+    long getSlowCount() {
+        return slowCount.sum();
+    }
+
+    /**
+     * 백분위수 근사값 (ms)
+     *
+     * @param percentile 0~1 사이 값 (예: 0.95)
+     */
+    long percentile(double percentile) {
+        long[] counts = new long[buckets.length];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            counts[i] = buckets[i].sum();
+            total += counts[i];
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(percentile * total);
+        long cumulative = 0;
+        for (int i = 0; i < counts.length; i++) {
+            cumulative += counts[i];
+            if (cumulative >= rank) {
+                return i < BUCKET_BOUNDS_MS.length ? Math.min(BUCKET_BOUNDS_MS[i], getMaxMs()) : getMaxMs();
+            }
+        }
+        return getMaxMs();
+    }
+
+    private static int bucketIndex(long elapsedMs) {
+        for (int i = 0; i < BUCKET_BOUNDS_MS.length; i++) {
+            if (elapsedMs <= BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_BOUNDS_MS.length;
+    }
+}
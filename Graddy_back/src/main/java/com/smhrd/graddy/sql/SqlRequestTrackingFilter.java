@@ -0,0 +1,39 @@
+package com.smhrd.graddy.sql;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청 단위 SQL 집계 필터
+ * 요청 처리 스레드에서 실행된 SQL을 요청이 끝날 때 모아서 N+1 패턴(같은 SQL 반복 실행)을 확인함
+ * 비동기 작업 스레드(AI 피드백, 알림 발송 등)에서 실행된 SQL은 요청에 포함되지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlRequestTrackingFilter extends OncePerRequestFilter {
+
+    private final SqlStatementRecorder sqlStatementRecorder;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        sqlStatementRecorder.beginRequest();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            sqlStatementRecorder.endRequest(request.getMethod() + " " + request.getRequestURI());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.smhrd.graddy.sql;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.sql.ResultSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DataSource 프록시 리스너
+ * 쿼리 실행이 끝날 때 실행 시간과 변경 행 수를 SqlStatementRecorder에 넘기고,
+ * 행 수 집계가 켜져 있으면 ResultSet.next()가 true를 반환한 횟수를 세어 ResultSet을 닫을 때 조회 행 수로 기록함
+ *
+ * DataSource는 SqlStatementRecorder보다 먼저 만들어지므로 Recorder는 첫 쿼리 실행 시점에 가져옴
+ */
+class SqlStatementListener implements QueryExecutionListener, MethodExecutionListener {
+
+    // 현재 스레드에서 읽는 중인 ResultSet의 행 수 (Hibernate는 결과를 모두 읽고 닫은 뒤 다음 쿼리를 실행함)
+    private static final ThreadLocal<long[]> PENDING_ROWS = ThreadLocal.withInitial(() -> new long[1]);
+
+    private final ObjectProvider<SqlStatementRecorder> recorderProvider;
+    private volatile SqlStatementRecorder recorder;
+
+    SqlStatementListener(ObjectProvider<SqlStatementRecorder> recorderProvider) {
+        this.recorderProvider = recorderProvider;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        // 닫히지 않은 ResultSet이 남아 있으면 다음 쿼리 전에 기록
+        flushRows();
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlStatementRecorder target = recorder();
+        if (target == null) {
+            return;
+        }
+        target.recordStatement(toSql(queryInfoList), execInfo.getElapsedTime(), affectedRows(execInfo.getResult()),
+                execInfo.isSuccess(), execInfo.isBatch() ? execInfo.getBatchSize() : 0);
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if (!(executionContext.getTarget() instanceof ResultSet)) {
+            return;
+        }
+        String methodName = executionContext.getMethod().getName();
+        if ("next".equals(methodName)) {
+            if (Boolean.TRUE.equals(executionContext.getResult())) {
+                PENDING_ROWS.get()[0]++;
+            }
+        } else if ("close".equals(methodName)) {
+            flushRows();
+        }
+    }
+
+    private void flushRows() {
+        long[] pending = PENDING_ROWS.get();
+        if (pending[0] == 0) {
+            return;
+        }
+        SqlStatementRecorder target = recorder();
+        if (target != null) {
+            target.recordRows(pending[0]);
+        }
+        pending[0] = 0;
+    }
+
+    private SqlStatementRecorder recorder() {
+        SqlStatementRecorder current = recorder;
+        if (current == null) {
+            current = recorderProvider.getIfAvailable();
+            recorder = current;
+        }
+        return current;
+    }
+
+    private static String toSql(List<QueryInfo> queryInfoList) {
+        if (queryInfoList.size() == 1) {
+            return queryInfoList.get(0).getQuery();
+        }
+        return queryInfoList.stream().map(QueryInfo::getQuery).collect(Collectors.joining("; "));
+    }
+
+    // executeUpdate는 Integer, executeBatch는 int[] (드라이버가 행 수를 알려주지 않는 항목은 음수이므로 제외)
+    private static long affectedRows(Object result) {
+        if (result instanceof Integer count) {
+            return count;
+        }
+        if (result instanceof Long count) {
+            return count;
+        }
+        if (result instanceof int[] counts) {
+            long sum = 0;
+            for (int count : counts) {
+                if (count > 0) {
+                    sum += count;
+                }
+            }
+            return sum;
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,224 @@
+package com.smhrd.graddy.sql;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * SQL 실행 기록
+ * 호출 위치(리포지토리 메서드)별 실행 시간 히스토그램과 행 수를 누적하고, 기준 시간보다 느린 쿼리만 로그로 남김
+ * HTTP 요청 안에서는 같은 SQL이 기준 횟수보다 많이 실행되면 N+1 의심 로그를 남김
+ *
+ * 정상 경로의 비용은 호출 위치별 카운터 누적과 요청별 SQL 횟수 집계뿐이며, 쿼리 문자열 로그는 느린 쿼리와 N+1에서만 만듦
+ *
+ * 호출 위치별 누적값은 graddy.sql.* 지표(call_site 태그)로 노출하며, 수집 시점에 카운터를 읽기만 하므로 실행 경로에 비용을 더하지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "sql.instrumentation.enabled", havingValue = "true", matchIfMissing = true)
+@Slf4j
+public class SqlStatementRecorder implements MeterBinder {
+
+    // 로그에 남길 SQL 최대 길이
+    private static final int MAX_SQL_LOG_LENGTH = 1000;
+
+    private static final ThreadLocal<RequestStatements> CURRENT_REQUEST = new ThreadLocal<>();
+
+    @Value("${sql.instrumentation.slow-threshold-ms:200}")
+    private long slowThresholdMs;
+
+    @Value("${sql.instrumentation.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    private final Map<String, SqlLatencyHistogram> histograms = new ConcurrentHashMap<>();
+    private final LongAdder nPlusOneCount = new LongAdder();
+    private volatile MeterRegistry meterRegistry;
+
+    /**
+     * 호출 위치별 통계
+     *
+     * @param rows 조회/변경된 행 수 합계
+     * @param slowCount 기준 시간보다 느린 실행 수
+     */
+    public record CallSiteStats(String callSite, long count, long totalMs, long maxMs,
+                                long p50Ms, long p95Ms, long p99Ms,
+                                long rows, long maxRows, long slowCount) {
+
+        public double getAverageMs() {
+            return count == 0 ? 0.0 : (double) totalMs / count;
+        }
+    }
+
+    // 요청 하나에서 실행된 SQL별 횟수
+    private static class RequestStatements {
+        private final Map<String, StatementCount> counts = new HashMap<>();
+        private int total;
+    }
+
+    private static class StatementCount {
+        private final String callSite;
+        private int count;
+
+        StatementCount(String callSite) {
+            this.callSite = callSite;
+        }
+    }
+
+    /**
+     * 쿼리 실행 기록
+     *
+     * @param sql 실행한 SQL (PreparedStatement는 ? 자리표시자 형태)
+     * @param affectedRows 변경된 행 수 (SELECT 등 알 수 없으면 -1, 조회 행 수는 recordRows로 따로 기록)
+     * @param batchSize 배치 실행 시 묶인 문장 수 (배치가 아니면 0)
+     */
+    void recordStatement(String sql, long elapsedMs, long affectedRows, boolean success, int batchSize) {
+        String callSite = SqlCallSite.current();
+        boolean slow = elapsedMs >= slowThresholdMs;
+        SqlLatencyHistogram histogram = histogram(callSite);
+        histogram.record(elapsedMs, slow);
+        if (affectedRows > 0) {
+            histogram.recordRows(affectedRows);
+        }
+
+        if (slow) {
+            log.warn("느린 쿼리: {}ms, callSite={}, rows={}, batch={}, success={}, sql={}",
+                    elapsedMs, callSite, affectedRows, batchSize, success, abbreviate(sql));
+        }
+
+        RequestStatements request = CURRENT_REQUEST.get();
+        if (request != null) {
+            request.total++;
+            request.counts.computeIfAbsent(sql, key -> new StatementCount(callSite)).count++;
+        }
+    }
+
+    /**
+     * 조회 결과 행 수 기록 (ResultSet을 닫을 때 호출)
+     */
+    void recordRows(long rowCount) {
+        histogram(SqlCallSite.current()).recordRows(rowCount);
+    }
+
+    /**
+     * 요청 시작 (요청 처리 스레드에서 호출)
+     */
+    void beginRequest() {
+        CURRENT_REQUEST.set(new RequestStatements());
+    }
+
+    /**
+     * 요청 종료, 같은 SQL이 기준 횟수보다 많이 실행되었으면 N+1 의심 로그를 남김
+     *
+     * @param requestDescription 로그에 남길 요청 정보 (메서드, 경로)
+     */
+    void endRequest(String requestDescription) {
+        RequestStatements request = CURRENT_REQUEST.get();
+        CURRENT_REQUEST.remove();
+        if (request == null) {
+            return;
+        }
+        for (Map.Entry<String, StatementCount> entry : request.counts.entrySet()) {
+            StatementCount statement = entry.getValue();
+            if (statement.count > nPlusOneThreshold) {
+                nPlusOneCount.increment();
+                log.warn("N+1 의심 쿼리: 요청={}, 같은 SQL {}회 (요청 전체 {}회), callSite={}, sql={}",
+                        requestDescription, statement.count, request.total, statement.callSite,
+                        abbreviate(entry.getKey()));
+            }
+        }
+    }
+
+    /**
+     * 호출 위치별 통계 (총 실행 시간 내림차순)
+     */
+    public List<CallSiteStats> getCallSiteStats() {
+        List<CallSiteStats> result = new ArrayList<>(histograms.size());
+        histograms.forEach((callSite, histogram) -> result.add(new CallSiteStats(callSite,
+                histogram.getCount(), histogram.getTotalMs(), histogram.getMaxMs(),
+                histogram.percentile(0.5), histogram.percentile(0.95), histogram.percentile(0.99),
+                histogram.getRows(), histogram.getMaxRows(), histogram.getSlowCount())));
+        result.sort(Comparator.comparingLong(CallSiteStats::totalMs).reversed());
+        return result;
+    }
+
+    // N+1 의심으로 기록된 횟수
+    public long getNPlusOneCount() {
+        return nPlusOneCount.sum();
+    }
+
+    public long getSlowThresholdMs() {
+        return slowThresholdMs;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        this.meterRegistry = registry;
+        FunctionCounter.builder("graddy.sql.n_plus_one", nPlusOneCount, LongAdder::sum)
+                .description("요청 안에서 같은 SQL이 기준 횟수보다 많이 실행된 횟수")
+                .register(registry);
+        histograms.forEach(this::registerMeters);
+    }
+
+    private SqlLatencyHistogram histogram(String callSite) {
+        SqlLatencyHistogram histogram = histograms.get(callSite);
+        if (histogram == null) {
+            histogram = histograms.computeIfAbsent(callSite, key -> new SqlLatencyHistogram());
+            registerMeters(callSite, histogram);
+        }
+        return histogram;
+    }
+
+    // 호출 위치 지표 등록 (같은 이름/태그로 다시 등록하면 기존 지표를 반환하므로 중복 호출해도 됨)
+    private void registerMeters(String callSite, SqlLatencyHistogram histogram) {
+        MeterRegistry registry = meterRegistry;
+        if (registry == null) {
+            return;
+        }
+        FunctionTimer.builder("graddy.sql.statement", histogram,
+                        SqlLatencyHistogram::getCount, SqlLatencyHistogram::getTotalMs, TimeUnit.MILLISECONDS)
+                .description("호출 위치별 SQL 실행 횟수와 실행 시간 합계")
+                .tag("call_site", callSite)
+                .register(registry);
+        TimeGauge.builder("graddy.sql.statement.max", histogram, TimeUnit.MILLISECONDS, SqlLatencyHistogram::getMaxMs)
+                .tag("call_site", callSite)
+                .register(registry);
+        TimeGauge.builder("graddy.sql.statement.percentile", histogram, TimeUnit.MILLISECONDS, h -> h.percentile(0.95))
+                .description("호출 위치별 SQL 실행 시간 근사 백분위 (시작 이후 누적)")
+                .tag("call_site", callSite)
+                .tag("quantile", "0.95")
+                .register(registry);
+        TimeGauge.builder("graddy.sql.statement.percentile", histogram, TimeUnit.MILLISECONDS, h -> h.percentile(0.99))
+                .tag("call_site", callSite)
+                .tag("quantile", "0.99")
+                .register(registry);
+        FunctionCounter.builder("graddy.sql.rows", histogram, SqlLatencyHistogram::getRows)
+                .description("호출 위치별 조회/변경 행 수 합계")
+                .tag("call_site", callSite)
+                .register(registry);
+        FunctionCounter.builder("graddy.sql.statement.slow", histogram, SqlLatencyHistogram::getSlowCount)
+                .description("호출 위치별 느린 쿼리 수")
+                .tag("call_site", callSite)
+                .register(registry);
+    }
+
+    static String abbreviate(String sql) {
+        if (sql == null || sql.length() <= MAX_SQL_LOG_LENGTH) {
+            return sql;
+        }
+        return sql.substring(0, MAX_SQL_LOG_LENGTH) + "...";
+    }
+}
@@ -5,8 +5,10 @@ import com.smhrd.graddy.study.service.AICurriculumService;
 import com.smhrd.graddy.api.dto.ApiResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -156,6 +158,30 @@ public class AICurriculumController {
         }
     }
 
+    /**
+     * AI 커리큘럼 스트리밍 생성 (SSE)
+     * 생성되는 커리큘럼을 토큰 단위로 전송하고, 완료 시 cur_text 필드에 저장합니다.
+     * 
+     * @param studyProjectId 커리큘럼을 생성할 스터디/프로젝트의 ID
+     * @return token / complete / error 이벤트 스트림
+     */
+    @PostMapping(value = "/generate/{studyProjectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "AI 커리큘럼 스트리밍 생성", 
+        description = "AI 커리큘럼을 Server-Sent Events로 스트리밍합니다.\n\n" +
+                     "**이벤트 종류:**\n" +
+                     "• token: 생성된 커리큘럼 텍스트 조각\n" +
+                     "• complete: 저장된 최종 커리큘럼 (AICurriculumResponse)\n" +
+                     "• error: 오류 메시지\n\n" +
+                     "클라이언트 연결이 끊어져도 생성된 커리큘럼은 cur_text 필드에 저장됩니다.",
+        operationId = "streamAICurriculum"
+    )
+    public SseEmitter streamCurriculum(
+            @Parameter(description = "커리큘럼을 생성할 스터디/프로젝트의 ID", example = "1", required = true)
+            @PathVariable Long studyProjectId) {
+        return aiCurriculumService.streamCurriculum(studyProjectId);
+    }
+
     /**
      * FastAPI 서버 상태 확인
      * AI 커리큘럼 생성 서버의 상태를 확인합니다.
@@ -6,6 +6,7 @@ import com.smhrd.graddy.study.dto.StudyUpdateRequest;
 import com.smhrd.graddy.study.service.StudyService;
 import com.smhrd.graddy.api.dto.ApiResponse;
 import com.smhrd.graddy.security.jwt.JwtUtil;
+import com.smhrd.graddy.sql.QueryBudget;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +24,8 @@ import com.smhrd.graddy.study.service.StudyApplicationService;
 import java.util.Map;
 import com.smhrd.graddy.study.dto.AICurriculumResponse;
 import com.smhrd.graddy.study.service.AICurriculumService;
+import com.smhrd.graddy.study.service.StudyProjectExpiryService;
+import com.smhrd.graddy.study.dto.StudyExpiryRunResult;
 
 /**
  * 스터디/프로젝트 관리 API 컨트롤러
@@ -39,6 +42,7 @@ public class StudyController {
     private final MemberService memberService;
     private final StudyApplicationService studyApplicationService;
     private final AICurriculumService aiCurriculumService;
+    private final StudyProjectExpiryService studyProjectExpiryService;
 
     /**
      * 스터디/프로젝트 생성
@@ -69,6 +73,12 @@ public class StudyController {
             request.setUserId(userId);
 
             StudyResponse response = studyService.createStudy(request);
+
+            // AI 커리큘럼은 스터디 생성 트랜잭션이 커밋된 뒤 생성 (AI 서버 호출 동안 DB 커넥션을 점유하지 않도록)
+            String curText = aiCurriculumService.createAICurriculum(response.getStudyProjectId(), response.getStudyProjectName());
+            if (curText != null) {
+                response.setCurText(curText);
+            }
             URI location = URI.create("/api/studies-projects/" + response.getStudyProjectId());
             return ApiResponse.created(location, "스터디/프로젝트가 성공적으로 생성되었습니다.", response);
         } catch (IllegalArgumentException e) {
@@ -87,6 +97,7 @@ public class StudyController {
      */
     @GetMapping("/{studyProjectId}")
     @Operation(summary = "스터디/프로젝트 조회", description = "특정 스터디/프로젝트 ID로 정보와 태그, 선호 요일을 조회합니다.")
+    @QueryBudget(6)
     public ResponseEntity<ApiResponse<StudyResponse>> getStudyProject(@PathVariable Long studyProjectId) {
         try {
             StudyResponse response = studyService.getStudy(studyProjectId);
@@ -296,6 +307,7 @@ public class StudyController {
             "• 멤버 정보: 현재 가입된 멤버들의 상세 정보\n" +
             "• 내 역할: 해당 스터디/프로젝트에서의 역할 (리더/멤버)")
     @SecurityRequirement(name = "Bearer Authentication")
+    @QueryBudget(6)
     public ResponseEntity<ApiResponse<List<StudyResponse>>> getMyParticipations(
             @Parameter(description = "JWT 토큰 (Bearer 형식)", example = "Bearer eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...", required = true) @RequestHeader(name = "Authorization", required = true) String authorization) {
         try {
@@ -424,11 +436,11 @@ public class StudyController {
     @Operation(summary = "스케줄러 수동 실행 (테스트용)", description = "종료일이 지난 스터디/프로젝트의 모집 상태를 'end'로 변경하는 스케줄러를 수동으로 실행합니다.\n\n"
             +
             "**주의:** 이 엔드포인트는 테스트 목적으로만 사용해야 합니다.")
-    public ResponseEntity<ApiResponse<String>> testScheduler() {
+    public ResponseEntity<ApiResponse<StudyExpiryRunResult>> testScheduler() {
         try {
-            // StudySchedulerService를 주입받아야 하므로, 여기서는 간단한 메시지만 반환
-            return ApiResponse.success("스케줄러 테스트 엔드포인트가 호출되었습니다. 실제 스케줄러는 매일 자정에 자동으로 실행됩니다.",
-                    "스케줄러는 매일 자정(00:00)에 자동으로 실행됩니다.");
+            return studyProjectExpiryService.expireStudyProjects()
+                    .map(result -> ApiResponse.success("만료된 스터디/프로젝트 상태 변경이 완료되었습니다.", result))
+                    .orElseGet(() -> ApiResponse.error(HttpStatus.CONFLICT, "스케줄러가 이미 실행 중이거나 방금 실행되었습니다.", null));
         } catch (Exception e) {
             return ApiResponse.error(HttpStatus.INTERNAL_SERVER_ERROR, "스케줄러 테스트 실행에 실패했습니다.", null);
         }
@@ -0,0 +1,34 @@
+package com.smhrd.graddy.study.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스터디/프로젝트 만료 처리 실행 결과
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StudyExpiryRunResult {
+
+    @Schema(description = "'end'로 변경된 스터디/프로젝트 수", example = "12")
+    private int updatedCount;
+
+    @Schema(description = "처리한 청크 수", example = "1")
+    private int chunkCount;
+
+    @Schema(description = "실행 시간 (ms)", example = "35")
+    private long durationMs;
+
+    @Schema(description = "만료 기준 시각")
+    private LocalDateTime expiredBefore;
+
+    @Schema(description = "실행 완료 시각")
+    private LocalDateTime finishedAt;
+}
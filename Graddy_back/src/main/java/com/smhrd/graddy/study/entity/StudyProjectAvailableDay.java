@@ -1,24 +1,29 @@
 package com.smhrd.graddy.study.entity;
 
+import com.smhrd.graddy.api.entity.AssignedIdEntity;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.Objects;
 
 @Entity
 @Table(name = "study_project_available_days")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "study_project_available_day")
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString
 @IdClass(StudyProjectAvailableDay.StudyProjectAvailableDayId.class)
 @Schema(description = "스터디/프로젝트 선호 요일")
-public class StudyProjectAvailableDay {
+public class StudyProjectAvailableDay extends AssignedIdEntity<StudyProjectAvailableDay.StudyProjectAvailableDayId> {
 
     @Id
     @Column(name = "study_project_id")
@@ -30,6 +35,18 @@ public class StudyProjectAvailableDay {
     @Schema(description = "요일 ID", example = "1")
     private Byte dayId;
 
+    public static StudyProjectAvailableDay of(Long studyProjectId, Byte dayId) {
+        StudyProjectAvailableDay availableDay = new StudyProjectAvailableDay();
+        availableDay.setStudyProjectId(studyProjectId);
+        availableDay.setDayId(dayId);
+        return availableDay;
+    }
+
+    @Override
+    public StudyProjectAvailableDayId getId() {
+        return new StudyProjectAvailableDayId(studyProjectId, dayId);
+    }
+
     // 복합키 클래스
     public static class StudyProjectAvailableDayId implements Serializable {
         private Long studyProjectId;
@@ -0,0 +1,16 @@
+package com.smhrd.graddy.study.event;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 스터디/프로젝트 만료 이벤트
+ * 만료 처리 청크가 커밋될 때마다 발행되며, 캐시나 검색 인덱스처럼
+ * 모집 상태를 따로 보관하는 곳에서 해당 ID만 갱신할 수 있도록 함
+ *
+ * @param studyProjectIds 이번 청크에서 실제로 'end'로 변경된 스터디/프로젝트 ID
+ *                        (조회 후 다른 요청이 먼저 'end'로 바꾼 행은 포함하지 않음)
+ * @param expiredBefore 만료 기준 시각
+ */
+public record StudyProjectsExpiredEvent(List<Long> studyProjectIds, Timestamp expiredBefore) {
+}
@@ -1,18 +1,26 @@
 package com.smhrd.graddy.study.repository;
 
 import com.smhrd.graddy.study.entity.StudyProjectAvailableDay;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface StudyProjectAvailableDayRepository extends JpaRepository<StudyProjectAvailableDay, StudyProjectAvailableDay.StudyProjectAvailableDayId> {
 
-    // 스터디/프로젝트별 선호 요일 조회
+    // 스터디/프로젝트별 선호 요일 조회 (쿼리 캐시 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<StudyProjectAvailableDay> findByStudyProjectId(Long studyProjectId);
+
+    // 여러 스터디/프로젝트의 선호 요일을 한 번에 조회 (목록 응답 변환용)
+    List<StudyProjectAvailableDay> findByStudyProjectIdIn(Collection<Long> studyProjectIds);
     
     // 요일별 스터디/프로젝트 조회
     List<StudyProjectAvailableDay> findByDayId(Byte dayId);
@@ -25,6 +33,7 @@ public interface StudyProjectAvailableDayRepository extends JpaRepository<StudyP
      * @param studyProjectId 스터디/프로젝트 ID
      * @return 해당 스터디/프로젝트의 가능 요일 ID 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT spad.dayId FROM StudyProjectAvailableDay spad WHERE spad.studyProjectId = :studyProjectId")
     List<Byte> findDayIdsByStudyProjectId(@Param("studyProjectId") Long studyProjectId);
     
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -89,6 +90,18 @@ public interface StudyProjectMemberRepository extends JpaRepository<Member, Long
     @Query("SELECT m.userId FROM Member m WHERE m.studyProjectId = :studyProjectId ORDER BY m.joinedAt ASC")
     List<String> findUserIdsByStudyProjectId(@Param("studyProjectId") Long studyProjectId);
     
+    /**
+     * 여러 스터디의 특정 상태 멤버를 한 번에 조회
+     * 
+     * @param studyProjectIds 스터디/프로젝트 ID 목록
+     * @param status 멤버 상태
+     * @return 멤버 목록
+     */
+    @Query("SELECT m FROM Member m WHERE m.studyProjectId IN :studyProjectIds AND m.studyProjectCheck = :status")
+    List<Member> findByStudyProjectIdInAndStudyProjectCheck(
+            @Param("studyProjectIds") Collection<Long> studyProjectIds,
+            @Param("status") Member.MemberStatus status);
+    
     /**
      * 특정 스터디의 특정 멤버 상세 정보 조회 (Native Query 사용)
      * 
@@ -1,11 +1,18 @@
 package com.smhrd.graddy.study.repository;
 
 import com.smhrd.graddy.study.entity.StudyProject;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.sql.Timestamp;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -32,7 +39,8 @@ public interface StudyProjectRepository extends JpaRepository<StudyProject, Long
     // 모집 중인 스터디/프로젝트만 조회
     List<StudyProject> findByIsRecruitingAndTypeCheck(StudyProject.RecruitingStatus isRecruiting, StudyProject.TypeCheck typeCheck);
     
-    // 최신순으로 정렬
+    // 최신순으로 정렬 (목록 API, 쿼리 캐시 사용: studies_projects 변경 시 자동 무효화)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT sp FROM StudyProject sp ORDER BY sp.createdAt DESC")
     List<StudyProject> findAllOrderByCreatedAtDesc();
     
@@ -67,16 +75,43 @@ public interface StudyProjectRepository extends JpaRepository<StudyProject, Long
     List<StudyProject> findAvailableStudiesForUser(@Param("userId") String userId);
     
     /**
-     * 종료일이 지난 스터디/프로젝트 조회
-     * study_project_end가 지정된 날짜보다 이전이고, 아직 모집 상태가 'end'가 아닌 스터디/프로젝트를 반환
-     * @param date 기준 날짜
-     * @return 종료일이 지난 스터디/프로젝트 목록
+     * 종료일이 지난 스터디/프로젝트 ID 조회 (만료 처리 청크 단위)
+     * 엔티티 전체(TEXT 컬럼 포함)를 불러오지 않도록 ID만 조회함
+     * @param date 기준 시각
+     * @param ended 만료 상태 ('end')
+     * @param pageable 청크 크기
+     * @return 만료 대상 스터디/프로젝트 ID 목록 (ID 오름차순)
      */
-    @Query("SELECT sp FROM StudyProject sp " +
+    @Query("SELECT sp.studyProjectId FROM StudyProject sp " +
            "WHERE sp.studyProjectEnd < :date " +
-           "AND sp.isRecruiting != 'end' " +
-           "ORDER BY sp.studyProjectEnd ASC")
-    List<StudyProject> findExpiredStudies(@Param("date") java.time.LocalDateTime date);
+           "AND sp.isRecruiting <> :ended " +
+           "ORDER BY sp.studyProjectId ASC")
+    List<Long> findExpiredStudyIds(@Param("date") Timestamp date,
+                                   @Param("ended") StudyProject.RecruitingStatus ended,
+                                   Pageable pageable);
+
+    /**
+     * 만료 대상 중 아직 'end'가 아닌 행을 잠그고 ID 반환 (SELECT ... FOR UPDATE)
+     * 잠근 행은 트랜잭션이 끝날 때까지 다른 요청이 바꿀 수 없으므로, 이어서 실행하는 markEndedByIds가 정확히 이 행들을 변경함
+     * @return 잠근 (이번 트랜잭션에서 변경할) 스터디/프로젝트 ID
+     */
+    @Query(value = "SELECT study_project_id FROM studies_projects " +
+                   "WHERE study_project_id IN (:ids) AND is_recruiting <> :ended " +
+                   "FOR UPDATE", nativeQuery = true)
+    List<Long> lockNotEndedIds(@Param("ids") Collection<Long> ids,
+                               @Param("ended") String ended);
+
+    /**
+     * 스터디/프로젝트 모집 상태 일괄 만료 처리
+     * 조회 이후 다른 요청이 먼저 'end'로 바꾼 행은 제외하기 위해 상태 조건을 다시 확인함
+     * @return 실제로 변경된 행 수
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE StudyProject sp SET sp.isRecruiting = :ended " +
+           "WHERE sp.studyProjectId IN :ids " +
+           "AND sp.isRecruiting <> :ended")
+    int markEndedByIds(@Param("ids") Collection<Long> ids,
+                       @Param("ended") StudyProject.RecruitingStatus ended);
     
     /**
      * 특정 사용자가 참여한 스터디/프로젝트 목록 조회
@@ -1,12 +1,16 @@
 package com.smhrd.graddy.study.service;
 
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.smhrd.graddy.api.sse.SseDataSubscriber;
+import com.smhrd.graddy.api.sse.SseEmitters;
 import com.smhrd.graddy.study.dto.AICurriculumResponse;
 import com.smhrd.graddy.study.entity.StudyProject;
 import com.smhrd.graddy.study.repository.StudyProjectRepository;
 import com.smhrd.graddy.tag.entity.Tag;
 import com.smhrd.graddy.tag.repository.TagRepository;
 import com.smhrd.graddy.interest.entity.Interest;
-import com.smhrd.graddy.interest.repository.InterestRepository;
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -15,10 +19,16 @@ import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -36,12 +46,23 @@ public class AICurriculumService {
     private TagRepository tagRepository;
 
     @Autowired
-    private InterestRepository interestRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Value("${ai.curriculum.api.url:http://ec2-3-113-246-191.ap-northeast-1.compute.amazonaws.com:8000}")
     private String aiApiUrl;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private HttpClient httpClient;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Value("${ai.stream.timeout-ms:180000}")
+    private long streamTimeoutMs;
+
+    // 공용 RestTemplate Bean을 사용해야 AI 서버 호출 시간이 http.client.requests 지표에 기록됨
+    @Autowired
+    private RestTemplate restTemplate;
 
     /**
      * FastAPI 서버를 통해 AI 커리큘럼을 생성합니다.
@@ -54,29 +75,9 @@ public class AICurriculumService {
             StudyProject studyProject = studyProjectRepository.findById(studyProjectId)
                     .orElseThrow(() -> new IllegalArgumentException("스터디/프로젝트를 찾을 수 없습니다: " + studyProjectId));
 
-            // 태그 정보 조회 (관심 항목명으로)
-            List<String> interestTags = new ArrayList<>();
-            List<Tag> tags = tagRepository.findByStudyProjectId(studyProjectId);
-            for (Tag tag : tags) {
-                Interest interest = interestRepository.findById(tag.getInterestId()).orElse(null);
-                if (interest != null) {
-                    interestTags.add(interest.getInterestName());
-                }
-            }
-
-            logger.info("Found interest tags: {}", interestTags);
-
             // FastAPI 서버로 요청할 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("study_project_id", studyProjectId);
-            requestData.put("study_project_name", studyProject.getStudyProjectName());
-            requestData.put("study_project_title", studyProject.getStudyProjectTitle());
-            requestData.put("study_project_desc", studyProject.getStudyProjectDesc());
-            requestData.put("study_level", studyProject.getStudyLevel());
-            requestData.put("interest_tags", interestTags);
-            requestData.put("study_project_start", studyProject.getStudyProjectStart().toString());
-            requestData.put("study_project_end", studyProject.getStudyProjectEnd().toString());
-            requestData.put("type_check", studyProject.getTypeCheck().toString());
+            Map<String, Object> requestData = buildCurriculumRequestData(studyProjectId, studyProject);
+            logger.info("Found interest tags: {}", requestData.get("interest_tags"));
 
             // HTTP 헤더 설정 (UTF-8 인코딩 명시)
             HttpHeaders headers = new HttpHeaders();
@@ -119,12 +120,130 @@ public class AICurriculumService {
         }
     }
 
+    /**
+     * FastAPI 서버의 스트리밍 엔드포인트를 통해 AI 커리큘럼을 생성하며 토큰 단위로 SSE 전송합니다.
+     * 업스트림 호출은 논블로킹 HttpClient로 수행되어 요청 스레드를 점유하지 않으며,
+     * 생성이 끝나면 전체 커리큘럼을 cur_text 필드에 저장하고 complete 이벤트를 전송합니다.
+     * 업스트림이 error 이벤트를 보내거나 호출이 실패하면 저장하지 않고 error 이벤트를 전송합니다.
+     * 클라이언트 연결이 끊어져도 생성과 저장은 계속 진행됩니다.
+     */
+    public SseEmitter streamCurriculum(Long studyProjectId) {
+        SseEmitter emitter = new SseEmitter(streamTimeoutMs);
+        try {
+            logger.info("Starting streaming AI curriculum generation for study project ID: {}", studyProjectId);
+
+            StudyProject studyProject = studyProjectRepository.findById(studyProjectId)
+                    .orElseThrow(() -> new IllegalArgumentException("스터디/프로젝트를 찾을 수 없습니다: " + studyProjectId));
+
+            Map<String, Object> requestData = buildCurriculumRequestData(studyProjectId, studyProject);
+
+            HttpRequest request = HttpRequest.newBuilder(URI.create(aiApiUrl + "/generate-curriculum/stream"))
+                    .header("Content-Type", "application/json; charset=UTF-8")
+                    .header("Accept", "text/event-stream")
+                    .timeout(Duration.ofMillis(streamTimeoutMs))
+                    .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(requestData), StandardCharsets.UTF_8))
+                    .build();
+
+            StringBuilder curriculum = new StringBuilder();
+            SseDataSubscriber subscriber = new SseDataSubscriber(payload -> {
+                String delta = extractDelta(payload);
+                if (delta != null && !delta.isEmpty()) {
+                    curriculum.append(delta);
+                    SseEmitters.send(emitter, SseEmitters.EVENT_TOKEN, delta);
+                }
+            });
+
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.fromLineSubscriber(subscriber))
+                    .whenComplete((response, ex) -> {
+                        // 업스트림 error 이벤트로 중단된 스트림은 일부만 생성되었으므로 저장하지 않음
+                        if (ex != null || response.statusCode() / 100 != 2 || subscriber.hasError() || curriculum.length() == 0) {
+                            logger.error("Streaming curriculum generation failed for study project ID: {} (status: {}, upstream error: {})",
+                                    studyProjectId, response != null ? response.statusCode() : "none",
+                                    subscriber.getErrorPayload(), ex);
+                            SseEmitters.fail(emitter, "AI 커리큘럼 생성에 실패했습니다.");
+                            return;
+                        }
+                        try {
+                            SseEmitters.complete(emitter, saveStreamedCurriculum(studyProjectId, curriculum.toString()));
+                        } catch (Exception e) {
+                            logger.error("Failed to save streamed curriculum for study project ID: {}", studyProjectId, e);
+                            SseEmitters.fail(emitter, "AI 커리큘럼 저장 중 오류가 발생했습니다: " + e.getMessage());
+                        }
+                    });
+
+        } catch (Exception e) {
+            logger.error("Error starting streaming curriculum generation for study project ID: {}", studyProjectId, e);
+            SseEmitters.fail(emitter, "커리큘럼 생성 중 오류가 발생했습니다: " + e.getMessage());
+        }
+        return emitter;
+    }
+
+    /**
+     * FastAPI 요청 데이터 구성
+     */
+    private Map<String, Object> buildCurriculumRequestData(Long studyProjectId, StudyProject studyProject) {
+        // 태그 정보 조회 (관심 항목명으로)
+        List<String> interestTags = new ArrayList<>();
+        List<Tag> tags = tagRepository.findByStudyProjectId(studyProjectId);
+        for (Tag tag : tags) {
+            Interest interest = referenceDataRegistry.findInterest(tag.getInterestId()).orElse(null);
+            if (interest != null) {
+                interestTags.add(interest.getInterestName());
+            }
+        }
+
+        Map<String, Object> requestData = new HashMap<>();
+        requestData.put("study_project_id", studyProjectId);
+        requestData.put("study_project_name", studyProject.getStudyProjectName());
+        requestData.put("study_project_title", studyProject.getStudyProjectTitle());
+        requestData.put("study_project_desc", studyProject.getStudyProjectDesc());
+        requestData.put("study_level", studyProject.getStudyLevel());
+        requestData.put("interest_tags", interestTags);
+        requestData.put("study_project_start", studyProject.getStudyProjectStart().toString());
+        requestData.put("study_project_end", studyProject.getStudyProjectEnd().toString());
+        requestData.put("type_check", studyProject.getTypeCheck().toString());
+        return requestData;
+    }
+
+    /**
+     * 스트리밍 청크({"delta": "..."})에서 텍스트 추출
+     */
+    private String extractDelta(String payload) {
+        try {
+            JsonNode node = objectMapper.readTree(payload);
+            return node.path("delta").asText(null);
+        } catch (Exception e) {
+            logger.warn("Failed to parse curriculum stream chunk: {}", payload);
+            return null;
+        }
+    }
+
+    /**
+     * 스트리밍으로 생성된 커리큘럼을 cur_text 필드에 저장
+     */
+    private AICurriculumResponse saveStreamedCurriculum(Long studyProjectId, String curriculum) {
+        StudyProject studyProject = studyProjectRepository.findById(studyProjectId)
+                .orElseThrow(() -> new IllegalArgumentException("스터디/프로젝트를 찾을 수 없습니다: " + studyProjectId));
+        studyProject.setCurText(curriculum.trim());
+        studyProjectRepository.save(studyProject);
+
+        logger.info("Streamed curriculum saved to cur_text field for study project ID: {}", studyProjectId);
+        return AICurriculumResponse.builder()
+                .studyId(studyProjectId)
+                .curriculum(studyProject.getCurText())
+                .message("AI 커리큘럼이 성공적으로 생성되었습니다.")
+                .success(true)
+                .build();
+    }
+
     /**
      * 스터디/프로젝트 생성 후 자동으로 AI 커리큘럼을 생성합니다.
-     * 이 메서드는 StudyService에서 호출되어 스터디 생성과 함께 자동으로 실행됩니다.
+     * 이 메서드는 스터디 생성 트랜잭션이 커밋된 뒤 StudyController에서 호출되어 트랜잭션 밖에서 실행됩니다.
      * typeCheck가 "study"인 경우에만 AI 커리큘럼을 생성합니다.
+     *
+     * @return cur_text에 저장한 커리큘럼 (생성하지 않았거나 실패하면 null)
      */
-    public void createAICurriculum(Long studyProjectId, String studyProjectName) {
+    public String createAICurriculum(Long studyProjectId, String studyProjectName) {
         try {
             logger.info("Auto-creating AI curriculum for study project: {} (ID: {})", studyProjectName, studyProjectId);
             
@@ -136,7 +255,7 @@ public class AICurriculumService {
             if (!"study".equals(studyProject.getTypeCheck().toString())) {
                 logger.info("Skipping AI curriculum generation for non-study project: {} (ID: {}, type: {})", 
                     studyProjectName, studyProjectId, studyProject.getTypeCheck());
-                return;
+                return null;
             }
             
             logger.info("Proceeding with AI curriculum generation for study project: {} (ID: {}, type: {})", 
@@ -154,13 +273,16 @@ public class AICurriculumService {
                 logger.info("AI curriculum saved to cur_text field for study project: {} (ID: {})", studyProjectName, studyProjectId);
             } else {
                 logger.warn("AI curriculum generation was not successful for study project: {} (ID: {})", studyProjectName, studyProjectId);
+                return null;
             }
             
             logger.info("AI curriculum auto-created successfully for study project: {} (ID: {})", studyProjectName, studyProjectId);
+            return studyProject.getCurText();
             
         } catch (Exception e) {
             logger.error("Failed to auto-create AI curriculum for study project: {} (ID: {})", studyProjectName, studyProjectId, e);
             // 에러가 발생해도 스터디 생성에는 영향을 주지 않도록 예외를 던지지 않음
+            return null;
         }
     }
 
@@ -202,29 +324,9 @@ public class AICurriculumService {
                 throw new IllegalArgumentException("커리큘럼 수정은 스터디 타입에서만 가능합니다. 현재 타입: " + studyProject.getTypeCheck());
             }
 
-            // 태그 정보 조회 (관심 항목명으로)
-            List<String> interestTags = new ArrayList<>();
-            List<Tag> tags = tagRepository.findByStudyProjectId(studyProjectId);
-            for (Tag tag : tags) {
-                Interest interest = interestRepository.findById(tag.getInterestId()).orElse(null);
-                if (interest != null) {
-                    interestTags.add(interest.getInterestName());
-                }
-            }
-
-            logger.info("Found interest tags for curriculum update: {}", interestTags);
-
             // FastAPI 서버로 요청할 데이터 구성
-            Map<String, Object> requestData = new HashMap<>();
-            requestData.put("study_project_id", studyProjectId);
-            requestData.put("study_project_name", studyProject.getStudyProjectName());
-            requestData.put("study_project_title", studyProject.getStudyProjectTitle());
-            requestData.put("study_project_desc", studyProject.getStudyProjectDesc());
-            requestData.put("study_level", studyProject.getStudyLevel());
-            requestData.put("interest_tags", interestTags);
-            requestData.put("study_project_start", studyProject.getStudyProjectStart().toString());
-            requestData.put("study_project_end", studyProject.getStudyProjectEnd().toString());
-            requestData.put("type_check", studyProject.getTypeCheck().toString());
+            Map<String, Object> requestData = buildCurriculumRequestData(studyProjectId, studyProject);
+            logger.info("Found interest tags for curriculum update: {}", requestData.get("interest_tags"));
 
             // HTTP 헤더 설정 (UTF-8 인코딩 명시)
             HttpHeaders headers = new HttpHeaders();
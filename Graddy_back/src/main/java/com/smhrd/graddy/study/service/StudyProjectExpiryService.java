@@ -0,0 +1,161 @@
+package com.smhrd.graddy.study.service;
+
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import com.smhrd.graddy.study.dto.StudyExpiryRunResult;
+import com.smhrd.graddy.study.entity.StudyProject;
+import com.smhrd.graddy.study.event.StudyProjectsExpiredEvent;
+import com.smhrd.graddy.study.repository.StudyProjectRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 스터디/프로젝트 만료 처리
+ * 종료일이 지난 스터디/프로젝트의 모집 상태를 'end'로 변경합니다.
+ *
+ * 엔티티를 불러와 한 건씩 저장하지 않고, 만료 대상 ID만 청크 단위로 조회한 뒤
+ * 청크마다 UPDATE 한 번으로 처리합니다. 청크마다 트랜잭션을 나눠 잠금 시간을 짧게 유지하고,
+ * 실제로 변경된 ID는 StudyProjectsExpiredEvent로 발행합니다.
+ *
+ * 실행 시간과 실행 횟수는 ScheduledJobRunner의 graddy.scheduler.job{job=study-expiry}로,
+ * 변경된 행 수와 청크 수는 graddy.study.expiry.updated, graddy.study.expiry.chunks로 기록됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class StudyProjectExpiryService {
+
+    private static final String JOB_NAME = "study-expiry";
+
+    // 서버마다 자정 실행 시각이 조금씩 달라도 같은 날 두 번 실행하지 않도록 임대를 유지할 시간
+    private static final Duration MIN_HOLD = Duration.ofMinutes(1);
+
+    private final StudyProjectRepository studyProjectRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ScheduledJobRunner scheduledJobRunner;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${study.expiry.chunk-size:500}")
+    private int chunkSize;
+
+    // 마지막 실행 결과 (누적 지표는 Micrometer 카운터로 기록)
+    private volatile StudyExpiryRunResult lastRun;
+
+    /**
+     * 매일 자정(00:00)에 실행
+     */
+    @Scheduled(cron = "${study.expiry.cron:0 0 0 * * ?}")
+    public void expireOnSchedule() {
+        runSafely("자정 실행");
+    }
+
+    /**
+     * 애플리케이션 시작 시 한 번 실행되어 서버가 꺼져 있던 동안 만료된 스터디/프로젝트를 처리
+     */
+    @Scheduled(initialDelay = 10000, fixedDelay = Long.MAX_VALUE) // 10초 후 한 번만 실행
+    public void expireOnStartup() {
+        runSafely("시작 시 실행");
+    }
+
+    /**
+     * 만료 처리 실행
+     * 자정 실행과 시작 시 실행, 수동 실행이 겹치지 않도록 하고, 서버가 여러 대여도 한 곳에서만 실행함
+     *
+     * @return 실행 결과 (다른 만료 처리가 실행 중이거나 방금 실행된 경우 empty)
+     */
+    public Optional<StudyExpiryRunResult> expireStudyProjects() {
+        Optional<StudyExpiryRunResult> result = scheduledJobRunner.callExclusive(JOB_NAME, MIN_HOLD,
+                () -> sweep(Timestamp.valueOf(LocalDateTime.now())));
+        if (result.isEmpty()) {
+            log.info("스터디/프로젝트 만료 처리가 다른 곳에서 실행 중이거나 방금 실행되었습니다.");
+        }
+        return result;
+    }
+
+    public Optional<StudyExpiryRunResult> getLastRun() {
+        return Optional.ofNullable(lastRun);
+    }
+
+    private void runSafely(String trigger) {
+        try {
+            expireStudyProjects();
+        } catch (Exception e) {
+            log.error("스터디/프로젝트 만료 처리 중 오류 발생 ({}): {}", trigger, e.getMessage(), e);
+        }
+    }
+
+    private StudyExpiryRunResult sweep(Timestamp expiredBefore) {
+        long startedAt = System.nanoTime();
+        int updatedCount = 0;
+        int chunkCount = 0;
+
+        while (true) {
+            Integer updated = transactionTemplate.execute(status -> expireChunk(expiredBefore));
+            if (updated == null || updated < 0) {
+                break;
+            }
+            updatedCount += updated;
+            chunkCount++;
+        }
+
+        long durationMs = (System.nanoTime() - startedAt) / 1_000_000;
+        StudyExpiryRunResult result = StudyExpiryRunResult.builder()
+                .updatedCount(updatedCount)
+                .chunkCount(chunkCount)
+                .durationMs(durationMs)
+                .expiredBefore(expiredBefore.toLocalDateTime())
+                .finishedAt(LocalDateTime.now())
+                .build();
+
+        lastRun = result;
+        Counter.builder("graddy.study.expiry.updated")
+                .description("만료 처리로 'end'로 변경된 스터디/프로젝트 수")
+                .register(meterRegistry)
+                .increment(updatedCount);
+        Counter.builder("graddy.study.expiry.chunks")
+                .description("만료 처리 청크 수")
+                .register(meterRegistry)
+                .increment(chunkCount);
+        log.info("스터디/프로젝트 만료 처리 완료: {}개 변경, 청크 {}개, {}ms", updatedCount, chunkCount, durationMs);
+        return result;
+    }
+
+    /**
+     * 만료 대상 한 청크 처리
+     *
+     * @return 변경된 행 수 (더 이상 대상이 없으면 -1)
+     */
+    private int expireChunk(Timestamp expiredBefore) {
+        List<Long> ids = studyProjectRepository.findExpiredStudyIds(
+                expiredBefore, StudyProject.RecruitingStatus.end, PageRequest.of(0, chunkSize));
+        if (ids.isEmpty()) {
+            return -1;
+        }
+
+        // 조회 이후 다른 요청이 먼저 'end'로 바꾼 행을 빼고 잠근 뒤 변경하므로 잠근 ID가 곧 변경된 ID
+        List<Long> lockedIds = studyProjectRepository.lockNotEndedIds(ids, StudyProject.RecruitingStatus.end.name());
+        if (lockedIds.isEmpty()) {
+            return 0;
+        }
+
+        int updated = studyProjectRepository.markEndedByIds(lockedIds, StudyProject.RecruitingStatus.end);
+        // 트랜잭션 안에서 발행하므로 @TransactionalEventListener는 커밋 이후에 받음
+        eventPublisher.publishEvent(new StudyProjectsExpiredEvent(lockedIds, expiredBefore));
+        log.debug("스터디/프로젝트 만료 청크 처리: {}개 변경, ids={}", updated, lockedIds);
+        return updated;
+    }
+}
@@ -7,7 +7,7 @@ import com.smhrd.graddy.member.repository.MemberRepository;
 import com.smhrd.graddy.tag.entity.Tag;
 import com.smhrd.graddy.tag.repository.TagRepository;
 import com.smhrd.graddy.interest.entity.Interest;
-import com.smhrd.graddy.interest.repository.InterestRepository;
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -34,7 +34,7 @@ public class StudyProjectService {
     private TagRepository tagRepository;
 
     @Autowired
-    private InterestRepository interestRepository;
+    private ReferenceDataRegistry referenceDataRegistry;
 
     @Autowired
     private StudyProjectAvailableDayRepository availableDayRepository;
@@ -44,24 +44,14 @@ public class StudyProjectService {
         // 스터디/프로젝트 저장
         StudyProject savedStudyProject = studyProjectRepository.save(studyProject);
 
-        // 태그 저장
+        // 태그 저장 (JDBC 배치 INSERT)
         if (interestIds != null) {
-            for (Long interestId : interestIds) {
-                Tag tag = new Tag();
-                tag.setStudyProjectId(savedStudyProject.getStudyProjectId());
-                tag.setInterestId(interestId);
-                tagRepository.save(tag);
-            }
+            tagRepository.saveAll(toTags(savedStudyProject.getStudyProjectId(), interestIds));
         }
 
-        // 선호 요일 저장
+        // 선호 요일 저장 (JDBC 배치 INSERT)
         if (dayIds != null) {
-            for (Byte dayId : dayIds) {
-                StudyProjectAvailableDay availableDay = new StudyProjectAvailableDay();
-                availableDay.setStudyProjectId(savedStudyProject.getStudyProjectId());
-                availableDay.setDayId(dayId);
-                availableDayRepository.save(availableDay);
-            }
+            availableDayRepository.saveAll(toAvailableDays(savedStudyProject.getStudyProjectId(), dayIds));
         }
 
         return savedStudyProject;
@@ -183,12 +173,7 @@ public class StudyProjectService {
             tagRepository.deleteByStudyProjectId(studyProjectId);
             
             // 새 태그 추가
-            for (Long interestId : interestIds) {
-                Tag tag = new Tag();
-                tag.setStudyProjectId(studyProjectId);
-                tag.setInterestId(interestId);
-                tagRepository.save(tag);
-            }
+            tagRepository.saveAll(toTags(studyProjectId, interestIds));
         }
 
         // 선호 요일 업데이트
@@ -197,12 +182,7 @@ public class StudyProjectService {
             availableDayRepository.deleteByStudyProjectId(studyProjectId);
             
             // 새 선호 요일 추가
-            for (Byte dayId : dayIds) {
-                StudyProjectAvailableDay availableDay = new StudyProjectAvailableDay();
-                availableDay.setStudyProjectId(studyProjectId);
-                availableDay.setDayId(dayId);
-                availableDayRepository.save(availableDay);
-            }
+            availableDayRepository.saveAll(toAvailableDays(studyProjectId, dayIds));
         }
 
         return studyProjectRepository.save(existingProject);
@@ -226,7 +206,7 @@ public class StudyProjectService {
         List<Tag> tags = tagRepository.findByStudyProjectId(studyProjectId);
         return tags.stream()
                 .map(tag -> {
-                    Interest interest = interestRepository.findById(tag.getInterestId()).orElse(null);
+                    Interest interest = referenceDataRegistry.findInterest(tag.getInterestId()).orElse(null);
                     return interest != null ? interest.getInterestName() : "";
                 })
                 .filter(name -> !name.isEmpty())
@@ -250,4 +230,20 @@ public class StudyProjectService {
     public List<Member> getStudyProjectMembers(Long studyProjectId) {
         return memberRepository.findByStudyProjectId(studyProjectId);
     }
+
+    // 태그 엔티티 목록 생성 (중복 ID는 한 번만 저장)
+    private List<Tag> toTags(Long studyProjectId, List<Long> interestIds) {
+        return interestIds.stream()
+                .distinct()
+                .map(interestId -> Tag.of(studyProjectId, interestId))
+                .toList();
+    }
+
+    // 선호 요일 엔티티 목록 생성 (중복 ID는 한 번만 저장)
+    private List<StudyProjectAvailableDay> toAvailableDays(Long studyProjectId, List<Byte> dayIds) {
+        return dayIds.stream()
+                .distinct()
+                .map(dayId -> StudyProjectAvailableDay.of(studyProjectId, dayId))
+                .toList();
+    }
 }
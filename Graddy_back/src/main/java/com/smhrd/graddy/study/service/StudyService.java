@@ -6,7 +6,7 @@ import com.smhrd.graddy.study.dto.StudyUpdateRequest;
 import com.smhrd.graddy.study.entity.StudyProject;
 import com.smhrd.graddy.study.repository.StudyProjectRepository;
 import com.smhrd.graddy.interest.entity.Interest;
-import com.smhrd.graddy.interest.repository.InterestRepository;
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
 import com.smhrd.graddy.tag.entity.Tag;
 import com.smhrd.graddy.tag.repository.TagRepository;
 import com.smhrd.graddy.study.entity.StudyProjectAvailableDay;
@@ -36,7 +36,6 @@ import java.util.HashSet;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import com.smhrd.graddy.study.dto.StudyProjectStatusInfo;
-import com.smhrd.graddy.study.service.AICurriculumService;
 
 @Service
 @RequiredArgsConstructor
@@ -44,7 +43,7 @@ import com.smhrd.graddy.study.service.AICurriculumService;
 public class StudyService {
 
     private final StudyProjectRepository studyProjectRepository;
-    private final InterestRepository interestRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final TagRepository tagRepository;
     private final StudyProjectAvailableDayRepository availableDayRepository;
     private final StudyProjectStatusRepository studyProjectStatusRepository;
@@ -52,7 +51,6 @@ public class StudyService {
     private final MemberRepository memberRepository;
     private final StudyApplicationService studyApplicationRepository;
     private final ScheduleService scheduleService;
-    private final AICurriculumService aiCurriculumService;
 
     // 스터디/프로젝트 생성
     @Transactional
@@ -92,33 +90,14 @@ public class StudyService {
             // 일정 생성 실패해도 스터디 생성은 성공으로 처리
         }
         
-        // AI 커리큘럼 자동 생성
-        try {
-            aiCurriculumService.createAICurriculum(savedStudyProject.getStudyProjectId(), savedStudyProject.getStudyProjectName());
-            System.out.println("AI 커리큘럼 자동 생성 완료: " + savedStudyProject.getStudyProjectName());
-        } catch (Exception e) {
-            System.err.println("AI 커리큘럼 자동 생성 실패: " + e.getMessage());
-            // AI 커리큘럼 생성 실패해도 스터디 생성은 성공으로 처리
-        }
+        // AI 커리큘럼은 AI 서버 호출 동안 DB 커넥션을 점유하지 않도록 커밋 후 StudyController에서 생성
         
-        // 관심 항목 태그 저장
+        // 관심 항목 태그, 선호 요일 저장 (각각 JDBC 배치 INSERT 한 번)
         if (request.getInterestIds() != null && !request.getInterestIds().isEmpty()) {
-            for (Long interestId : request.getInterestIds()) {
-                Tag tag = new Tag();
-                tag.setStudyProjectId(savedStudyProject.getStudyProjectId());
-                tag.setInterestId(interestId);
-                tagRepository.save(tag);
-            }
+            tagRepository.saveAll(toTags(savedStudyProject.getStudyProjectId(), request.getInterestIds()));
         }
-        
-        // 선호 요일 저장
         if (request.getDayIds() != null && !request.getDayIds().isEmpty()) {
-            for (Byte dayId : request.getDayIds()) {
-                StudyProjectAvailableDay availableDay = new StudyProjectAvailableDay();
-                availableDay.setStudyProjectId(savedStudyProject.getStudyProjectId());
-                availableDay.setDayId(dayId);
-                availableDayRepository.save(availableDay);
-            }
+            availableDayRepository.saveAll(toAvailableDays(savedStudyProject.getStudyProjectId(), request.getDayIds()));
         }
         
         return convertToResponse(savedStudyProject);
@@ -169,7 +148,7 @@ public class StudyService {
         List<StudyProject> studiesByUser = studyProjectRepository.findByUserIdContainingIgnoreCaseOrderByCreatedAtDesc(keyword);
         
         // 관심 항목명으로 검색
-        List<Interest> interests = interestRepository.findByInterestNameContainingIgnoreCaseOrderByInterestName(keyword);
+        List<Interest> interests = referenceDataRegistry.searchInterestsByName(keyword);
         List<StudyProject> studiesByInterest = new ArrayList<>();
         for (Interest interest : interests) {
             List<Tag> tags = tagRepository.findByInterestId(interest.getInterestId());
@@ -263,12 +242,7 @@ public class StudyService {
             tagRepository.deleteByStudyProjectId(studyProjectId);
             
             // 새로운 태그 정보 저장
-            for (Long interestId : request.getInterestIds()) {
-                Tag tag = new Tag();
-                tag.setStudyProjectId(studyProjectId);
-                tag.setInterestId(interestId);
-                tagRepository.save(tag);
-            }
+            tagRepository.saveAll(toTags(studyProjectId, request.getInterestIds()));
         }
         
         // 기존 선호 요일 삭제 후 새로운 선호 요일 저장
@@ -276,12 +250,7 @@ public class StudyService {
             availableDayRepository.deleteByStudyProjectId(studyProjectId);
             
             // 새로운 선호 요일 정보 저장
-            for (Byte dayId : request.getDayIds()) {
-                StudyProjectAvailableDay availableDay = new StudyProjectAvailableDay();
-                availableDay.setStudyProjectId(studyProjectId);
-                availableDay.setDayId(dayId);
-                availableDayRepository.save(availableDay);
-            }
+            availableDayRepository.saveAll(toAvailableDays(studyProjectId, request.getDayIds()));
         }
         
         return convertToResponse(updatedStudyProject);
@@ -330,24 +299,12 @@ public class StudyService {
     // Entity를 Response DTO로 변환 (사용자 참여 상태 포함)
     private StudyResponse convertToResponse(StudyProject studyProject, String userId) {
         // 스터디/프로젝트의 태그 정보 조회 (관심 항목명으로)
-        List<String> tagNames = new ArrayList<>();
-        List<Tag> tags = tagRepository.findByStudyProjectId(studyProject.getStudyProjectId());
-        for (Tag tag : tags) {
-            Interest interest = interestRepository.findById(tag.getInterestId()).orElse(null);
-            if (interest != null) {
-                tagNames.add(interest.getInterestName());
-            }
-        }
+        List<String> tagNames = toTagNames(tagRepository.findByStudyProjectId(studyProject.getStudyProjectId()));
         
         // 스터디/프로젝트의 선호 요일 정보 조회
-        List<Byte> availableDays = new ArrayList<>();
-        List<StudyProjectAvailableDay> availableDayList = availableDayRepository.findByStudyProjectId(studyProject.getStudyProjectId());
-        for (StudyProjectAvailableDay availableDay : availableDayList) {
-            availableDays.add(availableDay.getDayId());
-        }
+        List<Byte> availableDays = toDayIds(availableDayRepository.findByStudyProjectId(studyProject.getStudyProjectId()));
         
-        // 현재 인원수와 멤버 정보는 MemberService에서 조회
-        int currentMembers = memberService.getCurrentMemberCount(studyProject.getStudyProjectId());
+        // 멤버 정보는 MemberService에서 조회 (현재 인원수는 approved 멤버 수)
         List<MemberInfo> members = memberService.getMembersByStudyProjectId(studyProject.getStudyProjectId());
         
         // 사용자의 참여 상태 설정
@@ -405,6 +362,15 @@ public class StudyService {
             }
         }
         
+        return buildResponse(studyProject, tagNames, availableDays, members,
+                userParticipationStatus, applicationStatus, applicationDate, studyProjectStatusInfo);
+    }
+
+    // 조회한 태그, 요일, 멤버, 참여 상태로 Response DTO 생성
+    private StudyResponse buildResponse(StudyProject studyProject, List<String> tagNames, List<Byte> availableDays,
+                                        List<MemberInfo> members, String userParticipationStatus,
+                                        String applicationStatus, LocalDateTime applicationDate,
+                                        StudyProjectStatusInfo studyProjectStatusInfo) {
         // 스터디 상태 판단 (진행중/종료)
         String studyStatus = "active"; // 기본값은 진행중
         
@@ -449,7 +415,7 @@ public class StudyService {
                 studyProject.getGitUrl(),
                 tagNames,
                 availableDays,
-                currentMembers,
+                members.size(),
                 members,
                 userParticipationStatus,
                 applicationStatus,
@@ -459,6 +425,47 @@ public class StudyService {
         );
     }
 
+    // 태그 목록을 관심 항목명 목록으로 변환
+    private List<String> toTagNames(List<Tag> tags) {
+        List<String> tagNames = new ArrayList<>();
+        for (Tag tag : tags) {
+            Interest interest = referenceDataRegistry.findInterest(tag.getInterestId()).orElse(null);
+            if (interest != null) {
+                tagNames.add(interest.getInterestName());
+            }
+        }
+        return tagNames;
+    }
+
+    // 선호 요일 목록을 요일 ID 목록으로 변환
+    private List<Byte> toDayIds(List<StudyProjectAvailableDay> availableDayList) {
+        List<Byte> availableDays = new ArrayList<>();
+        for (StudyProjectAvailableDay availableDay : availableDayList) {
+            availableDays.add(availableDay.getDayId());
+        }
+        return availableDays;
+    }
+
+    /**
+     * 태그 엔티티 목록 생성 (중복 ID는 한 번만 저장)
+     */
+    private List<Tag> toTags(Long studyProjectId, List<Long> interestIds) {
+        return interestIds.stream()
+                .distinct()
+                .map(interestId -> Tag.of(studyProjectId, interestId))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 선호 요일 엔티티 목록 생성 (중복 ID는 한 번만 저장)
+     */
+    private List<StudyProjectAvailableDay> toAvailableDays(Long studyProjectId, List<Byte> dayIds) {
+        return dayIds.stream()
+                .distinct()
+                .map(dayId -> StudyProjectAvailableDay.of(studyProjectId, dayId))
+                .collect(Collectors.toList());
+    }
+
     /**
      * LocalDateTime을 Timestamp로 변환하는 유틸리티 메서드
      * @param localDateTime 변환할 LocalDateTime
@@ -495,20 +502,31 @@ public class StudyService {
         List<Long> studyProjectIds = memberRepository.findStudyProjectIdsByUserId(userId);
         System.out.println("   [참여 스터디 조회] member 테이블에서 찾은 study_project_id 목록: " + studyProjectIds);
         
+        if (studyProjectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        // 스터디/프로젝트, 태그, 선호 요일, 멤버를 스터디마다 조회하지 않고 한 번에 조회
+        // (member 테이블에 있으므로 참여 상태는 모두 approved)
+        Map<Long, StudyProject> studyProjects = studyProjectRepository.findAllById(studyProjectIds).stream()
+                .collect(Collectors.toMap(StudyProject::getStudyProjectId, studyProject -> studyProject));
+        Map<Long, List<Tag>> tags = tagRepository.findByStudyProjectIdIn(studyProjectIds).stream()
+                .collect(Collectors.groupingBy(Tag::getStudyProjectId));
+        Map<Long, List<StudyProjectAvailableDay>> availableDays = availableDayRepository.findByStudyProjectIdIn(studyProjectIds).stream()
+                .collect(Collectors.groupingBy(StudyProjectAvailableDay::getStudyProjectId));
+        Map<Long, List<MemberInfo>> members = memberService.getMembersByStudyProjectIds(studyProjectIds);
+
         List<StudyResponse> responses = new ArrayList<>();
-        for (Long studyProjectId : studyProjectIds) {
-            try {
-                // studies_projects 테이블에서 스터디/프로젝트 정보 조회
-                StudyProject studyProject = studyProjectRepository.findById(studyProjectId).orElse(null);
-                if (studyProject != null) {
-                    StudyResponse response = convertToResponse(studyProject, userId);
-                    responses.add(response);
-                    System.out.println("   [참여 스터디 조회] 추가됨: " + studyProject.getStudyProjectName() + " (ID: " + studyProjectId + ")");
-                }
-            } catch (Exception e) {
-                // 개별 스터디/프로젝트 조회 실패 시 로그만 남기고 계속 진행
-                System.err.println("   [참여 스터디 조회] 스터디/프로젝트 조회 실패: " + studyProjectId + ", 오류: " + e.getMessage());
+        for (Long studyProjectId : new LinkedHashSet<>(studyProjectIds)) {
+            StudyProject studyProject = studyProjects.get(studyProjectId);
+            if (studyProject == null) {
+                continue;
             }
+            responses.add(buildResponse(studyProject,
+                    toTagNames(tags.getOrDefault(studyProjectId, List.of())),
+                    toDayIds(availableDays.getOrDefault(studyProjectId, List.of())),
+                    members.getOrDefault(studyProjectId, List.of()),
+                    "approved", null, null, null));
         }
         
         System.out.println("   [참여 스터디 조회] 최종 결과: " + responses.size() + "개");
@@ -1,5 +1,6 @@
 package com.smhrd.graddy.tag.entity;
 
+import com.smhrd.graddy.api.entity.AssignedIdEntity;
 import com.smhrd.graddy.interest.entity.Interest;
 import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
@@ -7,19 +8,23 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import lombok.ToString;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 import java.util.Objects;
 
 @Entity
 @Table(name = "tag")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "tag")
 @Getter
 @Setter
 @NoArgsConstructor
 @ToString
 @IdClass(TagId.class)
 @Schema(description = "스터디/프로젝트 태그")
-public class Tag {
+public class Tag extends AssignedIdEntity<TagId> {
 
     @Id
     @Column(name = "study_project_id")
@@ -35,6 +40,18 @@ public class Tag {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "interest_id", insertable = false, updatable = false)
     private Interest interest;
+
+    public static Tag of(Long studyProjectId, Long interestId) {
+        Tag tag = new Tag();
+        tag.setStudyProjectId(studyProjectId);
+        tag.setInterestId(interestId);
+        return tag;
+    }
+
+    @Override
+    public TagId getId() {
+        return new TagId(studyProjectId, interestId);
+    }
 }
 
 // 복합키 클래스
@@ -1,18 +1,26 @@
 package com.smhrd.graddy.tag.repository;
 
 import com.smhrd.graddy.tag.entity.Tag;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
 public interface TagRepository extends JpaRepository<Tag, Long> {
 
-    // 스터디/프로젝트별 태그 목록 조회 (새로운 구조)
+    // 스터디/프로젝트별 태그 목록 조회 (새로운 구조, 쿼리 캐시 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Tag> findByStudyProjectId(Long studyProjectId);
+
+    // 여러 스터디/프로젝트의 태그 목록을 한 번에 조회 (목록 응답 변환용)
+    List<Tag> findByStudyProjectIdIn(Collection<Long> studyProjectIds);
     
     // 관심 항목별 태그 목록 조회
     List<Tag> findByInterestId(Long interestId);
@@ -28,6 +36,7 @@ public interface TagRepository extends JpaRepository<Tag, Long> {
      * @param studyProjectId 스터디/프로젝트 ID
      * @return 관심 항목 ID 목록
      */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT t.interestId FROM Tag t WHERE t.studyProjectId = :studyProjectId")
     List<Long> findInterestIdsByStudyProjectId(@Param("studyProjectId") Long studyProjectId);
     
@@ -4,9 +4,13 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "days")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "days")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.smhrd.graddy.user.entity;
 
+import com.smhrd.graddy.api.entity.AssignedIdEntity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -12,7 +13,7 @@ import java.io.Serializable;
 @Getter
 @Setter
 @NoArgsConstructor
-public class UserAvailableDays implements Serializable {
+public class UserAvailableDays extends AssignedIdEntity<UserAvailableDays.UserAvailableDaysId> implements Serializable {
     
     @EmbeddedId
     private UserAvailableDaysId id;
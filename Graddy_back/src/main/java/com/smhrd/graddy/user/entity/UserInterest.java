@@ -1,19 +1,24 @@
 package com.smhrd.graddy.user.entity;
 
+import com.smhrd.graddy.api.entity.AssignedIdEntity;
 import com.smhrd.graddy.interest.entity.Interest;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.io.Serializable;
 
 @Entity
 @Table(name = "user_interest")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user_interest")
 @Getter
 @Setter
 @NoArgsConstructor
-public class UserInterest implements Serializable {
+public class UserInterest extends AssignedIdEntity<UserInterest.UserInterestId> implements Serializable {
 
     @EmbeddedId
     private UserInterestId id;
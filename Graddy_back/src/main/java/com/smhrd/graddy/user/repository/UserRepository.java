@@ -1,8 +1,11 @@
 package com.smhrd.graddy.user.repository;
 
 import com.smhrd.graddy.user.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -11,8 +14,20 @@ import java.util.Optional;
 // JpaRepository<엔티티 클래스, PK의 타입>
 @Repository
 public interface UserRepository extends JpaRepository<User, String> {
-    // 사용자 ID(user_id)로 사용자를 찾는 메소드
+    // 사용자 ID(user_id)로 사용자를 찾는 메소드 (요청마다 호출되므로 쿼리 캐시 사용)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<User> findByUserId(String userId);
+
+    /**
+     * 로그인/토큰 인증용 사용자 조회
+     * 비밀번호 변경이나 탈퇴가 다른 서버에도 바로 반영되도록 2차 캐시와 쿼리 캐시를 거치지 않고 DB에서 읽음
+     *
+     * @param userId 사용자 ID
+     * @return 사용자 정보 (Optional)
+     */
+    @Query("SELECT u FROM User u WHERE u.userId = :userId")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE"))
+    Optional<User> findForAuthenticationByUserId(@Param("userId") String userId);
     
     // 닉네임으로 사용자를 찾는 메소드
     Optional<User> findByNick(String nick);
@@ -19,7 +19,8 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     public UserDetails loadUserByUsername(String userId) throws UsernameNotFoundException {
         // UserDetailsService의 loadUserByUsername 메소드의 파라미터 이름은 'username'이지만,
         // 실제로는 로그인 폼에서 입력된 ID값이 전달되므로 여기서는 'userId'로 간주합니다.
-        User user = userRepository.findByUserId(userId)
+        // 캐시된 사용자(비밀번호 포함)로 인증하지 않도록 DB에서 직접 조회
+        User user = userRepository.findForAuthenticationByUserId(userId)
                 .orElseThrow(() -> new UsernameNotFoundException("사용자를 찾을 수 없습니다: " + userId));
         System.out.println("User : " + user);
         // 조회된 사용자 정보를 바탕으로 UserDetails 객체 생성 후 반환
@@ -8,15 +8,14 @@ import com.smhrd.graddy.user.dto.UserInfoResponse;
 import com.smhrd.graddy.user.entity.User;
 import com.smhrd.graddy.user.entity.UserInterest;
 import com.smhrd.graddy.user.entity.UserAvailableDays;
-import com.smhrd.graddy.user.entity.Days;
 import com.smhrd.graddy.user.entity.UserScore;
-import com.smhrd.graddy.interest.entity.Interest;
 import com.smhrd.graddy.user.repository.UserInterestRepository;
 import com.smhrd.graddy.user.repository.UserRepository;
 import com.smhrd.graddy.user.repository.UserAvailableDaysRepository;
 import com.smhrd.graddy.user.repository.DaysRepository;
 import com.smhrd.graddy.user.repository.UserScoreRepository;
 import com.smhrd.graddy.interest.repository.InterestRepository;
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
 import com.smhrd.graddy.auth.VerificationService;
 import com.smhrd.graddy.schedule.service.ScheduleNotificationService;
 import com.smhrd.graddy.score.service.ScoreService;
@@ -28,6 +27,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Optional;
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.stream.Collectors;
 import java.sql.Timestamp;
 import java.time.LocalDateTime;
@@ -50,6 +51,7 @@ public class UserService {
     private final InterestRepository interestRepository;
     private final PasswordEncoder passwordEncoder;
     private final DaysRepository daysRepository;
+    private final ReferenceDataRegistry referenceDataRegistry;
     private final ScoreService scoreService;
     private final VerificationService verificationService;
     private final StudyProjectRepository studyProjectRepository;
@@ -160,25 +162,8 @@ public class UserService {
         // 기존 관심분야 데이터 삭제
         userInterestRepository.deleteByIdUserId(currentUserId);
         
-        // 새로운 관심분야 데이터 저장
-        List<UserInterest> savedInterests = new ArrayList<>();
-        if (interests != null && !interests.isEmpty()) {
-            for (UserInterestRequest userInterestRequest : interests) {
-                Optional<Interest> interestOpt = interestRepository.findById(userInterestRequest.getInterestId());
-                if (interestOpt.isPresent()) {
-                    UserInterest userInterest = new UserInterest();
-                    UserInterest.UserInterestId id = new UserInterest.UserInterestId(currentUserId, userInterestRequest.getInterestId());
-                    userInterest.setId(id);
-                    userInterest.setUser(user);
-                    userInterest.setInterest(interestOpt.get());
-                    userInterest.setInterestLevel(userInterestRequest.getInterestLevel());
-                    UserInterest savedInterest = userInterestRepository.save(userInterest);
-                    savedInterests.add(savedInterest);
-                }
-            }
-        }
-        
-        return savedInterests;
+        // 새로운 관심분야 데이터 저장 (JDBC 배치 INSERT)
+        return userInterestRepository.saveAll(toUserInterests(user, interests));
     }
 
 
@@ -205,43 +190,11 @@ public class UserService {
         User savedUser = userRepository.save(newUser);
 
         // 역할은 User엔티티의 기본값 사용됨
-        // 3. [변경] 사용자의 관심사 정보를 user_interest 테이블에 저장합니다.
-        if (joinRequest.getInterests() != null && !joinRequest.getInterests().isEmpty()) {
-            // DTO에 포함된 interests 리스트를 하나씩 꺼내서 처리합니다.
-            for (UserInterestRequest userInterestRequest : joinRequest.getInterests()) {
-                // Interest 엔티티 조회
-                Optional<Interest> interestOpt = interestRepository.findById(userInterestRequest.getInterestId());
-                if (interestOpt.isPresent()) {
-                    UserInterest userInterest = new UserInterest();
-                    UserInterest.UserInterestId id = new UserInterest.UserInterestId(savedUser.getUserId(), userInterestRequest.getInterestId());
-                    userInterest.setId(id);
-                    userInterest.setUser(savedUser);
-                    userInterest.setInterest(interestOpt.get());
-                    userInterest.setInterestLevel(userInterestRequest.getInterestLevel());
-
-                    // user_interest 테이블에 저장
-                    userInterestRepository.save(userInterest);
-                }
-            }
-        }
+        // 3. [변경] 사용자의 관심사 정보를 user_interest 테이블에 저장합니다. (JDBC 배치 INSERT)
+        userInterestRepository.saveAll(toUserInterests(savedUser, joinRequest.getInterests()));
         
-        // 4. 사용자의 가능한 요일 정보를 user_available_days 테이블에 저장합니다.
-        if (joinRequest.getAvailableDays() != null && !joinRequest.getAvailableDays().isEmpty()) {
-            for (Integer dayId : joinRequest.getAvailableDays()) {
-                // Days 엔티티 조회
-                Optional<Days> daysOpt = daysRepository.findById(dayId);
-                if (daysOpt.isPresent()) {
-                    UserAvailableDays userAvailableDays = new UserAvailableDays();
-                    UserAvailableDays.UserAvailableDaysId id = new UserAvailableDays.UserAvailableDaysId(savedUser.getUserId(), dayId);
-                    userAvailableDays.setId(id);
-                    userAvailableDays.setUser(savedUser);
-                    userAvailableDays.setDays(daysOpt.get());
-                    
-                    // user_available_days 테이블에 저장
-                    userAvailableDaysRepository.save(userAvailableDays);
-                }
-            }
-        }
+        // 4. 사용자의 가능한 요일 정보를 user_available_days 테이블에 저장합니다. (JDBC 배치 INSERT)
+        userAvailableDaysRepository.saveAll(toUserAvailableDays(savedUser, joinRequest.getAvailableDays()));
         
         // 5. 사용자의 기본 점수 1000점을 생성합니다. (ScoreService를 통해 생성)
         try {
@@ -266,24 +219,61 @@ public class UserService {
             // 기존 선호 요일 삭제
             userAvailableDaysRepository.deleteByIdUserId(userId);
             
-            // 새로운 선호 요일 저장
-            for (Integer dayId : availableDays) {
-                // Days 엔티티 조회
-                Optional<Days> daysOpt = daysRepository.findById(dayId);
-                if (daysOpt.isPresent()) {
-                    UserAvailableDays userAvailableDays = new UserAvailableDays();
-                    UserAvailableDays.UserAvailableDaysId id = new UserAvailableDays.UserAvailableDaysId(userId, dayId);
-                    userAvailableDays.setId(id);
-                    userAvailableDays.setUser(userRepository.findByUserId(userId).orElse(null));
-                    userAvailableDays.setDays(daysOpt.get());
-                    
-                    userAvailableDaysRepository.save(userAvailableDays);
-                }
-            }
+            // 새로운 선호 요일 저장 (JDBC 배치 INSERT)
+            User user = userRepository.findByUserId(userId)
+                    .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
+            userAvailableDaysRepository.saveAll(toUserAvailableDays(user, availableDays));
         }
         // 빈 리스트인 경우 기존 값 유지 (아무것도 하지 않음)
     }
     
+    /**
+     * 관심분야 엔티티 목록 생성
+     * 없는 관심 항목은 건너뛰고, 같은 관심 항목이 여러 번 들어오면 처음 값만 저장함
+     * Interest 존재 여부는 메모리에서 확인하고, 연관관계에는 조회 없이 프록시를 사용
+     */
+    private List<UserInterest> toUserInterests(User user, List<UserInterestRequest> interests) {
+        List<UserInterest> userInterests = new ArrayList<>();
+        if (interests == null) {
+            return userInterests;
+        }
+        Set<Long> seen = new HashSet<>();
+        for (UserInterestRequest userInterestRequest : interests) {
+            Long interestId = userInterestRequest.getInterestId();
+            if (referenceDataRegistry.existsInterest(interestId) && seen.add(interestId)) {
+                UserInterest userInterest = new UserInterest();
+                userInterest.setId(new UserInterest.UserInterestId(user.getUserId(), interestId));
+                userInterest.setUser(user);
+                userInterest.setInterest(interestRepository.getReferenceById(interestId));
+                userInterest.setInterestLevel(userInterestRequest.getInterestLevel());
+                userInterests.add(userInterest);
+            }
+        }
+        return userInterests;
+    }
+
+    /**
+     * 선호 요일 엔티티 목록 생성 (없는 요일과 중복 요일은 건너뜀)
+     * Days 존재 여부는 메모리에서 확인하고, 연관관계에는 조회 없이 프록시를 사용
+     */
+    private List<UserAvailableDays> toUserAvailableDays(User user, List<Integer> dayIds) {
+        List<UserAvailableDays> userAvailableDays = new ArrayList<>();
+        if (dayIds == null) {
+            return userAvailableDays;
+        }
+        Set<Integer> seen = new HashSet<>();
+        for (Integer dayId : dayIds) {
+            if (referenceDataRegistry.existsDay(dayId) && seen.add(dayId)) {
+                UserAvailableDays availableDay = new UserAvailableDays();
+                availableDay.setId(new UserAvailableDays.UserAvailableDaysId(user.getUserId(), dayId));
+                availableDay.setUser(user);
+                availableDay.setDays(daysRepository.getReferenceById(dayId));
+                userAvailableDays.add(availableDay);
+            }
+        }
+        return userAvailableDays;
+    }
+
     /**
      * 사용자 선호 시간 업데이트 (기존 날짜 유지하고 시간만 변경)
      * @param user 사용자 엔티티
@@ -453,13 +443,13 @@ public class UserService {
         
         // 2. SMS 인증번호 발송
         try {
-            verificationService.sendVerificationCode(tel);
+            String messageId = verificationService.sendVerificationCode(tel);
             return new UnifiedPhoneVerificationResponse(
                 isPhoneAvailable, true,
                 isPhoneAvailable ? 
                     "전화번호 사용 가능하며 인증번호가 발송되었습니다." :
                     "인증번호가 발송되었습니다. (비밀번호 찾기용)",
-                tel
+                tel, messageId
             );
         } catch (Exception e) {
             return new UnifiedPhoneVerificationResponse(
@@ -0,0 +1,132 @@
+package com.smhrd.graddy.auth;
+
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+class InMemoryVerificationCodeStoreTest {
+
+    private static final long TTL_SECONDS = 5;
+    private static final long TICK_MILLIS = 1000;
+    private static final long START = 1_000_000_000L;
+
+    private final AtomicLong now = new AtomicLong(START);
+    private InMemoryVerificationCodeStore store;
+
+    @BeforeEach
+    void setUp() {
+        ScheduledJobRunner scheduledJobRunner = mock(ScheduledJobRunner.class);
+        doAnswer(invocation -> {
+            invocation.getArgument(1, Runnable.class).run();
+            return null;
+        }).when(scheduledJobRunner).runLocal(anyString(), any(Runnable.class));
+        store = new InMemoryVerificationCodeStore(scheduledJobRunner, TTL_SECONDS, 3, TICK_MILLIS, now::get);
+    }
+
+    @Test
+    void 인증번호는_한_번만_사용된다() {
+        store.saveCode("01012345678", "123456");
+
+        assertEquals(VerificationResult.verified, store.checkCode("01012345678", "123456"));
+        assertEquals(VerificationResult.expired, store.checkCode("01012345678", "123456"));
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘으면_맞는_번호도_거부한다() {
+        store.saveCode("01012345678", "123456");
+
+        assertEquals(VerificationResult.mismatch, store.checkCode("01012345678", "000000"));
+        assertEquals(VerificationResult.mismatch, store.checkCode("01012345678", "000000"));
+        assertEquals(VerificationResult.too_many_attempts, store.checkCode("01012345678", "000000"));
+        assertEquals(VerificationResult.too_many_attempts, store.checkCode("01012345678", "123456"));
+    }
+
+    @Test
+    void 유효_시간이_지나면_정리_전에도_만료된다() {
+        store.saveCode("01012345678", "123456");
+        now.addAndGet(TTL_SECONDS * 1000);
+
+        assertEquals(VerificationResult.expired, store.checkCode("01012345678", "123456"));
+    }
+
+    @Test
+    void 틱마다_만료_시각이_지난_칸만_비운다() {
+        store.saveCode("01011111111", "111111");
+        now.addAndGet(3000);
+        store.saveCode("01022222222", "222222");
+
+        // 첫 번째 인증번호의 만료 틱까지 정리
+        now.set(START + TTL_SECONDS * 1000 + TICK_MILLIS);
+        store.cleanupExpiredCodes();
+        assertEquals(1, store.size());
+
+        now.set(START + 3000 + TTL_SECONDS * 1000 + TICK_MILLIS);
+        store.cleanupExpiredCodes();
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void 만료_전에는_정리해도_남아있다() {
+        store.saveCode("01012345678", "123456");
+        for (long tick = 1; tick < TTL_SECONDS; tick++) {
+            now.set(START + tick * TICK_MILLIS);
+            store.cleanupExpiredCodes();
+        }
+
+        assertEquals(1, store.size());
+        assertEquals(VerificationResult.verified, store.checkCode("01012345678", "123456"));
+    }
+
+    @Test
+    void 다시_저장한_인증번호는_이전_항목_정리로_지워지지_않는다() {
+        store.saveCode("01012345678", "111111");
+        now.addAndGet(3000);
+        store.saveCode("01012345678", "222222");
+
+        // 이전 인증번호의 만료 칸을 비워도 새 인증번호는 유지됨
+        now.set(START + TTL_SECONDS * 1000 + TICK_MILLIS);
+        store.cleanupExpiredCodes();
+
+        assertEquals(1, store.size());
+        assertEquals(VerificationResult.verified, store.checkCode("01012345678", "222222"));
+    }
+
+    @Test
+    void 정리가_휠_한_바퀴_넘게_밀려도_모든_샤드의_만료_항목을_제거한다() {
+        for (int i = 0; i < 1000; i++) {
+            store.saveCode(String.format("010%08d", i), "123456");
+        }
+        assertEquals(1000, store.size());
+
+        now.addAndGet(TTL_SECONDS * 1000 * 10);
+        store.cleanupExpiredCodes();
+
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    void 샤드가_같아도_번호별로_따로_관리된다() {
+        for (int i = 0; i < 100; i++) {
+            store.saveCode(String.format("010%08d", i), String.format("%06d", i));
+        }
+        store.removeCode("01000000007");
+
+        assertEquals(99, store.size());
+        assertEquals(VerificationResult.expired, store.checkCode("01000000007", "000007"));
+        for (int i = 0; i < 100; i++) {
+            if (i != 7) {
+                assertEquals(VerificationResult.verified,
+                        store.checkCode(String.format("010%08d", i), String.format("%06d", i)));
+            }
+        }
+        assertEquals(0, store.size());
+    }
+}
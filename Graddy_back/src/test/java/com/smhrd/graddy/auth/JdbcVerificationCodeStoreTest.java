@@ -0,0 +1,119 @@
+package com.smhrd.graddy.auth;
+
+import com.smhrd.graddy.scheduler.ScheduledJobRunner;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * DB 없이 JdbcTemplate의 결과(갱신 행 수, 조회 행)를 지정하여 checkCode의 판정을 확인
+ */
+class JdbcVerificationCodeStoreTest {
+
+    private static final String PHONE = "01012345678";
+    private static final int MAX_ATTEMPTS = 5;
+
+    private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+    private final JdbcVerificationCodeStore store =
+            new JdbcVerificationCodeStore(jdbcTemplate, mock(ScheduledJobRunner.class), 300, MAX_ATTEMPTS);
+
+    @Test
+    void 만료된_인증번호는_맞아도_거부한다() throws Exception {
+        // 만료된 행은 시도 횟수 증가 UPDATE의 조건에 걸리지 않음
+        stubIncrement(0);
+        stubStored("123456", 1, false);
+
+        assertEquals(VerificationResult.expired, store.checkCode(PHONE, "123456"));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), eq(PHONE), eq("123456"));
+    }
+
+    @Test
+    void 인증번호가_없으면_만료로_처리한다() {
+        stubIncrement(0);
+        stubNothingStored();
+
+        assertEquals(VerificationResult.expired, store.checkCode(PHONE, "123456"));
+    }
+
+    @Test
+    void 틀린_인증번호는_불일치로_처리한다() throws Exception {
+        stubIncrement(1);
+        stubStored("123456", 1, true);
+
+        assertEquals(VerificationResult.mismatch, store.checkCode(PHONE, "000000"));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), eq(PHONE), eq("000000"));
+    }
+
+    @Test
+    void 마지막_시도가_틀리면_시도_횟수_초과로_처리한다() throws Exception {
+        stubIncrement(1);
+        stubStored("123456", MAX_ATTEMPTS, true);
+
+        assertEquals(VerificationResult.too_many_attempts, store.checkCode(PHONE, "000000"));
+    }
+
+    @Test
+    void 시도_횟수를_넘은_뒤에는_맞는_번호도_거부한다() throws Exception {
+        stubIncrement(0);
+        stubStored("123456", MAX_ATTEMPTS, true);
+
+        assertEquals(VerificationResult.too_many_attempts, store.checkCode(PHONE, "123456"));
+        verify(jdbcTemplate, never()).update(startsWith("DELETE"), eq(PHONE), eq("123456"));
+    }
+
+    @Test
+    void 인증번호는_한_번만_사용된다() throws Exception {
+        stubIncrement(1);
+        stubStored("123456", 1, true);
+        when(jdbcTemplate.update(startsWith("DELETE"), eq(PHONE), eq("123456"))).thenReturn(1);
+
+        assertEquals(VerificationResult.verified, store.checkCode(PHONE, "123456"));
+
+        // 인증 성공 시 행이 삭제되었으므로 다음 검증은 만료로 처리됨
+        stubIncrement(0);
+        stubNothingStored();
+        assertEquals(VerificationResult.expired, store.checkCode(PHONE, "123456"));
+    }
+
+    @Test
+    void 동시에_같은_번호로_검증하면_삭제한_요청만_성공한다() throws Exception {
+        stubIncrement(1);
+        stubStored("123456", 2, true);
+        // 다른 요청이 먼저 삭제하여 DELETE가 적용되지 않음
+        when(jdbcTemplate.update(startsWith("DELETE"), eq(PHONE), eq("123456"))).thenReturn(0);
+
+        assertEquals(VerificationResult.expired, store.checkCode(PHONE, "123456"));
+    }
+
+    private void stubIncrement(int updatedRows) {
+        when(jdbcTemplate.update(startsWith("UPDATE"), eq(PHONE), eq(MAX_ATTEMPTS))).thenReturn(updatedRows);
+    }
+
+    // 조회 결과 한 행을 저장소의 RowMapper로 변환하여 반환
+    @SuppressWarnings("unchecked")
+    private void stubStored(String code, int attempts, boolean valid) throws Exception {
+        ResultSet resultSet = mock(ResultSet.class);
+        when(resultSet.getString("code")).thenReturn(code);
+        when(resultSet.getInt("attempts")).thenReturn(attempts);
+        when(resultSet.getBoolean("valid")).thenReturn(valid);
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(PHONE)))
+                .thenAnswer(invocation -> List.of(invocation.getArgument(1, RowMapper.class).mapRow(resultSet, 0)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubNothingStored() {
+        when(jdbcTemplate.query(startsWith("SELECT"), any(RowMapper.class), eq(PHONE))).thenReturn(List.of());
+    }
+}
@@ -0,0 +1,63 @@
+package com.smhrd.graddy.auth.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshTokenCacheTest {
+
+    private final RefreshTokenCache cache = new RefreshTokenCache();
+    private final LocalDateTime expiry = LocalDateTime.now().plusHours(1);
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+    }
+
+    @Test
+    void 조회_중에_재발급되면_이전_토큰을_캐시에_넣지_않는다() {
+        long sequence = cache.currentSequence();
+        // DB에서 이전 토큰을 읽는 동안 다른 요청이 재발급하여 캐시를 비움
+        cache.evictUser("user1");
+
+        cache.put("old-hash", "user1", expiry, sequence);
+
+        assertTrue(cache.get("old-hash").isEmpty());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void 재발급_이후에_시작한_조회는_캐시에_넣는다() {
+        cache.evictUser("user1");
+        long sequence = cache.currentSequence();
+
+        cache.put("new-hash", "user1", expiry, sequence);
+
+        assertEquals("user1", cache.get("new-hash").orElseThrow().userId());
+    }
+
+    @Test
+    void 다른_사용자의_재발급은_캐시_보관에_영향을_주지_않는다() {
+        long sequence = cache.currentSequence();
+        cache.evictUser("user2");
+
+        cache.put("hash1", "user1", expiry, sequence);
+
+        assertTrue(cache.get("hash1").isPresent());
+    }
+
+    @Test
+    void 재발급하면_보관된_토큰을_바로_제거한다() {
+        cache.put("hash1", "user1", expiry, cache.currentSequence());
+
+        cache.evictUser("user1");
+
+        assertTrue(cache.get("hash1").isEmpty());
+    }
+}
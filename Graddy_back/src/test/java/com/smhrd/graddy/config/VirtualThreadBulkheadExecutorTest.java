@@ -0,0 +1,83 @@
+package com.smhrd.graddy.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VirtualThreadBulkheadExecutorTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private VirtualThreadBulkheadExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.close();
+    }
+
+    @Test
+    void rejecting_모드는_한도에_닿으면_대기_시간_후_거부한다() throws Exception {
+        executor = VirtualThreadBulkheadExecutor.rejecting("test-", 1, 50);
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            await(release);
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        long start = System.nanoTime();
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) >= 50);
+    }
+
+    @Test
+    void rejecting_모드는_작업이_끝나면_자리를_돌려준다() throws Exception {
+        executor = VirtualThreadBulkheadExecutor.rejecting("test-", 1, 1000);
+        CountDownLatch done = new CountDownLatch(2);
+
+        executor.execute(done::countDown);
+        executor.execute(done::countDown);
+
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void queueing_모드는_호출_스레드를_멈추지_않고_한도만큼만_실행한다() throws Exception {
+        executor = VirtualThreadBulkheadExecutor.queueing("test-", 2);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(5);
+
+        for (int i = 0; i < 5; i++) {
+            executor.execute(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                await(release);
+                running.decrementAndGet();
+                done.countDown();
+            });
+        }
+        // 모든 작업을 넣은 뒤에 풀어주므로 호출 스레드가 멈췄다면 여기에 도달하지 못함
+        Thread.sleep(100);
+        assertEquals(2, maxRunning.get());
+
+        release.countDown();
+        assertTrue(done.await(1, TimeUnit.SECONDS));
+        assertEquals(2, maxRunning.get());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.smhrd.graddy.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private final DataSource primary = mock(DataSource.class);
+    private final HikariDataSource replicaPool = mock(HikariDataSource.class);
+    private final Connection primaryConnection = mock(Connection.class);
+    private final Connection replicaConnection = mock(Connection.class);
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        when(primary.getConnection()).thenReturn(primaryConnection);
+        when(replicaPool.getConnection()).thenReturn(replicaConnection);
+        when(replicaConnection.isValid(2)).thenReturn(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    void 쓰기_트랜잭션은_주DB로_보낸다() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(false);
+        routing.checkReplicas();
+        routing.beginRequest("user1", false);
+        try {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            assertSame(primaryConnection, routing.getConnection());
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 조회_요청의_읽기전용_트랜잭션은_복제본으로_보낸다() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(false);
+        routing.checkReplicas();
+        routing.beginRequest("user1", false);
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertSame(replicaConnection, routing.getConnection());
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 쓰기_트랜잭션_뒤의_조회는_주DB로_보낸다() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(false);
+        routing.checkReplicas();
+        routing.beginRequest("user1", false);
+        try {
+            TransactionSynchronizationManager.setActualTransactionActive(true);
+            routing.getConnection();
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertSame(primaryConnection, routing.getConnection());
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 복제_지연이_기준을_넘으면_주DB로_보낸다() throws SQLException {
+        stubReplicaLag(10);
+        ReplicaRoutingDataSource routing = routing(true);
+        routing.checkReplicas();
+        routing.beginRequest(null, false);
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertSame(primaryConnection, routing.getConnection());
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 복제_지연이_기준_이내면_복제본으로_보낸다() throws SQLException {
+        stubReplicaLag(1);
+        ReplicaRoutingDataSource routing = routing(true);
+        routing.checkReplicas();
+        routing.beginRequest(null, false);
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertSame(replicaConnection, routing.getConnection());
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 복제본_커넥션이_실패하면_주DB로_전환하고_복제본을_제외한다() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(false);
+        routing.checkReplicas();
+        when(replicaPool.getConnection()).thenThrow(new SQLException("connection refused"));
+        routing.beginRequest(null, false);
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            assertSame(primaryConnection, routing.getConnection());
+            assertSame(primaryConnection, routing.getConnection());
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 요청이_없는_스레드의_읽기전용_트랜잭션은_주DB로_보낸다() throws Exception {
+        ReplicaRoutingDataSource routing = routing(false);
+        routing.checkReplicas();
+
+        AtomicReference<Connection> result = new AtomicReference<>();
+        Thread worker = new Thread(() -> {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            try {
+                result.set(routing.getConnection());
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            } finally {
+                TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+            }
+        });
+        worker.start();
+        worker.join();
+
+        assertSame(primaryConnection, result.get());
+    }
+
+    @Test
+    void 요청_안의_백그라운드_작업은_주DB로_보낸다() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(false);
+        routing.checkReplicas();
+        routing.beginRequest(null, false);
+        try {
+            TransactionSynchronizationManager.setCurrentTransactionReadOnly(true);
+            Connection connection = BackgroundWork.call(() -> {
+                try {
+                    return routing.getConnection();
+                } catch (SQLException e) {
+                    throw new IllegalStateException(e);
+                }
+            });
+            assertSame(primaryConnection, connection);
+        } finally {
+            routing.endRequest();
+        }
+    }
+
+    @Test
+    void 사용자별_커넥션은_지원하지_않는다() {
+        ReplicaRoutingDataSource routing = routing(false);
+        assertThrows(SQLFeatureNotSupportedException.class, () -> routing.getConnection("user", "password"));
+    }
+
+    private ReplicaRoutingDataSource routing(boolean lagCheck) {
+        ReplicaRoutingDataSource.ReplicaTarget replica = new ReplicaRoutingDataSource.ReplicaTarget("replica-1", replicaPool);
+        ConnectionHoldTracker tracker = new ConnectionHoldTracker(null, false, 2000, 60000);
+        return new ReplicaRoutingDataSource(primary, List.of(replica), tracker, lagCheck, 3, 5000);
+    }
+
+    private void stubReplicaLag(long lagSeconds) throws SQLException {
+        Statement statement = mock(Statement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(replicaConnection.createStatement()).thenReturn(statement);
+        when(statement.executeQuery("SHOW REPLICA STATUS")).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(1);
+        when(metaData.getColumnLabel(1)).thenReturn("Seconds_Behind_Source");
+        when(resultSet.getLong(1)).thenReturn(lagSeconds);
+        when(resultSet.wasNull()).thenReturn(false);
+    }
+}
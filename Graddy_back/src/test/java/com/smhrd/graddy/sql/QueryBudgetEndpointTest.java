@@ -0,0 +1,256 @@
+package com.smhrd.graddy.sql;
+
+import com.smhrd.graddy.comment.controller.CommentController;
+import com.smhrd.graddy.comment.entity.Comment;
+import com.smhrd.graddy.comment.repository.CommentRepository;
+import com.smhrd.graddy.comment.service.CommentService;
+import com.smhrd.graddy.interest.service.ReferenceDataRegistry;
+import com.smhrd.graddy.member.controller.MemberController;
+import com.smhrd.graddy.member.entity.Member;
+import com.smhrd.graddy.member.repository.MemberRepository;
+import com.smhrd.graddy.member.service.MemberService;
+import com.smhrd.graddy.post.repository.PostRepository;
+import com.smhrd.graddy.schedule.service.ScheduleService;
+import com.smhrd.graddy.security.jwt.JwtUtil;
+import com.smhrd.graddy.study.controller.StudyController;
+import com.smhrd.graddy.study.entity.StudyProject;
+import com.smhrd.graddy.study.entity.StudyProjectAvailableDay;
+import com.smhrd.graddy.study.repository.StudyProjectAvailableDayRepository;
+import com.smhrd.graddy.study.repository.StudyProjectMemberRepository;
+import com.smhrd.graddy.study.repository.StudyProjectRepository;
+import com.smhrd.graddy.study.repository.StudyProjectStatusRepository;
+import com.smhrd.graddy.study.service.AICurriculumService;
+import com.smhrd.graddy.study.service.StudyApplicationService;
+import com.smhrd.graddy.study.service.StudyProjectExpiryService;
+import com.smhrd.graddy.study.service.StudyService;
+import com.smhrd.graddy.tag.entity.Tag;
+import com.smhrd.graddy.tag.repository.TagRepository;
+import com.smhrd.graddy.user.entity.User;
+import com.smhrd.graddy.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyIterable;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * @QueryBudget이 지정된 엔드포인트를 fail 모드로 호출하여 상한 이내인지, 결과 건수와 상관없이 SQL 수가 같은지 확인
+ * DB 없이 실제 컨트롤러/서비스를 사용하고, 저장소 호출 한 번을 SQL 한 번으로 세어 StatementInspector에 전달함
+ * (2차 캐시가 비어 있는 상태의 SQL 수와 같음)
+ */
+class QueryBudgetEndpointTest {
+
+    private static final String USER_ID = "user1";
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final StudyProjectRepository studyProjectRepository = mock(StudyProjectRepository.class);
+    private final TagRepository tagRepository = mock(TagRepository.class);
+    private final StudyProjectAvailableDayRepository availableDayRepository = mock(StudyProjectAvailableDayRepository.class);
+    private final StudyProjectStatusRepository studyProjectStatusRepository = mock(StudyProjectStatusRepository.class);
+    private final MemberRepository memberRepository = mock(MemberRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final CommentRepository commentRepository = mock(CommentRepository.class);
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+
+    private QueryBudgetGuard guard;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        guard = new QueryBudgetGuard(provider);
+        ReflectionTestUtils.setField(guard, "mode", "fail");
+
+        MemberService memberService = new MemberService(memberRepository, studyProjectRepository, userRepository);
+        CommentService commentService = new CommentService(commentRepository, userRepository,
+                mock(StudyProjectMemberRepository.class), mock(PostRepository.class));
+        StudyService studyService = new StudyService(studyProjectRepository, mock(ReferenceDataRegistry.class),
+                tagRepository, availableDayRepository, studyProjectStatusRepository, memberService, memberRepository,
+                mock(StudyApplicationService.class), mock(ScheduleService.class));
+
+        mockMvc = MockMvcBuilders.standaloneSetup(
+                        new MemberController(memberService, jwtUtil),
+                        new CommentController(commentService, jwtUtil),
+                        new StudyController(studyService, jwtUtil, memberService, mock(StudyApplicationService.class),
+                                mock(AICurriculumService.class), mock(StudyProjectExpiryService.class)))
+                .addInterceptors(guard)
+                .build();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void 멤버_목록은_멤버_수와_상관없이_SQL_2번(int size) throws Exception {
+        stubMembers(List.of(1L), size);
+
+        mockMvc.perform(get("/members/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(size));
+
+        assertStatements("GET /members/{studyProjectId}", 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void 과제_댓글_목록은_댓글_수와_상관없이_SQL_2번(int size) throws Exception {
+        List<Comment> comments = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            comments.add(Comment.builder().commentId((long) i).userId("writer" + i).assignmentId(1L).content("댓글" + i).build());
+        }
+        when(commentRepository.findAllCommentsByAssignmentId(1L)).thenAnswer(counted(comments));
+        stubUsers(size);
+
+        mockMvc.perform(get("/api/comments/assignments/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(size))
+                .andExpect(jsonPath("$.data[0].nickname").value("닉네임0"));
+
+        assertStatements("GET /api/comments/assignments/{assignmentId}", 2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void 스터디_조회는_멤버_수와_상관없이_SQL_6번(int size) throws Exception {
+        when(studyProjectRepository.findById(1L)).thenAnswer(counted(Optional.of(studyProject(1L))));
+        when(tagRepository.findByStudyProjectId(1L)).thenAnswer(counted(List.of(tag(1L))));
+        when(availableDayRepository.findByStudyProjectId(1L)).thenAnswer(counted(List.of(availableDay(1L))));
+        when(studyProjectStatusRepository.findByStudyProjectId(1L)).thenAnswer(counted(List.of()));
+        stubMembers(List.of(1L), size);
+
+        mockMvc.perform(get("/studies-projects/1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.currentMemberCount").value(size));
+
+        assertStatements("GET /studies-projects/{studyProjectId}", 6);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5})
+    void 내_참여_목록은_스터디_수와_상관없이_SQL_6번(int size) throws Exception {
+        List<Long> studyProjectIds = new ArrayList<>();
+        List<StudyProject> studyProjects = new ArrayList<>();
+        List<Tag> tags = new ArrayList<>();
+        List<StudyProjectAvailableDay> availableDays = new ArrayList<>();
+        for (long id = 1; id <= size; id++) {
+            studyProjectIds.add(id);
+            studyProjects.add(studyProject(id));
+            tags.add(tag(id));
+            availableDays.add(availableDay(id));
+        }
+        when(jwtUtil.extractUserId("token")).thenReturn(USER_ID);
+        when(memberRepository.findStudyProjectIdsByUserId(USER_ID)).thenAnswer(counted(studyProjectIds));
+        when(studyProjectRepository.findAllById(anyIterable())).thenAnswer(counted(studyProjects));
+        when(tagRepository.findByStudyProjectIdIn(anyCollection())).thenAnswer(counted(tags));
+        when(availableDayRepository.findByStudyProjectIdIn(anyCollection())).thenAnswer(counted(availableDays));
+        stubMembers(studyProjectIds, 3);
+
+        mockMvc.perform(get("/studies-projects/my-participations").header("Authorization", "Bearer token"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.length()").value(size))
+                .andExpect(jsonPath("$.data[0].currentMemberCount").value(3));
+
+        assertStatements("GET /studies-projects/my-participations", 6);
+    }
+
+    // SQL 수가 예상과 같고 상한을 넘지 않았는지 확인 (fail 모드에서 넘었다면 컨트롤러가 500을 반환함)
+    private void assertStatements(String endpoint, int expected) {
+        assertEquals(expected, meterRegistry.get("graddy.sql.request.statements").tag("endpoint", endpoint).summary().max());
+        assertNull(meterRegistry.find("graddy.sql.query_budget.exceeded").counter());
+    }
+
+    // 저장소 호출을 SQL 한 번으로 세고 결과를 반환
+    private <T> Answer<T> counted(T result) {
+        return invocation -> {
+            guard.inspect("select /* " + invocation.getMethod().getName() + " */ ...");
+            return result;
+        };
+    }
+
+    // 스터디/프로젝트마다 멤버 count명, 멤버 사용자 정보 조회 포함
+    private void stubMembers(List<Long> studyProjectIds, int count) {
+        List<Member> all = new ArrayList<>();
+        for (Long studyProjectId : studyProjectIds) {
+            List<Member> members = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                members.add(member(studyProjectId, "writer" + i, i == 0 ? Member.MemberType.leader : Member.MemberType.member));
+            }
+            when(memberRepository.findByStudyProjectIdAndStudyProjectCheck(studyProjectId, Member.MemberStatus.approved))
+                    .thenAnswer(counted(members));
+            all.addAll(members);
+        }
+        when(memberRepository.findByStudyProjectIdInAndStudyProjectCheck(anyCollection(), eq(Member.MemberStatus.approved)))
+                .thenAnswer(counted(all));
+        stubUsers(count);
+    }
+
+    private void stubUsers(int count) {
+        List<User> users = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setUserId("writer" + i);
+            user.setNick("닉네임" + i);
+            users.add(user);
+        }
+        when(userRepository.findAllById(anyIterable())).thenAnswer(counted(users));
+    }
+
+    private static StudyProject studyProject(Long studyProjectId) {
+        StudyProject studyProject = new StudyProject();
+        studyProject.setStudyProjectId(studyProjectId);
+        studyProject.setStudyProjectName("스터디" + studyProjectId);
+        studyProject.setTypeCheck(StudyProject.TypeCheck.study);
+        studyProject.setIsRecruiting(StudyProject.RecruitingStatus.recruitment);
+        studyProject.setUserId("writer0");
+        studyProject.setStudyProjectEnd(Timestamp.valueOf(LocalDateTime.now().plusDays(30)));
+        return studyProject;
+    }
+
+    private static Tag tag(Long studyProjectId) {
+        Tag tag = new Tag();
+        tag.setStudyProjectId(studyProjectId);
+        tag.setInterestId(1L);
+        return tag;
+    }
+
+    private static StudyProjectAvailableDay availableDay(Long studyProjectId) {
+        StudyProjectAvailableDay availableDay = new StudyProjectAvailableDay();
+        availableDay.setStudyProjectId(studyProjectId);
+        availableDay.setDayId((byte) 1);
+        return availableDay;
+    }
+
+    private static Member member(Long studyProjectId, String userId, Member.MemberType memberType) {
+        Member member = new Member();
+        member.setMemberId(studyProjectId * 100 + Long.parseLong(userId.substring("writer".length())));
+        member.setUserId(userId);
+        member.setStudyProjectId(studyProjectId);
+        member.setStudyProjectCheck(Member.MemberStatus.approved);
+        member.setMemberType(memberType);
+        member.setJoinedAt(Timestamp.valueOf(LocalDateTime.now()));
+        return member;
+    }
+}
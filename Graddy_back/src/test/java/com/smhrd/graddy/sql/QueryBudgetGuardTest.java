@@ -0,0 +1,141 @@
+package com.smhrd.graddy.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class QueryBudgetGuardTest {
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void fail_모드는_상한을_넘는_SQL에서_요청을_실패시키고_지표를_남긴다() {
+        MockMvc mockMvc = mockMvc("fail");
+
+        ServletException exception = assertThrows(ServletException.class,
+                () -> mockMvc.perform(get("/budget/statements/3")));
+
+        assertInstanceOf(QueryBudgetExceededException.class, exception.getCause());
+        assertEquals(1.0, exceededCount("GET /budget/statements/{count}"));
+        // 상한(2)을 넘는 세 번째 SQL에서 중단되므로 3까지만 기록됨
+        assertEquals(3.0, statements("GET /budget/statements/{count}").max());
+    }
+
+    @Test
+    void warn_모드는_요청을_끝까지_처리하고_초과를_기록한다() throws Exception {
+        MockMvc mockMvc = mockMvc("warn");
+
+        mockMvc.perform(get("/budget/statements/5")).andExpect(status().isOk());
+
+        assertEquals(1.0, exceededCount("GET /budget/statements/{count}"));
+        assertEquals(5.0, statements("GET /budget/statements/{count}").max());
+    }
+
+    @Test
+    void 상한_이내의_요청은_SQL_수만_기록한다() throws Exception {
+        MockMvc mockMvc = mockMvc("fail");
+
+        mockMvc.perform(get("/budget/statements/2")).andExpect(status().isOk());
+
+        assertNull(meterRegistry.find("graddy.sql.query_budget.exceeded").counter());
+        assertEquals(2.0, statements("GET /budget/statements/{count}").max());
+    }
+
+    @Test
+    void 상한이_없는_핸들러도_SQL_수를_기록한다() throws Exception {
+        MockMvc mockMvc = mockMvc("fail");
+
+        mockMvc.perform(get("/budget/unlimited/7")).andExpect(status().isOk());
+
+        assertNull(meterRegistry.find("graddy.sql.query_budget.exceeded").counter());
+        assertEquals(7.0, statements("GET /budget/unlimited/{count}").max());
+    }
+
+    @Test
+    void 요청_밖의_SQL은_세지_않는다() throws Exception {
+        QueryBudgetGuard guard = guard("fail");
+        for (int i = 0; i < 10; i++) {
+            guard.inspect("select 1");
+        }
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new BudgetTestController(guard))
+                .addInterceptors(guard)
+                .build();
+
+        mockMvc.perform(get("/budget/statements/1")).andExpect(status().isOk());
+
+        assertEquals(1.0, statements("GET /budget/statements/{count}").max());
+    }
+
+    private MockMvc mockMvc(String mode) {
+        QueryBudgetGuard guard = guard(mode);
+        return MockMvcBuilders.standaloneSetup(new BudgetTestController(guard))
+                .addInterceptors(guard)
+                .build();
+    }
+
+    @SuppressWarnings("unchecked")
+    private QueryBudgetGuard guard(String mode) {
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        QueryBudgetGuard guard = new QueryBudgetGuard(provider);
+        ReflectionTestUtils.setField(guard, "mode", mode);
+        return guard;
+    }
+
+    private double exceededCount(String endpoint) {
+        Counter counter = meterRegistry.find("graddy.sql.query_budget.exceeded").tag("endpoint", endpoint).counter();
+        return counter != null ? counter.count() : 0.0;
+    }
+
+    private DistributionSummary statements(String endpoint) {
+        return meterRegistry.get("graddy.sql.request.statements").tag("endpoint", endpoint).summary();
+    }
+
+    // Hibernate 대신 StatementInspector를 직접 호출하여 SQL 실행을 흉내내는 컨트롤러
+    @RestController
+    static class BudgetTestController {
+
+        private final QueryBudgetGuard guard;
+
+        BudgetTestController(QueryBudgetGuard guard) {
+            this.guard = guard;
+        }
+
+        @GetMapping("/budget/statements/{count}")
+        @QueryBudget(2)
+        public String statements(@PathVariable int count) {
+            return execute(count);
+        }
+
+        @GetMapping("/budget/unlimited/{count}")
+        public String unlimited(@PathVariable int count) {
+            return execute(count);
+        }
+
+        private String execute(int count) {
+            for (int i = 0; i < count; i++) {
+                guard.inspect("select * from users where user_id = ?");
+            }
+            return "ok";
+        }
+    }
+}
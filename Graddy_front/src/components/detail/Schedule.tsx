@@ -32,6 +32,16 @@ interface ScheduleProps {
 }
 
 
+// 일정 항목 id로 수정/삭제 API 경로 생성
+// 스터디 공용 일정은 eventId("event-{eventId}"), 이전 방식의 멤버별 일정은 schId로 식별
+const STUDY_EVENT_ID_PREFIX = 'event-';
+const toScheduleItemId = (schedule: { schId?: number | null; eventId?: number | null }): string =>
+    schedule.eventId != null ? `${STUDY_EVENT_ID_PREFIX}${schedule.eventId}` : String(schedule.schId);
+const toScheduleApiPath = (id: string): string =>
+    id.startsWith(STUDY_EVENT_ID_PREFIX)
+        ? `/schedules/study-events/${id.substring(STUDY_EVENT_ID_PREFIX.length)}`
+        : `/schedules/${id}`;
+
 // 과제 수정 데이터 타입 정의
 interface UpdateAssignmentData {
     title: string;
@@ -150,7 +160,7 @@ const Schedule: React.FC<ScheduleProps> = ({
             
             if (scheduleData && Array.isArray(scheduleData)) {
                 const schedules = scheduleData.map((schedule: any) => ({
-                    id: schedule.schId.toString(),
+                    id: toScheduleItemId(schedule),
                     title: schedule.content,
                     type: 'schedule' as const,
                     date: toKoreanDateString(schedule.schTime),
@@ -407,10 +417,10 @@ const handleCancelAssignmentEdit = () => {
                     await loadAssignments();
                 }
             } else {
-                console.log('일정 삭제 요청 - schId:', id);
+                console.log('일정 삭제 요청 - id:', id);
                 
                 try {
-                    await apiDelete(`/schedules/${id}`);
+                    await apiDelete(toScheduleApiPath(id));
                     console.log('일정 삭제 성공');
 
                     // 일정 삭제 성공
@@ -467,7 +477,7 @@ const handleCancelAssignmentEdit = () => {
             };
 
             console.log('일정 수정 데이터:', updateData);
-            const response = await apiPut(`/schedules/${id}`, updateData);
+            const response = await apiPut(toScheduleApiPath(id), updateData);
             console.log('일정 수정 응답:', response);
 
             // PUT 요청은 일반적으로 성공 시 수정된 데이터를 반환
@@ -19,6 +19,11 @@ import {
     toKoreanLocaleDateString 
 } from "../utils/timeUtils";
 
+// 스터디 일정 캘린더 id
+// 스터디 공용 일정은 eventId로, 이전 방식의 멤버별 스터디 일정은 schId로 식별
+const toStudyScheduleId = (schedule: { schId?: number | null; eventId?: number | null }): string =>
+    schedule.eventId != null ? `study-event-${schedule.eventId}` : `study-${schedule.schId}`;
+
 // 편집 폼 컴포넌트
 const EditingScheduleForm = ({
     item,
@@ -153,7 +158,7 @@ const MainPage = () => {
             const localDate = scheduleDate;
 
             return {
-                id: `study-${schedule.schId}`,
+                id: toStudyScheduleId(schedule),
                 title: "",
                 date: toKoreanDateString(localDate),
                 backgroundColor: "#EF4444", // 스터디: 빨간색
@@ -460,7 +465,7 @@ const MainPage = () => {
                 return toKoreanDateString(scheduleDate) === date;
             })
             .map((schedule) => ({
-                id: `study-${schedule.schId}`,
+                id: toStudyScheduleId(schedule),
                 type: "study",
                 studyName: schedule.studyProjectName || "스터디",
                 content: schedule.content,